@@ -0,0 +1,111 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.entities.PowerEntity;
+import io.quarkus.workshop.superheroes.villain.entities.VillainEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the data used by the benchmarks. Everything is derived from a fixed seed, so that two runs measure the same
+ * data and their results can be compared.
+ */
+final class BenchmarkData {
+
+  static final long SEED = 42L;
+
+  private static final String POWERS = "Accelerated Healing, Agility, Durability, Flight, Intelligence, Reflexes, " +
+    "Stamina, Super Speed, Super Strength, Teleportation";
+
+  // The powers are shared by all the entities, as they would be through the power dictionary.
+  private static final List<PowerEntity> HERO_POWERS = heroPowers();
+
+  private static final List<io.quarkus.workshop.superheroes.villain.entities.PowerEntity> VILLAIN_POWERS =
+    villainPowers();
+
+  private BenchmarkData() {
+  }
+
+  private static List<PowerEntity> heroPowers() {
+    List<String> names = PowerEntity.names(POWERS);
+    List<PowerEntity> powers = new ArrayList<>(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      PowerEntity power = new PowerEntity();
+      power.id = i + 1;
+      power.name = names.get(i);
+      powers.add(power);
+    }
+    return powers;
+  }
+
+  private static List<io.quarkus.workshop.superheroes.villain.entities.PowerEntity> villainPowers() {
+    List<String> names = PowerEntity.names(POWERS);
+    List<io.quarkus.workshop.superheroes.villain.entities.PowerEntity> powers = new ArrayList<>(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      io.quarkus.workshop.superheroes.villain.entities.PowerEntity power =
+        new io.quarkus.workshop.superheroes.villain.entities.PowerEntity();
+      power.id = i + 1;
+      power.name = names.get(i);
+      powers.add(power);
+    }
+    return powers;
+  }
+
+  static List<HeroEntity> heroEntities(int count) {
+    SplittableRandom random = new SplittableRandom(SEED);
+    List<HeroEntity> heroes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      HeroEntity hero = new HeroEntity();
+      hero.id = 50L * (i + 1);
+      hero.name = "Hero " + i;
+      hero.otherName = "Other name of hero " + i;
+      hero.picture = "https://www.superherodb.com/pictures2/portraits/10/050/" + random.nextInt(100_000) + ".jpg";
+      hero.powers = new ArrayList<>(HERO_POWERS);
+      hero.level = 1 + random.nextInt(100);
+      heroes.add(hero);
+    }
+    return heroes;
+  }
+
+  static List<VillainEntity> villainEntities(int count) {
+    SplittableRandom random = new SplittableRandom(SEED);
+    List<VillainEntity> villains = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      VillainEntity villain = new VillainEntity();
+      villain.id = 50L * (i + 1);
+      villain.name = "Villain " + i;
+      villain.otherName = "Other name of villain " + i;
+      villain.picture = "https://www.superherodb.com/pictures2/portraits/10/050/" + random.nextInt(100_000) + ".jpg";
+      villain.powers = new ArrayList<>(VILLAIN_POWERS);
+      villain.level = 1 + random.nextInt(100);
+      villains.add(villain);
+    }
+    return villains;
+  }
+
+  static List<Hero> heroes(int count) {
+    return heroEntities(count).stream()
+      .map(entity -> {
+        Hero hero = new Hero();
+        hero.setId(entity.id);
+        hero.setName(entity.name);
+        hero.setOtherName(entity.otherName);
+        hero.setPicture(entity.picture);
+        hero.setPowers(PowerEntity.join(entity.powers));
+        hero.setLevel(entity.level);
+        return hero;
+      })
+      .toList();
+  }
+
+  static List<Long> ids(int count) {
+    List<Long> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(50L * (i + 1));
+    }
+    return ids;
+  }
+}
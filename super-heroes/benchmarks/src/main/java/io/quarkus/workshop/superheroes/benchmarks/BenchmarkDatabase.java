@@ -0,0 +1,71 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * A PostgreSQL database started with Testcontainers for the benchmarks that measure queries. The image is
+ * {@code postgres:16}, or the one set with {@code -Dbenchmarks.postgres-image}.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+  private static final String DATABASE = "benchmarks";
+  private static final String USER = "superheroes";
+  private static final String PASSWORD = "superheroes";
+
+  private final PostgreSQLContainer<?> postgres;
+
+  private BenchmarkDatabase(PostgreSQLContainer<?> postgres) {
+    this.postgres = postgres;
+  }
+
+  static BenchmarkDatabase start() {
+    PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName
+      .parse(System.getProperty("benchmarks.postgres-image", "postgres:16"))
+      .asCompatibleSubstituteFor("postgres"))
+      .withDatabaseName(DATABASE)
+      .withUsername(USER)
+      .withPassword(PASSWORD);
+    postgres.start();
+    return new BenchmarkDatabase(postgres);
+  }
+
+  /**
+   * @return the configuration of a service using this database, with the JDBC and the reactive clients.
+   */
+  Map<String, String> serviceConfig() {
+    String url = postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + DATABASE;
+    return Map.of(
+      "quarkus.datasource.jdbc.url", "jdbc:postgresql://" + url,
+      "quarkus.datasource.reactive.url", "postgresql://" + url,
+      "quarkus.datasource.username", USER,
+      "quarkus.datasource.password", PASSWORD);
+  }
+
+  Connection connect() throws SQLException {
+    return DriverManager.getConnection(postgres.getJdbcUrl(), USER, PASSWORD);
+  }
+
+  /**
+   * Runs the statements, then analyzes the tables so that the planner sees their real size.
+   */
+  void execute(String... statements) throws SQLException {
+    try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+      for (String sql : statements) {
+        statement.execute(sql);
+      }
+      statement.execute("analyze");
+    }
+  }
+
+  @Override
+  public void close() {
+    postgres.stop();
+  }
+}
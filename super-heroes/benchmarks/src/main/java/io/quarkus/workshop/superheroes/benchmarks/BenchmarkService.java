@@ -0,0 +1,106 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A service started from its {@code quarkus-run.jar} in a separate JVM for the benchmarks that measure a whole
+ * service, with the prod profile, the given JVM options and the given configuration overrides. Its output goes to
+ * {@code target/<name>.log}. The jars are looked up from the root of the repository, where the benchmarks are run.
+ */
+final class BenchmarkService implements AutoCloseable {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+  private final String name;
+
+  private final URI baseUri;
+
+  private final Process process;
+
+  private BenchmarkService(String name, URI baseUri, Process process) {
+    this.name = name;
+    this.baseUri = baseUri;
+    this.process = process;
+  }
+
+  /**
+   * Starts the service and waits until {@code readinessPath} answers with a 200.
+   */
+  static BenchmarkService start(String name, Path jar, int port, List<String> jvmOptions, Map<String, String> config,
+                                String readinessPath) throws IOException, InterruptedException {
+    BenchmarkService service = launch(name, jar, port, jvmOptions, config);
+    service.awaitReadiness(readinessPath);
+    return service;
+  }
+
+  /**
+   * Starts the service without waiting for it.
+   */
+  static BenchmarkService launch(String name, Path jar, int port, List<String> jvmOptions, Map<String, String> config)
+    throws IOException {
+    if (!Files.exists(jar)) {
+      throw new IllegalStateException(jar.toAbsolutePath() + " does not exist, package " + name + " first");
+    }
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(jvmOptions);
+    command.add("-Dquarkus.http.port=" + port);
+    config.forEach((key, value) -> command.add("-D" + key + "=" + value));
+    command.add("-jar");
+    command.add(jar.toAbsolutePath().toString());
+    Path log = Path.of("target", name + ".log");
+    Files.createDirectories(log.getParent());
+    Process process = new ProcessBuilder(command)
+      .redirectErrorStream(true)
+      .redirectOutput(log.toFile())
+      .start();
+    return new BenchmarkService(name, URI.create("http://localhost:" + port), process);
+  }
+
+  URI uri(String path) {
+    return baseUri.resolve(path);
+  }
+
+  /**
+   * Waits until {@code readinessPath} answers with a 200, polling it every millisecond.
+   */
+  void awaitReadiness(String readinessPath) throws InterruptedException {
+    HttpClient client = HttpClient.newHttpClient();
+    HttpRequest request = HttpRequest.newBuilder(uri(readinessPath)).timeout(Duration.ofSeconds(1)).build();
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see target/" + name + ".log");
+      }
+      try {
+        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(1);
+    }
+    close();
+    throw new IllegalStateException(name + " did not start within " + STARTUP_TIMEOUT + ", see target/" + name + ".log");
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    process.destroy();
+    if (!process.waitFor(30, TimeUnit.SECONDS)) {
+      process.destroyForcibly();
+    }
+  }
+}
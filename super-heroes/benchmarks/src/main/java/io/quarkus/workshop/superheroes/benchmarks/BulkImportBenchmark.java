@@ -0,0 +1,115 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the import of villains into rest-villains, one {@code POST /api/villains} per villain against a single
+ * {@code POST /api/villains/bulk}, whose inserts are sent as JDBC batches. Each operation imports {@link #size}
+ * villains, so the rows per second are {@code size} divided by the score. Needs Docker and the packaged
+ * rest-villains, see {@code -Dbenchmarks.villains-jar}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkImportBenchmark {
+
+  private static final int PORT = 18284;
+
+  @Param({"1000", "10000"})
+  int size;
+
+  private BenchmarkDatabase database;
+
+  private BenchmarkService villains;
+
+  private HttpClient client;
+
+  private List<String> villainBodies;
+
+  private String bulkBody;
+
+  @Setup
+  public void setUp() throws IOException, InterruptedException {
+    database = BenchmarkDatabase.start();
+    villains = BenchmarkService.start("rest-villains", ExportBenchmark.villainsJar(), PORT, List.of(),
+      database.serviceConfig(), "/api/villains/hello");
+    client = HttpClient.newHttpClient();
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<Villain> villainList = IntStream.range(0, size).mapToObj(BulkImportBenchmark::villain).toList();
+    villainBodies = villainList.stream().map(villain -> {
+      try {
+        return objectMapper.writeValueAsString(villain);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }).toList();
+    bulkBody = objectMapper.writeValueAsString(villainList);
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    villains.close();
+    database.close();
+  }
+
+  @Benchmark
+  public int oneByOne() throws IOException, InterruptedException {
+    for (String body : villainBodies) {
+      post("/api/villains", body, 201);
+    }
+    return villainBodies.size();
+  }
+
+  @Benchmark
+  public int bulk() throws IOException, InterruptedException {
+    post("/api/villains/bulk", bulkBody, 200);
+    return villainBodies.size();
+  }
+
+  private void post(String path, String body, int expectedStatus) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(villains.uri(path))
+      .header("Content-Type", "application/json")
+      .header("Accept", "application/json")
+      .POST(HttpRequest.BodyPublishers.ofString(body))
+      .build();
+    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    if (status != expectedStatus) {
+      throw new IllegalStateException(path + " answered with " + status);
+    }
+  }
+
+  private static Villain villain(int i) {
+    Villain villain = new Villain();
+    villain.setName("Bulk villain " + i);
+    villain.setOtherName("Imported villain " + i);
+    villain.setPicture("bulk_villain_" + i + ".png");
+    villain.setPowers("Batching, Flushing");
+    villain.setLevel(42);
+    return villain;
+  }
+}
@@ -0,0 +1,121 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code GET /api/heroes/{id}} against rest-heroes, whose {@code HeroService.retrieveHeroById} is a
+ * {@code @CacheResult} method on the {@code hero-by-id} cache, against the same service built without the cache. The
+ * heroes are the ones rest-heroes loads at startup, all of them fit in the cache and are read once before measuring,
+ * so that every lookup of the cached service is a hit. The ids are read in a fixed, skewed order, so that runs are
+ * comparable. The cache is fixed at build time, so the service without it needs its own jar, looked up in
+ * {@code super-heroes/rest-heroes/target/no-cache/quarkus-app} by default:
+ * <pre>
+ * ./mvnw package -pl super-heroes/rest-heroes -DskipTests -Dquarkus.cache.enabled=false -Dquarkus.package.output-directory=no-cache
+ * </pre>
+ * Set {@code -Dbenchmarks.heroes-jar} and {@code -Dbenchmarks.heroes-no-cache-jar} to use other jars. Needs Docker.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheHitBenchmark {
+
+  private static final int PORT = 18484;
+
+  private static final int LOOKUPS = 1024;
+
+  @Param({"cache", "no-cache"})
+  String build;
+
+  private BenchmarkDatabase database;
+
+  private BenchmarkService heroes;
+
+  private HttpClient client;
+
+  private HttpRequest[] lookups;
+
+  private int next;
+
+  @Setup
+  public void setUp() throws IOException, InterruptedException {
+    database = BenchmarkDatabase.start();
+    heroes = BenchmarkService.start("rest-heroes-" + build, heroesJar(build), PORT, List.of(),
+      database.serviceConfig(), "/api/heroes/hello");
+    client = HttpClient.newHttpClient();
+
+    List<Long> ids = new ArrayList<>();
+    HttpRequest allIds = HttpRequest.newBuilder(heroes.uri("/api/heroes?fields=id")).GET().build();
+    for (JsonNode hero : new ObjectMapper().readTree(client.send(allIds, HttpResponse.BodyHandlers.ofString()).body())) {
+      ids.add(hero.get("id").asLong());
+    }
+    if (ids.isEmpty()) {
+      throw new IllegalStateException("rest-heroes has no heroes, see target/rest-heroes-" + build + ".log");
+    }
+    for (Long id : ids) {
+      client.send(heroById(id), HttpResponse.BodyHandlers.discarding());
+    }
+
+    SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+    lookups = new HttpRequest[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i++) {
+      double skew = random.nextDouble();
+      lookups[i] = heroById(ids.get((int) (skew * skew * ids.size())));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    heroes.close();
+    database.close();
+  }
+
+  /**
+   * @return the hero, as JSON.
+   */
+  @Benchmark
+  public String findHeroById() throws IOException, InterruptedException {
+    HttpResponse<String> response = client.send(lookups[next], HttpResponse.BodyHandlers.ofString());
+    next = (next + 1) & (LOOKUPS - 1);
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("rest-heroes answered " + response.statusCode() + " to " + response.request().uri());
+    }
+    return response.body();
+  }
+
+  private HttpRequest heroById(long id) {
+    return HttpRequest.newBuilder(heroes.uri("/api/heroes/" + id)).GET().build();
+  }
+
+  private static Path heroesJar(String build) {
+    return build.equals("cache")
+      ? Path.of(System.getProperty("benchmarks.heroes-jar", "super-heroes/rest-heroes/target/quarkus-app/quarkus-run.jar"))
+      : Path.of(System.getProperty("benchmarks.heroes-no-cache-jar",
+        "super-heroes/rest-heroes/target/no-cache/quarkus-app/quarkus-run.jar"));
+  }
+}
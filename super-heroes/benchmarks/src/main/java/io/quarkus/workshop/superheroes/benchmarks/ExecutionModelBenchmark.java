@@ -0,0 +1,124 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures a wave of {@link #concurrency} concurrent {@code GET /api/villains/random} against rest-villains, for each
+ * execution model. The model is chosen when rest-villains is built, so each one needs its own jar, looked up in
+ * {@code super-heroes/rest-villains/target/<model>/quarkus-app} by default:
+ * <pre>
+ * ./mvnw package -pl super-heroes/rest-villains -DskipTests -Dvillain.execution-model=reactive -Dquarkus.package.output-directory=reactive
+ * </pre>
+ * Set {@code -Dbenchmarks.villains-<model>-jar} to use another jar. The requests per second are {@code concurrency}
+ * divided by the score. After each iteration, the peak number of live threads of the service, read from its
+ * metrics, and the number of requests that did not answer with a 200 are printed. Needs Docker, and a concurrency of
+ * 5,000 may require raising the open files limit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionModelBenchmark {
+
+  private static final int PORT = 18384;
+
+  private static final Pattern PEAK_THREADS = Pattern.compile("^jvm_threads_peak_threads(?:\\{[^}]*})? (\\S+)$",
+    Pattern.MULTILINE);
+
+  @Param({"blocking", "reactive", "virtual-threads"})
+  String model;
+
+  @Param({"500", "5000"})
+  int concurrency;
+
+  private BenchmarkDatabase database;
+
+  private BenchmarkService villains;
+
+  private ExecutorService clientExecutor;
+
+  private HttpClient client;
+
+  private HttpRequest randomVillain;
+
+  private long failures;
+
+  @Setup
+  public void setUp() throws IOException, InterruptedException {
+    database = BenchmarkDatabase.start();
+    villains = BenchmarkService.start("rest-villains-" + model, villainsJar(model), PORT, List.of(),
+      database.serviceConfig(), "/api/villains/hello");
+    clientExecutor = Executors.newFixedThreadPool(4);
+    client = HttpClient.newBuilder().executor(clientExecutor).build();
+    randomVillain = HttpRequest.newBuilder(villains.uri("/api/villains/random")).GET().build();
+  }
+
+  @TearDown(Level.Iteration)
+  public void printIterationStatistics() throws IOException, InterruptedException {
+    HttpRequest metrics = HttpRequest.newBuilder(villains.uri("/q/metrics")).GET().build();
+    Matcher matcher = PEAK_THREADS.matcher(client.send(metrics, HttpResponse.BodyHandlers.ofString()).body());
+    System.out.println("rest-villains peak threads: " + (matcher.find() ? matcher.group(1) : "unknown") +
+      ", failed requests: " + failures);
+    failures = 0;
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    clientExecutor.shutdownNow();
+    villains.close();
+    database.close();
+  }
+
+  /**
+   * @return the number of villains found.
+   */
+  @Benchmark
+  public int randomVillainWave() {
+    @SuppressWarnings("unchecked")
+    CompletableFuture<HttpResponse<Void>>[] responses = new CompletableFuture[concurrency];
+    for (int i = 0; i < concurrency; i++) {
+      responses[i] = client.sendAsync(randomVillain, HttpResponse.BodyHandlers.discarding());
+    }
+    CompletableFuture.allOf(responses).join();
+    int found = 0;
+    for (CompletableFuture<HttpResponse<Void>> response : responses) {
+      if (response.join().statusCode() == 200) {
+        found++;
+      }
+    }
+    failures += concurrency - found;
+    return found;
+  }
+
+  private static Path villainsJar(String model) {
+    return Path.of(System.getProperty("benchmarks.villains-" + model + "-jar",
+      "super-heroes/rest-villains/target/" + model + "/quarkus-app/quarkus-run.jar"));
+  }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the NDJSON export of rest-villains, {@code GET /api/villains/export}, for 100k and 1M villains, with the
+ * service limited to a small heap. An export that would hold the villains in memory fails with an
+ * {@code OutOfMemoryError} in the service, and so fails the benchmark, whereas a streaming export runs in the same
+ * heap whatever the number of villains. The heap is set with {@code -Dbenchmarks.export.heap}, 128m by default.
+ * Needs Docker and the packaged rest-villains, see {@code -Dbenchmarks.villains-jar}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+  private static final int PORT = 18184;
+
+  @Param({"100000", "1000000"})
+  int size;
+
+  private BenchmarkDatabase database;
+
+  private BenchmarkService villains;
+
+  private HttpClient client;
+
+  private HttpRequest export;
+
+  @Setup
+  public void setUp() throws IOException, InterruptedException, SQLException {
+    database = BenchmarkDatabase.start();
+    villains = BenchmarkService.start("rest-villains", villainsJar(), PORT,
+      List.of("-Xmx" + System.getProperty("benchmarks.export.heap", "128m")), database.serviceConfig(),
+      "/api/villains/hello");
+    database.execute(
+      "insert into villainEntity (id, name, otherName, picture, level) " +
+        "select nextval('villainEntity_seq'), 'Exported villain ' || n, 'Villain number ' || n, " +
+        "'exported_villain_' || n || '.png', 1 + n % 100 " +
+        "from generate_series(1, " + size + ") n");
+    client = HttpClient.newHttpClient();
+    export = HttpRequest.newBuilder(villains.uri("/api/villains/export"))
+      .header("Accept", "application/x-ndjson")
+      .GET()
+      .build();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    villains.close();
+    database.close();
+  }
+
+  /**
+   * @return the number of exported villains.
+   */
+  @Benchmark
+  public long exportAsNdjson() throws IOException, InterruptedException {
+    HttpResponse<InputStream> response = client.send(export, HttpResponse.BodyHandlers.ofInputStream());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("The export answered with " + response.statusCode());
+    }
+    long lines = 0;
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream body = response.body()) {
+      for (int read = body.read(buffer); read >= 0; read = body.read(buffer)) {
+        for (int i = 0; i < read; i++) {
+          if (buffer[i] == '\n') {
+            lines++;
+          }
+        }
+      }
+    }
+    if (lines < size) {
+      throw new IllegalStateException("The export ended after " + lines + " villains, see target/rest-villains.log");
+    }
+    return lines;
+  }
+
+  static Path villainsJar() {
+    return Path.of(System.getProperty("benchmarks.villains-jar", "super-heroes/rest-villains/target/quarkus-app/quarkus-run.jar"));
+  }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import io.quarkus.workshop.superheroes.hero.random.HeroIdIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the random hero lookup of rest-heroes against PostgreSQL, before and after the id index, for growing
+ * tables. {@code countAndOffset} is the former {@code HeroRepository.findRandom}: a count, then the hero at a random
+ * offset. {@code idIndex} is the current one: a random id picked from {@link HeroIdIndex}, then the hero by primary
+ * key. Both read the same columns of the hero table, with the statements Hibernate generates for them. Needs Docker.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindRandomHeroBenchmark {
+
+  private static final String COLUMNS = "id, level, name, otherName, picture, version";
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  int size;
+
+  private BenchmarkDatabase database;
+
+  private Connection connection;
+
+  private PreparedStatement count;
+
+  private PreparedStatement findAtOffset;
+
+  private PreparedStatement findById;
+
+  private final HeroIdIndex heroIdIndex = new HeroIdIndex();
+
+  @Setup
+  public void setUp() throws SQLException {
+    database = BenchmarkDatabase.start();
+    database.execute(
+      "create table heroEntity (id bigint primary key, level integer not null, name varchar(255) not null, " +
+        "otherName varchar(255), picture varchar(255), version bigint default 0 not null)",
+      "insert into heroEntity (id, level, name, otherName, picture) " +
+        "select i, 1 + i % 100, 'Hero ' || i, 'Other name of hero ' || i, 'https://example.org/heroes/' || i || '.png' " +
+        "from generate_series(1, " + size + ") i");
+    connection = database.connect();
+    count = connection.prepareStatement("select count(*) from heroEntity");
+    findAtOffset = connection.prepareStatement("select " + COLUMNS + " from heroEntity offset ? rows fetch first 1 rows only");
+    findById = connection.prepareStatement("select " + COLUMNS + " from heroEntity where id = ?");
+
+    List<Long> ids = new ArrayList<>(size);
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery("select id from heroEntity")) {
+      while (rows.next()) {
+        ids.add(rows.getLong(1));
+      }
+    }
+    heroIdIndex.prime(ids);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+    database.close();
+  }
+
+  @Benchmark
+  public String countAndOffset() throws SQLException {
+    long heroes;
+    try (ResultSet rows = count.executeQuery()) {
+      rows.next();
+      heroes = rows.getLong(1);
+    }
+    findAtOffset.setLong(1, ThreadLocalRandom.current().nextLong(heroes));
+    return readName(findAtOffset);
+  }
+
+  @Benchmark
+  public String idIndex() throws SQLException {
+    findById.setLong(1, heroIdIndex.randomId().getAsLong());
+    return readName(findById);
+  }
+
+  private static String readName(PreparedStatement query) throws SQLException {
+    try (ResultSet rows = query.executeQuery()) {
+      rows.next();
+      return rows.getString("name");
+    }
+  }
+}
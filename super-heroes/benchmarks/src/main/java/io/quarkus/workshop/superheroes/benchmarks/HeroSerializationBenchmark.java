@@ -0,0 +1,61 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON serialization of heroes with Jackson, for a single hero as returned by
+ * {@code GET /api/heroes/random} and for the lists returned by {@code GET /api/heroes}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HeroSerializationBenchmark {
+
+  @Param({"1", "100", "1000"})
+  int size;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private ObjectWriter heroWriter;
+
+  private Hero hero;
+
+  private List<Hero> heroes;
+
+  @Setup
+  public void setUp() {
+    heroWriter = objectMapper.writerFor(Hero.class);
+    heroes = BenchmarkData.heroes(size);
+    hero = heroes.get(0);
+  }
+
+  @Benchmark
+  public byte[] serializeHero() throws JsonProcessingException {
+    return heroWriter.writeValueAsBytes(hero);
+  }
+
+  @Benchmark
+  public byte[] serializeHeroList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(heroes);
+  }
+}
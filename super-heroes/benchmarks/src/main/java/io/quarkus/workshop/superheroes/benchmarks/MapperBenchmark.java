@@ -0,0 +1,64 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.mappers.HeroMapper;
+import io.quarkus.workshop.superheroes.hero.mappers.HeroMapperImpl;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.entities.VillainEntity;
+import io.quarkus.workshop.superheroes.villain.mappers.VillainMapper;
+import io.quarkus.workshop.superheroes.villain.mappers.VillainMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of entity lists to DTO lists by the MapStruct generated mappers, as done when listing all
+ * the heroes or villains.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  @Param({"10", "100", "1000"})
+  int size;
+
+  private final HeroMapper heroMapper = new HeroMapperImpl();
+
+  private final VillainMapper villainMapper = new VillainMapperImpl();
+
+  private List<HeroEntity> heroEntities;
+
+  private List<VillainEntity> villainEntities;
+
+  @Setup
+  public void setUp() {
+    heroEntities = BenchmarkData.heroEntities(size);
+    villainEntities = BenchmarkData.villainEntities(size);
+  }
+
+  @Benchmark
+  public List<Hero> heroEntitiesToDtos() {
+    return heroMapper.toHeroDtoList(heroEntities);
+  }
+
+  @Benchmark
+  public List<Villain> villainEntitiesToDtos() {
+    return villainMapper.toVillainDTOs(villainEntities);
+  }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import io.quarkus.workshop.superheroes.hero.random.HeroIdIndex;
+import io.quarkus.workshop.superheroes.villain.random.VillainIdIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ways of picking a random id. The id indexes of both services are compared with a plain list lookup,
+ * which is the lower bound without locking, and with a scan to a random offset, which is what
+ * {@code count + OFFSET} style queries cost. Run with {@code -t} to measure the indexes under concurrent reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RandomSelectionBenchmark {
+
+  @Param({"1000", "100000"})
+  int size;
+
+  private final HeroIdIndex heroIdIndex = new HeroIdIndex();
+
+  private final VillainIdIndex villainIdIndex = new VillainIdIndex();
+
+  private List<Long> idList;
+
+  private Set<Long> idSet;
+
+  @Setup
+  public void setUp() {
+    idList = BenchmarkData.ids(size);
+    idSet = new LinkedHashSet<>(idList);
+    heroIdIndex.prime(idList);
+    villainIdIndex.prime(idList);
+  }
+
+  @Benchmark
+  public OptionalLong heroIdIndex() {
+    return heroIdIndex.randomId();
+  }
+
+  @Benchmark
+  public OptionalLong villainIdIndex() {
+    return villainIdIndex.randomId();
+  }
+
+  @Benchmark
+  public Long listLookup() {
+    return idList.get(ThreadLocalRandom.current().nextInt(idList.size()));
+  }
+
+  @Benchmark
+  public Long offsetScan() {
+    Iterator<Long> ids = idSet.iterator();
+    for (int offset = ThreadLocalRandom.current().nextInt(idSet.size()); offset > 0; offset--) {
+      ids.next();
+    }
+    return ids.next();
+  }
+}
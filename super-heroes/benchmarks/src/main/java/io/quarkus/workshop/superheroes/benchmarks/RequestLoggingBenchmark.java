@@ -0,0 +1,98 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.logging.VillainRequestLog;
+import io.quarkus.workshop.superheroes.villain.mappers.VillainMapperImpl;
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Measures the logging done by a {@code GET /api/villains/{id}} request at the INFO level, as it was with string
+ * concatenation on every request and as it is with the sampled request log and parameterized debug messages. Run it
+ * with {@code -prof gc} to compare the garbage allocated per request ({@code gc.alloc.rate.norm}).
+ * The log records are formatted and discarded, so that the console does not weigh on the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dorg.jboss.logging.provider=jdk")
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+  private static final Logger LOGGER = Logger.getLogger(RequestLoggingBenchmark.class);
+
+  @Param({"1", "100"})
+  int sampleRate;
+
+  private VillainRequestLog requestLog;
+
+  private Long id;
+
+  private Villain villain;
+
+  @Setup
+  public void setUp() {
+    java.util.logging.Logger root = java.util.logging.Logger.getLogger("");
+    for (Handler handler : root.getHandlers()) {
+      root.removeHandler(handler);
+    }
+    root.addHandler(new FormattingHandler());
+    root.setLevel(Level.INFO);
+
+    requestLog = new VillainRequestLog(sampleRate);
+    villain = new VillainMapperImpl().toVillainDTO(BenchmarkData.villainEntities(1).get(0));
+    id = villain.getId();
+  }
+
+  @Benchmark
+  public void concatenatedLogs() {
+    LOGGER.info("Villain with ID " + id + " is requested.");
+    LOGGER.debug("Villain found: " + villain);
+  }
+
+  @Benchmark
+  public void sampledAndParameterizedLogs() {
+    requestLog.log("Villain with ID %d is requested.", id);
+    LOGGER.debugf("Villain found: %s", villain);
+  }
+
+  /**
+   * Formats the records like a console handler would, without writing them.
+   */
+  private static final class FormattingHandler extends Handler {
+
+    private final SimpleFormatter formatter = new SimpleFormatter();
+
+    private volatile int length;
+
+    @Override
+    public void publish(LogRecord logRecord) {
+      length = formatter.format(logRecord).length();
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.workshop.superheroes.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching a packaged service to its first 200 on the random hero or villain, which is only
+ * answered once the initial data is loaded. {@code after} is the current build, which loads the data from CSV and
+ * skips it when the database already holds it. {@code before} is the build that replayed {@code import.sql}, packaged
+ * from the commit preceding the CSV loaders in a worktree next to the repository:
+ * <pre>
+ * git worktree add ../before &lt;commit&gt;^
+ * ../before/mvnw -f ../before/pom.xml package -pl super-heroes/rest-heroes,super-heroes/rest-villains -DskipTests
+ * </pre>
+ * Set {@code -Dbenchmarks.heroes-before-jar} and {@code -Dbenchmarks.villains-before-jar} to use other jars. The
+ * {@code empty} database is a new one for every start, the {@code loaded} database is loaded by a first start of the
+ * same build and then kept, as on a restart. Needs Docker.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+  private static final int PORT = 18584;
+
+  @Param({"rest-heroes", "rest-villains"})
+  String service;
+
+  @Param({"before", "after"})
+  String build;
+
+  @Param({"empty", "loaded"})
+  String database;
+
+  private BenchmarkDatabase loadedDatabase;
+
+  private BenchmarkDatabase startDatabase;
+
+  private BenchmarkService started;
+
+  @Setup
+  public void loadDatabase() throws IOException, InterruptedException {
+    if (database.equals("loaded")) {
+      loadedDatabase = BenchmarkDatabase.start();
+      BenchmarkService.start(service, jar(), PORT, List.of(), loadedDatabase.serviceConfig(), readinessPath()).close();
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    startDatabase = loadedDatabase != null ? loadedDatabase : BenchmarkDatabase.start();
+  }
+
+  @TearDown(Level.Iteration)
+  public void stopService() throws InterruptedException {
+    started.close();
+    if (startDatabase != loadedDatabase) {
+      startDatabase.close();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (loadedDatabase != null) {
+      loadedDatabase.close();
+    }
+  }
+
+  @Benchmark
+  public void firstRequest() throws IOException, InterruptedException {
+    started = BenchmarkService.launch(service + "-" + build, jar(), PORT, List.of(), startDatabase.serviceConfig());
+    started.awaitReadiness(readinessPath());
+  }
+
+  private String readinessPath() {
+    return service.equals("rest-heroes") ? "/api/heroes/random" : "/api/villains/random";
+  }
+
+  private Path jar() {
+    String name = service.substring("rest-".length());
+    String jar = "super-heroes/" + service + "/target/quarkus-app/quarkus-run.jar";
+    return build.equals("before")
+      ? Path.of(System.getProperty("benchmarks." + name + "-before-jar", "../before/" + jar))
+      : Path.of(System.getProperty("benchmarks." + name + "-jar", jar));
+  }
+}
@@ -0,0 +1,174 @@
+package io.quarkus.workshop.superheroes.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@code GET /api/heroes/search} on a large hero table.
+ * It starts a PostgreSQL container and rest-heroes against it, copies the initial heroes until the table holds
+ * {@code search.heroes} heroes, then sends each search of {@link #SEARCHES} one request at a time and reports its
+ * latency percentiles. The searches range from very selective ones to ones matching a third of the heroes, and from
+ * the first page to a page deep into the results. See README.md for the options.
+ */
+public class HeroSearchBenchmark {
+
+  private static final int HEROES_PORT = 18083;
+  private static final String HEROES_DATABASE = "heroes_database";
+  private static final String DATABASE_USER = "superheroes";
+  private static final String DATABASE_PASSWORD = "superheroes";
+  private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toMicros(1);
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+  // Every copy of a hero gets the name of the original followed by its copy number, so a name matches a thousand
+  // heroes once the table is inflated to a million. Copy g of the hero with id i gets the id i + g * max(id), which
+  // lets the powers of the copies be copied from the powers of the originals.
+  private static final String INFLATE_HEROES = "INSERT INTO heroEntity(id, name, otherName, picture, level) " +
+    "SELECT h.id + g * %1$d, left(h.name || ' ' || g, 50), h.otherName, h.picture, h.level " +
+    "FROM heroEntity h CROSS JOIN generate_series(1, %2$d) g WHERE h.id <= %1$d";
+
+  private static final String INFLATE_HERO_POWERS = "INSERT INTO heroEntity_power(hero_id, power_id, position) " +
+    "SELECT hp.hero_id + g * %1$d, hp.power_id, hp.position " +
+    "FROM heroEntity_power hp CROSS JOIN generate_series(1, %2$d) g WHERE hp.hero_id <= %1$d";
+
+  private static final Map<String, String> SEARCHES = searches();
+
+  public static void main(String[] args) throws Exception {
+    int heroes = Integer.getInteger("search.heroes", 1_000_000);
+    int requests = Integer.getInteger("search.requests", 1_000);
+    int warmup = Integer.getInteger("search.warmup", 200);
+    Path heroesJar = Path.of(System.getProperty("load.heroes-jar", "../rest-heroes/target/quarkus-app/quarkus-run.jar"));
+    String postgresImage = System.getProperty("load.postgres-image", "postgres:16");
+    Path output = Path.of(System.getProperty("search.output", "target/search-results.json"));
+
+    try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(postgresImage)
+      .asCompatibleSubstituteFor("postgres"))
+      .withDatabaseName(HEROES_DATABASE)
+      .withUsername(DATABASE_USER)
+      .withPassword(DATABASE_PASSWORD)) {
+      postgres.start();
+      String hostAndPort = postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+
+      try (ServiceUnderTest service = ServiceUnderTest.start("rest-heroes", heroesJar, HEROES_PORT, Map.of(
+        "quarkus.datasource.reactive.url", "postgresql://" + hostAndPort + "/" + HEROES_DATABASE,
+        "quarkus.datasource.username", DATABASE_USER,
+        "quarkus.datasource.password", DATABASE_PASSWORD), "/api/heroes/hello")) {
+
+        long initialHeroes = Long.parseLong(psql(postgres, "SELECT count(*) FROM heroEntity"));
+        long maxId = Long.parseLong(psql(postgres, "SELECT max(id) FROM heroEntity"));
+        long copies = Math.max(0, (heroes + initialHeroes - 1) / initialHeroes - 1);
+        System.out.printf("Inflating the %d initial heroes to %d heroes%n", initialHeroes, initialHeroes * (copies + 1));
+        long start = System.nanoTime();
+        psql(postgres, INFLATE_HEROES.formatted(maxId, copies));
+        psql(postgres, INFLATE_HERO_POWERS.formatted(maxId, copies));
+        psql(postgres, "SELECT setval('heroEntity_seq', (SELECT max(id) FROM heroEntity))");
+        psql(postgres, "ANALYZE heroEntity, heroEntity_power");
+        System.out.printf("Heroes inserted and analyzed in %d s%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+
+        HttpClient client = HttpClient.newHttpClient();
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        for (Map.Entry<String, String> search : SEARCHES.entrySet()) {
+          HttpRequest request = HttpRequest.newBuilder(service.uri("/api/heroes/search?" + search.getValue()))
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+          latencies.put(search.getKey(), measure(client, request, warmup, requests));
+        }
+        print(latencies);
+        write(output, heroes, requests, latencies);
+      }
+    }
+  }
+
+  private static Map<String, String> searches() {
+    Map<String, String> searches = new LinkedHashMap<>();
+    searches.put("name", "q=" + encode("chewbacca"));
+    searches.put("power", "q=" + encode("flight"));
+    searches.put("phrase and exclusion", "q=" + encode("\"super strength\" -flight"));
+    searches.put("power and levels", "q=" + encode("flight") + "&minLevel=3&maxLevel=4");
+    searches.put("levels only", "minLevel=3&maxLevel=4");
+    searches.put("power, deep page", "q=" + encode("flight") + "&after=500000");
+    return searches;
+  }
+
+  private static Histogram measure(HttpClient client, HttpRequest request, int warmup, int requests)
+    throws IOException, InterruptedException {
+    Histogram histogram = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3);
+    for (int i = 0; i < warmup + requests; i++) {
+      long start = System.nanoTime();
+      HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+      long latency = System.nanoTime() - start;
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException(request.uri() + " answered with " + response.statusCode());
+      }
+      if (i >= warmup) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latency), HIGHEST_TRACKABLE_LATENCY));
+      }
+    }
+    return histogram;
+  }
+
+  private static void print(Map<String, Histogram> latencies) {
+    System.out.printf("%n%-22s %10s %10s %10s %10s %10s%n", "search", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    latencies.forEach((search, histogram) -> System.out.printf("%-22s %10.2f %10.2f %10.2f %10.2f %10.2f%n", search,
+      millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+      millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+      millis(histogram.getMaxValue())));
+  }
+
+  private static void write(Path output, int heroes, int requests, Map<String, Histogram> latencies) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("timestamp", Instant.now().toString());
+    report.put("heroes", heroes);
+    report.put("requests", requests);
+    Map<String, Object> results = new LinkedHashMap<>();
+    latencies.forEach((search, histogram) -> {
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("query", SEARCHES.get(search));
+      Map<String, Double> percentiles = new LinkedHashMap<>();
+      for (double percentile : PERCENTILES) {
+        percentiles.put("p" + percentile, millis(histogram.getValueAtPercentile(percentile)));
+      }
+      percentiles.put("max", millis(histogram.getMaxValue()));
+      result.put("latencyMillis", percentiles);
+      results.put(search, result);
+    });
+    report.put("results", results);
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+    System.out.println("Results written to " + output);
+  }
+
+  private static String psql(PostgreSQLContainer<?> postgres, String sql) throws IOException, InterruptedException {
+    Container.ExecResult result = postgres.execInContainer("psql", "-U", DATABASE_USER, "-d", HEROES_DATABASE,
+      "-tAc", sql);
+    if (result.getExitCode() != 0) {
+      throw new IllegalStateException("Failed to run " + sql + ": " + result.getStderr());
+    }
+    return result.getStdout().trim();
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.workshop.superheroes.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts of each operation. Latencies are measured from the time a request was meant to
+ * be sent by the open-model schedule, so that a slow service is not hidden by requests sent late (coordinated
+ * omission).
+ */
+final class LoadReport {
+
+  private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toMicros(1);
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+  private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+  LoadReport() {
+    for (Operation operation : Operation.values()) {
+      latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_LATENCY, 3));
+      errors.put(operation, new LongAdder());
+    }
+  }
+
+  void record(Operation operation, long latencyNanos, boolean success) {
+    latencies.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_LATENCY));
+    if (!success) {
+      errors.get(operation).increment();
+    }
+  }
+
+  void dropped(Operation operation) {
+    errors.get(operation).increment();
+  }
+
+  void print(LoadTestConfig config) {
+    System.out.printf("%n%-26s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+      "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      System.out.printf("%-26s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+        operation.endpoint, histogram.getTotalCount(), errors.get(operation).sum(),
+        histogram.getTotalCount() / (double) config.duration().toSeconds(),
+        millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+    }
+  }
+
+  /**
+   * Writes the configuration, the environment and the results of the run, so that two runs can be compared.
+   */
+  void write(LoadTestConfig config) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("timestamp", Instant.now().toString());
+    report.put("config", config);
+    report.put("environment", Map.of(
+      "java.version", System.getProperty("java.version"),
+      "os.name", System.getProperty("os.name"),
+      "os.arch", System.getProperty("os.arch"),
+      "processors", Runtime.getRuntime().availableProcessors()));
+    Map<String, Object> results = new LinkedHashMap<>();
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation);
+      Map<String, Object> result = new LinkedHashMap<>();
+      result.put("requests", histogram.getTotalCount());
+      result.put("errors", errors.get(operation).sum());
+      result.put("throughput", histogram.getTotalCount() / (double) config.duration().toSeconds());
+      Map<String, Double> percentiles = new LinkedHashMap<>();
+      for (double percentile : PERCENTILES) {
+        percentiles.put("p" + percentile, millis(histogram.getValueAtPercentile(percentile)));
+      }
+      percentiles.put("max", millis(histogram.getMaxValue()));
+      result.put("latencyMillis", percentiles);
+      results.put(operation.endpoint, result);
+    }
+    report.put("results", results);
+    Files.createDirectories(config.output().toAbsolutePath().getParent());
+    new ObjectMapper()
+      .registerModule(new JavaTimeModule())
+      .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+      .enable(SerializationFeature.INDENT_OUTPUT)
+      .writeValue(config.output().toFile(), report);
+    System.out.println("Results written to " + config.output());
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.workshop.superheroes.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test of rest-heroes and rest-villains.
+ * It starts a PostgreSQL container, runs both services from their packaged jars against it, drives them with an
+ * {@link OpenModelGenerator} and reports the latency percentiles of each endpoint. See README.md for the options.
+ */
+public class LoadTest {
+
+  private static final int HEROES_PORT = 18083;
+  private static final int VILLAINS_PORT = 18084;
+  private static final String HEROES_DATABASE = "heroes_database";
+  private static final String VILLAINS_DATABASE = "villains_database";
+  private static final String DATABASE_USER = "superheroes";
+  private static final String DATABASE_PASSWORD = "superheroes";
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    System.out.println("Load test configuration: " + config);
+
+    try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(config.postgresImage())
+      .asCompatibleSubstituteFor("postgres"))
+      .withDatabaseName(HEROES_DATABASE)
+      .withUsername(DATABASE_USER)
+      .withPassword(DATABASE_PASSWORD)) {
+      postgres.start();
+      postgres.execInContainer("psql", "-U", DATABASE_USER, "-d", HEROES_DATABASE, "-c", "CREATE DATABASE " + VILLAINS_DATABASE);
+      String hostAndPort = postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+
+      try (ServiceUnderTest heroes = ServiceUnderTest.start("rest-heroes", config.heroesJar(), HEROES_PORT, Map.of(
+             "quarkus.datasource.reactive.url", "postgresql://" + hostAndPort + "/" + HEROES_DATABASE,
+             "quarkus.datasource.username", DATABASE_USER,
+             "quarkus.datasource.password", DATABASE_PASSWORD), "/api/heroes/hello");
+           ServiceUnderTest villains = ServiceUnderTest.start("rest-villains", config.villainsJar(), VILLAINS_PORT, Map.of(
+             "quarkus.datasource.jdbc.url", "jdbc:postgresql://" + hostAndPort + "/" + VILLAINS_DATABASE,
+             "quarkus.datasource.reactive.url", "postgresql://" + hostAndPort + "/" + VILLAINS_DATABASE,
+             "quarkus.datasource.username", DATABASE_USER,
+             "quarkus.datasource.password", DATABASE_PASSWORD), "/api/villains/hello")) {
+
+        HttpClient client = HttpClient.newHttpClient();
+        Workload workload = new Workload(config,
+          listIds(client, heroes.uri("/api/heroes")),
+          listIds(client, villains.uri("/api/villains")));
+        LoadReport report = new LoadReport();
+        System.out.printf("Warming up for %s, then measuring for %s at %d requests/s%n",
+          config.warmup(), config.duration(), config.rate());
+        new OpenModelGenerator(config, client, workload, report, heroes.uri("/"), villains.uri("/")).run();
+        report.print(config);
+        report.write(config);
+      }
+    }
+  }
+
+  private static List<Long> listIds(HttpClient client, URI uri) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", "application/json").GET().build();
+    JsonNode items = new ObjectMapper().readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+    List<Long> ids = new ArrayList<>(items.size());
+    items.forEach(item -> ids.add(item.get("id").asLong()));
+    if (ids.isEmpty()) {
+      throw new IllegalStateException("No data found at " + uri);
+    }
+    // The Zipf ranks follow the id order, so that the same ids are the popular ones in every run
+    ids.sort(null);
+    return ids;
+  }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.workshop.superheroes.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of a load test run, read from system properties so that it can be passed with {@code -D} to
+ * {@code exec:java}. Two runs with the same configuration replay the same sequence of operations.
+ *
+ * @param heroesJar     the {@code quarkus-run.jar} of rest-heroes.
+ * @param villainsJar   the {@code quarkus-run.jar} of rest-villains.
+ * @param postgresImage the PostgreSQL image the services run against.
+ * @param rate          the number of requests started per second, whatever the response times.
+ * @param warmup        the duration of the warmup, whose latencies are not reported.
+ * @param duration      the duration of the measurement.
+ * @param readRatio     the share of reads among all the operations, between 0 and 1.
+ * @param randomRatio   the share of random reads among the reads, the others being reads by id.
+ * @param heroRatio     the share of operations on heroes, the others being on villains.
+ * @param skew          the exponent of the Zipf distribution of the ids read and written, 0 being uniform.
+ * @param seed          the seed of the operation sequence.
+ * @param maxInFlight   the number of requests in flight above which new requests are dropped and counted as errors.
+ * @param output        the JSON file the results are written to.
+ */
+record LoadTestConfig(
+  Path heroesJar,
+  Path villainsJar,
+  String postgresImage,
+  int rate,
+  Duration warmup,
+  Duration duration,
+  double readRatio,
+  double randomRatio,
+  double heroRatio,
+  double skew,
+  long seed,
+  int maxInFlight,
+  Path output) {
+
+  static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+      Path.of(System.getProperty("load.heroes-jar", "../rest-heroes/target/quarkus-app/quarkus-run.jar")),
+      Path.of(System.getProperty("load.villains-jar", "../rest-villains/target/quarkus-app/quarkus-run.jar")),
+      System.getProperty("load.postgres-image", "postgres:16"),
+      Integer.getInteger("load.rate", 500),
+      Duration.parse(System.getProperty("load.warmup", "PT30S")),
+      Duration.parse(System.getProperty("load.duration", "PT60S")),
+      Double.parseDouble(System.getProperty("load.read-ratio", "0.95")),
+      Double.parseDouble(System.getProperty("load.random-ratio", "0.5")),
+      Double.parseDouble(System.getProperty("load.hero-ratio", "0.5")),
+      Double.parseDouble(System.getProperty("load.skew", "1.0")),
+      Long.getLong("load.seed", 42L),
+      Integer.getInteger("load.max-in-flight", 10_000),
+      Path.of(System.getProperty("load.output", "target/load-results.json")));
+  }
+}
@@ -0,0 +1,116 @@
+package io.quarkus.workshop.superheroes.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started at a fixed rate whatever the response times, the way independent
+ * users arrive, instead of waiting for the previous response like a closed model would.
+ */
+final class OpenModelGenerator {
+
+  private static final long DRAIN_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+  private final LoadTestConfig config;
+
+  private final HttpClient client;
+
+  private final Workload workload;
+
+  private final LoadReport report;
+
+  private final URI heroesUri;
+
+  private final URI villainsUri;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  OpenModelGenerator(LoadTestConfig config, HttpClient client, Workload workload, LoadReport report, URI heroesUri,
+                     URI villainsUri) {
+    this.config = config;
+    this.client = client;
+    this.workload = workload;
+    this.report = report;
+    this.heroesUri = heroesUri;
+    this.villainsUri = villainsUri;
+  }
+
+  void run() throws JsonProcessingException {
+    long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+    long start = System.nanoTime();
+    long measurementStart = start + config.warmup().toNanos();
+    long end = measurementStart + config.duration().toNanos();
+    for (long i = 0; ; i++) {
+      long intended = start + i * interval;
+      if (intended >= end) {
+        break;
+      }
+      long wait = intended - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      Workload.Request request = workload.next();
+      boolean measured = intended >= measurementStart;
+      if (inFlight.get() >= config.maxInFlight()) {
+        if (measured) {
+          report.dropped(request.operation());
+        }
+        continue;
+      }
+      inFlight.incrementAndGet();
+      client.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.discarding())
+        .whenComplete((response, failure) -> {
+          inFlight.decrementAndGet();
+          if (measured) {
+            report.record(request.operation(), System.nanoTime() - intended,
+              failure == null && response.statusCode() < 400);
+          }
+        });
+    }
+    long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT;
+    while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+  }
+
+  private HttpRequest toHttpRequest(Workload.Request request) throws JsonProcessingException {
+    return switch (request.operation()) {
+      case RANDOM_HERO -> get(heroesUri.resolve("/api/heroes/random"));
+      case HERO_BY_ID -> get(heroesUri.resolve("/api/heroes/" + request.id()));
+      case UPDATE_HERO -> put(heroesUri.resolve("/api/heroes"), "hero", request.id());
+      case RANDOM_VILLAIN -> get(villainsUri.resolve("/api/villains/random"));
+      case VILLAIN_BY_ID -> get(villainsUri.resolve("/api/villains/" + request.id()));
+      case UPDATE_VILLAIN -> put(villainsUri.resolve("/api/villains"), "villain", request.id());
+    };
+  }
+
+  private static HttpRequest get(URI uri) {
+    return HttpRequest.newBuilder(uri).header("Accept", "application/json").GET().build();
+  }
+
+  private HttpRequest put(URI uri, String kind, Long id) throws JsonProcessingException {
+    String body = objectMapper.writeValueAsString(Map.of(
+      "id", id,
+      "name", "Load " + kind + " " + id,
+      "otherName", "Updated by the load test",
+      "picture", "load_" + kind + "_" + id + ".png",
+      "powers", "Load, Stress",
+      "level", 1 + id % 100));
+    return HttpRequest.newBuilder(uri)
+      .header("Accept", "application/json")
+      .header("Content-Type", "application/json")
+      .PUT(HttpRequest.BodyPublishers.ofString(body))
+      .build();
+  }
+}
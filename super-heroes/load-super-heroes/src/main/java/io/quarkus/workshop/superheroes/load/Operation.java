@@ -0,0 +1,19 @@
+package io.quarkus.workshop.superheroes.load;
+
+/**
+ * Operations of the workload. Each one gets its own latency histogram in the report.
+ */
+enum Operation {
+  RANDOM_HERO("GET /api/heroes/random"),
+  HERO_BY_ID("GET /api/heroes/{id}"),
+  UPDATE_HERO("PUT /api/heroes"),
+  RANDOM_VILLAIN("GET /api/villains/random"),
+  VILLAIN_BY_ID("GET /api/villains/{id}"),
+  UPDATE_VILLAIN("PUT /api/villains");
+
+  final String endpoint;
+
+  Operation(String endpoint) {
+    this.endpoint = endpoint;
+  }
+}
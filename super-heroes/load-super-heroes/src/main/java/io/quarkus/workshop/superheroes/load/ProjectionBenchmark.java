@@ -0,0 +1,180 @@
+package io.quarkus.workshop.superheroes.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.testcontainers.containers.Container;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bytes read from the database, bytes on the wire and latency of {@code GET /api/heroes} and
+ * {@code GET /api/villains} with and without the {@code fields} parameter.
+ * It starts PostgreSQL and both services like the load test, then requests each list with each selection of
+ * {@link #FIELDS}. The bytes read from the database are the sizes of the column values the query selects, summed
+ * over the table with {@code pg_column_size}. The bytes on the wire are the size of the response body. See README.md
+ * for the options.
+ */
+public class ProjectionBenchmark {
+
+  private static final int HEROES_PORT = 18083;
+  private static final int VILLAINS_PORT = 18084;
+  private static final String HEROES_DATABASE = "heroes_database";
+  private static final String VILLAINS_DATABASE = "villains_database";
+  private static final String DATABASE_USER = "superheroes";
+  private static final String DATABASE_PASSWORD = "superheroes";
+  private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toMicros(1);
+
+  // The columns read when the whole entities are loaded
+  private static final List<String> ALL_COLUMNS = List.of("id", "name", "otherName", "picture", "level", "version");
+
+  // The selections of fields compared, null being the whole entities. The fight UI only needs the second one.
+  private static final Map<String, String> FIELDS = fields();
+
+  public static void main(String[] args) throws Exception {
+    int requests = Integer.getInteger("projection.requests", 200);
+    int warmup = Integer.getInteger("projection.warmup", 50);
+    Path heroesJar = Path.of(System.getProperty("load.heroes-jar", "../rest-heroes/target/quarkus-app/quarkus-run.jar"));
+    Path villainsJar = Path.of(System.getProperty("load.villains-jar", "../rest-villains/target/quarkus-app/quarkus-run.jar"));
+    String postgresImage = System.getProperty("load.postgres-image", "postgres:16");
+    Path output = Path.of(System.getProperty("projection.output", "target/projection-results.json"));
+
+    try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(postgresImage)
+      .asCompatibleSubstituteFor("postgres"))
+      .withDatabaseName(HEROES_DATABASE)
+      .withUsername(DATABASE_USER)
+      .withPassword(DATABASE_PASSWORD)) {
+      postgres.start();
+      psql(postgres, HEROES_DATABASE, "CREATE DATABASE " + VILLAINS_DATABASE);
+      String hostAndPort = postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT);
+
+      try (ServiceUnderTest heroes = ServiceUnderTest.start("rest-heroes", heroesJar, HEROES_PORT, Map.of(
+             "quarkus.datasource.reactive.url", "postgresql://" + hostAndPort + "/" + HEROES_DATABASE,
+             "quarkus.datasource.username", DATABASE_USER,
+             "quarkus.datasource.password", DATABASE_PASSWORD), "/api/heroes/hello");
+           ServiceUnderTest villains = ServiceUnderTest.start("rest-villains", villainsJar, VILLAINS_PORT, Map.of(
+             "quarkus.datasource.jdbc.url", "jdbc:postgresql://" + hostAndPort + "/" + VILLAINS_DATABASE,
+             "quarkus.datasource.reactive.url", "postgresql://" + hostAndPort + "/" + VILLAINS_DATABASE,
+             "quarkus.datasource.username", DATABASE_USER,
+             "quarkus.datasource.password", DATABASE_PASSWORD), "/api/villains/hello")) {
+
+        HttpClient client = HttpClient.newHttpClient();
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, String> fields : FIELDS.entrySet()) {
+          results.add(measure(client, postgres, heroes, HEROES_DATABASE, "heroEntity", "/api/heroes",
+            fields.getKey(), fields.getValue(), warmup, requests));
+          results.add(measure(client, postgres, villains, VILLAINS_DATABASE, "villainEntity", "/api/villains",
+            fields.getKey(), fields.getValue(), warmup, requests));
+        }
+        print(results);
+        write(output, requests, results);
+      }
+    }
+  }
+
+  private static Map<String, String> fields() {
+    Map<String, String> fields = new LinkedHashMap<>();
+    fields.put("all fields", null);
+    fields.put("fight fields", "name,level,picture");
+    fields.put("names only", "name");
+    return fields;
+  }
+
+  private static Result measure(HttpClient client, PostgreSQLContainer<?> postgres, ServiceUnderTest service,
+                                String database, String table, String path, String selection, String fields,
+                                int warmup, int requests) throws IOException, InterruptedException {
+    List<String> columns = fields == null ? ALL_COLUMNS : Stream.concat(Stream.of("id"), Stream.of(fields.split(",")))
+      .distinct()
+      .toList();
+    long databaseBytes = Long.parseLong(psql(postgres, database, columns.stream()
+      .map(column -> "coalesce(pg_column_size(" + column + "), 0)")
+      .collect(Collectors.joining(" + ", "SELECT coalesce(sum(", "), 0) FROM " + table))));
+
+    String uri = fields == null ? path : path + "?fields=" + fields;
+    HttpRequest request = HttpRequest.newBuilder(service.uri(uri)).header("Accept", "application/json").GET().build();
+    long bodyBytes = send(client, request).body().length;
+
+    Histogram histogram = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3);
+    for (int i = 0; i < warmup + requests; i++) {
+      long start = System.nanoTime();
+      send(client, request);
+      long latency = System.nanoTime() - start;
+      if (i >= warmup) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latency), HIGHEST_TRACKABLE_LATENCY));
+      }
+    }
+    return new Result(path, selection, uri, databaseBytes, bodyBytes, histogram);
+  }
+
+  private static HttpResponse<byte[]> send(HttpClient client, HttpRequest request)
+    throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(request.uri() + " answered with " + response.statusCode());
+    }
+    return response;
+  }
+
+  private static void print(List<Result> results) {
+    System.out.printf("%n%-14s %-14s %12s %12s %10s %10s%n", "endpoint", "fields", "db bytes", "body bytes",
+      "p50 ms", "p99 ms");
+    results.forEach(result -> System.out.printf("%-14s %-14s %12d %12d %10.2f %10.2f%n", result.path(),
+      result.selection(), result.databaseBytes(), result.bodyBytes(),
+      millis(result.latencies().getValueAtPercentile(50)), millis(result.latencies().getValueAtPercentile(99))));
+  }
+
+  private static void write(Path output, int requests, List<Result> results) throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("timestamp", Instant.now().toString());
+    report.put("requests", requests);
+    report.put("results", results.stream().map(result -> {
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("endpoint", result.path());
+      entry.put("fields", result.selection());
+      entry.put("uri", result.uri());
+      entry.put("databaseBytes", result.databaseBytes());
+      entry.put("bodyBytes", result.bodyBytes());
+      Map<String, Double> percentiles = new LinkedHashMap<>();
+      percentiles.put("p50", millis(result.latencies().getValueAtPercentile(50)));
+      percentiles.put("p99", millis(result.latencies().getValueAtPercentile(99)));
+      percentiles.put("max", millis(result.latencies().getMaxValue()));
+      entry.put("latencyMillis", percentiles);
+      return entry;
+    }).toList());
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+    System.out.println("Results written to " + output);
+  }
+
+  private static String psql(PostgreSQLContainer<?> postgres, String database, String sql)
+    throws IOException, InterruptedException {
+    Container.ExecResult result = postgres.execInContainer("psql", "-U", DATABASE_USER, "-d", database, "-tAc", sql);
+    if (result.getExitCode() != 0) {
+      throw new IllegalStateException("Failed to run " + sql + ": " + result.getStderr());
+    }
+    return result.getStdout().trim();
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+
+  private record Result(String path, String selection, String uri, long databaseBytes, long bodyBytes,
+                        Histogram latencies) {
+  }
+}
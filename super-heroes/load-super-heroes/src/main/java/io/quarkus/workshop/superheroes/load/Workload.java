@@ -0,0 +1,69 @@
+package io.quarkus.workshop.superheroes.load;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Draws the sequence of operations of a run from a seeded random generator, according to the configured mix.
+ * Ids are drawn from a Zipf distribution over the ids loaded at startup, so that a few heroes and villains get most of
+ * the traffic, like in production.
+ */
+final class Workload {
+
+  private final LoadTestConfig config;
+
+  private final SplittableRandom random;
+
+  private final List<Long> heroIds;
+
+  private final List<Long> villainIds;
+
+  private final double[] heroCumulativeWeights;
+
+  private final double[] villainCumulativeWeights;
+
+  Workload(LoadTestConfig config, List<Long> heroIds, List<Long> villainIds) {
+    this.config = config;
+    this.random = new SplittableRandom(config.seed());
+    this.heroIds = heroIds;
+    this.villainIds = villainIds;
+    this.heroCumulativeWeights = zipfCumulativeWeights(heroIds.size(), config.skew());
+    this.villainCumulativeWeights = zipfCumulativeWeights(villainIds.size(), config.skew());
+  }
+
+  /**
+   * Draws the next operation and, for the operations on a given hero or villain, its id.
+   */
+  Request next() {
+    boolean hero = random.nextDouble() < config.heroRatio();
+    boolean read = random.nextDouble() < config.readRatio();
+    if (read && random.nextDouble() < config.randomRatio()) {
+      return new Request(hero ? Operation.RANDOM_HERO : Operation.RANDOM_VILLAIN, null);
+    }
+    Long id = hero ? pick(heroIds, heroCumulativeWeights) : pick(villainIds, villainCumulativeWeights);
+    if (read) {
+      return new Request(hero ? Operation.HERO_BY_ID : Operation.VILLAIN_BY_ID, id);
+    }
+    return new Request(hero ? Operation.UPDATE_HERO : Operation.UPDATE_VILLAIN, id);
+  }
+
+  private Long pick(List<Long> ids, double[] cumulativeWeights) {
+    double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+    int index = Arrays.binarySearch(cumulativeWeights, target);
+    return ids.get(index >= 0 ? index : Math.min(-index - 1, ids.size() - 1));
+  }
+
+  private static double[] zipfCumulativeWeights(int size, double skew) {
+    double[] weights = new double[size];
+    double total = 0;
+    for (int rank = 0; rank < size; rank++) {
+      total += 1 / Math.pow(rank + 1, skew);
+      weights[rank] = total;
+    }
+    return weights;
+  }
+
+  record Request(Operation operation, Long id) {
+  }
+}
@@ -0,0 +1,72 @@
+package io.quarkus.workshop.superheroes.fight;
+
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.workshop.superheroes.fight.api.FightsApi;
+import io.quarkus.workshop.superheroes.fight.api.model.Fighters;
+import io.quarkus.workshop.superheroes.fight.services.FightService;
+import io.quarkus.workshop.superheroes.fight.services.FighterUnavailableException;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.logging.Logger;
+
+import static io.quarkus.workshop.superheroes.fight.metrics.FightMeterFilters.API_TIMER;
+
+// Resource class for the Fights API.
+// The fighters are picked by calling the Heroes and Villains APIs, so that the UI sets up a fight in one request.
+@Path("/api/fights")
+@Tag(name = "fights")
+public class FightResource implements FightsApi {
+
+  @Inject
+  Logger logger;
+
+  @Inject
+  FightService fightService;
+
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-all-fights"})
+  public Uni<Response> getAllFights() {
+    return Uni.createFrom().item(() -> Response.ok(fightService.findAllFights()).build());
+  }
+
+  // The fighters are validated before the fight, so that a missing body, fighter or level gives a 400.
+  @Timed(value = API_TIMER, extraTags = {"operation", "perform-fight"})
+  public Uni<Response> performFight(@Valid @NotNull Fighters fighters) {
+    return Uni.createFrom().item(() -> Response.ok(fightService.performFight(fighters)).build());
+  }
+
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-random-fighters"})
+  public Uni<Response> getRandomFighters() {
+    return okOrNoContent(fightService.findRandomFighters());
+  }
+
+  @Timed(value = API_TIMER, extraTags = {"operation", "perform-random-fight"})
+  public Uni<Response> performRandomFight() {
+    return okOrNoContent(fightService.performRandomFight());
+  }
+
+  // A missing fighter gives a 204, an unavailable service a 503 rather than a 500, as the fight can be retried.
+  private Uni<Response> okOrNoContent(Uni<?> result) {
+    return result
+      .map(entity -> entity != null ? Response.ok(entity).build() : Response.noContent().build())
+      .onFailure(FighterUnavailableException.class)
+      .recoverWithItem(failure -> {
+        logger.warn(failure.getMessage());
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+      });
+  }
+
+  @GET
+  @Path("/hello")
+  @Produces(MediaType.TEXT_PLAIN)
+  public Uni<Response> hello() {
+    return Uni.createFrom().item(Response.ok("Hello Fight Resource").build());
+  }
+}
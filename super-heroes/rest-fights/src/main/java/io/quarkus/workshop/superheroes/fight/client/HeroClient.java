@@ -0,0 +1,25 @@
+package io.quarkus.workshop.superheroes.fight.client;
+
+import io.quarkus.workshop.superheroes.fight.api.model.Hero;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+/**
+ * Reactive client of the Heroes API, configured with the {@code quarkus.rest-client.hero.*} properties.
+ */
+@Path("/api/heroes")
+@RegisterRestClient(configKey = "hero")
+public interface HeroClient {
+
+  /**
+   * @return a Uni containing a random hero with its powers, or null if there are no heroes.
+   */
+  @GET
+  @Path("/random")
+  @Produces(MediaType.APPLICATION_JSON)
+  Uni<Hero> findRandomHero();
+}
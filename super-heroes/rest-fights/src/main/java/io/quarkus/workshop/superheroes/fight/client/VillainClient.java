@@ -0,0 +1,25 @@
+package io.quarkus.workshop.superheroes.fight.client;
+
+import io.quarkus.workshop.superheroes.fight.api.model.Villain;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+/**
+ * Reactive client of the Villains API, configured with the {@code quarkus.rest-client.villain.*} properties.
+ */
+@Path("/api/villains")
+@RegisterRestClient(configKey = "villain")
+public interface VillainClient {
+
+  /**
+   * @return a Uni containing a random villain with its powers, or null if there are no villains.
+   */
+  @GET
+  @Path("/random")
+  @Produces(MediaType.APPLICATION_JSON)
+  Uni<Villain> findRandomVillain();
+}
@@ -0,0 +1,41 @@
+package io.quarkus.workshop.superheroes.fight.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Micrometer configuration of the application timers.
+ */
+@Singleton
+public class FightMeterFilters {
+
+  public static final String API_TIMER = "fights.api.requests";
+  public static final String BACKEND_TIMER = "fights.backend.requests";
+
+  private static final String PREFIX = "fights.";
+
+  /**
+   * Publishes the median, 95th and 99th percentiles and a percentile histogram of all the application timers, so that
+   * latencies can be aggregated across instances in Prometheus.
+   */
+  @Produces
+  @Singleton
+  public MeterFilter percentiles() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (id.getType() != Meter.Type.TIMER || !id.getName().startsWith(PREFIX)) {
+          return config;
+        }
+        return DistributionStatisticConfig.builder()
+          .percentiles(0.5, 0.95, 0.99)
+          .percentilesHistogram(true)
+          .build()
+          .merge(config);
+      }
+    };
+  }
+}
@@ -0,0 +1,49 @@
+package io.quarkus.workshop.superheroes.fight.services;
+
+import io.quarkus.workshop.superheroes.fight.api.model.Fight;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The last fights, kept in memory, the most recent first. The fights are not persisted: the history is lost on
+ * restart and is not shared between instances.
+ */
+@ApplicationScoped
+public class FightHistory {
+
+  @ConfigProperty(name = "fight.history.size", defaultValue = "100")
+  int size;
+
+  private final AtomicLong ids = new AtomicLong();
+
+  private final Deque<Fight> fights = new ArrayDeque<>();
+
+  /**
+   * Gives the fight an id and adds it to the history, dropping the oldest fight if the history is full.
+   * @return the recorded fight.
+   */
+  Fight record(Fight fight) {
+    fight.setId(ids.incrementAndGet());
+    synchronized (fights) {
+      fights.addFirst(fight);
+      while (fights.size() > size) {
+        fights.removeLast();
+      }
+    }
+    return fight;
+  }
+
+  /**
+   * @return the last fights, the most recent first.
+   */
+  List<Fight> lastFights() {
+    synchronized (fights) {
+      return List.copyOf(fights);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package io.quarkus.workshop.superheroes.fight.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.workshop.superheroes.fight.api.model.Fight;
+import io.quarkus.workshop.superheroes.fight.api.model.Fighters;
+import io.quarkus.workshop.superheroes.fight.client.HeroClient;
+import io.quarkus.workshop.superheroes.fight.client.VillainClient;
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static io.quarkus.workshop.superheroes.fight.metrics.FightMeterFilters.BACKEND_TIMER;
+
+/**
+ * Service class picking the fighters and making them fight.
+ */
+@ApplicationScoped
+public class FightService {
+
+  static final String HEROES = "heroes";
+  static final String VILLAINS = "villains";
+
+  @Inject
+  Logger logger;
+
+  @RestClient
+  HeroClient heroClient;
+
+  @RestClient
+  VillainClient villainClient;
+
+  @Inject
+  FightHistory fightHistory;
+
+  @Inject
+  MeterRegistry registry;
+
+  @ConfigProperty(name = "fight.backend.timeout", defaultValue = "1S")
+  Duration backendTimeout;
+
+  /**
+   * Requests a random hero and a random villain concurrently, so that the fighters are received in the time of the
+   * slowest service rather than the sum of both.
+   * @return a Uni containing the fighters, or null if there is no hero or no villain.
+   * @throws FighterUnavailableException if a service fails or does not answer within {@code fight.backend.timeout}.
+   */
+  @WithSpan
+  public Uni<Fighters> findRandomFighters() {
+    return Uni.combine().all()
+      .unis(timed(HEROES, heroClient::findRandomHero), timed(VILLAINS, villainClient::findRandomVillain))
+      .with((hero, villain) -> {
+        if (hero == null || villain == null) {
+          logger.debugf("No fighters: hero %s, villain %s", hero, villain);
+          return null;
+        }
+        return new Fighters().hero(hero).villain(villain);
+      });
+  }
+
+  // Each call is bounded by the backend timeout and recorded in the backend timer, tagged by outcome so that the
+  // timeouts and failures of a service can be told apart from its successful calls.
+  private <T> Uni<T> timed(String backend, Supplier<Uni<T>> call) {
+    return Uni.createFrom().deferred(() -> {
+      Timer.Sample sample = Timer.start(registry);
+      return call.get()
+        .ifNoItem().after(backendTimeout).fail()
+        .onItemOrFailure().invoke((item, failure) -> sample.stop(registry.timer(BACKEND_TIMER,
+          "backend", backend, "outcome", outcome(item, failure))));
+    }).onFailure().transform(failure -> new FighterUnavailableException(backend, failure));
+  }
+
+  private static String outcome(Object item, Throwable failure) {
+    if (failure instanceof TimeoutException) {
+      return "timeout";
+    }
+    if (failure != null) {
+      return "failure";
+    }
+    return item == null ? "no-content" : "success";
+  }
+
+  /**
+   * Makes the fighters fight: the fighter with the highest level wins, a tie is broken at random.
+   * The fight is recorded in the fight history.
+   * @return the recorded fight.
+   */
+  @WithSpan
+  public Fight performFight(Fighters fighters) {
+    int heroLevel = fighters.getHero().getLevel();
+    int villainLevel = fighters.getVillain().getLevel();
+    boolean heroWins = heroLevel > villainLevel
+      || heroLevel == villainLevel && ThreadLocalRandom.current().nextBoolean();
+
+    Fight fight = new Fight().fightDate(OffsetDateTime.now(ZoneOffset.UTC));
+    if (heroWins) {
+      fight.winnerName(fighters.getHero().getName())
+        .winnerLevel(heroLevel)
+        .winnerPicture(fighters.getHero().getPicture())
+        .winnerPowers(fighters.getHero().getPowers())
+        .winnerTeam(HEROES)
+        .loserName(fighters.getVillain().getName())
+        .loserLevel(villainLevel)
+        .loserPicture(fighters.getVillain().getPicture())
+        .loserPowers(fighters.getVillain().getPowers())
+        .loserTeam(VILLAINS);
+    } else {
+      fight.winnerName(fighters.getVillain().getName())
+        .winnerLevel(villainLevel)
+        .winnerPicture(fighters.getVillain().getPicture())
+        .winnerPowers(fighters.getVillain().getPowers())
+        .winnerTeam(VILLAINS)
+        .loserName(fighters.getHero().getName())
+        .loserLevel(heroLevel)
+        .loserPicture(fighters.getHero().getPicture())
+        .loserPowers(fighters.getHero().getPowers())
+        .loserTeam(HEROES);
+    }
+    logger.debugf("Fight won by %s against %s", fight.getWinnerName(), fight.getLoserName());
+    return fightHistory.record(fight);
+  }
+
+  /**
+   * Picks a random hero and a random villain and makes them fight, in a single call.
+   * @return a Uni containing the recorded fight, or null if there is no hero or no villain.
+   * @throws FighterUnavailableException if a service fails or does not answer within {@code fight.backend.timeout}.
+   */
+  @WithSpan
+  public Uni<Fight> performRandomFight() {
+    return findRandomFighters().onItem().ifNotNull().transform(this::performFight);
+  }
+
+  /**
+   * @return the last fights, the most recent first.
+   */
+  public List<Fight> findAllFights() {
+    return fightHistory.lastFights();
+  }
+}
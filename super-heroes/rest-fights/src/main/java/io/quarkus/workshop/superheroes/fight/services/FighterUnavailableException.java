@@ -0,0 +1,11 @@
+package io.quarkus.workshop.superheroes.fight.services;
+
+/**
+ * Thrown when the heroes or villains service fails, or does not answer within {@code fight.backend.timeout}.
+ */
+public class FighterUnavailableException extends RuntimeException {
+
+  public FighterUnavailableException(String backend, Throwable cause) {
+    super("No fighter received from the " + backend + " service: " + cause.getMessage(), cause);
+  }
+}
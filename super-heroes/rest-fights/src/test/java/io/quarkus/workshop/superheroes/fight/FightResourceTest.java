@@ -0,0 +1,248 @@
+package io.quarkus.workshop.superheroes.fight;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.workshop.superheroes.fight.api.model.Fight;
+import io.quarkus.workshop.superheroes.fight.api.model.Fighters;
+import io.quarkus.workshop.superheroes.fight.api.model.Hero;
+import io.quarkus.workshop.superheroes.fight.api.model.Villain;
+import io.quarkus.workshop.superheroes.fight.stubs.HeroServiceStub;
+import io.quarkus.workshop.superheroes.fight.stubs.StubBehaviour;
+import io.quarkus.workshop.superheroes.fight.stubs.VillainServiceStub;
+import io.restassured.common.mapper.TypeRef;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+public class FightResourceTest {
+
+  @AfterEach
+  void resetStubs() {
+    HeroServiceStub.behaviour = StubBehaviour.FIGHTER;
+    VillainServiceStub.behaviour = StubBehaviour.FIGHTER;
+  }
+
+  @Test
+  public void testHelloEndpoint() {
+    given()
+      .header(ACCEPT, TEXT_PLAIN)
+      .when()
+      .get("/api/fights/hello")
+      .then()
+      .statusCode(200)
+      .body(is("Hello Fight Resource"));
+  }
+
+  @Test
+  void shouldGetRandomFighters() {
+    given()
+      .when()
+      .get("/api/fights/randomfighters")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .body("hero.name", is(HeroServiceStub.NAME))
+      .body("hero.level", is(HeroServiceStub.LEVEL))
+      .body("hero.powers", is(HeroServiceStub.POWERS))
+      .body("villain.name", is(VillainServiceStub.NAME))
+      .body("villain.level", is(VillainServiceStub.LEVEL))
+      .body("villain.powers", is(VillainServiceStub.POWERS));
+  }
+
+  @Test
+  void shouldPerformRandomFight() {
+    Fight fight = given()
+      .when()
+      .post("/api/fights/random")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .body("id", notNullValue())
+      .body("fightDate", notNullValue())
+      .extract().as(Fight.class);
+
+    // The villain of the stubs has the highest level
+    assertEquals(VillainServiceStub.NAME, fight.getWinnerName());
+    assertEquals("villains", fight.getWinnerTeam());
+    assertEquals(HeroServiceStub.NAME, fight.getLoserName());
+    assertEquals("heroes", fight.getLoserTeam());
+
+    List<Fight> fights = get("/api/fights").then()
+      .statusCode(OK.getStatusCode())
+      .extract().as(new TypeRef<>() {
+      });
+    assertEquals(fight.getId(), fights.get(0).getId());
+  }
+
+  @Test
+  void shouldMakeTheHighestLevelWin() {
+    Fighters fighters = new Fighters()
+      .hero(new Hero().name("Strong hero").level(100).picture("hero.png"))
+      .villain(new Villain().name("Weak villain").level(1).picture("villain.png"));
+
+    given()
+      .body(fighters)
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/fights")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("winnerName", is("Strong hero"))
+      .body("winnerLevel", is(100))
+      .body("winnerTeam", is("heroes"))
+      .body("loserName", is("Weak villain"))
+      .body("loserTeam", is("villains"));
+
+    fighters.getHero().setLevel(0);
+    given()
+      .body(fighters)
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/fights")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("winnerName", is("Weak villain"))
+      .body("winnerTeam", is("villains"));
+  }
+
+  @Test
+  void shouldNotFightWithoutVillain() {
+    given()
+      .body(new Fighters().hero(new Hero().name("Lonely hero").level(1)))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/fights")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldNotFightWithIncompleteFighters() {
+    given()
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/fights")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+
+    given()
+      .body("{\"hero\": {\"name\": \"Hero without level\"}, \"villain\": {\"name\": \"Villain\", \"level\": 1}}")
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/fights")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+
+    given()
+      .body("{\"hero\": {\"name\": \"Hero\", \"level\": 1}, \"villain\": {\"name\": \"Villain\", \"level\": null}}")
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/fights")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldExposeBackendLatencyMetrics() {
+    get("/api/fights/randomfighters").then()
+      .statusCode(OK.getStatusCode());
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*fights_api_requests_seconds\\{.*operation=\"get-random-fighters\".*quantile=\"0\\.99\".*"))
+      .body(matchesPattern("(?s).*fights_backend_requests_seconds_count\\{backend=\"heroes\",outcome=\"success\",?} [1-9].*"))
+      .body(matchesPattern("(?s).*fights_backend_requests_seconds_count\\{backend=\"villains\",outcome=\"success\",?} [1-9].*"));
+  }
+
+  @Test
+  void shouldAllowTheTraceContextOfTheUi() {
+    String allowedHeaders = given()
+      .header("Origin", "http://localhost:8080")
+      .header("Access-Control-Request-Method", "POST")
+      .header("Access-Control-Request-Headers", "traceparent")
+      .when()
+      .options("/api/fights/random")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header("Access-Control-Allow-Origin", "http://localhost:8080")
+      .extract().header("Access-Control-Allow-Headers");
+    assertTrue(allowedHeaders.contains("traceparent"), allowedHeaders);
+  }
+
+  @Test
+  void shouldNotGetRandomFightersWithoutVillain() {
+    VillainServiceStub.behaviour = StubBehaviour.NO_CONTENT;
+
+    given()
+      .when()
+      .get("/api/fights/randomfighters")
+      .then()
+      .statusCode(NO_CONTENT.getStatusCode());
+
+    given()
+      .when()
+      .post("/api/fights/random")
+      .then()
+      .statusCode(NO_CONTENT.getStatusCode());
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*fights_backend_requests_seconds_count\\{backend=\"villains\",outcome=\"no-content\",?} [1-9].*"));
+  }
+
+  @Test
+  void shouldNotGetRandomFightersWhenHeroesFail() {
+    HeroServiceStub.behaviour = StubBehaviour.FAILURE;
+
+    given()
+      .when()
+      .get("/api/fights/randomfighters")
+      .then()
+      .statusCode(SERVICE_UNAVAILABLE.getStatusCode());
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*fights_backend_requests_seconds_count\\{backend=\"heroes\",outcome=\"failure\",?} [1-9].*"));
+  }
+
+  @Test
+  void shouldNotWaitForSlowVillains() {
+    VillainServiceStub.behaviour = StubBehaviour.SLOW;
+
+    long start = System.nanoTime();
+    given()
+      .when()
+      .post("/api/fights/random")
+      .then()
+      .statusCode(SERVICE_UNAVAILABLE.getStatusCode());
+    // The fight gives up after fight.backend.timeout, before the villain is sent
+    assertTrue(System.nanoTime() - start < StubBehaviour.DELAY.toNanos());
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*fights_backend_requests_seconds_count\\{backend=\"villains\",outcome=\"timeout\",?} [1-9].*"));
+  }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.workshop.superheroes.fight.stubs;
+
+import io.quarkus.workshop.superheroes.fight.api.model.Hero;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+// Stands for the Heroes API in the tests, the hero client being configured with the URL of the test application.
+@Path("/api/heroes")
+public class HeroServiceStub {
+
+  public static final String NAME = "Super Baguette";
+  public static final int LEVEL = 42;
+  public static final String PICTURE = "super_baguette.png";
+  public static final String POWERS = "eats baguette really quickly";
+
+  public static volatile StubBehaviour behaviour = StubBehaviour.FIGHTER;
+
+  @GET
+  @Path("/random")
+  @Produces(MediaType.APPLICATION_JSON)
+  public Uni<Response> findRandomHero() {
+    return behaviour.answer(new Hero().id(1L).name(NAME).level(LEVEL).picture(PICTURE).powers(POWERS));
+  }
+}
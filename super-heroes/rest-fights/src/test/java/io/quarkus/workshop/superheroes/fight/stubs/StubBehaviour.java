@@ -0,0 +1,30 @@
+package io.quarkus.workshop.superheroes.fight.stubs;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.Response;
+
+import java.time.Duration;
+
+// How a stub of the Heroes or Villains API answers, switched by the tests.
+public enum StubBehaviour {
+
+  // answers with its fighter
+  FIGHTER,
+  // answers with a 204, as the services do when their table is empty
+  NO_CONTENT,
+  // answers with a 500
+  FAILURE,
+  // answers with its fighter after DELAY, longer than the fight.backend.timeout of the tests
+  SLOW;
+
+  public static final Duration DELAY = Duration.ofSeconds(1);
+
+  Uni<Response> answer(Object fighter) {
+    return switch (this) {
+      case FIGHTER -> Uni.createFrom().item(Response.ok(fighter).build());
+      case NO_CONTENT -> Uni.createFrom().item(Response.noContent().build());
+      case FAILURE -> Uni.createFrom().item(Response.serverError().build());
+      case SLOW -> Uni.createFrom().item(Response.ok(fighter).build()).onItem().delayIt().by(DELAY);
+    };
+  }
+}
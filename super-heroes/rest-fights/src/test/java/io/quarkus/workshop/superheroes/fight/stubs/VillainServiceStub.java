@@ -0,0 +1,28 @@
+package io.quarkus.workshop.superheroes.fight.stubs;
+
+import io.quarkus.workshop.superheroes.fight.api.model.Villain;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+// Stands for the Villains API in the tests, the villain client being configured with the URL of the test application.
+@Path("/api/villains")
+public class VillainServiceStub {
+
+  public static final String NAME = "Super Chocolatine";
+  public static final int LEVEL = 43;
+  public static final String PICTURE = "super_chocolatine.png";
+  public static final String POWERS = "does not eat pain au chocolat";
+
+  public static volatile StubBehaviour behaviour = StubBehaviour.FIGHTER;
+
+  @GET
+  @Path("/random")
+  @Produces(MediaType.APPLICATION_JSON)
+  public Uni<Response> findRandomVillain() {
+    return behaviour.answer(new Villain().id(1L).name(NAME).level(LEVEL).picture(PICTURE).powers(POWERS));
+  }
+}
@@ -0,0 +1,62 @@
+package io.quarkus.workshop.superheroes.hero;
+
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroCollectionVersion;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroField;
+import jakarta.ws.rs.core.EntityTag;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entity tags of the hero representations, derived from the hero versions so that they can be checked against the
+ * {@code If-None-Match} header without serializing the heroes.
+ */
+final class HeroETags {
+
+  private HeroETags() {
+  }
+
+  static EntityTag of(Hero hero) {
+    return new EntityTag(hero.getId() + "-" + hero.getVersion());
+  }
+
+  static EntityTag of(HeroCollectionVersion version) {
+    return new EntityTag(version.count() + "-" + version.versionSum() + "-" + version.maxId());
+  }
+
+  // Each selection of fields is a different representation of the same collection, with its own tag.
+  static EntityTag of(HeroCollectionVersion version, List<HeroField> fields) {
+    if (fields == null) {
+      return of(version);
+    }
+    return new EntityTag(of(version).getValue() + "-" + fields.stream()
+      .map(HeroField::attribute)
+      .collect(Collectors.joining(".")));
+  }
+
+  /**
+   * Checks the {@code If-None-Match} header with the weak comparison of RFC 9110: a tag matches whether it is weak or
+   * not, and {@code *} matches any representation.
+   *
+   * @param ifNoneMatch the value of the header, or null if it is missing.
+   * @param etag        the entity tag of the current representation.
+   * @return true if the client already holds the current representation.
+   */
+  static boolean matches(String ifNoneMatch, EntityTag etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String opaqueTag = '"' + etag.getValue() + '"';
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(opaqueTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,25 @@
+package io.quarkus.workshop.superheroes.hero;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import jakarta.inject.Singleton;
+
+/**
+ * Leaves the null fields of the heroes out of the responses, such as the powers that the operations listing heroes
+ * do not load, or the fields that a projection does not select. The Hero model is generated from the OpenAPI
+ * definition, so the annotation is added with a mix-in. The other types keep the default inclusion.
+ */
+@Singleton
+public class HeroJsonCustomizer implements ObjectMapperCustomizer {
+
+  @Override
+  public void customize(ObjectMapper objectMapper) {
+    objectMapper.addMixIn(Hero.class, NonNullFields.class);
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private interface NonNullFields {
+  }
+}
@@ -1,25 +1,38 @@
 package io.quarkus.workshop.superheroes.hero;
 
-import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.workshop.superheroes.hero.api.HeroesApi;
 import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.api.model.HeroBatchResult;
+import io.quarkus.workshop.superheroes.hero.logging.HeroRequestLog;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroField;
 import io.quarkus.workshop.superheroes.hero.services.HeroService;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NoContentException;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestMediaType;
 import org.jboss.resteasy.reactive.RestPath;
-import org.slf4j.LoggerFactory;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+
+import static io.quarkus.workshop.superheroes.hero.metrics.HeroMeterFilters.API_TIMER;
 
 // Resource class for the Heroes API.
 // Heroes API will not be using git submodule as the Villain one. But rather contain the OpenAPI specifications
@@ -28,60 +41,178 @@ import org.slf4j.LoggerFactory;
 @Tag(name = "heroes")
 public class HeroResource implements HeroesApi {
 
-  private static final org.slf4j.Logger log = LoggerFactory.getLogger(HeroResource.class);
+  private static final int DEFAULT_PAGE_SIZE = 100;
 
   @Inject
   private Logger logger;
 
+  @Inject
+  HeroRequestLog requestLog;
+
   @Context
   UriInfo uriInfo;
 
   @Inject
   HeroService heroService;
 
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-random-hero"})
   public Uni<Response> getRandomHero() {
-    logger.info("Retrieving random hero...");
+    requestLog.log("Retrieving random hero...");
     return heroService.retrieveRandomHero().map(hero -> Response.ok(hero).build())
       .onFailure(NoContentException.class)
       .recoverWithItem(() -> Response.noContent().build());
   }
 
-  public Uni<Response> getAllHeroes() {
-    logger.info("Retrieving all heroes");
-    return heroService.retrieveAllHeroes().map(heroList -> Response.ok(heroList).build());
+  // The version of the collection is checked before the heroes are loaded, so that a client holding the current
+  // representation gets a 304 without the heroes being read, mapped or serialized.
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-all-heroes"})
+  public Uni<Response> getAllHeroes(Long after, Integer size, String fields, String ifNoneMatch) {
+    List<HeroField> selectedFields = fields != null ? HeroField.parse(fields) : null;
+    return heroService.retrieveCollectionVersion().chain(version -> {
+      EntityTag etag = HeroETags.of(version, selectedFields);
+      if (HeroETags.matches(ifNoneMatch, etag)) {
+        logger.debug("Heroes not modified");
+        return Uni.createFrom().item(Response.notModified(etag).build());
+      }
+      return retrieveHeroes(after, size, selectedFields).map(builder -> builder.tag(etag).build());
+    });
+  }
+
+  private Uni<Response.ResponseBuilder> retrieveHeroes(Long after, Integer size, List<HeroField> fields) {
+    if (fields != null) {
+      requestLog.log("Retrieving some fields of the heroes after id %s", after);
+      return heroService.retrieveHeroFields(fields, after, size)
+        .map(page -> size != null ? pageResponse(page, size) : Response.ok(page));
+    }
+    if (after == null && size == null) {
+      requestLog.log("Retrieving all heroes");
+      return heroService.retrieveAllHeroes().map(heroList -> Response.ok(heroList));
+    }
+    int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+    requestLog.log("Retrieving a page of heroes after id %s", after);
+    return heroService.retrieveHeroPage(after, pageSize).map(page -> pageResponse(page, pageSize));
+  }
+
+  @Timed(value = API_TIMER, extraTags = {"operation", "search-heroes"})
+  public Uni<Response> searchHeroes(String q, Integer minLevel, Integer maxLevel, Long after, Integer size) {
+    int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+    requestLog.log("Searching a page of heroes after id %s", after);
+    String query = q == null || q.isBlank() ? null : q;
+    return heroService.searchHeroes(query, minLevel, maxLevel, after, pageSize)
+      .map(page -> pageResponse(page, pageSize).build());
+  }
+
+  // A full page links to the next one, with the id of its last hero as the cursor.
+  private Response.ResponseBuilder pageResponse(List<Hero> page, int pageSize) {
+    Response.ResponseBuilder builder = Response.ok(page);
+    if (page.size() == pageSize) {
+      builder.link(uriInfo.getRequestUriBuilder()
+        .replaceQueryParam("after", page.get(page.size() - 1).getId())
+        .replaceQueryParam("size", pageSize)
+        .build(), "next");
+    }
+    return builder;
+  }
+
+  @GET
+  @Path("/stream")
+  @Produces(RestMediaType.APPLICATION_NDJSON)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  public Multi<Hero> streamAllHeroesAsNdjson() {
+    requestLog.log("Streaming all heroes as NDJSON");
+    return heroService.streamAllHeroes();
+  }
+
+  @GET
+  @Path("/stream")
+  @Produces(MediaType.APPLICATION_JSON)
+  public Multi<Hero> streamAllHeroesAsJsonArray() {
+    requestLog.log("Streaming all heroes as a JSON array");
+    return heroService.streamAllHeroes();
   }
 
-  public Uni<Response> getHero(@RestPath Long id) {
-    logger.infof("Retrieving hero by id %d", id);
-    return heroService.retrieveHeroById(id).map(hero -> Response.ok(hero).build())
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-hero"})
+  public Uni<Response> getHero(@RestPath Long id, String ifNoneMatch) {
+    requestLog.log("Retrieving hero by id %d", id);
+    return heroService.retrieveHeroById(id)
+      .map(hero -> {
+        EntityTag etag = HeroETags.of(hero);
+        if (HeroETags.matches(ifNoneMatch, etag)) {
+          logger.debugf("Hero with id %d not modified", id);
+          return Response.notModified(etag).build();
+        }
+        return Response.ok(hero).tag(etag).build();
+      })
       .onFailure(NoContentException.class)
       .recoverWithItem(Response.noContent().build());
   }
 
-  @WithTransaction
+  // Creations and deletions change the heroes picked at random once their transaction is committed.
+  @Timed(value = API_TIMER, extraTags = {"operation", "create-hero"})
   public Uni<Response> createHero(@Valid Hero hero) {
-    logger.info("Creating hero..");
-    return heroService.createHero(hero)
+    requestLog.log("Creating hero..");
+    return Panache.withTransaction(() -> heroService.createHero(hero))
+      .invoke(h -> heroService.indexHeroes(List.of(h.getId())))
       .map(h -> {
-        UriBuilder builder = uriInfo.getAbsolutePathBuilder().path(Long.toString(h.getId()));
-        logger.debug("New Hero created with URI " + builder.build().toString());
-        return Response.created(builder.build()).build();
+        URI uri = uriInfo.getAbsolutePathBuilder().path(Long.toString(h.getId())).build();
+        logger.debugf("New Hero created with URI %s", uri);
+        return Response.created(uri).build();
       });
   }
 
-  @WithTransaction
+  // Updates and deletes evict the cached heroes once their transaction is committed. A hero without an id cannot be
+  // looked up nor evicted, so it is rejected before the transaction begins.
+  @Timed(value = API_TIMER, extraTags = {"operation", "update-hero"})
   public Uni<Response> updateHero(@Valid Hero hero) {
-    logger.info("Updating hero...");
-    return heroService.updateHero(hero).map(h -> Response.ok(h).build());
+    Long id = hero.getId();
+    if (id == null) {
+      return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).build());
+    }
+    requestLog.log("Updating hero with id %d", id);
+    return Panache.withTransaction(() -> heroService.updateHero(hero))
+      .call(() -> heroService.invalidateHeroes(List.of(id)))
+      .map(h -> Response.ok(h).build());
   }
 
-  @WithTransaction
+  @Timed(value = API_TIMER, extraTags = {"operation", "delete-hero"})
   public Uni<Response> deleteHero(@RestPath Long id) {
-    return heroService.deleteHeroById(id)
+    requestLog.log("Deleting hero with id %d", id);
+    return Panache.withTransaction(() -> heroService.deleteHeroById(id))
+      .invoke(() -> heroService.unindexHeroes(List.of(id)))
+      .call(() -> heroService.invalidateHeroes(List.of(id)))
       .invoke(() -> logger.debugf("Hero deleted with %d", id))
       .replaceWith(Response.noContent().build());
   }
 
+  // The batches are validated as a whole before their transaction begins: a missing body, a null hero or an invalid
+  // hero rejects the whole batch with a 400 naming the index of each invalid hero, and nothing is written.
+  @Timed(value = API_TIMER, extraTags = {"operation", "create-heroes"})
+  public Uni<Response> createHeroes(@NotNull List<@NotNull @Valid Hero> heroes) {
+    requestLog.log("Creating a batch of %d heroes...", heroes.size());
+    return Panache.withTransaction(() -> heroService.createHeroes(heroes))
+      .invoke(results -> heroService.indexHeroes(results.stream().map(HeroBatchResult::getId).toList()))
+      .map(results -> Response.ok(results).build());
+  }
+
+  @Timed(value = API_TIMER, extraTags = {"operation", "update-heroes"})
+  public Uni<Response> updateHeroes(@NotNull List<@NotNull @Valid Hero> heroes) {
+    requestLog.log("Updating a batch of %d heroes...", heroes.size());
+    List<Long> ids = heroes.stream().map(Hero::getId).filter(Objects::nonNull).toList();
+    return Panache.withTransaction(() -> heroService.updateHeroes(heroes))
+      .call(() -> heroService.invalidateHeroes(ids))
+      .map(results -> Response.ok(results).build());
+  }
+
+  @Timed(value = API_TIMER, extraTags = {"operation", "delete-heroes"})
+  public Uni<Response> deleteHeroes(List<Long> ids) {
+    requestLog.log("Deleting a batch of %d heroes...", ids.size());
+    List<Long> nonNullIds = ids.stream().filter(Objects::nonNull).toList();
+    return Panache.withTransaction(() -> heroService.deleteHeroes(ids))
+      .invoke(() -> heroService.unindexHeroes(nonNullIds))
+      .call(() -> heroService.invalidateHeroes(nonNullIds))
+      .map(results -> Response.ok(results).build());
+  }
+
   @GET
   @Produces(MediaType.TEXT_PLAIN)
   @Path("/hello")
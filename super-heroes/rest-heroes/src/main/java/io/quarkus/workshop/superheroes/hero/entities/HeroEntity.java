@@ -2,17 +2,33 @@ package io.quarkus.workshop.superheroes.hero.entities;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
 public class HeroEntity {
 
+  /**
+   * Ids come from a pooled sequence, so that a batch of heroes only needs one sequence call every 50 inserts.
+   */
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "heroEntity_seq")
+  @SequenceGenerator(name = "heroEntity_seq", sequenceName = "heroEntity_seq", allocationSize = 50)
   public Long id;
 
   @NotNull
@@ -34,11 +50,25 @@ public class HeroEntity {
   public String picture;
 
   /**
-   * The powers of the hero.
-   * Stored as a TEXT column in the database.
+   * The powers of the hero, in order, as references to the {@link PowerEntity} dictionary.
+   * They are loaded lazily, so that the queries listing heroes do not read them. The join rows are deleted with the
+   * hero by the database, which lets bulk and SQL deletes ignore them.
+   */
+  @ManyToMany(fetch = FetchType.LAZY)
+  @JoinTable(name = "heroEntity_power",
+    joinColumns = @JoinColumn(name = "hero_id", foreignKey = @ForeignKey(name = "heroEntity_power_hero_fk",
+      foreignKeyDefinition = "foreign key (hero_id) references heroEntity (id) on delete cascade")),
+    inverseJoinColumns = @JoinColumn(name = "power_id"))
+  @OrderColumn(name = "position")
+  public List<PowerEntity> powers = new ArrayList<>();
+
+  /**
+   * Incremented by every update, it is used for optimistic locking and as the ETag of the hero.
+   * The default value lets the column be added to an existing table, and lets SQL inserts omit it.
    */
-  @Column(columnDefinition = "TEXT")
-  public String powers;
+  @Version
+  @Column(columnDefinition = "bigint default 0 not null")
+  public long version;
 
   @Override
   public String toString() {
@@ -48,7 +78,7 @@ public class HeroEntity {
       ", otherName='" + otherName + '\'' +
       ", level=" + level +
       ", picture='" + picture + '\'' +
-      ", powers='" + powers + '\'' +
+      ", version=" + version +
       '}';
   }
 }
@@ -0,0 +1,75 @@
+package io.quarkus.workshop.superheroes.hero.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A power of the dictionary shared by all the heroes. Every distinct power name is stored once, and heroes reference
+ * it by its id through the {@code heroEntity_power} join table.
+ */
+@Entity
+@Table(name = "power")
+public class PowerEntity {
+
+  /**
+   * The separator of the powers in the {@code powers} field of the Hero API.
+   */
+  public static final String SEPARATOR = ", ";
+
+  /**
+   * An int is enough for the distinct powers, and keeps the rows of the join table small.
+   * Powers are only ever inserted with SQL taking their id from the sequence, so it is not pooled.
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "power_seq")
+  @SequenceGenerator(name = "power_seq", sequenceName = "power_seq", allocationSize = 1)
+  public Integer id;
+
+  @NotNull
+  @Column(unique = true, nullable = false)
+  public String name;
+
+  /**
+   * Splits the comma-separated powers of the Hero API into power names, in order. Blank powers are skipped.
+   *
+   * @param powers the comma-separated powers, or null.
+   * @return the trimmed power names.
+   */
+  public static List<String> names(String powers) {
+    if (powers == null) {
+      return List.of();
+    }
+    return Arrays.stream(powers.split(","))
+      .map(String::trim)
+      .filter(name -> !name.isEmpty())
+      .toList();
+  }
+
+  /**
+   * Joins powers back into the comma-separated form of the Hero API.
+   *
+   * @param powers the powers, or null.
+   * @return the comma-separated power names, or null if there are no powers.
+   */
+  public static String join(List<PowerEntity> powers) {
+    if (powers == null || powers.isEmpty()) {
+      return null;
+    }
+    return powers.stream().map(power -> power.name).collect(Collectors.joining(SEPARATOR));
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -4,6 +4,10 @@ package io.quarkus.workshop.superheroes.hero.lifecycle;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.vertx.VertxContextSupport;
+import io.quarkus.workshop.superheroes.hero.random.HeroIdIndex;
+import io.quarkus.workshop.superheroes.hero.random.RandomHeroBuffer;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
@@ -15,11 +19,40 @@ public class HeroAppLifecycle {
   @Inject
   private Logger logger;
 
-  public void onStart(@Observes StartupEvent ev) {
+  @Inject
+  HeroSchemaMigration heroSchemaMigration;
+
+  @Inject
+  HeroDataLoader heroDataLoader;
+
+  @Inject
+  HeroRepository heroRepository;
+
+  @Inject
+  HeroIdIndex heroIdIndex;
+
+  @Inject
+  RandomHeroBuffer randomHeroBuffer;
+
+  public void onStart(@Observes StartupEvent ev) throws Throwable {
     logger.info("The application HERO is starting with profile " + ConfigUtils.getProfiles());
+    VertxContextSupport.subscribeAndAwait(() -> heroSchemaMigration.migrate());
+    VertxContextSupport.subscribeAndAwait(() -> heroDataLoader.load());
+    primeHeroIdIndex();
+    randomHeroBuffer.refill();
   }
 
   public void onStop(@Observes ShutdownEvent ev) {
     logger.info("The application HERO is stopping...");
   }
+
+  // The index is primed lazily on the first random hero request if it cannot be loaded at startup.
+  private void primeHeroIdIndex() {
+    try {
+      VertxContextSupport.subscribeAndAwait(() -> heroRepository.primeIdIndex());
+      logger.infof("Hero id index primed with %d heroes", heroIdIndex.size());
+    } catch (Throwable e) {
+      logger.warnf(e, "Could not prime the hero id index at startup");
+    }
+  }
 }
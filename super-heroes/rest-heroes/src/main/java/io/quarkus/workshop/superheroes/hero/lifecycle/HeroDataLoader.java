@@ -0,0 +1,224 @@
+package io.quarkus.workshop.superheroes.hero.lifecycle;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Loads the initial heroes from a CSV resource at startup.
+ * All the heroes are upserted with a single multi-row statement, and the SHA-256 checksum of the dataset is stored in
+ * the {@code dataset_checksum} table so that the load is skipped when the same dataset is already in the database.
+ * The comma-separated powers of the heroes are added to the power dictionary, and the powers of the heroes are only
+ * rewritten for the heroes whose powers change.
+ * The CSV columns are {@code id,name,otherName,picture,powers,level}, with a header line.
+ */
+@ApplicationScoped
+public class HeroDataLoader {
+
+  private static final String DATASET = "heroes";
+
+  private static final String CREATE_CHECKSUM_TABLE = "CREATE TABLE IF NOT EXISTS dataset_checksum " +
+    "(name VARCHAR(64) PRIMARY KEY, checksum VARCHAR(64) NOT NULL, loaded_at TIMESTAMP NOT NULL)";
+
+  // New heroes get the default version, and the version of existing ones is only incremented if they change, so that
+  // their ETags stay valid across reloads of the same heroes.
+  private static final String UPSERT_HEROES = "INSERT INTO heroEntity(id, name, otherName, picture, level) " +
+    "SELECT * FROM unnest($1::int8[], $2::text[], $3::text[], $4::text[], $5::int4[]) " +
+    "ON CONFLICT (id) DO UPDATE SET name = excluded.name, otherName = excluded.otherName, " +
+    "picture = excluded.picture, level = excluded.level, version = heroEntity.version + 1 " +
+    "WHERE (heroEntity.name, heroEntity.otherName, heroEntity.picture, heroEntity.level) " +
+    "IS DISTINCT FROM (excluded.name, excluded.otherName, excluded.picture, excluded.level)";
+
+  private static final String CREATE_DATASET_POWERS = "CREATE TEMPORARY TABLE dataset_power " +
+    "(hero_id int8 NOT NULL, name text NOT NULL, position int4 NOT NULL) ON COMMIT DROP";
+
+  // One row per power of a hero, numbered from 0 in the order of the dataset
+  private static final String INSERT_DATASET_POWERS = "INSERT INTO dataset_power(hero_id, name, position) " +
+    "SELECT u.id, trim(t.name), (row_number() OVER (PARTITION BY u.id ORDER BY t.ordinality) - 1)::int4 " +
+    "FROM unnest($1::int8[], $2::text[]) u(id, powers) " +
+    "CROSS JOIN LATERAL unnest(string_to_array(u.powers, ',')) WITH ORDINALITY t(name, ordinality) " +
+    "WHERE trim(t.name) <> ''";
+
+  private static final String INSERT_POWERS = "INSERT INTO power(id, name) " +
+    "SELECT nextval('power_seq'), d.name FROM (SELECT DISTINCT name FROM dataset_power) d " +
+    "WHERE NOT EXISTS (SELECT 1 FROM power p WHERE p.name = d.name)";
+
+  // Run before the upsert, so that only the existing heroes whose powers change get a new version and ETag
+  private static final String BUMP_CHANGED_POWERS = "UPDATE heroEntity h SET version = h.version + 1 " +
+    "WHERE h.id = ANY($1) " +
+    "AND ARRAY(SELECT hp.power_id FROM heroEntity_power hp WHERE hp.hero_id = h.id ORDER BY hp.position) " +
+    "IS DISTINCT FROM ARRAY(SELECT p.id FROM dataset_power d JOIN power p ON p.name = d.name " +
+    "WHERE d.hero_id = h.id ORDER BY d.position) " +
+    "RETURNING h.id";
+
+  // Adds the powers of the new heroes, and of the heroes whose powers were deleted because they change
+  private static final String INSERT_HERO_POWERS = "INSERT INTO heroEntity_power(hero_id, power_id, position) " +
+    "SELECT d.hero_id, p.id, d.position FROM dataset_power d JOIN power p ON p.name = d.name " +
+    "WHERE NOT EXISTS (SELECT 1 FROM heroEntity_power hp WHERE hp.hero_id = d.hero_id)";
+
+  private static final String UPSERT_CHECKSUM = "INSERT INTO dataset_checksum(name, checksum, loaded_at) " +
+    "VALUES ($1, $2, now()) ON CONFLICT (name) DO UPDATE SET checksum = excluded.checksum, loaded_at = now()";
+
+  @Inject
+  Logger logger;
+
+  @Inject
+  PgPool pool;
+
+  @ConfigProperty(name = "hero.data.load", defaultValue = "true")
+  boolean enabled;
+
+  @ConfigProperty(name = "hero.data.resource", defaultValue = "heroes.csv")
+  String resource;
+
+  /**
+   * Loads the heroes dataset, unless it is disabled or the same dataset has already been loaded.
+   *
+   * @return a Uni completing once the heroes are in the database.
+   */
+  public Uni<Void> load() {
+    if (!enabled) {
+      return Uni.createFrom().voidItem();
+    }
+    byte[] dataset = readDataset();
+    String checksum = checksum(dataset);
+    long start = System.nanoTime();
+    return pool.withTransaction(connection -> connection.query(CREATE_CHECKSUM_TABLE).execute()
+      .chain(() -> isLoaded(connection, checksum))
+      .chain(loaded -> {
+        if (loaded) {
+          logger.infof("Heroes dataset %s is already loaded, skipping", checksum);
+          return Uni.createFrom().voidItem();
+        }
+        List<String[]> rows = parse(dataset);
+        Long[] ids = rows.stream().map(row -> Long.valueOf(row[0])).toArray(Long[]::new);
+        String[] powers = rows.stream().map(row -> row[4]).toArray(String[]::new);
+        return connection.query(CREATE_DATASET_POWERS).execute()
+          .chain(() -> connection.preparedQuery(INSERT_DATASET_POWERS)
+            .execute(Tuple.tuple().addArrayOfLong(ids).addArrayOfString(powers)))
+          .chain(() -> connection.query(INSERT_POWERS).execute())
+          .chain(() -> connection.preparedQuery(BUMP_CHANGED_POWERS).execute(Tuple.of(ids)))
+          .chain(changed -> {
+            List<Long> changedIds = new ArrayList<>(changed.size());
+            changed.forEach(row -> changedIds.add(row.getLong("id")));
+            return connection.preparedQuery("DELETE FROM heroEntity_power WHERE hero_id = ANY($1)")
+              .execute(Tuple.of(changedIds.toArray(Long[]::new)));
+          })
+          .chain(() -> connection.preparedQuery(UPSERT_HEROES).execute(columns(rows)))
+          .chain(() -> connection.query(INSERT_HERO_POWERS).execute())
+          .chain(() -> connection.query("SELECT setval('heroEntity_seq', (SELECT max(id) FROM heroEntity))").execute())
+          .chain(() -> connection.preparedQuery(UPSERT_CHECKSUM).execute(Tuple.of(DATASET, checksum)))
+          .invoke(() -> logger.infof("Loaded %d heroes in %d ms", rows.size(), (System.nanoTime() - start) / 1_000_000))
+          .replaceWithVoid();
+      }));
+  }
+
+  private Uni<Boolean> isLoaded(SqlConnection connection, String checksum) {
+    return connection.preparedQuery("SELECT checksum, (SELECT count(*) FROM heroEntity) AS heroes " +
+        "FROM dataset_checksum WHERE name = $1")
+      .execute(Tuple.of(DATASET))
+      .map(rows -> rows.size() == 1
+        && checksum.equals(rows.iterator().next().getString("checksum"))
+        && rows.iterator().next().getLong("heroes") > 0);
+  }
+
+  private byte[] readDataset() {
+    try (InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+      if (input == null) {
+        throw new IllegalStateException("Heroes dataset " + resource + " not found");
+      }
+      return input.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String checksum(byte[] dataset) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dataset));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Tuple columns(List<String[]> rows) {
+    int size = rows.size();
+    Long[] ids = new Long[size];
+    String[] names = new String[size];
+    String[] otherNames = new String[size];
+    String[] pictures = new String[size];
+    Integer[] levels = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      String[] row = rows.get(i);
+      ids[i] = Long.valueOf(row[0]);
+      names[i] = row[1];
+      otherNames[i] = row[2];
+      pictures[i] = row[3];
+      levels[i] = Integer.valueOf(row[5]);
+    }
+    return Tuple.tuple()
+      .addArrayOfLong(ids)
+      .addArrayOfString(names)
+      .addArrayOfString(otherNames)
+      .addArrayOfString(pictures)
+      .addArrayOfInteger(levels);
+  }
+
+  /**
+   * Parses the CSV dataset, skipping the header line. Fields may be quoted, and quotes inside quoted fields are
+   * doubled.
+   */
+  static List<String[]> parse(byte[] dataset) {
+    List<String[]> rows = new ArrayList<>();
+    String[] lines = new String(dataset, StandardCharsets.UTF_8).split("\n");
+    for (int i = 1; i < lines.length; i++) {
+      if (!lines[i].isBlank()) {
+        rows.add(parseLine(lines[i]));
+      }
+    }
+    return rows;
+  }
+
+  private static String[] parseLine(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c != '\r') {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields.toArray(String[]::new);
+  }
+}
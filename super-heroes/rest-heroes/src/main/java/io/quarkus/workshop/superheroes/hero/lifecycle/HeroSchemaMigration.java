@@ -0,0 +1,118 @@
+package io.quarkus.workshop.superheroes.hero.lifecycle;
+
+import io.quarkus.workshop.superheroes.hero.repositories.HeroRepository;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+/**
+ * Migrates what Hibernate does not generate from the entity mapping, at startup and before the initial heroes are
+ * loaded: the powers of a previous schema, the search document of the heroes, and the extra indexes. Every statement is idempotent, so the migration is
+ * a no-op once it has run.
+ * On an existing table, the first run builds the indexes while holding a lock that blocks writes to the heroes.
+ */
+@ApplicationScoped
+public class HeroSchemaMigration {
+
+  // The powers used to be stored as a comma-separated TEXT column of the heroes. If the column is still there, its
+  // powers are moved to the power dictionary and the join table, in order, then the column is dropped, which also
+  // drops the search index that was defined on it.
+  private static final String MIGRATE_POWERS = """
+    DO $$
+    BEGIN
+      IF EXISTS (SELECT 1 FROM information_schema.columns
+                 WHERE table_schema = current_schema() AND table_name = 'heroentity' AND column_name = 'powers') THEN
+        INSERT INTO power(id, name)
+          SELECT nextval('power_seq'), d.name
+          FROM (SELECT DISTINCT trim(t.name) AS name
+                FROM heroEntity h CROSS JOIN LATERAL unnest(string_to_array(h.powers, ',')) t(name)) d
+          WHERE d.name <> '' AND NOT EXISTS (SELECT 1 FROM power p WHERE p.name = d.name);
+        INSERT INTO heroEntity_power(hero_id, power_id, position)
+          SELECT h.id, p.id, (row_number() OVER (PARTITION BY h.id ORDER BY t.ordinality) - 1)::int4
+          FROM heroEntity h
+          CROSS JOIN LATERAL unnest(string_to_array(h.powers, ',')) WITH ORDINALITY t(name, ordinality)
+          JOIN power p ON p.name = trim(t.name)
+          ON CONFLICT DO NOTHING;
+        ALTER TABLE heroEntity DROP COLUMN powers;
+      END IF;
+    END $$""";
+
+  // The search document of a hero aggregates its names and all its powers, so that every word and exclusion of a query
+  // applies to the hero as a whole. It is a column maintained by triggers: on the heroes when their names change, and
+  // on the join table, once per statement, when their powers change.
+  private static final String CREATE_SEARCH_DOCUMENT = """
+    ALTER TABLE heroEntity ADD COLUMN IF NOT EXISTS search_document tsvector;
+
+    CREATE OR REPLACE FUNCTION heroEntity_search_document(int8, text, text) RETURNS tsvector
+    LANGUAGE sql STABLE AS $$
+      SELECT to_tsvector('simple', concat_ws(' ', $2, $3,
+        (SELECT string_agg(p.name, ' ' ORDER BY hp.position)
+         FROM heroEntity_power hp JOIN power p ON p.id = hp.power_id WHERE hp.hero_id = $1)))
+    $$;
+
+    CREATE OR REPLACE FUNCTION heroEntity_names_changed() RETURNS trigger LANGUAGE plpgsql AS $$
+    BEGIN
+      NEW.search_document := heroEntity_search_document(NEW.id, NEW.name, NEW.otherName);
+      RETURN NEW;
+    END $$;
+
+    CREATE OR REPLACE FUNCTION heroEntity_powers_changed() RETURNS trigger LANGUAGE plpgsql AS $$
+    BEGIN
+      UPDATE heroEntity h SET search_document = heroEntity_search_document(h.id, h.name, h.otherName)
+      WHERE h.id IN (SELECT hero_id FROM changed_powers);
+      RETURN NULL;
+    END $$;
+
+    DROP TRIGGER IF EXISTS heroEntity_search_document_names ON heroEntity;
+    CREATE TRIGGER heroEntity_search_document_names BEFORE INSERT OR UPDATE OF name, otherName ON heroEntity
+      FOR EACH ROW EXECUTE FUNCTION heroEntity_names_changed();
+
+    DROP TRIGGER IF EXISTS heroEntity_search_document_added ON heroEntity_power;
+    CREATE TRIGGER heroEntity_search_document_added AFTER INSERT ON heroEntity_power
+      REFERENCING NEW TABLE AS changed_powers FOR EACH STATEMENT EXECUTE FUNCTION heroEntity_powers_changed();
+
+    DROP TRIGGER IF EXISTS heroEntity_search_document_updated ON heroEntity_power;
+    CREATE TRIGGER heroEntity_search_document_updated AFTER UPDATE ON heroEntity_power
+      REFERENCING NEW TABLE AS changed_powers FOR EACH STATEMENT EXECUTE FUNCTION heroEntity_powers_changed();
+
+    DROP TRIGGER IF EXISTS heroEntity_search_document_removed ON heroEntity_power;
+    CREATE TRIGGER heroEntity_search_document_removed AFTER DELETE ON heroEntity_power
+      REFERENCING OLD TABLE AS changed_powers FOR EACH STATEMENT EXECUTE FUNCTION heroEntity_powers_changed();
+
+    UPDATE heroEntity SET search_document = heroEntity_search_document(id, name, otherName)
+    WHERE search_document IS NULL""";
+
+  // The search index used to be an expression index on the names only.
+  private static final String DROP_NAME_SEARCH_INDEX = "DROP INDEX IF EXISTS heroEntity_search_idx";
+
+  private static final String CREATE_SEARCH_INDEX = "CREATE INDEX IF NOT EXISTS heroEntity_search_document_idx " +
+    "ON heroEntity USING GIN (" + HeroRepository.SEARCH_DOCUMENT + ")";
+
+  // The primary key of the join table starts with the hero, this index finds the heroes having a power.
+  private static final String CREATE_POWER_INDEX = "CREATE INDEX IF NOT EXISTS heroEntity_power_power_idx " +
+    "ON heroEntity_power (power_id, hero_id)";
+
+  @Inject
+  Logger logger;
+
+  @Inject
+  PgPool pool;
+
+  /**
+   * Migrates the powers of a previous schema, then creates the search document and the missing indexes.
+   *
+   * @return a Uni completing once the schema is migrated.
+   */
+  public Uni<Void> migrate() {
+    long start = System.nanoTime();
+    return pool.withTransaction(connection -> connection.query(MIGRATE_POWERS).execute()
+        .chain(() -> connection.query(CREATE_SEARCH_DOCUMENT).execute())
+        .chain(() -> connection.query(DROP_NAME_SEARCH_INDEX).execute())
+        .chain(() -> connection.query(CREATE_SEARCH_INDEX).execute())
+        .chain(() -> connection.query(CREATE_POWER_INDEX).execute()))
+      .invoke(() -> logger.infof("Hero schema migrated in %d ms", (System.nanoTime() - start) / 1_000_000))
+      .replaceWithVoid();
+  }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.workshop.superheroes.hero.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes the number of log records dropped by the {@link HeroLogSampler}.
+ */
+@Singleton
+public class HeroLogMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("heroes.log.events.dropped", HeroLogSampler.class, ignored -> HeroLogSampler.droppedEvents())
+      .description("Log records dropped by the log sampler")
+      .tag("policy", "sample")
+      .register(registry);
+  }
+}
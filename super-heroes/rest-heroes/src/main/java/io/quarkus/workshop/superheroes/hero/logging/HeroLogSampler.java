@@ -0,0 +1,75 @@
+package io.quarkus.workshop.superheroes.hero.logging;
+
+import io.quarkus.logging.LoggingFilter;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Sampling overflow policy of the log handlers. Instead of blocking the request threads when the queue of the async
+ * handler is full ({@code overflow=block}) or discarding records without trace ({@code overflow=discard}), at most
+ * {@code hero.log.sampler.max-per-second} records below WARN are let through each second, before they reach the
+ * queue, and the others are dropped and counted. WARN and ERROR records are never dropped.
+ * Enabled on a handler with {@code quarkus.log.<handler>.filter=hero-log-sampler}, the limit being shared by all the
+ * handlers using it.
+ */
+@LoggingFilter(name = "hero-log-sampler")
+public final class HeroLogSampler implements Filter {
+
+  private static final LongAdder DROPPED_EVENTS = new LongAdder();
+
+  private final int maxPerSecond;
+
+  private final AtomicReference<Window> window = new AtomicReference<>(new Window(currentSecond()));
+
+  public HeroLogSampler(@ConfigProperty(name = "hero.log.sampler.max-per-second", defaultValue = "0") int maxPerSecond) {
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  /**
+   * @return the number of log records dropped by the sampler since the application started.
+   */
+  public static long droppedEvents() {
+    return DROPPED_EVENTS.sum();
+  }
+
+  @Override
+  public boolean isLoggable(LogRecord logRecord) {
+    if (maxPerSecond <= 0 || logRecord.getLevel().intValue() >= Level.WARNING.intValue()) {
+      return true;
+    }
+    if (currentWindow().count.incrementAndGet() <= maxPerSecond) {
+      return true;
+    }
+    DROPPED_EVENTS.increment();
+    return false;
+  }
+
+  private Window currentWindow() {
+    long second = currentSecond();
+    Window current = window.get();
+    while (current.second != second) {
+      // Only one thread opens the window of the new second, the others count in it
+      if (window.compareAndSet(current, new Window(second))) {
+        return window.get();
+      }
+      current = window.get();
+    }
+    return current;
+  }
+
+  private static long currentSecond() {
+    return System.nanoTime() / 1_000_000_000L;
+  }
+
+  private record Window(long second, AtomicInteger count) {
+    Window(long second) {
+      this(second, new AtomicInteger());
+    }
+  }
+}
@@ -2,9 +2,14 @@ package io.quarkus.workshop.superheroes.hero.mappers;
 
 import io.quarkus.workshop.superheroes.hero.api.model.Hero;
 import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.entities.PowerEntity;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroField;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,11 +29,14 @@ public interface HeroMapper {
   Hero toHeroDto(HeroEntity heroEntity);
 
   /**
-   * Converts a Hero DTO to a HeroEntity.
+   * Converts a Hero DTO to a HeroEntity. The version is read-only, it is only set by Hibernate. The powers are
+   * references to the power dictionary, they are resolved by the HeroService.
    *
    * @param hero the Hero DTO to convert
    * @return the converted HeroEntity
    */
+  @Mapping(target = "version", ignore = true)
+  @Mapping(target = "powers", ignore = true)
   HeroEntity toHeroEntity(Hero hero);
 
   /**
@@ -38,4 +46,42 @@ public interface HeroMapper {
    * @return the list of converted Hero DTOs
    */
   List<Hero> toHeroDtoList(List<HeroEntity> heroEntityList);
+
+  /**
+   * Converts the rows of a projection query to Hero DTOs, with only the selected fields set.
+   *
+   * @param rows   the field values of each hero, in the order of the fields
+   * @param fields the selected fields
+   * @return the list of partial Hero DTOs
+   */
+  default List<Hero> toHeroDtoList(List<Object[]> rows, List<HeroField> fields) {
+    List<Hero> heroes = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      Hero hero = new Hero();
+      for (int i = 0; i < fields.size(); i++) {
+        Object value = row[i];
+        switch (fields.get(i)) {
+          case ID -> hero.setId((Long) value);
+          case NAME -> hero.setName((String) value);
+          case OTHER_NAME -> hero.setOtherName((String) value);
+          case PICTURE -> hero.setPicture((String) value);
+          case LEVEL -> hero.setLevel((Integer) value);
+          case VERSION -> hero.setVersion((Long) value);
+        }
+      }
+      heroes.add(hero);
+    }
+    return heroes;
+  }
+
+  /**
+   * Converts the powers of a hero to the comma-separated powers of the Hero DTO. Powers that were not loaded with
+   * the hero are left out rather than loaded one hero at a time.
+   *
+   * @param powers the powers of the hero
+   * @return the comma-separated powers, or null if they were not loaded
+   */
+  default String toPowers(List<PowerEntity> powers) {
+    return Hibernate.isInitialized(powers) ? PowerEntity.join(powers) : null;
+  }
 }
@@ -0,0 +1,88 @@
+package io.quarkus.workshop.superheroes.hero.mappers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroField;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.quarkus.workshop.superheroes.hero.metrics.HeroMeterFilters.MAPPER_TIMER;
+
+/**
+ * Decorates the generated {@link HeroMapper} to time every mapping, tagged by mapper method, and to trace it in its own
+ * span.
+ */
+@Decorator
+@Priority(10)
+public class InstrumentedHeroMapper implements HeroMapper {
+
+  private final HeroMapper delegate;
+
+  private final Tracer tracer;
+
+  private final Timer toHeroDtoTimer;
+
+  private final Timer toHeroEntityTimer;
+
+  private final Timer toHeroDtoListTimer;
+
+  private final Timer toHeroFieldsListTimer;
+
+  @Inject
+  public InstrumentedHeroMapper(@Delegate @Any HeroMapper delegate, MeterRegistry meterRegistry, Tracer tracer) {
+    this.delegate = delegate;
+    this.tracer = tracer;
+    this.toHeroDtoTimer = timer(meterRegistry, "toHeroDto");
+    this.toHeroEntityTimer = timer(meterRegistry, "toHeroEntity");
+    this.toHeroDtoListTimer = timer(meterRegistry, "toHeroDtoList");
+    this.toHeroFieldsListTimer = timer(meterRegistry, "toHeroFieldsList");
+  }
+
+  @Override
+  public Hero toHeroDto(HeroEntity heroEntity) {
+    return record(toHeroDtoTimer, "HeroMapper.toHeroDto", () -> delegate.toHeroDto(heroEntity));
+  }
+
+  @Override
+  public HeroEntity toHeroEntity(Hero hero) {
+    return record(toHeroEntityTimer, "HeroMapper.toHeroEntity", () -> delegate.toHeroEntity(hero));
+  }
+
+  @Override
+  public List<Hero> toHeroDtoList(List<HeroEntity> heroEntityList) {
+    return record(toHeroDtoListTimer, "HeroMapper.toHeroDtoList", () -> delegate.toHeroDtoList(heroEntityList));
+  }
+
+  @Override
+  public List<Hero> toHeroDtoList(List<Object[]> rows, List<HeroField> fields) {
+    return record(toHeroFieldsListTimer, "HeroMapper.toHeroFieldsList", () -> delegate.toHeroDtoList(rows, fields));
+  }
+
+  // Decorators cannot be intercepted, so the spans are created here rather than with @WithSpan.
+  private <T> T record(Timer timer, String spanName, Supplier<T> mapping) {
+    Span span = tracer.spanBuilder(spanName).startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      return timer.record(mapping);
+    } finally {
+      span.end();
+    }
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String method) {
+    return Timer.builder(MAPPER_TIMER)
+      .description("Time spent mapping heroes")
+      .tag("method", method)
+      .register(meterRegistry);
+  }
+}
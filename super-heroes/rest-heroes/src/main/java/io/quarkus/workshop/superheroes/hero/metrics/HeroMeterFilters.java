@@ -0,0 +1,42 @@
+package io.quarkus.workshop.superheroes.hero.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Micrometer configuration of the application timers.
+ */
+@Singleton
+public class HeroMeterFilters {
+
+  public static final String API_TIMER = "heroes.api.requests";
+  public static final String DB_TIMER = "heroes.db.queries";
+  public static final String MAPPER_TIMER = "heroes.mapper";
+
+  private static final String PREFIX = "heroes.";
+
+  /**
+   * Publishes the median, 95th and 99th percentiles and a percentile histogram of all the application timers, so that
+   * latencies can be aggregated across instances in Prometheus.
+   */
+  @Produces
+  @Singleton
+  public MeterFilter percentiles() {
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (id.getType() != Meter.Type.TIMER || !id.getName().startsWith(PREFIX)) {
+          return config;
+        }
+        return DistributionStatisticConfig.builder()
+          .percentiles(0.5, 0.95, 0.99)
+          .percentilesHistogram(true)
+          .build()
+          .merge(config);
+      }
+    };
+  }
+}
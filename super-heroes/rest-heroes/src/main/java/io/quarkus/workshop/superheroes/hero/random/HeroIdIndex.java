@@ -0,0 +1,153 @@
+package io.quarkus.workshop.superheroes.hero.random;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the live hero ids, used to pick a random hero in constant time.
+ * The ids are kept in a dense array so that a random slot can be picked directly, and removals swap the last id
+ * into the freed slot to keep the array dense.
+ * Until the index is primed, the ids added are kept and the ids removed are remembered, so that the heroes created or
+ * deleted while the ids are being read from the database are not lost or brought back by the priming.
+ */
+@ApplicationScoped
+public class HeroIdIndex {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<Long, Integer> positions = new HashMap<>();
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+
+  private int size;
+
+  // The ids removed before the index is primed, cleared once it is
+  private final Set<Long> removedBeforePriming = new HashSet<>();
+
+  private volatile boolean primed;
+
+  /**
+   * Loads the hero ids read from the database into the index. The ids added before are kept and the ids removed
+   * before are left out, as they may have changed after the ids were read. Once the index is primed, it is kept up to
+   * date by {@link #add(long)} and {@link #remove(long)} and priming it again has no effect.
+   *
+   * @param heroIds all the hero ids stored in the database when they were read.
+   */
+  public void prime(Collection<Long> heroIds) {
+    lock.writeLock().lock();
+    try {
+      if (primed) {
+        return;
+      }
+      if (ids.length < size + heroIds.size()) {
+        ids = Arrays.copyOf(ids, size + heroIds.size());
+      }
+      for (Long id : heroIds) {
+        if (!positions.containsKey(id) && !removedBeforePriming.contains(id)) {
+          append(id);
+        }
+      }
+      removedBeforePriming.clear();
+      primed = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds a hero id to the index. Adding an id that is already indexed has no effect.
+   *
+   * @param id the id of the created hero.
+   */
+  public void add(long id) {
+    lock.writeLock().lock();
+    try {
+      if (!primed) {
+        removedBeforePriming.remove(id);
+      }
+      if (!positions.containsKey(id)) {
+        append(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a hero id from the index. Removing an id that is not indexed has no effect.
+   *
+   * @param id the id of the deleted hero.
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      if (!primed) {
+        removedBeforePriming.add(id);
+      }
+      Integer position = positions.remove(id);
+      if (position == null) {
+        return;
+      }
+      long lastId = ids[--size];
+      if (position != size) {
+        ids[position] = lastId;
+        positions.put(lastId, position);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Picks a random hero id.
+   *
+   * @return a random indexed id, or an empty optional if the index is empty.
+   */
+  public OptionalLong randomId() {
+    lock.readLock().lock();
+    try {
+      if (size == 0) {
+        return OptionalLong.empty();
+      }
+      return OptionalLong.of(ids[ThreadLocalRandom.current().nextInt(size)]);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return true once the index has been loaded with the ids stored in the database.
+   */
+  public boolean isPrimed() {
+    return primed;
+  }
+
+  private void append(long id) {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+    ids[size] = id;
+    positions.put(id, size++);
+  }
+}
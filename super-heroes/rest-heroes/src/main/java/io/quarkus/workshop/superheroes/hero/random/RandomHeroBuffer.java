@@ -0,0 +1,199 @@
+package io.quarkus.workshop.superheroes.hero.random;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.vertx.VertxContextSupport;
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.mappers.HeroMapper;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ring buffer of pre-fetched, already mapped random heroes.
+ * Random hero requests are served from memory while the buffer holds heroes. Whenever the buffer drops to the
+ * refill threshold, a single batch query tops it up in the background.
+ * Writes evict the modified hero once their transaction is committed, and discard any refill that was in flight, so
+ * that a refill reading the heroes before the commit cannot buffer them again.
+ */
+@ApplicationScoped
+public class RandomHeroBuffer {
+
+  @Inject
+  Logger logger;
+
+  @Inject
+  HeroRepository heroRepository;
+
+  @Inject
+  HeroMapper heroMapper;
+
+  @Inject
+  MeterRegistry meterRegistry;
+
+  @ConfigProperty(name = "hero.random-buffer.enabled", defaultValue = "true")
+  boolean enabled;
+
+  @ConfigProperty(name = "hero.random-buffer.size", defaultValue = "100")
+  int capacity;
+
+  @ConfigProperty(name = "hero.random-buffer.refill-threshold", defaultValue = "25")
+  int refillThreshold;
+
+  private final Lock lock = new ReentrantLock();
+
+  private final ArrayDeque<Hero> heroes = new ArrayDeque<>();
+
+  private final AtomicBoolean refilling = new AtomicBoolean();
+
+  // Incremented on every eviction, so that refills started before a write are discarded.
+  private final AtomicLong generation = new AtomicLong();
+
+  private Counter hits;
+
+  private Counter misses;
+
+  @PostConstruct
+  void registerMetrics() {
+    hits = Counter.builder("heroes.random.buffer.requests")
+      .description("Random hero requests served by the buffer")
+      .tag("result", "hit")
+      .register(meterRegistry);
+    misses = Counter.builder("heroes.random.buffer.requests")
+      .description("Random hero requests served by the buffer")
+      .tag("result", "miss")
+      .register(meterRegistry);
+    Gauge.builder("heroes.random.buffer.size", this, RandomHeroBuffer::size)
+      .description("Number of random heroes currently buffered")
+      .register(meterRegistry);
+    Gauge.builder("heroes.random.buffer.hit.ratio", this, RandomHeroBuffer::hitRatio)
+      .description("Ratio of random hero requests served by the buffer")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Takes a hero out of the buffer and triggers a refill when the buffer runs low.
+   *
+   * @return a random hero, or null if the buffer is disabled or empty.
+   */
+  public Hero poll() {
+    if (!enabled) {
+      return null;
+    }
+    Hero hero;
+    int remaining;
+    lock.lock();
+    try {
+      hero = heroes.poll();
+      remaining = heroes.size();
+    } finally {
+      lock.unlock();
+    }
+    (hero != null ? hits : misses).increment();
+    if (remaining <= refillThreshold) {
+      refill();
+    }
+    return hero;
+  }
+
+  /**
+   * Removes a hero from the buffer and discards any refill in flight. It is called once the transaction updating or
+   * deleting the hero is committed.
+   *
+   * @param id the id of the hero that was updated or deleted.
+   */
+  public void evict(Long id) {
+    if (!enabled) {
+      return;
+    }
+    generation.incrementAndGet();
+    lock.lock();
+    try {
+      heroes.removeIf(hero -> id.equals(hero.getId()));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Tops the buffer up with a single random batch query, unless a refill is already running.
+   * The query runs on its own Vert.x context so that it gets its own session.
+   */
+  public void refill() {
+    if (!enabled || !refilling.compareAndSet(false, true)) {
+      return;
+    }
+    int missing = capacity - size();
+    if (missing <= 0) {
+      refilling.set(false);
+      return;
+    }
+    long refillGeneration = generation.get();
+    VertxContextSupport.subscribe(
+      () -> heroRepository.findRandomBatch(missing).map(heroMapper::toHeroDtoList).toMulti(),
+      subscription -> subscription.with(
+        batch -> {
+          offer(batch, refillGeneration);
+          refilling.set(false);
+        },
+        failure -> {
+          logger.warnf(failure, "Could not refill the random hero buffer");
+          refilling.set(false);
+        }));
+  }
+
+  /**
+   * @return a copy of the buffered heroes, in the order they are served.
+   */
+  List<Hero> heroes() {
+    lock.lock();
+    try {
+      return List.copyOf(heroes);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return heroes.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void offer(List<Hero> batch, long refillGeneration) {
+    lock.lock();
+    try {
+      if (refillGeneration != generation.get()) {
+        logger.debug("Discarding random hero batch fetched before a hero was modified");
+        return;
+      }
+      for (Hero hero : batch) {
+        if (heroes.size() >= capacity) {
+          break;
+        }
+        heroes.offer(hero);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private double hitRatio() {
+    double total = hits.count() + misses.count();
+    return total == 0 ? 0 : hits.count() / total;
+  }
+}
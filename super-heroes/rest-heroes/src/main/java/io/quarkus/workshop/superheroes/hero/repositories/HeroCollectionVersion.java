@@ -0,0 +1,12 @@
+package io.quarkus.workshop.superheroes.hero.repositories;
+
+/**
+ * Summary of the hero table that changes whenever a hero is created, updated or deleted, used as the version of the
+ * whole collection of heroes.
+ *
+ * @param count      the number of heroes; it changes when heroes are created or deleted.
+ * @param versionSum the sum of the hero versions; it changes when a hero is updated.
+ * @param maxId      the greatest hero id; it changes when a hero is created and another one deleted.
+ */
+public record HeroCollectionVersion(long count, long versionSum, long maxId) {
+}
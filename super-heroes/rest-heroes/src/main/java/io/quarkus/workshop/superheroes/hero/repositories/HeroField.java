@@ -0,0 +1,73 @@
+package io.quarkus.workshop.superheroes.hero.repositories;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The fields of a hero that can be selected by the {@code fields} parameter of the hero list. Each field but the
+ * powers is a column of the hero table, so that a projection only reads the columns it returns. The powers are read
+ * by a second query for the whole page.
+ */
+public enum HeroField {
+
+  ID("id"),
+  NAME("name"),
+  OTHER_NAME("otherName"),
+  PICTURE("picture"),
+  LEVEL("level"),
+  VERSION("version"),
+  POWERS("powers", false);
+
+  private final String attribute;
+
+  private final boolean column;
+
+  HeroField(String attribute) {
+    this(attribute, true);
+  }
+
+  HeroField(String attribute, boolean column) {
+    this.attribute = attribute;
+    this.column = column;
+  }
+
+  /**
+   * @return the name of the field, both in the Hero API and in the HeroEntity.
+   */
+  public String attribute() {
+    return attribute;
+  }
+
+  /**
+   * @return the fields that are columns of the hero table, in the same order.
+   */
+  public static List<HeroField> columns(List<HeroField> fields) {
+    return fields.stream().filter(field -> field.column).toList();
+  }
+
+  /**
+   * Parses the comma-separated fields of the {@code fields} parameter. The id is always selected, as it is the cursor
+   * of the next page.
+   *
+   * @param fields the comma-separated field names.
+   * @return the distinct fields, in declaration order.
+   * @throws IllegalArgumentException if a field is unknown.
+   */
+  public static List<HeroField> parse(String fields) {
+    Set<HeroField> parsed = EnumSet.of(ID);
+    for (String name : fields.split(",")) {
+      parsed.add(of(name.trim()));
+    }
+    return List.copyOf(parsed);
+  }
+
+  private static HeroField of(String attribute) {
+    for (HeroField field : values()) {
+      if (field.attribute.equals(attribute)) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("Unknown hero field: " + attribute);
+  }
+}
@@ -1,29 +1,326 @@
 package io.quarkus.workshop.superheroes.hero.repositories;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.quarkus.hibernate.reactive.panache.PanacheRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.entities.PowerEntity;
+import io.quarkus.workshop.superheroes.hero.random.HeroIdIndex;
 import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.reactive.mutiny.Mutiny;
 
-import java.util.Random;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.quarkus.workshop.superheroes.hero.metrics.HeroMeterFilters.DB_TIMER;
 
 @WithSession
 @ApplicationScoped
 public class HeroRepository implements PanacheRepository<HeroEntity> {
 
   /**
-   * Finds a random hero entity by retrieving the total count of heroes, generating a random number in that range
-   * and using it as an offset of paginated result containing a single hero per page.
+   * Number of random ids tried before giving up, in case ids are removed concurrently from the database.
+   */
+  private static final int MAX_RANDOM_ATTEMPTS = 3;
+
+  /**
+   * The column holding the text document of a hero, its names and all its powers, searched by {@link #search}. It is
+   * maintained by the triggers created by {@code HeroSchemaMigration}, which also creates its GIN index.
+   */
+  public static final String SEARCH_DOCUMENT = "search_document";
+
+  // The powers of a range of heroes, aggregated in order in a single query rather than loaded hero by hero.
+  private static final String POWERS_BETWEEN_QUERY = "select hp.hero_id, string_agg(p.name, '" + PowerEntity.SEPARATOR +
+    "' order by hp.position) from heroEntity_power hp join power p on p.id = hp.power_id " +
+    "where hp.hero_id > :afterId and hp.hero_id <= :lastId group by hp.hero_id";
+
+  private static final String FETCH_POWERS_QUERY = "from HeroEntity h left join fetch h.powers";
+
+  private static final String COLLECTION_VERSION_QUERY = "select new " + HeroCollectionVersion.class.getName() +
+    "(count(h), coalesce(sum(h.version), 0L), coalesce(max(h.id), 0L)) from HeroEntity h";
+
+  @Inject
+  HeroIdIndex heroIdIndex;
+
+  @Inject
+  MeterRegistry meterRegistry;
+
+  private Counter indexHits;
+
+  private Counter staleIds;
+
+  @PostConstruct
+  void registerMetrics() {
+    indexHits = Counter.builder("heroes.random.index.lookups")
+      .description("Random hero lookups by an id picked from the id index")
+      .tag("result", "hit")
+      .register(meterRegistry);
+    staleIds = Counter.builder("heroes.random.index.lookups")
+      .description("Random hero lookups by an id picked from the id index")
+      .tag("result", "stale")
+      .register(meterRegistry);
+    Gauge.builder("heroes.random.index.size", heroIdIndex, HeroIdIndex::size)
+      .description("Number of hero ids in the id index")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Finds a random hero entity by picking a random id from the in-memory {@link HeroIdIndex} and fetching the
+   * matching row by primary key. Ids that no longer exist in the database are evicted from the index and another
+   * id is tried. When the index is empty, or only stale ids were picked, the hero is picked by the database instead.
    *
-   * @return a Uni containing the random hero entity.
+   * @return a Uni containing the random hero entity, or null if there are no heroes.
    */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-random"})
   public Uni<HeroEntity> findRandom() {
-    Random random = new Random();
-    return count()
-      .map(count -> random.nextInt(count.intValue()))
-      .chain(randomHero -> findAll().page(randomHero, 1)
-        .firstResult());
+    Uni<Void> primed = heroIdIndex.isPrimed() ? Uni.createFrom().voidItem() : primeIdIndex();
+    return primed.chain(() -> findRandomIndexed(MAX_RANDOM_ATTEMPTS));
+  }
+
+  /**
+   * Loads all the hero ids from the database into the {@link HeroIdIndex}.
+   *
+   * @return a Uni completing once the index is loaded.
+   */
+  @WithSpan
+  public Uni<Void> primeIdIndex() {
+    return listAllIds()
+      .invoke(ids -> heroIdIndex.prime(ids))
+      .replaceWithVoid();
+  }
+
+  /**
+   * Retrieves the ids of all the heroes, without loading the entities.
+   *
+   * @return a Uni containing the list of hero ids.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "list-all-ids"})
+  public Uni<List<Long>> listAllIds() {
+    return getSession()
+      .chain(session -> session.createSelectionQuery("select h.id from HeroEntity h", Long.class).getResultList());
+  }
+
+  /**
+   * Retrieves, among the given ids, the ones that belong to an existing hero.
+   *
+   * @param ids the ids to look for.
+   * @return a Uni containing the ids of the existing heroes.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "list-existing-ids"})
+  public Uni<List<Long>> listExistingIds(Collection<Long> ids) {
+    return getSession()
+      .chain(session -> session.createSelectionQuery("select h.id from HeroEntity h where h.id in :ids", Long.class)
+        .setParameter("ids", ids)
+        .getResultList());
+  }
+
+  /**
+   * Computes the version of the whole collection of heroes with a single aggregate query, without loading them.
+   *
+   * @return a Uni containing the version of the hero collection.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "collection-version"})
+  public Uni<HeroCollectionVersion> collectionVersion() {
+    return getSession()
+      .chain(session -> session.createSelectionQuery(COLLECTION_VERSION_QUERY, HeroCollectionVersion.class)
+        .getSingleResult());
+  }
+
+  /**
+   * Retrieves a page of heroes ordered by id, using the id of the last hero of the previous page as a cursor.
+   *
+   * @param afterId the cursor; only heroes with a greater id are returned.
+   * @param size    the maximum number of heroes to retrieve.
+   * @return a Uni containing the page of hero entities.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-page-after"})
+  public Uni<List<HeroEntity>> findPageAfter(long afterId, int size) {
+    return find("id > ?1", Sort.by("id"), afterId)
+      .page(0, size)
+      .list();
+  }
+
+  /**
+   * Retrieves some fields of the heroes ordered by id, using the id of the last hero of the previous page as a cursor.
+   * Only the columns of the fields are read, and no entity is loaded.
+   *
+   * @param fields  the fields to read, in the order of the returned rows.
+   * @param afterId the cursor; only heroes with a greater id are returned.
+   * @param size    the maximum number of heroes to retrieve, or null for all of them.
+   * @return a Uni containing one row of field values per hero.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-fields-after"})
+  public Uni<List<Object[]>> findFieldsAfter(List<HeroField> fields, long afterId, Integer size) {
+    String query = fields.stream()
+      .map(field -> "h." + field.attribute())
+      .collect(Collectors.joining(", ", "select ", " from HeroEntity h where h.id > :afterId order by h.id"));
+    return getSession()
+      .chain(session -> {
+        Mutiny.SelectionQuery<Object[]> selection = session.createSelectionQuery(query, Object[].class)
+          .setParameter("afterId", afterId);
+        if (size != null) {
+          selection.setMaxResults(size);
+        }
+        return selection.getResultList();
+      });
+  }
+
+  /**
+   * Retrieves the comma-separated powers of the heroes whose id is in a range, such as the heroes of a page.
+   *
+   * @param afterId the start of the range, excluded.
+   * @param lastId  the end of the range, included.
+   * @return a Uni containing the powers by hero id, without the heroes having no powers.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-powers-between"})
+  public Uni<Map<Long, String>> findPowersBetween(long afterId, long lastId) {
+    return getSession()
+      .chain(session -> session.createNativeQuery(POWERS_BETWEEN_QUERY, Object[].class)
+        .setParameter("afterId", afterId)
+        .setParameter("lastId", lastId)
+        .getResultList())
+      .map(rows -> rows.stream()
+        .collect(Collectors.toMap(row -> ((Number) row[0]).longValue(), row -> (String) row[1])));
+  }
+
+  /**
+   * Searches the heroes matching all the given criteria, ordered by id, one page at a time using the id of the last
+   * hero of the previous page as a cursor. The query is a web search expression, as understood by
+   * {@code websearch_to_tsquery}: quoted phrases, {@code or} and {@code -} exclusions are supported. The query is
+   * matched against a single document per hero, made of its names and all its powers.
+   *
+   * @param query    the full-text query over the names and powers, or null to match any hero.
+   * @param minLevel the minimum level, or null for no minimum.
+   * @param maxLevel the maximum level, or null for no maximum.
+   * @param afterId  the cursor; only heroes with a greater id are returned.
+   * @param size     the maximum number of heroes to retrieve.
+   * @return a Uni containing the page of matching hero entities.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "search"})
+  public Uni<List<HeroEntity>> search(String query, Integer minLevel, Integer maxLevel, long afterId, int size) {
+    // Only the given criteria are added to the query, as optional parameters would keep the planner from using the
+    // search index.
+    StringBuilder sql = new StringBuilder("select * from heroEntity where id > :afterId");
+    if (query != null) {
+      sql.append(" and ").append(SEARCH_DOCUMENT).append(" @@ websearch_to_tsquery('simple', :query)");
+    }
+    if (minLevel != null) {
+      sql.append(" and level >= :minLevel");
+    }
+    if (maxLevel != null) {
+      sql.append(" and level <= :maxLevel");
+    }
+    sql.append(" order by id limit :size");
+    return getSession()
+      .chain(session -> {
+        Mutiny.SelectionQuery<HeroEntity> selection = session.createNativeQuery(sql.toString(), HeroEntity.class)
+          .setParameter("afterId", afterId)
+          .setParameter("size", size);
+        if (query != null) {
+          selection.setParameter("query", query);
+        }
+        if (minLevel != null) {
+          selection.setParameter("minLevel", minLevel);
+        }
+        if (maxLevel != null) {
+          selection.setParameter("maxLevel", maxLevel);
+        }
+        return selection.getResultList();
+      });
+  }
+
+  /**
+   * Retrieves a hero with its powers, in a single query.
+   *
+   * @param id the id of the hero.
+   * @return a Uni containing the hero entity, or null if it does not exist.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-by-id-with-powers"})
+  public Uni<HeroEntity> findByIdWithPowers(Long id) {
+    // Not firstResult(), which would limit the rows of the hero and its powers rather than the heroes
+    return find(FETCH_POWERS_QUERY + " where h.id = ?1", id).list()
+      .map(heroes -> heroes.isEmpty() ? null : heroes.get(0));
+  }
+
+  /**
+   * Retrieves heroes with their powers, in a single query.
+   *
+   * @param ids the ids of the heroes.
+   * @return a Uni containing the existing hero entities, in no particular order.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-with-powers"})
+  public Uni<List<HeroEntity>> findWithPowers(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return Uni.createFrom().item(List.of());
+    }
+    return find(FETCH_POWERS_QUERY + " where h.id in ?1", ids).list();
+  }
+
+  /**
+   * Retrieves a batch of random heroes with their powers. The random ids are picked by a first query, and the heroes
+   * are then loaded with their powers.
+   *
+   * @param count the maximum number of heroes to retrieve.
+   * @return a Uni containing the random hero entities, in random order.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-random-batch"})
+  public Uni<List<HeroEntity>> findRandomBatch(int count) {
+    return getSession()
+      .chain(session -> session.createNativeQuery("select id from HeroEntity order by random() limit :count", Long.class)
+        .setParameter("count", count)
+        .getResultList())
+      .chain(ids -> findWithPowers(ids)
+        .map(heroes -> {
+          Map<Long, HeroEntity> heroesById = heroes.stream()
+            .collect(Collectors.toMap(hero -> hero.id, Function.identity()));
+          return ids.stream().map(heroesById::get).filter(Objects::nonNull).toList();
+        }));
+  }
+
+  private Uni<HeroEntity> findRandomIndexed(int attemptsLeft) {
+    OptionalLong randomId = heroIdIndex.randomId();
+    if (randomId.isEmpty()) {
+      return findRandomUnindexed();
+    }
+    long id = randomId.getAsLong();
+    return findByIdWithPowers(id)
+      .chain(hero -> {
+        if (hero != null) {
+          indexHits.increment();
+          return Uni.createFrom().item(hero);
+        }
+        staleIds.increment();
+        heroIdIndex.remove(id);
+        return attemptsLeft <= 1 ? findRandomUnindexed() : findRandomIndexed(attemptsLeft - 1);
+      });
+  }
+
+  private Uni<HeroEntity> findRandomUnindexed() {
+    return findRandomBatch(1).map(heroes -> heroes.isEmpty() ? null : heroes.get(0));
   }
 
 }
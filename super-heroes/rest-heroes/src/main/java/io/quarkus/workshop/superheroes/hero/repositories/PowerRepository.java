@@ -0,0 +1,64 @@
+package io.quarkus.workshop.superheroes.hero.repositories;
+
+import io.micrometer.core.annotation.Timed;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.workshop.superheroes.hero.entities.PowerEntity;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.quarkus.workshop.superheroes.hero.metrics.HeroMeterFilters.DB_TIMER;
+
+@WithSession
+@ApplicationScoped
+public class PowerRepository implements PanacheRepositoryBase<PowerEntity, Integer> {
+
+  // Concurrent transactions adding the same new power both succeed, the second one finds the power of the first.
+  private static final String INSERT_POWER = "insert into power(id, name) values (nextval('power_seq'), :name) " +
+    "on conflict (name) do nothing";
+
+  /**
+   * Resolves power names to the powers of the dictionary, adding the names that are not in it yet.
+   *
+   * @param names the power names.
+   * @return a Uni containing the powers by name.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "resolve-powers"})
+  public Uni<Map<String, PowerEntity>> resolve(Collection<String> names) {
+    Set<String> distinctNames = new LinkedHashSet<>(names);
+    if (distinctNames.isEmpty()) {
+      return Uni.createFrom().item(Map.of());
+    }
+    return listByNames(distinctNames)
+      .chain(found -> {
+        Set<String> missing = new LinkedHashSet<>(distinctNames);
+        found.forEach(power -> missing.remove(power.name));
+        if (missing.isEmpty()) {
+          return Uni.createFrom().item(found);
+        }
+        return getSession()
+          .chain(session -> Multi.createFrom().iterable(missing)
+            .onItem().transformToUniAndConcatenate(name -> session.createNativeQuery(INSERT_POWER)
+              .setParameter("name", name)
+              .executeUpdate())
+            .collect().last())
+          .chain(() -> listByNames(distinctNames));
+      })
+      .map(powers -> powers.stream().collect(Collectors.toMap(power -> power.name, Function.identity())));
+  }
+
+  private Uni<List<PowerEntity>> listByNames(Collection<String> names) {
+    return list("name in ?1", names);
+  }
+}
@@ -1,15 +1,39 @@
 package io.quarkus.workshop.superheroes.hero.services;
 
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
 import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.api.model.HeroBatchResult;
+import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.entities.PowerEntity;
 import io.quarkus.workshop.superheroes.hero.mappers.HeroMapper;
+import io.quarkus.workshop.superheroes.hero.random.HeroIdIndex;
+import io.quarkus.workshop.superheroes.hero.random.RandomHeroBuffer;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroCollectionVersion;
+import io.quarkus.workshop.superheroes.hero.repositories.HeroField;
 import io.quarkus.workshop.superheroes.hero.repositories.HeroRepository;
+import io.quarkus.workshop.superheroes.hero.repositories.PowerRepository;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.NoContentException;
+import jakarta.ws.rs.core.Response.Status;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing heroes.
@@ -17,21 +41,45 @@ import java.util.List;
 @ApplicationScoped
 public class HeroService {
 
+  public static final String HERO_BY_ID_CACHE = "hero-by-id";
+
   @Inject
   Logger logger;
 
   @Inject
   HeroRepository heroRepository;
 
+  @Inject
+  PowerRepository powerRepository;
+
   @Inject
   HeroMapper heroMapper;
 
+  @Inject
+  HeroIdIndex heroIdIndex;
+
+  @Inject
+  RandomHeroBuffer randomHeroBuffer;
+
+  @Inject
+  @CacheName(HERO_BY_ID_CACHE)
+  Cache heroByIdCache;
+
+  @ConfigProperty(name = "hero.stream.page-size", defaultValue = "100")
+  int streamPageSize;
+
   /**
-   * Retrieves a random hero.
+   * Retrieves a random hero, from the pre-fetched {@link RandomHeroBuffer} when possible and from the database
+   * otherwise.
    *
    * @return a Uni containing the random hero or a NoContentException if no hero is found.
    */
+  @WithSpan
   public Uni<Hero> retrieveRandomHero() {
+    Hero bufferedHero = randomHeroBuffer.poll();
+    if (bufferedHero != null) {
+      return Uni.createFrom().item(bufferedHero);
+    }
     return heroRepository.findRandom()
       .onItem().ifNotNull().transform(hero -> {
         logger.debugf("Found random hero: %s", hero);
@@ -44,25 +92,122 @@ public class HeroService {
   }
 
   /**
-   * Retrieves all heroes.
+   * Retrieves all heroes, without their powers.
    *
    * @return a Uni containing a list of all heroes.
    */
+  @WithSpan
   public Uni<List<Hero>> retrieveAllHeroes() {
     return heroRepository.listAll()
       .onItem().transform(heroEntities -> heroMapper.toHeroDtoList(heroEntities));
   }
 
   /**
-   * Retrieves a hero by its ID.
+   * Retrieves the version of the whole collection of heroes, which changes whenever a hero is created, updated or
+   * deleted.
+   *
+   * @return a Uni containing the version of the hero collection.
+   */
+  @WithSpan
+  public Uni<HeroCollectionVersion> retrieveCollectionVersion() {
+    return heroRepository.collectionVersion();
+  }
+
+  /**
+   * Retrieves a page of heroes ordered by id, without their powers.
+   *
+   * @param after the id after which the page starts, or null for the first page.
+   * @param size  the maximum number of heroes in the page.
+   * @return a Uni containing the page of heroes.
+   */
+  @WithSpan
+  public Uni<List<Hero>> retrieveHeroPage(Long after, int size) {
+    return heroRepository.findPageAfter(after != null ? after : 0L, size)
+      .onItem().transform(heroEntities -> heroMapper.toHeroDtoList(heroEntities));
+  }
+
+  /**
+   * Retrieves only the given fields of the heroes, ordered by id and optionally one page at a time. The heroes are
+   * read with a projection query, the other fields are left null. When the powers are selected, those of all the
+   * heroes are read with a second query.
+   *
+   * @param fields the fields to return.
+   * @param after  the id after which the page starts, or null for the first page.
+   * @param size   the maximum number of heroes in the page, or null for all the heroes.
+   * @return a Uni containing the heroes with the given fields.
+   */
+  @WithSpan
+  public Uni<List<Hero>> retrieveHeroFields(List<HeroField> fields, Long after, Integer size) {
+    long afterId = after != null ? after : 0L;
+    List<HeroField> columns = HeroField.columns(fields);
+    return heroRepository.findFieldsAfter(columns, afterId, size)
+      .onItem().transform(rows -> heroMapper.toHeroDtoList(rows, columns))
+      .chain(heroes -> fields.contains(HeroField.POWERS) ? withPowers(heroes, afterId) : Uni.createFrom().item(heroes));
+  }
+
+  // The heroes are ordered by id, so all the heroes between the cursor and the last hero are in the list, and their
+  // powers are read with a single range query.
+  private Uni<List<Hero>> withPowers(List<Hero> heroes, long afterId) {
+    if (heroes.isEmpty()) {
+      return Uni.createFrom().item(heroes);
+    }
+    return heroRepository.findPowersBetween(afterId, heroes.get(heroes.size() - 1).getId())
+      .onItem().transform(powers -> {
+        heroes.forEach(hero -> hero.setPowers(powers.get(hero.getId())));
+        return heroes;
+      });
+  }
+
+  /**
+   * Searches the heroes by their names, powers and level, one page at a time ordered by id. The heroes are returned
+   * without their powers.
+   *
+   * @param query    the full-text query over the names and powers, or null to match any hero.
+   * @param minLevel the minimum level, or null for no minimum.
+   * @param maxLevel the maximum level, or null for no maximum.
+   * @param after    the id after which the page starts, or null for the first page.
+   * @param size     the maximum number of heroes in the page.
+   * @return a Uni containing the page of matching heroes.
+   */
+  @WithSpan
+  public Uni<List<Hero>> searchHeroes(String query, Integer minLevel, Integer maxLevel, Long after, int size) {
+    return heroRepository.search(query, minLevel, maxLevel, after != null ? after : 0L, size)
+      .onItem().transform(heroEntities -> heroMapper.toHeroDtoList(heroEntities));
+  }
+
+  /**
+   * Streams all heroes ordered by id, without their powers. Heroes are read page by page with the id of the last hero
+   * as a cursor and mapped one at a time, so that at most one page is held in memory whatever the number of heroes.
+   *
+   * @return a Multi emitting every hero.
+   */
+  public Multi<Hero> streamAllHeroes() {
+    AtomicLong cursor = new AtomicLong();
+    return Multi.createBy().repeating()
+      .uni(() -> heroRepository.findPageAfter(cursor.get(), streamPageSize)
+        .invoke(page -> {
+          if (!page.isEmpty()) {
+            cursor.set(page.get(page.size() - 1).id);
+          }
+        }))
+      .whilst(page -> page.size() == streamPageSize)
+      .onItem().transformToIterable(page -> page)
+      .onItem().transform(hero -> heroMapper.toHeroDto(hero));
+  }
+
+  /**
+   * Retrieves a hero by its ID. Mapped heroes are cached by ID, and concurrent misses on the same ID share a single
+   * database lookup. Missing heroes are not cached.
    *
    * @param id the ID of the hero to retrieve.
    * @return a Uni containing the hero or a NoContentException if no hero is found.
    */
+  @CacheResult(cacheName = HERO_BY_ID_CACHE)
+  @WithSpan
   public Uni<Hero> retrieveHeroById(Long id) {
-    return heroRepository.findById(id)
+    return heroRepository.findByIdWithPowers(id)
       .onItem().ifNotNull().transform( hero -> {
-        logger.debugf("Found hero with id %s", id.toString());
+        logger.debugf("Found hero with id %d", id);
         return heroMapper.toHeroDto(hero);
       })
       .onItem().ifNull().failWith(() -> {
@@ -72,32 +217,36 @@ public class HeroService {
   }
 
   /**
-   * Creates a new hero.
+   * Creates a new hero. Its powers that are not in the power dictionary yet are added to it. Its id is registered for
+   * random selection by {@link #indexHeroes(Collection)} once the transaction is committed.
    *
    * @param hero the hero to create.
    * @return a Uni containing the created hero.
    */
+  @WithSpan
   public Uni<Hero> createHero(Hero hero) {
-    return heroRepository.persist(heroMapper.toHeroEntity(hero))
+    return resolvePowers(List.of(hero))
+      .chain(dictionary -> {
+        HeroEntity heroEntity = heroMapper.toHeroEntity(hero);
+        heroEntity.powers = powers(hero, dictionary);
+        return heroRepository.persist(heroEntity);
+      })
       .map(h -> heroMapper.toHeroDto(h));
   }
 
   /**
-   * Updates an existing hero.
+   * Updates an existing hero. The update is flushed before the hero is mapped, so that the returned hero carries its
+   * new version.
    *
    * @param hero the hero to update.
    * @return a Uni containing the updated hero.
    */
+  @WithSpan
   public Uni<Hero> updateHero(Hero hero) {
-    return heroRepository.findById(hero.getId())
-      .map(retrieved -> {
-        retrieved.name = hero.getName();
-        retrieved.otherName = hero.getOtherName();
-        retrieved.level = hero.getLevel();
-        retrieved.picture = hero.getPicture();
-        retrieved.powers = hero.getPowers();
-        return retrieved;
-      })
+    return resolvePowers(List.of(hero))
+      .chain(dictionary -> heroRepository.findByIdWithPowers(hero.getId())
+        .map(retrieved -> updateHeroFields(retrieved, hero, dictionary)))
+      .call(() -> heroRepository.flush())
       .map(h -> {
         logger.debugf("Hero updated with new valued %s", h);
         return heroMapper.toHeroDto(h);
@@ -105,12 +254,14 @@ public class HeroService {
   }
 
   /**
-   * Deletes a hero by its ID.
+   * Deletes a hero by its ID. It is removed from random selection by {@link #unindexHeroes(Collection)} once the
+   * transaction is committed.
    *
    * @param id the ID of the hero to delete.
    * @return a Uni containing true if the hero was deleted, otherwise throws an InternalError.
    * @throws InternalError if the hero could not be deleted.
    */
+  @WithSpan
   public Uni<Boolean> deleteHeroById(Long id) throws InternalError{
     return heroRepository.deleteById(id).onItem().transform(success -> {
       if(!success) {
@@ -119,4 +270,165 @@ public class HeroService {
       return true;
     });
   }
+
+  /**
+   * Creates a batch of heroes. The heroes are persisted together, so that their inserts are batched by Hibernate
+   * when the transaction is flushed.
+   *
+   * @param heroes the heroes to create.
+   * @return a Uni containing the result of each hero, in the order of the batch.
+   */
+  @WithSpan
+  public Uni<List<HeroBatchResult>> createHeroes(List<Hero> heroes) {
+    List<HeroEntity> heroEntities = heroes.stream().map(hero -> heroMapper.toHeroEntity(hero)).toList();
+    return resolvePowers(heroes)
+      .chain(dictionary -> {
+        for (int i = 0; i < heroes.size(); i++) {
+          heroEntities.get(i).powers = powers(heroes.get(i), dictionary);
+        }
+        return heroRepository.persist(heroEntities);
+      })
+      .map(ignored -> {
+        List<HeroBatchResult> results = new ArrayList<>(heroEntities.size());
+        for (int i = 0; i < heroEntities.size(); i++) {
+          results.add(batchResult(i, heroEntities.get(i).id, Status.CREATED, null));
+        }
+        if (logger.isDebugEnabled()) {
+          logger.debugf("%d heroes created", heroEntities.size());
+        }
+        return results;
+      });
+  }
+
+  /**
+   * Updates a batch of existing heroes. All the heroes are loaded with their powers with a single query, and their
+   * updates are batched by Hibernate when the transaction is flushed.
+   *
+   * @param heroes the heroes to update.
+   * @return a Uni containing the result of each hero, in the order of the batch.
+   */
+  @WithSpan
+  public Uni<List<HeroBatchResult>> updateHeroes(List<Hero> heroes) {
+    List<Long> ids = heroes.stream().map(Hero::getId).filter(Objects::nonNull).distinct().toList();
+    return resolvePowers(heroes).chain(dictionary -> heroRepository.findWithPowers(ids).map(heroEntities -> {
+      Map<Long, HeroEntity> heroEntitiesById = heroEntities.stream()
+        .collect(Collectors.toMap(heroEntity -> heroEntity.id, Function.identity()));
+      List<HeroBatchResult> results = new ArrayList<>(heroes.size());
+      for (int i = 0; i < heroes.size(); i++) {
+        Hero hero = heroes.get(i);
+        HeroEntity heroEntity = hero.getId() != null ? heroEntitiesById.get(hero.getId()) : null;
+        if (heroEntity == null) {
+          results.add(batchResult(i, hero.getId(), Status.NOT_FOUND, "No Hero found with id " + hero.getId()));
+          continue;
+        }
+        updateHeroFields(heroEntity, hero, dictionary);
+        results.add(batchResult(i, heroEntity.id, Status.OK, null));
+      }
+      return results;
+    }));
+  }
+
+  /**
+   * Deletes a batch of heroes with a single delete statement.
+   *
+   * @param ids the IDs of the heroes to delete.
+   * @return a Uni containing the result of each ID, in the order of the batch.
+   */
+  @WithSpan
+  public Uni<List<HeroBatchResult>> deleteHeroes(List<Long> ids) {
+    List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+    if (distinctIds.isEmpty()) {
+      return Uni.createFrom().item(List.of());
+    }
+    return heroRepository.listExistingIds(distinctIds)
+      .chain(existingIds -> (existingIds.isEmpty() ? Uni.createFrom().item(0L) : heroRepository.delete("id in ?1", existingIds))
+        .map(deleted -> {
+          Set<Long> deletedIds = new HashSet<>(existingIds);
+          List<HeroBatchResult> results = new ArrayList<>(ids.size());
+          for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            results.add(deletedIds.contains(id)
+              ? batchResult(i, id, Status.NO_CONTENT, null)
+              : batchResult(i, id, Status.NOT_FOUND, "No Hero found with id " + id));
+          }
+          logger.debugf("%d heroes deleted", deleted);
+          return results;
+        }));
+  }
+
+  /**
+   * Registers created heroes for random selection. It must be called once the transaction creating the heroes is
+   * committed, otherwise a rollback would leave ids in the index that were never stored.
+   *
+   * @param ids the IDs of the created heroes.
+   */
+  public void indexHeroes(Collection<Long> ids) {
+    ids.forEach(id -> heroIdIndex.add(id));
+  }
+
+  /**
+   * Removes deleted heroes from random selection. It must be called once the transaction deleting the heroes is
+   * committed, otherwise a rollback would drop heroes from the index that still exist.
+   *
+   * @param ids the IDs of the deleted heroes.
+   */
+  public void unindexHeroes(Collection<Long> ids) {
+    ids.forEach(id -> heroIdIndex.remove(id));
+  }
+
+  /**
+   * Removes heroes from the hero by ID cache and from the random hero buffer. It must be called once the transaction
+   * updating or deleting the heroes is committed, otherwise a concurrent lookup or buffer refill could read them again
+   * before the commit.
+   *
+   * @param ids the IDs of the heroes to remove.
+   * @return a Uni completing once the heroes are removed.
+   */
+  @WithSpan
+  public Uni<Void> invalidateHeroes(Collection<Long> ids) {
+    ids.forEach(id -> randomHeroBuffer.evict(id));
+    return Multi.createFrom().iterable(ids)
+      .onItem().transformToUniAndConcatenate(id -> heroByIdCache.invalidate(id))
+      .collect().last()
+      .replaceWithVoid();
+  }
+
+  /*
+    Helper methods
+   */
+
+  private Uni<Map<String, PowerEntity>> resolvePowers(List<Hero> heroes) {
+    return powerRepository.resolve(heroes.stream()
+      .flatMap(hero -> PowerEntity.names(hero.getPowers()).stream())
+      .toList());
+  }
+
+  private static List<PowerEntity> powers(Hero hero, Map<String, PowerEntity> dictionary) {
+    return PowerEntity.names(hero.getPowers()).stream()
+      .map(dictionary::get)
+      .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  // The powers of the hero are loaded, and only rewritten if they change, so that the version of an unchanged hero
+  // stays the same.
+  private static HeroEntity updateHeroFields(HeroEntity heroEntity, Hero hero, Map<String, PowerEntity> dictionary) {
+    heroEntity.name = hero.getName();
+    heroEntity.otherName = hero.getOtherName();
+    heroEntity.level = hero.getLevel();
+    heroEntity.picture = hero.getPicture();
+    List<PowerEntity> powers = powers(hero, dictionary);
+    if (!powers.equals(heroEntity.powers)) {
+      heroEntity.powers.clear();
+      heroEntity.powers.addAll(powers);
+    }
+    return heroEntity;
+  }
+
+  private static HeroBatchResult batchResult(int index, Long id, Status status, String message) {
+    return new HeroBatchResult()
+      .index(index)
+      .id(id)
+      .status(status.getStatusCode())
+      .message(message);
+  }
 }
@@ -1,4339 +0,0 @@
-ALTER SEQUENCE heroEntity_seq RESTART WITH 50;
-
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Chewbacca', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10466.jpg',
-        'Agility, Longevity, Marksmanship, Natural Weapons, Stealth, Super Strength, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Angel Salvadore', 'Angel Salvadore Bohusk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1406.jpg',
-        'Animal Attributes, Animal Oriented Powers, Flight, Regeneration, Toxin and Disease Control', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bill Harken', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1527.jpg',
-        'Super Speed, Super Strength, Toxin and Disease Resistance', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Warlock (Infinity Gauntlet)', 'Adam Warlock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13426.jpg',
-        'Astral Projection, Biokinesis, Duplication, Element Control, Energy Beams, Energy Manipulation, Immortality, Matter Manipulation, Mind Control, Molecular Manipulation, Nigh-Omnipresent, Portal Creation, Reality Warping, Regeneration, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Weather Control',
-        74);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shazam (New 52)', 'Billy Batson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14714.jpg',
-        'Accelerated Healing, Durability, Element Control, Energy Absorption, Energy Blasts, Fire Resistance, Flight, Illumination, Invulnerability, Levitation, Magic, Marksmanship, Super Speed, Super Strength',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Galadriel', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11796.jpg',
-        'Danger Sense, Immortality, Intelligence, Invisibility, Magic, Precognition, Telekinesis, Telepathy', 17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Woman (DCEU)', 'Diana Prince',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12529.jpg',
-        'Energy Absorption, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Flight, Immortality, Regeneration, Super Speed, Super Strength, Telekinesis',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wong (MCU)', 'Wong',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13900.jpg',
-        'Astral Projection, Astral Travel, Dimensional Travel, Force Fields, Illusions, Magic, Teleportation', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shikamaru', 'Shikamaru Nara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11742.jpg',
-        'Adaptation, Agility, Element Control, Fire Control, Intelligence, Jump, Marksmanship, Possession, Reflexes, Shapeshifting, Stamina, Stealth, Telekinesis, Wallcrawling, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'John Hartigan', 'John Hartigan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11229.jpg',
-        'Dexterity, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Weapons Master', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Marvel Girl', 'Rachel Anne Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/94.jpg',
-        'Astral Projection, Energy Absorption, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Psionic Powers, Telekinesis, Telepathy, Time Travel',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Armor', 'Hisako Ichiki',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1347.jpg',
-        'Energy Armor, Psionic Powers, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Moon Knight', 'Marc Spector',
-        'https://www.superherodb.com/pictures2/portraits/10/050/415.jpg',
-        'Marksmanship, Reflexes, Stamina, Super Strength, Telepathy Resistance, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jack Kirby', 'Jack Kirby',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12580.jpg', 'Dexterity, Intelligence, Magic', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Psylocke', 'Elizabeth Braddock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/114.jpg',
-        'Agility, Astral Projection, Cloaking, Illusions, Mind Control, Mind Control Resistance, Precognition, Psionic Powers, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sherlock Holmes', 'Sherlock Holmes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10928.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Photographic Reflexes, Reflexes, Stamina, Stealth, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Genesis', 'Tyler Dayspring',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1055.jpg',
-        'Energy Absorption, Energy Constructs, Illusions, Intelligence, Intuitive aptitude, Power Suit, Projection, Psionic Powers, Telepathy, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doctor Strange (Modern)', 'Stephen Strange',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15065.jpg',
-        'Clairvoyance, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Energy Absorption, Energy Blasts, Energy Constructs, Flight, Force Fields, Illusions, Immortality, Intelligence, Magic, Matter Manipulation, Mind Control, Phasing, Power Sense, Reality Warping, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Super Speed, Telekinesis, Telepathy, Telepathy Resistance, Time Manipulation, Time Travel, Toxin and Disease Resistance',
-        65);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Toxin', 'Eddie Brock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10494.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Durability, Jump, Natural Armor, Natural Weapons, Shapeshifting, Size Changing, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Symbiote Costume, Wallcrawling, Web Creation',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Anakin Skywalker', 'Anakin Skywalker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11515.jpg',
-        'Agility, Clairvoyance, Durability, Energy Absorption, Energy Manipulation, Enhanced Senses, Fire Control, Force Fields, Matter Manipulation, Mind Control, Precognition, Psionic Powers, Reflexes, Sonic Scream, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Toxin and Disease Resistance, Vitakinesis',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Stretch Armstrong', 'Jake Armstrong',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10555.jpg',
-        'Durability, Elasticity, Shapeshifting, Size Changing', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Michelangelo', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10329.jpg',
-        'Accelerated Healing, Agility, Jump, Marksmanship, Natural Armor, Reflexes, Stamina, Stealth, Sub-Mariner, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Buffy', 'Buffy Anne Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10430.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Durability, Enhanced Memory, Psionic Powers, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Vision - Telescopic',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gandalf The White', 'Mithrandir',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12487.jpg',
-        'Animal Control, Energy Armor, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Intelligence, Light Control, Longevity, Magic, Mind Control, Resurrection, Stamina, Summoning, Telepathy, Weapon-based Powers, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Connor Hawke', 'Connor Hawke',
-        'https://www.superherodb.com/pictures2/portraits/10/050/663.jpg',
-        'Accelerated Healing, Agility, Clairvoyance, Durability, Marksmanship, Peak Human Condition, Stamina, Stealth, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bucky Barnes', 'James Buchanan Barnes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/589.jpg',
-        'Accelerated Healing, Durability, Endurance, Longevity, Peak Human Condition, Reflexes, Regeneration, Stamina, Super Speed, Super Strength',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Groot', 'Groot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10017.jpg',
-        'Duplication, Durability, Fire Resistance, Intelligence, Invulnerability, Longevity, Matter Absorption, Plant Control, Regeneration, Resurrection, Size Changing, Stamina, Super Strength',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Moondragon', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/414.jpg',
-        'Clairvoyance',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'God Of Gods Shazam', 'Billy Batson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14704.jpg',
-        'Accelerated Healing, Adaptation, Agility, Astral Travel, Banish, Clairvoyance, Dimensional Awareness, Dimensional Travel, Electrokinesis, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Immortality, Magic, Magic Resistance, Mind Control Resistance, Probability Manipulation, Reality Warping, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Time Manipulation, Time Travel, Wishing',
-        64);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkeye (MCU)', 'Clint Barton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12498.jpg',
-        'Agility, Dexterity, Marksmanship, Reflexes, Stamina, Super Speed, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Danny Phantom', 'Daniel Fenton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10824.jpg',
-        'Accelerated Healing, Anti-Gravity, Cold Resistance, Cryokinesis, Danger Sense, Density Control, Duplication, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Fire Control, Flight, Force Fields, Intangibility, Invisibility, Levitation, Light Control, Mind Control Resistance, Phasing, Possession, Reflexes, Self-Sustenance, Shapeshifting, Sonic Scream, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Weather Control',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man (Raimi Trilogy)', 'Peter Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14697.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Bullet Time, Danger Sense, Durability, Jump, Marksmanship, Natural Weapons, Peak Human Condition, Precognition, Reflexes, Regeneration, Stamina, Stealth, Web Creation',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shuri', 'Shuri',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12191.jpg',
-        'Agility, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Intelligence, Peak Human Condition, Reflexes, Stamina, Stealth, Vision - Night, Vision - Telescopic, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Fat Thor (MCU)', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16834.jpg',
-        'Accelerated Healing, Agility, Durability, Electrokinesis, Endurance, Flight, Invulnerability, Jump, Longevity, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master, Weather Control',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Songbird', 'Melissa Joan Gold',
-        'https://www.superherodb.com/pictures2/portraits/10/050/131.jpg',
-        'Agility, Audio Control, Durability, Flight, Reflexes, Stamina, Super Speed, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Canary', 'Laurel Lance',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1005.jpg',
-        'Agility, Audio Control, Marksmanship, Reflexes, Sonic Scream, Stamina, Stealth, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arrow (CW)', 'Oliver Queen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12600.jpg',
-        'Agility, Magic, Magic Resistance, Marksmanship, Peak Human Condition, Reflexes, Stamina, Super Speed, Super Strength',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jim Powell', 'Jim Powell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1354.jpg', 'Durability, Jump, Super Strength', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cloak', 'Tyrone Johnson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/46.jpg',
-        'Darkforce Manipulation, Dimensional Awareness, Force Fields, Intangibility, Teleportation', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Firestorm (CW)', 'Ronald Raymond',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13856.jpg',
-        'Absorption, Density Control, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Intelligence, Marksmanship, Matter Manipulation, Melting, Molecular Dissipation, Molecular Manipulation, Stamina, Super Strength',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Yo-yo (MCU)', 'Elena Rodriguez',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15436.jpg',
-        'Agility, Bullet Time, Endurance, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Woman (Smallville)', 'Diana Prince',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14649.jpg',
-        'Accelerated Healing, Animal Oriented Powers, Cold Resistance, Dexterity, Dimensional Travel, Fire Resistance, Flight, Heat Resistance, Invulnerability, Super Speed, Super Strength',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Groot (MCU)', 'Groot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12501.jpg',
-        'Biokinesis, Durability, Elasticity, Immortality, Light Control, Plant Control, Regeneration, Stamina, Super Speed, Super Strength',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Silver Surfer (FOX)', 'Norrin Radd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13958.jpg',
-        'Absorption, Energy Manipulation, Flight, Intangibility, Matter Manipulation, Molecular Manipulation, Resurrection, Super Speed, Super Strength, Vitakinesis, Weather Control',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hulk (Worthy)', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14833.jpg',
-        'Agility, Cold Resistance, Durability, Energy Blasts, Energy Manipulation, Heat Resistance, Intelligence, Invulnerability, Jump, Longevity, Mind Control Resistance, Odin Force, Radiation Absorption, Radiation Immunity, Regeneration, Self-Sustenance, Stamina, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        27);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gaea', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/327.jpg',
-        'Agility, Animal Control, Dexterity, Dimensional Awareness, Elasticity, Element Control, Immortality, Intelligence, Invulnerability, Magic, Matter Manipulation, Melting, Mind Control, Molecular Manipulation, Omnilingualism, Plant Control, Reality Warping, Shapeshifting, Size Changing, Stamina, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vitakinesis, Water Control, Weather Control',
-        50);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lance Hunter (MCU)', 'Lance Hunter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16407.jpg',
-        'Agility, Durability, Endurance, Intelligence, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Monica Dawson', 'Monica Dawson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/942.jpg', 'Photographic Reflexes', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Monkey D. Luffy', 'Luffy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10936.jpg',
-        'Ability Shift, Agility, Danger Sense, Density Control, Durability, Elasticity, Endurance, Energy Resistance, Enhanced Senses, Heat Generation, Invulnerability, Jump, Latent Abilities, Peak Human Condition, Power Sense, Radar Sense, Size Changing, Super Strength, Toxin and Disease Resistance',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Clarisse La Rue', 'Clarisse La Rue',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16077.jpg',
-        'Agility, Durability, Electrokinesis, Endurance, Fire Control, Fire Resistance, Invulnerability, Latent Abilities, Magic, Marksmanship, Omnilingualism, Peak Human Condition, Reflexes, Sonic Scream, Stamina, Super Strength, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Cat', 'Felicia Hardy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/32.jpg',
-        'Agility, Probability Manipulation, Reflexes, Stamina, Super Speed, Super Strength, Vision - Infrared', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Katana (DCEU)', 'Tatsu Yamashiro',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13966.jpg',
-        'Agility, Dexterity, Endurance, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Matt Parkman', 'Matthew Parkman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/948.jpg', 'Telepathy', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shadowcat', 'Kitty Pryde',
-        'https://www.superherodb.com/pictures2/portraits/10/050/122.jpg',
-        'Camouflage, Cloaking, Intangibility, Intelligence, Levitation, Phasing, Stealth, Telepathy Resistance, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nite Owl', 'Hollis Mason',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1060.jpg',
-        'Agility, Camouflage, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ancient One', 'Yao',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11111.jpg',
-        'Astral Projection, Darkforce Manipulation, Dimensional Travel, Empathy, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Flight, Illusions, Intangibility, Magic, Matter Manipulation, Mind Control, Molecular Manipulation, Portal Creation, Possession, Power Nullifier, Reality Warping, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        59);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jesse Quick', 'Jesse Chambers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10544.jpg',
-        'Accelerated Healing, Agility, Enhanced Senses, Flight, Intelligence, Longevity, Phasing, Reflexes, Speed Force, Stamina, Super Speed, Super Strength',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rachel Pirzad', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1530.jpg',
-        'Enhanced Hearing, Enhanced Senses, Enhanced Smell, Enhanced Touch, Vision - Microscopic, Vision - Telescopic',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Polaris', 'Lorna Dane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1046.jpg',
-        'Energy Absorption, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Intelligence, Magnetism, Molecular Manipulation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jennifer Kale', 'Jennifer Kale',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1321.jpg', 'Force Fields, Magic, Portal Creation', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Crow', 'Eric Draven',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11017.jpg',
-        'Accelerated Healing, Agility, Clairvoyance, Dexterity, Durability, Empathy, Endurance, Enhanced Senses, Immortality, Insanity, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Peak Human Condition, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        24);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent Coulson', 'Phillip Phil Coulson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10299.jpg',
-        'Intelligence, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vampire Jubilee', 'Jubilation Lee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13617.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Flight, Force Fields, Immortality, Intelligence, Jump, Marksmanship, Psionic Powers, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Toxin and Disease Resistance, Vision - Night',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash (CW)', 'Barry Allen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12717.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Cold Resistance, Dimensional Travel, Duplication, Electrokinesis, Endurance, Enhanced Memory, Enhanced Senses, Enhanced Sight, Heat Generation, Intangibility, Intelligence, Invisibility, Phasing, Precognition, Reflexes, Spatial Awareness, Speed Force, Stamina, Super Speed, Super Strength, Time Travel',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Elastigirl', 'Helen Parr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/870.jpg',
-        'Agility, Durability, Elasticity, Invulnerability, Shapeshifting, Size Changing, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gamora (MCU)', 'Gamora',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12502.jpg',
-        'Accelerated Healing, Agility, Enhanced Senses, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ratchet', 'Ratchet',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12380.jpg',
-        'Agility, Biokinesis, Durability, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Force Fields, Intelligence, Jump, Longevity, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Genji', 'Genji Shimada',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12719.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Intelligence, Jump, Non-Physical Interaction, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Teleportation, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Sorceror Supreme)', 'Doctor Anthony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13937.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Banish, Cryokinesis, Dexterity, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Endurance, Energy Blasts, Fire Control, Flight, Force Fields, Hypnokinesis, Illusions, Immortality, Intangibility, Intelligence, Invisibility, Longevity, Magic, Marksmanship, Phasing, Reflexes, Regeneration, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        59);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Colossus (FOX)', 'Peter Rasputin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12755.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Endurance, Fire Resistance, Heat Resistance, Invulnerability, Natural Armor, Stamina, Super Strength',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spaceboy', 'Luther Hargreeves',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16357.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Durability, Endurance, Intelligence, Invulnerability, Jump, Marksmanship, Stamina, Super Speed, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Civil Warrior', 'Steve Rogers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15073.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Heat Resistance, Intelligence, Invisibility, Invulnerability, Longevity, Marksmanship, Power Sense, Power Suit, Radiation Immunity, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Infrared, Weapon-based Powers, Weapons Master',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batgirl (New 52)', 'Barbara Gordon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16325.jpg',
-        'Agility, Durability, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stealth, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jimmy Neutron', 'Jimmy Neutron',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10982.jpg',
-        'Agility, Audio Control, Cryokinesis, Dimensional Awareness, Dimensional Travel, Duplication, Durability, Electrokinesis, Elemental Transmogrification, Empathy, Endurance, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Hypnokinesis, Intelligence, Intuitive aptitude, Matter Manipulation, Mind Blast, Mind Control, Mind Control Resistance, Peak Human Condition, Photographic Reflexes, Portal Creation, Power Suit, Reflexes, Self-Sustenance, Size Changing, Sonic Scream, Super Speed, Super Strength, Technopath/Cyberpath, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Vaporising Beams, Wallcrawling, Weapon-based Powers, Weapons Master, Weather Control',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batgirl VI', 'Stephanie Brown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1398.jpg',
-        'Agility, Marksmanship, Stamina, Weapon-based Powers', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sasquatch', 'Walter Langkowski',
-        'https://www.superherodb.com/pictures2/portraits/10/050/863.jpg',
-        'Agility, Durability, Enhanced Senses, Jump, Stamina, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin IV', 'Stephanie Brown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1397.jpg',
-        'Agility, Durability, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ion', 'Sodam Yat',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13417.jpg',
-        'Agility, Biokinesis, Changing Armor, Cloaking, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Flight, Force Fields, Heat Generation, Heat Resistance, Illumination, Intelligence, Jump, Lantern Power Ring, Longevity, Marksmanship, Matter Manipulation, Mind Control Resistance, Peak Human Condition, Portal Creation, Possession, Power Nullifier, Power Sense, Precognition, Probability Manipulation, Radiation Immunity, Reflexes, Self-Sustenance, Size Changing, Stamina, Stealth, Summoning, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Umbrakinesis, Underwater breathing, Vaporising Beams, Vision - Heat, Vision - X-Ray, Vitakinesis, Weapon-based Powers',
-        45);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (Smallville)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14645.jpg',
-        'Intelligence, Stealth, Weapon-based Powers, Weapons Master', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Queen Hippolyta', 'Hippolyta',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10639.jpg',
-        'Accelerated Healing, Agility, Durability, Empathy, Intelligence, Jump, Longevity, Magic, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Orion', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10485.jpg',
-        'Absorption, Accelerated Healing, Agility, Astro Force, Bullet Time, Cold Resistance, Dimensional Travel, Durability, Endurance, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Fire Resistance, Flight, Force Fields, Heat Resistance, Illumination, Immortality, Intelligence, Invulnerability, Jump, Latent Abilities, Levitation, Magic, Marksmanship, Mind Control Resistance, Natural Weapons, Portal Creation, Radiation Immunity, Reflexes, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Vaporising Beams, Vitakinesis, Weapon-based Powers, Weapons Master',
-        40);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mockingbird', 'Barbara Morse',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1328.jpg',
-        'Accelerated Healing, Agility, Durability, Longevity, Stealth, Super Strength, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Snowbird', 'Narya',
-        'https://www.superherodb.com/pictures2/portraits/10/050/130.jpg',
-        'Accelerated Healing, Animal Attributes, Animal Oriented Powers, Enhanced Senses, Flight, Precognition, Shapeshifting, Stamina, Super Strength',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jack of Hearts', 'Jonathan Hart',
-        'https://www.superherodb.com/pictures2/portraits/10/050/86.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Energy Blasts, Flight, Heat Resistance, Intelligence, Stamina, Super Speed, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Minato Namikaze', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12339.jpg',
-        'Agility, Animal Control, Energy Constructs, Energy Manipulation, Intelligence, Jump, Magic, Marksmanship, Peak Human Condition, Radar Sense, Reflexes, Shapeshifting, Stamina, Stealth, Summoning, Super Speed, Teleportation, Timeframe Control, Vitakinesis, Wallcrawling, Weapon-based Powers, Weapons Master, Wind Control',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lightray', 'Solis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11556.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Blasts, Energy Manipulation, Enhanced Sight, Flight, Heat Generation, Immortality, Intelligence, Invulnerability, Levitation, Light Control, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Vision - Thermal',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Triplicate Girl', 'Luornu Durgo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1185.jpg', 'Duplication, Flight', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hellboy (Columbia)', 'Anung Un Rama',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13992.jpg',
-        'Accelerated Healing, Durability, Enhanced Senses, Fire Resistance, Heat Resistance, Jump, Longevity, Marksmanship, Natural Weapons, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Triton', 'Triton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/513.jpg',
-        'Agility, Cold Resistance, Durability, Reflexes, Stamina, Sub-Mariner, Super Speed, Super Strength, Underwater breathing',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Supergirl', 'Kara Zor-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/790.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Energy Absorption, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Flight, Heat Resistance, Hypnokinesis, Intelligence, Invulnerability, Jump, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Peggy Carter (MCU)', 'Margaret Carter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13969.jpg',
-        'Agility, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mace Windu', 'Mace Windu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10463.jpg',
-        'Agility, Clairvoyance, Durability, Energy Absorption, Energy Manipulation, Enhanced Senses, Force Fields, Invisibility, Mind Control, Power Sense, Precognition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Vitakinesis, Weapons Master',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mockingbird (MCU)', 'Barbara Morse',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15433.jpg',
-        'Agility, Peak Human Condition, Weapon-based Powers, Weapons Master', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Psylocke (FOX)', 'Elizabeth Braddock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13963.jpg',
-        'Agility, Super Strength, Telekinesis, Teleportation, Weapons Master', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blue Marvel', 'Adam Brashear',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10289.jpg',
-        'Agility, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Enhanced Smell, Enhanced Touch, Flight, Invulnerability, Light Control, Longevity, Matter Absorption, Molecular Manipulation, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Vision - Microscopic',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Archangel', 'Warren Kenneth Worthington III',
-        'https://www.superherodb.com/pictures2/portraits/10/050/838.jpg',
-        'Accelerated Healing, Agility, Durability, Flight, Gliding, Stamina, Super Strength, Vision - Telescopic', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Penny', 'William Adiyodi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12534.jpg',
-        'Animation, Astral Projection, Astral Travel, Cryokinesis, Dimensional Travel, Energy Constructs, Intelligence, Invisibility, Magic, Mind Control Resistance, Possession, Stealth, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Vitakinesis',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Silk Spectre', 'Sally Juspeczyk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1057.jpg', 'Peak Human Condition', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Big Daddy', 'Damon Macready',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1338.jpg', 'Stamina', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gladiator Hulk', 'Robert Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12570.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Dexterity, Durability, Endurance, Enhanced Senses, Heat Resistance, Invulnerability, Jump, Longevity, Mind Control Resistance, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Weapon-based Powers, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Luke Skywalker (Dark Empire)', 'Luke Skywalker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12742.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Clairvoyance, Cloaking, Darkforce Manipulation, Electrokinesis, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Force Fields, Hypnokinesis, Illusions, Intuitive aptitude, Light Control, Marksmanship, Matter Manipulation, Mind Control, Power Augmentation, Power Sense, Precognition, Reflexes, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Teleportation, The Force, Toxin and Disease Resistance, Vitakinesis, Weapons Master',
-        40);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Android 16', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1238.jpg',
-        'Changing Armor, Cold Resistance, Danger Sense, Durability, Energy Blasts, Energy Manipulation, Flight, Gliding, Peak Human Condition, Power Absorption, Power Sense, Radar Sense, Self-Sustenance, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Red She-Hulk', 'Betty Ross',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10062.jpg',
-        'Accelerated Healing, Agility, Energy Absorption, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Silverclaw', 'Maria de Guadalupe Santiago',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1019.jpg',
-        'Agility, Animal Oriented Powers, Enhanced Senses, Flight, Shapeshifting, Super Speed, Super Strength', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aragorn', 'Aragorn II Elessar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10859.jpg',
-        'Accelerated Healing, Agility, Empathy, Intelligence, Longevity, Marksmanship, Omnilingualism, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ichigo Kurosaki', 'Ichigo Kurosaki',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11801.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Astral Travel, Durability, Gliding, Jump, Latent Abilities, Levitation, Peak Human Condition, Possession, Reflexes, Stamina, Stealth, Super Speed, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bantam', 'Roberto Velasquez',
-        'https://www.superherodb.com/pictures2/portraits/10/050/229.jpg', 'Durability, Stamina, Super Strength', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Yoda', 'Yoda',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10454.jpg',
-        'Agility, Cloaking, Danger Sense, Empathy, Energy Blasts, Force Fields, Intelligence, Jump, Longevity, Marksmanship, Precognition, Reflexes, Stamina, Stealth, Super Speed, Telekinesis, Telepathy, The Force, Weapons Master',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Green Arrow (Injustice)', 'Oliver Queen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16092.jpg',
-        'Agility, Intelligence, Marksmanship, Weapon-based Powers, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Baby Groot', 'Groot Dutch',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11283.jpg',
-        'Cold Resistance, Durability, Elasticity, Fire Resistance, Heat Resistance, Invulnerability, Plant Control, Super Speed, Super Strength',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thunderbird', 'John Proudstar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/611.jpg',
-        'Durability, Stamina, Super Speed, Super Strength', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Donna Troy', 'Donna Hinckley Stacey Troy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/806.jpg',
-        'Agility, Animal Control, Durability, Empathy, Flight, Force Fields, Intelligence, Invulnerability, Longevity, Marksmanship, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gipsy Danger', 'Gipsy Danger',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13041.jpg',
-        'Agility, Danger Sense, Durability, Energy Beams, Energy Blasts, Fire Resistance, Flight, Jump, Radar Sense, Sonar, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Night, Vision - Thermal',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Hindsight', 'Jack Brolin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10399.jpg', 'Enhanced Senses, Flight, Super Speed', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Grand Master Skywalker', 'Luke Skywalker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12326.jpg',
-        'Accelerated Healing, Agility, Animal Control, Astral Projection, Clairvoyance, Darkforce Manipulation, Dexterity, Durability, Electrokinesis, Element Control, Empathy, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Force Fields, Hypnokinesis, Illusions, Intuitive aptitude, Invisibility, Jump, Levitation, Light Control, Marksmanship, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Peak Human Condition, Power Augmentation, Power Nullifier, Power Sense, Precognition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, The Force, Time Travel, Toxin and Disease Resistance, Vitakinesis, Weapons Master',
-        87);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vishnu', 'Vishnu Narayana',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16440.jpg',
-        'Agility, Astral Travel, Banish, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Duplication, Element Control, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Fire Resistance, Force Fields, Heat Resistance, Immortality, Intelligence, Invulnerability, Jump, Levitation, Magic, Marksmanship, Matter Manipulation, Mind Control Resistance, Omnilingualism, Phasing, Portal Creation, Possession, Power Nullifier, Power Sense, Precognition, Psionic Powers, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy Resistance, Time Manipulation, Toxin and Disease Resistance, Vitakinesis, Weapon-based Powers, Weapons Master, Wishing',
-        78);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jessica Jones', 'Jessica Campbell Jones Cage',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10403.jpg',
-        'Durability, Flight, Super Speed, Super Strength, Telepathy Resistance', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jack-Jack', 'Jack-Jack Parr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/871.jpg',
-        'Agility, Density Control, Enhanced Senses, Flight, Heat Generation, Intangibility, Invulnerability, Levitation, Molecular Manipulation, Phasing, Shapeshifting, Substance Secretion, Super Speed, Super Strength, Telekinesis, Teleportation, Vision - Heat, Vision - X-Ray',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Steel', 'John Irons',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1383.jpg',
-        'Durability, Flight, Heat Resistance, Power Suit, Radiation Immunity, Super Strength, Weapon-based Powers', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Future Trunks', 'Trunks',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15393.jpg',
-        'Adaptation, Agility, Duplication, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Illusions, Latent Abilities, Portal Creation, Power Augmentation, Power Sense, Reflexes, Stamina, Super Speed, Super Strength',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Red Tornado', 'Lois Lane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13432.jpg',
-        'Agility, Animation, Durability, Element Control, Energy Constructs, Energy Manipulation, Energy Resistance, Flight, Intelligence, Invulnerability, Magic, Power Suit, Self-Sustenance, Weather Control, Wind Control',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nyssa Al Ghul (CW)', 'Nyssa Raatko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15937.jpg',
-        'Agility, Dexterity, Durability, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lloyd (The LEGO Ninjago Movie)', 'Lloyd Garmadon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16521.jpg',
-        'Agility, Dexterity, Dimensional Awareness, Element Control, Empathy, Endurance, Energy Manipulation, Enhanced Senses, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, The Green, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'World War Hulk', 'Bruce banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10986.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Heat Resistance, Invulnerability, Jump, Longevity, Mind Control Resistance, Radiation Absorption, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Legolas', 'Legolas Of Mirkwood',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10864.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Dexterity, Durability, Empathy, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Immortality, Intelligence, Jump, Longevity, Magic, Marksmanship, Omnilingualism, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Vision - Night, Weapons Master',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bishop (Fox)', 'Lucas Bishop',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16498.jpg',
-        'Accelerated Healing, Energy Absorption, Energy Resistance, Marksmanship, Stamina, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Katana', 'Tatsu Yamashiro',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10107.jpg',
-        'Agility, Marksmanship, Stealth, Weapon-based Powers, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Absorbing Man (MCU)', 'Carl Creel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16409.jpg',
-        'Agility, Camouflage, Cold Resistance, Durability, Elemental Transmogrification, Energy Absorption, Fire Resistance, Heat Resistance, Intangibility, Invulnerability, Matter Absorption, Natural Armor, Stamina, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), '3-D Man', 'Charles Chandler',
-        'https://www.superherodb.com/pictures2/portraits/10/050/226.jpg',
-        'Agility, Stamina, Super Speed, Super Strength', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Domino', 'Neena Thurman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/902.jpg',
-        'Agility, Marksmanship, Probability Manipulation, Reflexes', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Quasar', 'Wendell Vaughn',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11697.jpg',
-        'Dimensional Travel, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Illusions, Invisibility, Mind Control Resistance, Spatial Awareness, Super Speed, Super Strength, Telepathy Resistance, Teleportation',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jean Grey (FOX)', 'Jean Grey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13889.jpg', 'Telekinesis, Telepathy', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Geo-force', 'Brion Markov',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10212.jpg',
-        'Accelerated Healing, Energy Blasts, Flight, Force Fields, Gravity Control, Heat Generation, Immortality, Intelligence, Invulnerability, Marksmanship, Reflexes, Super Speed, Super Strength, Terrakinesis',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gogeta', 'Goku/Vegeta',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11730.jpg',
-        'Adaptation, Agility, Duplication, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Light Control, Mind Control Resistance, Portal Creation, Power Augmentation, Power Sense, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vitakinesis',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jean Grey', 'Jean Grey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/814.jpg',
-        'Astral Projection, Energy Absorption, Energy Manipulation, Force Fields, Illusions, Levitation, Mind Blast, Mind Control, Psionic Powers, Telekinesis, Telepathy, Telepathy Resistance',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Alien X', 'Celestialsapien',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10987.jpg',
-        'Duplication, Flight, Immortality, Invulnerability, Mind Control, Reality Warping, Regeneration, Size Changing, Super Speed, Super Strength, Telekinesis',
-        28);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Korg (MCU)', 'Korg',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13764.jpg',
-        'Agility, Cold Resistance, Durability, Endurance, Fire Resistance, Heat Resistance, Invulnerability, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkgirl', 'Kendra Saunders',
-        'https://www.superherodb.com/pictures2/portraits/10/050/703.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Flight, Immortality, Reflexes, Super Strength, Vision - Telescopic',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Volstagg (MCU)', 'Volstagg',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14376.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Longevity, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mr Incredible', 'Robert Parr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/869.jpg',
-        'Durability, Enhanced Senses, Invulnerability, Jump, Stamina, Super Speed, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Siren (CW)', 'Laurel Lance (Earth Two)',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15566.jpg',
-        'Agility, Audio Control, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Sonic Scream, Stamina, Stealth, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wu', 'Wu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16047.jpg',
-        'Agility, Camouflage, Clairvoyance, Cryokinesis, Dexterity, Dimensional Travel, Durability, Electrokinesis, Element Control, Elemental Transmogrification, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Control, Intelligence, Longevity, Marksmanship, Matter Manipulation, Peak Human Condition, Portal Creation, Precognition, Reflexes, Seismic Power, Stamina, Stealth, Substance Secretion, Summoning, Terrakinesis, Weapon-based Powers, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bucky Barnes (MCU)', 'Bucky Barnes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12601.jpg',
-        'Accelerated Healing, Agility, Durability, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Bolt (MCU)', 'Blackagar Boltagon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16576.jpg',
-        'Agility, Audio Control, Durability, Endurance, Energy Blasts, Intelligence, Marksmanship, Reflexes, Sonic Scream, Stamina, Super Strength',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Makkari', 'Makkari',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13406.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Cold Resistance, Durability, Elemental Transmogrification, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Fire Resistance, Flight, Heat Generation, Heat Resistance, Illusions, Immortality, Intelligence, Intuitive aptitude, Invulnerability, Levitation, Longevity, Matter Manipulation, Mind Blast, Mind Control, Molecular Manipulation, Phasing, Psionic Powers, Reflexes, Regeneration, Shapeshifting, Super Speed, Super Strength, Telekinesis, Teleportation, Toxin and Disease Resistance, Vaporising Beams, Vision - Heat, Wind Control',
-        45);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent Bob', 'Bob',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10255.jpg',
-        'Stealth', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bling!', 'Roxanne Washington',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1349.jpg', 'Durability, Natural Armor, Natural Weapons',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Valkyrie', 'Brunnhilde',
-        'https://www.superherodb.com/pictures2/portraits/10/050/147.jpg',
-        'Accelerated Healing, Agility, Banish, Clairvoyance, Cold Resistance, Danger Sense, Dimensional Travel, Durability, Endurance, Energy Resistance, Enhanced Memory, Enhanced Senses, Fire Resistance, Invulnerability, Longevity, Magic Resistance, Mind Control Resistance, Precognition, Stamina, Super Speed, Super Strength, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Detective Chimp', 'Bobo T. Chimpanzee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/674.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Durability, Endurance, Enhanced Memory, Enhanced Senses, Immortality, Intelligence, Intuitive aptitude, Longevity, Magic, Omnilingualism, Reflexes, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arcee', 'Arcee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10601.jpg',
-        'Agility, Biokinesis, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Jump, Longevity, Natural Armor, Natural Weapons, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Impulse II', 'Iris West',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10545.jpg',
-        'Element Control, Speed Force, Super Speed, Teleportation', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Snowball', 'Snowball',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16720.jpg', 'Agility, Jump', 1);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Old King Thor', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13930.jpg',
-        'Accelerated Healing, Banish, Cold Resistance, Dimensional Awareness, Electrokinesis, Element Control, Elemental Transmogrification, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Force Fields, Gravity Control, Heat Resistance, Illusions, Intelligence, Invulnerability, Longevity, Magic, Matter Manipulation, Nigh-Omniscient, Odin Force, Omnilingualism, Phasing, Portal Creation, Radiation Immunity, Regeneration, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Time Manipulation, Time Travel, Underwater breathing, Weapon-based Powers, Wind Control',
-        97);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Quicksilver (Fox)', 'Peter Maximoff',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12602.jpg',
-        'Agility, Durability, Reflexes, Stamina, Super Speed, Super Strength', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zia Rashid', 'Zia Rashid',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16081.jpg',
-        'Agility, Animal Control, Astral Travel, Banish, Camouflage, Clairvoyance, Cloaking, Durability, Element Control, Empathy, Endurance, Energy Absorption, Energy Armor, Energy Constructs, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Control, Fire Resistance, Force Fields, Heat Generation, Heat Resistance, Illumination, Immortality, Intelligence, Intuitive aptitude, Latent Abilities, Magic, Natural Armor, Natural Weapons, Omnilingualism, Portal Creation, Separation, Size Changing, Stealth, Summoning, Super Speed, Super Strength, Telepathy Resistance, Teleportation, Vision - Thermal, Weapons Master',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'M.J.', 'Mary Jane Watson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11483.jpg', 'Peak Human Condition', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Maiev Shadowsong', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14740.jpg',
-        'Accelerated Healing, Agility, Energy Blasts, Energy Manipulation, Force Fields, Magic, Matter Manipulation, Phasing, Reflexes, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy, Toxin and Disease Resistance, Weapon-based Powers',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vicki Vale', 'Vicki Vale',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11798.jpg', 'Intelligence', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Green Lantern (Injustice)', 'Hal Jordan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16089.jpg',
-        'Agility, Element Control, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Lantern Power Ring, Reflexes, Super Speed, Super Strength',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mary Embrey', 'Mary Embrey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1300.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Electrokinesis, Flight, Heat Resistance, Immortality, Invulnerability, Longevity, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Maverick', 'Christopher Bradley',
-        'https://www.superherodb.com/pictures2/portraits/10/050/257.jpg', 'Electrokinesis', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Lobster', 'Lobster Johnson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11261.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dexterity, Durability, Endurance, Enhanced Senses, Fire Control, Immortality, Intangibility, Intelligence, Invisibility, Jump, Longevity, Marksmanship, Non-Corporeal, Possession, Reflexes, Soul Manipulation, Stamina, Stealth, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ultragirl', 'Tsu-Zana',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1295.jpg',
-        'Durability, Enhanced Senses, Flight, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'US Agent', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/521.jpg',
-        'Super Speed, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dazzler', 'Alison Blaire',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1043.jpg',
-        'Agility, Audio Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Force Fields, Heat Generation, Illusions, Levitation, Light Control, Marksmanship, Resurrection, Stamina',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'King Kong', 'King Kong',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10591.jpg',
-        'Agility, Durability, Enhanced Hearing, Enhanced Smell, Jump, Longevity, Natural Weapons, Reflexes, Stamina, Stealth, Super Speed, Super Strength',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Namorita', 'Namorita Prentiss',
-        'https://www.superherodb.com/pictures2/portraits/10/050/106.jpg',
-        'Accelerated Healing, Agility, Durability, Flight, Longevity, Reflexes, Stamina, Super Speed, Super Strength',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mantis (MCU)', 'Mantis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12592.jpg',
-        'Durability, Empathy, Enhanced Senses, Enhanced Touch, Stamina', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Saturn Girl (CW)', 'Imra Ardeen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16502.jpg',
-        'Durability, Flight, Force Fields, Illusions, Levitation, Mind Blast, Omnilingualism, Psionic Powers, Stamina, Super Strength, Telekinesis, Telepathy, Telepathy Resistance',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Claire Bennet', 'Claire Bennet',
-        'https://www.superherodb.com/pictures2/portraits/10/050/941.jpg', 'Accelerated Healing, Regeneration', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'World Breaker Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13437.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Dexterity, Dimensional Awareness, Durability, Endurance, Energy Absorption, Energy Manipulation, Energy Resistance, Enhanced Senses, Fire Resistance, Heat Resistance, Immortality, Intelligence, Invulnerability, Jump, Latent Abilities, Longevity, Mind Control Resistance, Physical Anomaly, Power Augmentation, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Resurrection, Seismic Power, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing',
-        37);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkwoman', 'Shayera Thal',
-        'https://www.superherodb.com/pictures2/portraits/10/050/702.jpg',
-        'Durability, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Flight, Longevity', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jane Foster (MCU)', 'Jane Foster',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13883.jpg', 'Intelligence, Intuitive aptitude', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man 2099', 'Miguel Ohara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10993.jpg',
-        'Accelerated Healing, Animal Attributes, Animal Oriented Powers, Durability, Enhanced Senses, Jump, Marksmanship, Natural Weapons, Reflexes, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Vision - Night, Vision - Thermal, Wallcrawling, Weapons Master, Web Creation',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kelly Friday', 'Kelly Friday',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15972.jpg',
-        'Natural Weapons', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Endosym Armor)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12234.jpg',
-        'Accelerated Healing, Agility, Camouflage, Changing Armor, Cloaking, Cold Resistance, Durability, Empathy, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Memory, Enhanced Senses, Fire Resistance, Flight, Heat Resistance, Intelligence, Invulnerability, Jump, Longevity, Magnetism, Marksmanship, Natural Armor, Peak Human Condition, Power Augmentation, Power Sense, Power Suit, Precognition, Psionic Powers, Radiation Immunity, Reflexes, Self-Sustenance, Shapeshifting, Stamina, Stealth, Super Strength, Symbiote Costume, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Vitakinesis, Weapon-based Powers, Weapons Master',
-        27);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Polaris (Fox)', 'Lorna Dane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16417.jpg',
-        'Agility, Electrokinesis, Endurance, Enhanced Senses, Flight, Force Fields, Magnetism, Marksmanship, Molecular Manipulation, Reflexes',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Chi Chi', 'Chi-Chi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1221.jpg',
-        'Durability, Enhanced Senses, Stamina, Vision - Night, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wolfsbane', 'Rahne Sinclair',
-        'https://www.superherodb.com/pictures2/portraits/10/050/160.jpg',
-        'Animal Attributes, Enhanced Senses, Natural Weapons, Reflexes, Shapeshifting, Super Speed, Super Strength, Vision - Thermal',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Avatar (The Last Airbender)', 'Aang',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11195.jpg',
-        'Accelerated Healing, Astral Projection, Electrokinesis, Element Control, Energy Manipulation, Fire Control, Flight, Terrakinesis, Water Control, Wind Control',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Huntress', 'Helena Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12607.jpg',
-        'Agility, Durability, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hellcat', 'Patricia Walker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/79.jpg',
-        'Agility, Danger Sense, Intelligence, Magic Resistance, Natural Weapons, Peak Human Condition, Super Strength',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cyclops', 'Scott Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/50.jpg',
-        'Agility, Energy Absorption, Energy Beams, Energy Blasts, Energy Resistance, Intelligence, Marksmanship', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mary Marvel', 'Mary Willow Batson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10049.jpg',
-        'Accelerated Healing, Agility, Clairvoyance, Energy Blasts, Enhanced Hearing, Enhanced Memory, Flight, Hypnokinesis, Immortality, Intelligence, Invulnerability, Longevity, Magic, Magic Resistance, Marksmanship, Omnilingualism, Reflexes, Self-Sustenance, Stamina, Super Breath, Super Speed, Super Strength, Teleportation',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Devil Dinosaur', 'Devil',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10934.jpg',
-        'Animal Attributes, Animal Oriented Powers, Separation, Super Strength, Telepathy', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Colossus', 'Peter Rasputin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/48.jpg',
-        'Cold Resistance, Durability, Heat Resistance, Invulnerability, Natural Armor, Self-Sustenance, Stamina, Super Speed, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Simba', 'Simba',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12338.jpg',
-        'Accelerated Healing, Animal Attributes, Animal Oriented Powers, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Intelligence, Natural Armor, Natural Weapons, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Vision - Night, Weapon-based Powers',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Fire', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1380.jpg',
-        'Element Control, Fire Control, Fire Resistance, Flight, Intangibility', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Daredevil (MCU)', 'Matt Murdock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12751.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Enhanced Touch, Peak Human Condition, Reflexes, Stamina, Super Speed, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bird-Brain', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/240.jpg',
-        'Animal Attributes, Flight, Natural Weapons', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lois Lane', 'Lois Lane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10513.jpg', 'Marksmanship', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mothman', 'Byron Lewis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11211.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Flight, Gliding, Insanity, Intelligence, Intuitive aptitude, Peak Human Condition, Power Suit, Reflexes, Stealth, Weapon-based Powers',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gray Fullbuster', 'Gray Fullbuster',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11857.jpg',
-        'Agility, Cold Resistance, Cryokinesis, Dexterity, Durability, Element Control, Elemental Transmogrification, Endurance, Enhanced Senses, Heat Resistance, Jump, Magic, Magic Resistance, Natural Weapons, Reflexes, Soul Manipulation, Stealth, Super Speed, Super Strength, Weapon Creation, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Quill', 'Maxwell Jordan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/830.jpg', 'Substance Secretion, Weapon-based Powers',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Samurai Jack', 'Jack',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12390.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dexterity, Durability, Endurance, Enhanced Senses, Immortality, Intelligence, Invisibility, Jump, Longevity, Marksmanship, Peak Human Condition, Power Nullifier, Reflexes, Self-Sustenance, Stamina, Statistics Amplification, Stealth, Super Speed, Super Strength, Telekinesis, Weapon-based Powers, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (CW)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15438.jpg',
-        'Agility, Enhanced Hearing, Enhanced Sight, Flight, Invulnerability, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Telescopic, Vision - X-Ray',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Darkhawk', 'Christopher Powell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/53.jpg',
-        'Durability, Energy Blasts, Flight, Force Fields, Power Suit, Vision - Infrared, Vision - Telescopic, Weapon-based Powers',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arno Victor Dorian', 'Arno Victor Dorian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12262.jpg',
-        'Agility, Audio Control, Bullet Time, Camouflage, Durability, Endurance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Hypnokinesis, Intelligence, Intuitive aptitude, Jump, Marksmanship, Mind Control Resistance, Molecular Combustion, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Prince', 'Dastan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11167.jpg',
-        'Agility, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Time Travel, Wallcrawling, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sunspot', 'Roberto DaCosta',
-        'https://www.superherodb.com/pictures2/portraits/10/050/138.jpg',
-        'Accelerated Healing, Energy Blasts, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Light Control, Radiation Absorption, Stamina, Substance Secretion, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blake', 'Blake Belladonna',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11830.jpg',
-        'Accelerated Healing, Agility, Duplication, Durability, Element Control, Energy Beams, Energy Blasts, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Force Fields, Power Augmentation, Reflexes, Stamina, Super Speed, Super Strength, Umbrakinesis',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jazz', 'Jazz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10599.jpg',
-        'Agility, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Intelligence, Longevity, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arcee (TFP)', 'Arcee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16950.jpg',
-        'Agility, Durability, Endurance, Energy Beams, Energy Blasts, Intelligence, Longevity, Marksmanship, Physical Anomaly, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Emma Frost (FOX)', 'Emma Grace Frost',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14358.jpg',
-        'Durability, Illusions, Invulnerability, Mind Blast, Super Strength, Telepathy, Telepathy Resistance', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkwoman III', 'Shayera Thal',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1130.jpg', 'Flight, Gliding, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'One Punch Man', 'Saitama',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10522.jpg',
-        'Agility, Cold Resistance, Danger Sense, Enhanced Senses, Heat Resistance, Invulnerability, Jump, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telepathy Resistance',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Finn', 'FN-2187',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10644.jpg',
-        'Intelligence, Marksmanship, Peak Human Condition, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (New 52)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13439.jpg',
-        'Agility, Intelligence, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kathryn Janeway', 'Kathryn Janeway',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10581.jpg', 'Intelligence', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Master Chief', 'John-117',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1110.jpg',
-        'Accelerated Healing, Agility, Camouflage, Durability, Enhanced Senses, Force Fields, Longevity, Marksmanship, Stamina, Super Speed, Weapon-based Powers',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkman', 'Carter Hall',
-        'https://www.superherodb.com/pictures2/portraits/10/050/839.jpg',
-        'Accelerated Healing, Animal Oriented Powers, Cold Resistance, Durability, Enhanced Sight, Flight, Gliding, Heat Generation, Intelligence, Resurrection, Self-Sustenance, Super Strength, Underwater breathing, Vision - Telescopic, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wiccan', 'Billy Kaplan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11109.jpg',
-        'Astral Projection, Astral Travel, Clairvoyance, Cryokinesis, Darkforce Manipulation, Electrokinesis, Energy Constructs, Energy Manipulation, Fire Control, Flight, Force Fields, Light Control, Magic, Matter Manipulation, Probability Manipulation, Reality Warping, Telekinesis, Telepathy, Teleportation, Vitakinesis, Weather Control',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cable', 'Nathan Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/40.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Cloaking, Dexterity, Durability, Energy Blasts, Flight, Force Fields, Illusions, Intelligence, Marksmanship, Mind Blast, Mind Control, Mind Control Resistance, Molecular Manipulation, Precognition, Psionic Powers, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Time Travel, Vision - Thermal, Weapons Master',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Luke Cage (MCU)', 'Luke Cage',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13904.jpg',
-        'Accelerated Healing, Invulnerability, Stamina, Super Speed, Super Strength', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Static', 'Virgil Hawkins',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1471.jpg',
-        'Accelerated Healing, Agility, Durability, Electrokinesis, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Intelligence, Levitation, Marksmanship, Mind Control Resistance',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sonic The Hedgehog', 'Sonic',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10532.jpg',
-        'Agility, Durability, Jump, Stamina, Super Speed', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Harry Potter', 'Harry James Potter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10878.jpg',
-        'Accelerated Healing, Agility, Animal Control, Energy Blasts, Energy Constructs, Force Fields, Hypnokinesis, Illusions, Intelligence, Invisibility, Magic, Reality Warping, Shapeshifting, Stamina, Stealth, Telekinesis, Telepathy, Teleportation',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Koko (The LEGO Ninjago Movie)', 'Koko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16522.jpg',
-        'Agility, Changing Armor, Dexterity, Endurance, Intelligence, Marksmanship, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lone Ranger', 'Johnathan Reid',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10916.jpg',
-        'Agility, Animal Control, Camouflage, Dexterity, Durability, Endurance, Marksmanship, Peak Human Condition, Stamina, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Scarlet Spider II', 'Kaine Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1536.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Durability, Reflexes, Stamina, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zane', 'Zane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16124.jpg',
-        'Agility, Animal Control, Cold Resistance, Cryokinesis, Danger Sense, Durability, Element Control, Endurance, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Flight, Force Fields, Immortality, Intelligence, Longevity, Marksmanship, Natural Armor, Peak Human Condition, Power Nullifier, Precognition, Reflexes, Self-Sustenance, Stamina, Stealth, Summoning, Super Strength, Underwater breathing, Weapons Master',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vegeta (Dragon Ball GT)', 'Vegeta IV',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16441.jpg',
-        'Accelerated Healing, Adaptation, Afterimage Creation, Age Manipulation, Agility, Chi Manipulation, Cold Resistance, Durability, Electrokinesis, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Enhanced Senses, Explosion Manipulation, Flight, Force Fields, Heat Generation, Latent Abilities, Mind Control Resistance, Non-Physical Interaction, Power Sense, Reflexes, Stamina, Statistics Amplification, Super Speed, Super Strength, Telekinesis, Telepathy, Weather Control',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hiruzen Sarutobi', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15390.jpg',
-        'Adaptation, Agility, Animal Control, Danger Sense, Duplication, Electrokinesis, Element Control, Energy Absorption, Energy Armor, Energy Constructs, Energy Manipulation, Enhanced Smell, Fire Control, Illusions, Intelligence, Jump, Marksmanship, Peak Human Condition, Radar Sense, Reflexes, Stamina, Stealth, Summoning, Super Speed, Super Strength, Wallcrawling, Water Control, Weapon-based Powers, Weapons Master, Wind Control',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vision', 'Vision',
-        'https://www.superherodb.com/pictures2/portraits/10/050/532.jpg',
-        'Density Control, Durability, Energy Absorption, Energy Beams, Energy Blasts, Enhanced Hearing, Flight, Intangibility, Intelligence, Invulnerability, Marksmanship, Natural Armor, Phasing, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Telepathy',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robocop', 'Alex Murphy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11178.jpg',
-        'Durability, Enhanced Hearing, Enhanced Memory, Flight, Intelligence, Longevity, Marksmanship, Natural Armor, Power Suit, Reflexes, Stamina, Super Strength, Technopath/Cyberpath, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Flash (DCEU)', 'Barry Allen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12531.jpg',
-        'Accelerated Healing, Durability, Energy Manipulation, Intangibility, Intelligence, Phasing, Reflexes, Stamina, Super Speed, Super Strength, Time Travel',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Firestorm II (CW)', 'Jefferson Jackson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13857.jpg',
-        'Absorption, Agility, Density Control, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Marksmanship, Matter Manipulation, Melting, Molecular Dissipation, Molecular Manipulation, Reflexes, Regeneration, Stamina, Super Strength, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Grover Underwood', 'Grover Underwood',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16085.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Astral Projection, Audio Control, Banish, Clairvoyance, Dexterity, Element Control, Empathy, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Latent Abilities, Longevity, Magic, Molecular Dissipation, Omnilingualism, Plant Control, Sonic Scream, Summoning, Super Speed, The Green, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Atom II', 'Ray Palmer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/938.jpg',
-        'Density Control, Flight, Gliding, Size Changing, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Skaar', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1341.jpg',
-        'Accelerated Healing, Elemental Transmogrification, Jump, Stamina, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vegito', 'Vegeta/Goku',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11729.jpg',
-        'Accelerated Healing, Agility, Duplication, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Latent Abilities, Light Control, Mind Control Resistance, Portal Creation, Power Augmentation, Power Sense, Precognition, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vitakinesis',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Elaine Belloc (Angel)', 'Elaine Belloc',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13950.jpg',
-        'Biokinesis, Cold Resistance, Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Resistance, Entropy Projection, Fire Control, Flight, Force Fields, Heat Resistance, Immortality, Intelligence, Invulnerability, Matter Manipulation, Nigh-Omnipotent, Phasing, Power Augmentation, Precognition, Reality Warping, Regeneration, Self-Sustenance, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Time Manipulation, Time Travel, Toxin and Disease Resistance',
-        93);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Alfred Pennyworth', 'Alfred Thaddeus Crane Pennyworth',
-        'https://www.superherodb.com/pictures2/portraits/10/050/628.jpg',
-        'Intelligence, Marksmanship, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Fox', 'Fox McCloud',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16901.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Dexterity, Durability, Endurance, Force Fields, Intelligence, Jump, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent Venom', 'Flash Thompson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10300.jpg',
-        'Agility, Biokinesis, Camouflage, Durability, Elasticity, Latent Abilities, Marksmanship, Natural Weapons, Precognition, Reflexes, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Wallcrawling, Weapon-based Powers, Weapons Master, Web Creation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman II', 'Dick Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1496.jpg',
-        'Agility, Intelligence, Marksmanship, Peak Human Condition, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Martian Manhunter (CW)', 'Jonn Jonzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14278.jpg',
-        'Accelerated Healing, Agility, Density Control, Durability, Flight, Illusions, Intangibility, Invisibility, Longevity, Mind Control, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Century', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1511.jpg',
-        'Dimensional Travel, Regeneration, Teleportation', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Marvel', 'Janet Van Dyne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14319.jpg',
-        'Accelerated Healing, Agility, Animal Control, Animal Oriented Powers, Danger Sense, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Gravity Control, Intelligence, Invulnerability, Levitation, Light Control, Molecular Manipulation, Precognition, Reflexes, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thunderstrike', 'Eric Kevin Masterson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/177.jpg',
-        'Accelerated Healing, Durability, Longevity, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dash', 'Dashiell Robert Parr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/824.jpg', 'Agility, Reflexes, Stamina, Super Speed', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Angel Dust', 'Christina',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10405.jpg',
-        'Agility, Stamina, Super Speed, Super Strength', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aquababy', 'Arthur Curry, Jr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1389.jpg',
-        'Super Strength, Underwater breathing, Water Control', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Indiana Jones', 'Indiana Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10560.jpg', 'Intelligence, Reflexes, Stamina', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ghost Rider II (MCU)', 'Robbie Reyes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13868.jpg',
-        'Accelerated Healing, Agility, Changing Armor, Death Touch, Dimensional Travel, Durability, Empathy, Endurance, Energy Blasts, Energy Resistance, Enhanced Senses, Fire Control, Fire Resistance, Grim Reaping, Heat Generation, Heat Resistance, Invulnerability, Magic, Marksmanship, Portal Creation, Reflexes, Regeneration, Stamina, Super Strength, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sersi', 'Sersi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/120.jpg',
-        'Accelerated Healing, Agility, Animation, Biokinesis, Durability, Element Control, Endurance, Energy Beams, Energy Blasts, Energy Resistance, Enhanced Memory, Fire Resistance, Flight, Illusions, Immortality, Invulnerability, Longevity, Mind Control, Mind Control Resistance, Molecular Manipulation, Power Cosmic, Radiation Immunity, Reflexes, Regeneration, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Water Control, Wind Control',
-        60);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batwoman', 'Helena Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13806.jpg',
-        'Dexterity, Marksmanship, Toxin and Disease Resistance, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tsunade', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13186.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animal Control, Duplication, Durability, Element Control, Energy Constructs, Energy Manipulation, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Shapeshifting, Stamina, Stealth, Summoning, Super Speed, Super Strength, Wallcrawling, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man (SONY)', 'Peter Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13052.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Senses, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cabba', 'Cabba',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15322.jpg',
-        'Accelerated Healing, Durability, Energy Blasts, Flight, Intelligence, Power Augmentation, Super Speed, Super Strength',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Green Hornet', 'Britt Reid',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11928.jpg',
-        'Agility, Dexterity, Durability, Electrokinesis, Endurance, Fire Control, Heat Generation, Hypnokinesis, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Wallcrawling, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Asura', 'Asura',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12290.jpg',
-        'Accelerated Healing, Agility, Berserk Mode, Biokinesis, Cold Resistance, Danger Sense, Dexterity, Durability, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Heat Resistance, Immortality, Insanity, Invulnerability, Jump, Latent Abilities, Longevity, Marksmanship, Physical Anomaly, Radiation Immunity, Reflexes, Regeneration, Resurrection, Seismic Power, Self-Sustenance, Stamina, Statistics Amplification, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Valkyrie (MCU)', 'Brunnhilde',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12730.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Longevity, Peak Human Condition, Reflexes, Regeneration',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Beast Boy (Titans)', 'Garfield Logan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16346.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Durability, Endurance, Natural Weapons, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Obi-Wan Kenobi', 'Obi-Wan Kenobi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10455.jpg',
-        'Agility, Clairvoyance, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Invisibility, Matter Manipulation, Mind Control, Power Augmentation, Power Sense, Precognition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, The Force, Toxin and Disease Resistance, Vitakinesis',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vibe', 'Cisco Ramon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10509.jpg',
-        'Dimensional Awareness, Dimensional Travel, Energy Blasts, Power Nullifier, Seismic Power, Teleportation', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Annabeth Chase (FOX)', 'Annabeth Chase',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16126.jpg',
-        'Intelligence, Weapon-based Powers, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (Burtonverse)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16501.jpg',
-        'Agility, Durability, Endurance, Fire Resistance, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cat', 'Shirlee Bryant',
-        'https://www.superherodb.com/pictures2/portraits/10/050/904.jpg',
-        'Agility, Enhanced Senses, Jump, Stamina, Super Strength', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vampire Batman', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12650.jpg',
-        'Accelerated Healing, Agility, Biokinesis, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Flight, Gliding, Hypnokinesis, Immortality, Intelligence, Invulnerability, Jump, Marksmanship, Mind Blast, Mind Control, Peak Human Condition, Phasing, Psionic Powers, Reflexes, Regeneration, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spartan', 'John Diggle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11173.jpg',
-        'Agility, Durability, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Weapon H', 'Clayton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12442.jpg',
-        'Accelerated Healing, Enhanced Senses, Invulnerability, Jump, Marksmanship, Regeneration, Super Speed, Super Strength',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Monarch', 'Nathaniel Christopher Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1006.jpg',
-        'Agility, Astral Projection, Camouflage, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Constructs, Flight, Force Fields, Immortality, Intangibility, Intelligence, Invulnerability, Marksmanship, Matter Absorption, Matter Manipulation, Mind Control, Molecular Combustion, Molecular Dissipation, Molecular Immobilization, Resurrection, Self-Sustenance, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Time Manipulation, Time Travel',
-        53);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gambit', 'Remy Etienne LeBeau',
-        'https://www.superherodb.com/pictures2/portraits/10/050/64.jpg',
-        'Agility, Energy Manipulation, Psionic Powers, Telekinesis, Telepathy Resistance', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Brother Voodoo', 'Jericho Drumm',
-        'https://www.superherodb.com/pictures2/portraits/10/050/39.jpg',
-        'Animal Control, Element Control, Fire Control, Fire Resistance, Flight, Heat Resistance, Hypnokinesis, Magic, Magic Resistance, Possession, Summoning, Teleportation',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin III (Arkham)', 'Tim Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16413.jpg',
-        'Agility, Gliding, Intelligence, Stamina, Stealth, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/85.jpg',
-        'Accelerated Healing, Durability, Energy Absorption, Energy Beams, Energy Blasts, Flight, Force Fields, Invisibility, Magnetism, Marksmanship, Power Suit, Radiation Immunity, Reflexes, Stamina, Super Speed, Super Strength, Underwater breathing, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapon-based Powers',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Storm (FOX)', 'Ororo Munroe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14356.jpg',
-        'Agility, Electrokinesis, Element Control, Enhanced Senses, Flight, Teleportation, Weather Control, Wind Control',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Bleeding Edge)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12715.jpg',
-        'Absorption, Accelerated Healing, Adaptation, Animation, Cloaking, Cold Resistance, Energy Blasts, Flight, Force Fields, Heat Resistance, Intelligence, Power Augmentation, Power Suit, Precognition, Self-Sustenance, Shapeshifting, Spatial Awareness, Stealth, Super Speed, Super Strength, Underwater breathing, Vision - Night, Vision - Thermal',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ragman (CW)', 'Rory Regan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15422.jpg',
-        'Agility, Cold Resistance, Durability, Endurance, Fire Resistance, Heat Resistance, Magic, Power Suit, Reflexes, Self-Sustenance, Stamina, Super Strength',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Multiple Man', 'James Arthur',
-        'https://www.superherodb.com/pictures2/portraits/10/050/104.jpg', 'Duplication', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Livewire', 'Leslie Willis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10078.jpg',
-        'Electrokinesis, Element Control, Energy Absorption', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Green Arrow', 'Oliver Queen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/696.jpg',
-        'Agility, Marksmanship, Peak Human Condition, Stamina, Stealth, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Steel (1997)', 'John Irons',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14642.jpg',
-        'Dexterity, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Resistance, Enhanced Memory, Jump, Magnetism, Power Suit, Stamina, Super Strength, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Red Arrow', 'Roy Harper',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1013.jpg',
-        'Agility, Marksmanship, Stamina, Stealth, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ultra Magnus', 'Ultra Magnus',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14054.jpg',
-        'Agility, Biokinesis, Durability, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Intelligence, Invulnerability, Longevity, Marksmanship, Natural Armor, Natural Weapons, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doctor Mid-Nite', 'Dr Charles Mcnider',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10077.jpg',
-        'Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Cryokinesis, Dexterity, Durability, Endurance, Enhanced Senses, Enhanced Sight, Gliding, Heat Generation, Peak Human Condition, Reflexes, Stealth, Vision - Night, Vision - Thermal, Weapon-based Powers',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin II (Titans)', 'Jason Todd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16350.jpg',
-        'Agility, Dexterity, Durability, Endurance, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hermione Granger', 'Hermione Granger',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10879.jpg',
-        'Accelerated Healing, Agility, Cloaking, Energy Blasts, Energy Constructs, Force Fields, Hypnokinesis, Intelligence, Magic, Shapeshifting, Telekinesis, Teleportation, Time Travel',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agamotto', 'Agamotto',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12519.jpg',
-        'Accelerated Healing, Astral Projection, Astral Travel, Banish, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Enhanced Sight, Force Fields, Immortality, Intelligence, Invulnerability, Magic, Matter Manipulation, Molecular Manipulation, Phasing, Precognition, Psionic Powers, Reality Warping, Regeneration, Shapeshifting, Super Breath, Super Speed, Super Strength, Teleportation, Vitakinesis',
-        63);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vixen (CW)', 'Amaya Jiwe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15410.jpg',
-        'Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Cold Resistance, Durability, Empathy, Endurance, Energy Constructs, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Force Fields, Intelligence, Marksmanship, Natural Armor, Projection, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Underwater breathing, Vision - Night, Wallcrawling, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Light Lass', 'Ayla Ranzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1178.jpg', 'Electrokinesis, Flight, Gravity Control',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Deadshot (DCEU)', 'Floyd Lawton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12599.jpg',
-        'Marksmanship, Peak Human Condition, Weapons Master', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Neji', 'Neji Hyuga',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11751.jpg',
-        'Adaptation, Agility, Energy Armor, Marksmanship, Radar Sense, Reflexes, Stamina, Stealth, Wallcrawling, Wind Control',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dr Manhattan', 'Jonathan Osterman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/884.jpg',
-        'Accelerated Healing, Density Control, Duplication, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Immortality, Intangibility, Intelligence, Invulnerability, Longevity, Matter Absorption, Molecular Dissipation, Molecular Manipulation, Nigh-Omnipotent, Nigh-Omniscient, Omnilingualism, Phasing, Precognition, Regeneration, Self-Sustenance, Size Changing, Stealth, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Time Travel',
-        122);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mystogan', 'Jellal Fernandes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12635.jpg',
-        'Agility, Dexterity, Durability, Element Control, Endurance, Enhanced Senses, Flight, Illusions, Intangibility, Intelligence, Jump, Longevity, Magic, Portal Creation, Reflexes, Sleep Manipulation, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jesse Custer', 'Jesse Custer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/717.jpg',
-        'Agility, Intelligence, Marksmanship, Mind Control, Reflexes, Stamina, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shadow King', 'Amahl Farouk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/121.jpg',
-        'Astral Projection, Immortality, Natural Weapons, Possession, Psionic Powers, Telepathy', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Constantine (CW)', 'John Constantine',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15417.jpg',
-        'Astral Projection, Astral Travel, Banish, Clairvoyance, Danger Sense, Dimensional Travel, Energy Blasts, Fire Control, Illusions, Intelligence, Intuitive aptitude, Magic, Portal Creation, Reflexes, Stealth, Summoning, Telekinesis',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cannonball', 'Samuel Zachery Guthrie',
-        'https://www.superherodb.com/pictures2/portraits/10/050/272.jpg',
-        'Energy Absorption, Energy Armor, Flight, Immortality, Super Speed', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'James Bond', 'James Bond',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14114.jpg',
-        'Camouflage, Flight, Magnetism, Marksmanship, Molecular Combustion, Peak Human Condition, Stealth, Underwater breathing, Vaporising Beams, Wallcrawling, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bronze Tiger', 'Ben Turner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10370.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Audio Control, Camouflage, Cold Resistance, Danger Sense, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Intelligence, Jump, Marksmanship, Natural Armor, Natural Weapons, Peak Human Condition, Photographic Reflexes, Physical Anomaly, Reflexes, Self-Sustenance, Shapeshifting, Size Changing, Sonic Scream, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mimic', 'Calvin Montgomery Rankin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/97.jpg',
-        'Cryokinesis, Durability, Energy Blasts, Flight, Gliding, Reflexes, Super Strength, Telekinesis, Telepathy', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Planet', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1285.jpg',
-        'Cryokinesis, Electrokinesis, Element Control, Elemental Transmogrification, Empathy, Energy Blasts, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Control, Flight, Immortality, Invulnerability, Molecular Manipulation, Plant Control, Shapeshifting, Stamina, Sub-Mariner, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Terrakinesis, Water Control',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Maui', 'Maui',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11020.jpg',
-        'Agility, Animal Oriented Powers, Durability, Illusions, Immortality, Invulnerability, Longevity, Shapeshifting, Super Breath, Super Speed, Super Strength, Weapon-based Powers',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jubilee (Full Potential)', 'Jubilation Lee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12377.jpg',
-        'Agility, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Molecular Combustion, Peak Human Condition, Reflexes, Stamina, Telepathy Resistance',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Archmage Antonidas', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14722.jpg',
-        'Astral Travel, Banish, Dimensional Awareness, Element Control, Elemental Transmogrification, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Intelligence, Longevity, Magic, Matter Manipulation, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        31);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Heat Wave (CW)', 'Mick Rory',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15416.jpg',
-        'Durability, Marksmanship, Peak Human Condition, Stamina, Weapon-based Powers, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ruby', 'Ruby Rose',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11832.jpg',
-        'Accelerated Healing, Agility, Durability, Element Control, Enhanced Senses, Flight, Force Fields, Marksmanship, Power Augmentation, Reflexes, Stamina, Super Speed, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Omni-Man', 'Nolan Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13397.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Endurance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Flight, Heat Resistance, Immortality, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Reactive Evolution, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Ham', 'Peter Porker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10821.jpg',
-        'Accelerated Healing, Animal Attributes, Animal Oriented Powers, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thundra', 'Thundra',
-        'https://www.superherodb.com/pictures2/portraits/10/050/508.jpg',
-        'Agility, Reflexes, Stamina, Super Speed, Super Strength', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thori', 'Thori',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16293.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Camouflage, Cold Resistance, Dimensional Awareness, Durability, Empathy, Endurance, Energy Beams, Enhanced Memory, Enhanced Senses, Enhanced Sight, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Intelligence, Longevity, Natural Weapons, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Underwater breathing',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Thing (FOX)', 'Benn Grimm',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14291.jpg',
-        'Agility, Durability, Invulnerability, Peak Human Condition', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'John Constantine', 'John Constantine',
-        'https://www.superherodb.com/pictures2/portraits/10/050/718.jpg',
-        'Accelerated Healing, Illusions, Magic, Summoning, Telepathy Resistance', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bilbo Baggins', 'Bilbo Baggins',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10861.jpg',
-        'Clairvoyance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Illusions, Invisibility, Magic, Magic Resistance, Mind Control Resistance, Precognition, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aquagirl I', 'Tula',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10206.jpg',
-        'Durability, Invulnerability, Self-Sustenance, Super Speed, Super Strength, Telepathy', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Husk', 'Paige Elisabeth Guthrie',
-        'https://www.superherodb.com/pictures2/portraits/10/050/84.jpg',
-        'Density Control, Durability, Molecular Manipulation, Shapeshifting, Super Speed, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rogue (FOX)', 'Anna Marie',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13989.jpg',
-        'Absorption, Death Touch, Energy Absorption, Power Absorption', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Warlock', 'Adam Warlock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/154.jpg',
-        'Agility, Durability, Energy Blasts, Energy Manipulation, Flight, Reflexes, Stamina, Super Speed, Super Strength',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spirit', 'Denny Colt',
-        'https://www.superherodb.com/pictures2/portraits/10/050/797.jpg',
-        'Accelerated Healing, Durability, Endurance, Intelligence, Intuitive aptitude, Longevity, Peak Human Condition, Stamina, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Infinity Gauntlet)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13651.jpg',
-        'Ability Shift, Accelerated Healing, Agility, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Matter Manipulation, Mind Control, Molecular Dissipation, Omnilingualism, Portal Creation, Psionic Powers, Radiation Immunity, Reality Warping, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Time Travel, Timeframe Control',
-        62);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Woman', 'Diana Prince',
-        'https://www.superherodb.com/pictures2/portraits/10/050/807.jpg',
-        'Accelerated Healing, Animal Oriented Powers, Dimensional Travel, Durability, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Fire Resistance, Flight, Force Fields, Hypnokinesis, Intelligence, Longevity, Magic Resistance, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Telepathy, Toxin and Disease Resistance, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray, Weapon-based Powers, Weapons Master',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man Noir', 'Peter Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10749.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Endurance, Enhanced Senses, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cameron Hicks', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1528.jpg',
-        'Hyperkinesis, Marksmanship, Spatial Awareness', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Erza Scarlet', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10978.jpg',
-        'Agility, Durability, Endurance, Invulnerability, Magic, Marksmanship, Reflexes, Super Strength, Telekinesis, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Xeno Goku', 'Kakarot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14700.jpg',
-        'Absorption, Adaptation, Agility, Dimensional Travel, Duplication, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Latent Abilities, Light Control, Magic Resistance, Mind Control Resistance, Portal Creation, Power Augmentation, Power Sense, Reflexes, Self-Sustenance, Stamina, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Vitakinesis',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Knight III', 'Dane Whitman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/246.jpg', 'Weapon-based Powers', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Luke Skywalker', 'Luke Skywalker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10447.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Cloaking, Danger Sense, Empathy, Energy Blasts, Enhanced Hearing, Enhanced Senses, Force Fields, Hypnokinesis, Illusions, Intelligence, Jump, Light Control, Marksmanship, Precognition, Psionic Powers, Reflexes, Stealth, Super Speed, Telekinesis, Telepathy, The Force, Weapons Master',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Chamber', 'Jonothon Evan Starsmore',
-        'https://www.superherodb.com/pictures2/portraits/10/050/44.jpg',
-        'Energy Beams, Mind Blast, Psionic Powers, Telepathy', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Darkman', 'Peyton Westlake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1126.jpg',
-        'Camouflage, Durability, Insanity, Intelligence, Stamina, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain America (Worthy) (MCU)', 'Steve Rogers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16755.jpg',
-        'Accelerated Healing, Agility, Electrokinesis, Energy Armor, Energy Blasts, Energy Resistance, Longevity, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master, Weather Control, Wind Control',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Winter Soldier', 'Bucky Barnes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10027.jpg',
-        'Energy Blasts, Longevity, Marksmanship, Peak Human Condition, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Power Girl', 'Kara Zor-L',
-        'https://www.superherodb.com/pictures2/portraits/10/050/758.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Absorption, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Flight, Intelligence, Invulnerability, Jump, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Daphne Powell', 'Daphne Powell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1356.jpg', 'Telepathy', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Alexstrasza', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11793.jpg',
-        'Accelerated Healing, Astral Projection, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Senses, Fire Control, Fire Resistance, Flight, Force Fields, Heat Generation, Heat Resistance, Magic, Matter Manipulation, Molecular Manipulation, Regeneration, Resurrection, Super Speed, Super Strength, Teleportation, Vitakinesis',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ronin', 'Clint Barton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1202.jpg',
-        'Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Senses', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aquaman (Injustice)', 'Arthur Curry',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15703.jpg',
-        'Accelerated Healing, Agility, Animal Control, Cold Resistance, Durability, Electrokinesis, Element Control, Enhanced Senses, Heat Resistance, Intelligence, Longevity, Peak Human Condition, Portal Creation, Reflexes, Self-Sustenance, Stamina, Stealth, Sub-Mariner, Summoning, Super Speed, Super Strength, Telepathy, Vision - Night, Water Control, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Falcon (MCU)', 'Sam Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12510.jpg',
-        'Agility, Durability, Enhanced Sight, Flight, Marksmanship, Power Suit, Reflexes, Stamina, Super Speed, Super Strength',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Widow (MCU)', 'Natasha Romanov',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12499.jpg',
-        'Agility, Peak Human Condition, Reflexes, Super Speed, Super Strength, Weapons Master', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ganthet', 'Ganthet',
-        'https://www.superherodb.com/pictures2/portraits/10/050/692.jpg',
-        'Audio Control, Clairvoyance, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Empathy, Energy Absorption, Energy Armor, Energy Blasts, Energy Constructs, Enhanced Senses, Fire Resistance, Flight, Force Fields, Illumination, Immortality, Intangibility, Intelligence, Invisibility, Invulnerability, Lantern Power Ring, Levitation, Magic Resistance, Molecular Manipulation, Nigh-Omniscient, Omnilingualism, Portal Creation, Power Sense, Precognition, Radiation Immunity, Self-Sustenance, Stealth, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        62);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nabu', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13188.jpg',
-        'Astral Projection, Biokinesis, Dimensional Awareness, Dimensional Travel, Duplication, Empathy, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Force Fields, Hypnokinesis, Immortality, Intangibility, Intelligence, Invisibility, Invulnerability, Levitation, Light Control, Magic, Omnilingualism, Phasing, Possession, Psionic Powers, Reality Warping, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Weather Control',
-        67);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Clea', 'Clea',
-        'https://www.superherodb.com/pictures2/portraits/10/050/45.jpg',
-        'Animation, Astral Projection, Astral Travel, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Energy Constructs, Energy Manipulation, Force Fields, Illusions, Intelligence, Invulnerability, Levitation, Longevity, Magic, Matter Manipulation, Molecular Manipulation, Portal Creation, Reality Warping, Stamina, Super Strength, Telekinesis, Teleportation, Wishing',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kami Tenchi', 'Kami Tenchi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14438.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Flight, Immortality, Intelligence, Invulnerability, Light Control, Nigh-Omnipotent, Nigh-Omniscient, Omnipresent, Portal Creation, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Time Travel, Weapons Master',
-        102);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin II', 'Jason Todd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/849.jpg',
-        'Agility, Marksmanship, Stamina, Stealth, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Finesse', 'Jeanne Foucault',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10804.jpg',
-        'Agility, Camouflage, Intelligence, Intuitive aptitude, Marksmanship, Photographic Reflexes, Reflexes, Stealth, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thor (Ultimate)', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14446.jpg',
-        'Accelerated Healing, Agility, Durability, Electrokinesis, Element Control, Endurance, Enhanced Senses, Flight, Invulnerability, Longevity, Magic, Mind Control Resistance, Odin Force, Reflexes, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master, Weather Control',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Battlestar', 'Lemar Hoskins',
-        'https://www.superherodb.com/pictures2/portraits/10/050/231.jpg',
-        'Agility, Durability, Reflexes, Stamina, Super Speed, Super Strength', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin', 'Dick Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/850.jpg',
-        'Intelligence, Marksmanship, Peak Human Condition, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Professor Dumbledore', 'Albus Dumbledore',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10884.jpg',
-        'Animal Control, Cloaking, Energy Armor, Energy Blasts, Energy Constructs, Fire Control, Force Fields, Hypnokinesis, Illusions, Intelligence, Invisibility, Light Control, Magic, Reality Warping, Telekinesis, Telepathy, Teleportation, Time Travel, Water Control, Weather Control, Wishing',
-        30);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Johnny Cage', 'Johnny Cage',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10961.jpg',
-        'Agility, Endurance, Energy Blasts, Peak Human Condition, Projection, Reflexes, Stamina, Super Speed, Super Strength',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Allan Quatermain', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/630.jpg',
-        'Agility, Durability, Immortality, Longevity, Marksmanship, Peak Human Condition, Resurrection, Stamina, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thor (Odin Force)', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13965.jpg',
-        'Electrokinesis, Element Control, Energy Blasts, Energy Manipulation, Force Fields, Intangibility, Invisibility, Longevity, Magic, Matter Manipulation, Mind Control, Odin Force, Portal Creation, Power Nullifier, Super Breath, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Weapons Master, Weather Control',
-        53);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ash', 'Ash',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16547.jpg',
-        'Agility, Cold Resistance, Dexterity, Durability, Element Control, Endurance, Fire Resistance, Heat Resistance, Intangibility, Intelligence, Invisibility, Marksmanship, Peak Human Condition, Phasing, Reflexes, Shapeshifting, Smoke Manipulation, Stamina, Stealth, Teleportation, Weapons Master',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'James Gordon', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/714.jpg',
-        'Danger Sense, Intelligence, Marksmanship, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ambush Bug', 'Irwin Schwab',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11117.jpg',
-        'Adaptation, Agility, Animal Attributes, Animal Oriented Powers, Dimensional Awareness, Insanity, Intuitive aptitude, Mind Control Resistance, Natural Armor, Power Suit, Probability Manipulation, Reflexes, Spatial Awareness, Stealth, Telepathy Resistance, Teleportation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Woman', 'Jessica Drew',
-        'https://www.superherodb.com/pictures2/portraits/10/050/481.jpg',
-        'Agility, Durability, Energy Blasts, Enhanced Hearing, Flight, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Wallcrawling',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Feral', 'Maria Callasantos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/57.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Enhanced Senses, Jump, Natural Weapons, Reflexes, Super Speed, Super Strength',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Lightning', 'Jefferson Pierce',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1128.jpg',
-        'Electrokinesis, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Force Fields, Peak Human Condition',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Man-Thing', 'Dr. Theodore Sallis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/382.jpg',
-        'Durability, Empathy, Immortality, Invulnerability, Natural Weapons, Stealth, Substance Secretion, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Underwater breathing',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batgirl IV', 'Cassandra Cain',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1113.jpg',
-        'Agility, Peak Human Condition, Stealth, Toxin and Disease Resistance, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Banshee', 'Sean Cassidy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/26.jpg',
-        'Audio Control, Enhanced Hearing, Flight, Force Fields, Sonar, Sonic Scream', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Beta Ray Bill', 'Beta Ray Bill (translation of his Korbinite name)',
-        'https://www.superherodb.com/pictures2/portraits/10/050/28.jpg',
-        'Accelerated Healing, Immortality, Invulnerability, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ino Yamanaka', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15391.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Duplication, Energy Absorption, Energy Armor, Enhanced Sight, Jump, Marksmanship, Possession, Psionic Powers, Radar Sense, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Wallcrawling, Water Control, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lloyd', 'Lloyd Garmadon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16114.jpg',
-        'Absorption, Accelerated Healing, Agility, Animal Control, Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Touch, Fire Control, Flight, Force Fields, Intelligence, Jump, Longevity, Marksmanship, Matter Manipulation, Peak Human Condition, Reflexes, Stamina, Stealth, Summoning, Super Speed, Super Strength, Underwater breathing, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Pan', 'Son Pan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1228.jpg',
-        'Adaptation, Agility, Cold Resistance, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Latent Abilities, Power Sense, Radar Sense, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Telepathy, Weather Control',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vigilante (CW)', 'Vincent Sobel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15425.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Regeneration, Stamina, Stealth, Vision - Infrared, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zero', 'DWN-∞ Zero',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12699.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Energy Manipulation, Enhanced Senses, Intelligence, Jump, Longevity, Marksmanship, Matter Manipulation, Natural Weapons, Reflexes, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Underwater breathing, Weapon-based Powers, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Abin Sur', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1460.jpg',
-        'Lantern Power Ring', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dove (Titans)', 'Dawn Granger',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16349.jpg',
-        'Agility, Dexterity, Durability, Endurance, Marksmanship, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bloodhawk', 'Lemuel Krug',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1510.jpg',
-        'Enhanced Senses, Flight, Natural Weapons, Radiation Immunity, Regeneration, Shapeshifting, Toxin and Disease Resistance',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cypher', 'Douglas Aaron Ramsey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/168.jpg',
-        'Clairvoyance, Hacking, Intelligence, Intuitive aptitude, Magic, Omnilingualism, Peak Human Condition, Photographic Reflexes, Technopath/Cyberpath, Telepathy, Teleportation, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Fist (MCU)', 'Danny Rand',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15088.jpg',
-        'Agility, Durability, Empathy, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Marksmanship, Reflexes, Stamina, Super Strength, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Raphael', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10328.jpg',
-        'Accelerated Healing, Agility, Jump, Marksmanship, Natural Armor, Reflexes, Stamina, Stealth, Sub-Mariner, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Caitlin Fairchild', 'Caitlin Fairchild',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10333.jpg',
-        'Accelerated Healing, Agility, Intelligence, Invulnerability, Marksmanship, Phasing, Possession, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Woman (Witching Hour)', 'Diana Prince',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15650.jpg',
-        'Accelerated Healing, Agility, Animal Control, Astral Projection, Astral Trap, Astral Travel, Banish, Camouflage, Clairvoyance, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Empathy, Energy Absorption, Energy Armor, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Enhanced Senses, Entropy Projection, Fire Control, Fire Resistance, Flight, Force Fields, Gravity Control, Hair Manipulation, Hyperkinesis, Illusions, Immortality, Intangibility, Intelligence, Invulnerability, Longevity, Magic Resistance, Matter Manipulation, Omnilingualism, Physical Anomaly, Portal Creation, Possession, Power Augmentation, Power Nullifier, Precognition, Projection, Radiation Immunity, Reality Warping, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Time Manipulation, Toxin and Disease Resistance, Vaporising Beams, Weapon-based Powers, Weapons Master, Wishing',
-        125);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Steve Montgomery', 'Steve Montgomery',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14856.jpg',
-        'Flight, Force Fields, Invulnerability, Levitation, Telekinesis, Telepathy', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sister Grimm', 'Nico Minoru',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11500.jpg',
-        'Bullet Time, Cold Resistance, Cryokinesis, Durability, Electrokinesis, Energy Blasts, Energy Resistance, Flight, Force Fields, Levitation, Light Control, Magic, Mind Control, Psionic Powers, Regeneration, Resurrection, Super Speed, Super Strength, Telekinesis, Teleportation, Umbrakinesis, Vaporising Beams, Vitakinesis, Weapon-based Powers',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jonah Hex', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/720.jpg',
-        'Agility, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Woman III', 'Martha Franklin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/482.jpg',
-        'Agility, Energy Blasts, Flight, Reflexes, Stamina, Super Speed, Super Strength, Telepathy, Wallcrawling', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mazikeen', 'Mazikeen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15653.jpg',
-        'Accelerated Healing, Adaptation, Animal Control, Astral Projection, Astral Travel, Banish, Camouflage, Cloaking, Cold Resistance, Darkforce Manipulation, Durability, Element Control, Empathy, Energy Armor, Energy Blasts, Energy Manipulation, Fire Resistance, Force Fields, Gravity Control, Grim Reaping, Hair Manipulation, Hypnokinesis, Immortality, Intelligence, Invulnerability, Longevity, Magic, Magic Resistance, Marksmanship, Matter Absorption, Matter Manipulation, Natural Armor, Omnilingualism, Power Absorption, Power Augmentation, Power Nullifier, Precognition, Radiation Control, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Sonic Scream, Stamina, Summoning, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Time Manipulation, Toxin and Disease Resistance, Vaporising Beams, Weapon-based Powers, Weapons Master',
-        108);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Patrick', 'Patrick Star',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12029.jpg',
-        'Accelerated Healing, Duplication, Durability, Empathy, Invisibility, Regeneration, Stamina, Super Strength',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hellboy', 'Anung Un Rama',
-        'https://www.superherodb.com/pictures2/portraits/10/050/813.jpg',
-        'Accelerated Healing, Durability, Enhanced Senses, Enhanced Sight, Fire Resistance, Grim Reaping, Heat Resistance, Invulnerability, Longevity, Magic, Stamina, Super Strength, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Huntress (Injustice)', 'Helena Rosa Bertinelli',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16427.jpg',
-        'Agility, Dexterity, Durability, Endurance, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkgirl (CW)', 'Kendra Saunders',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14276.jpg',
-        'Accelerated Healing, Agility, Flight, Gliding, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Model Prime) (MCU)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13701.jpg',
-        'Audio Control, Cold Resistance, Duplication, Durability, Electrokinesis, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Heat Resistance, Illusions, Intelligence, Intuitive aptitude, Invisibility, Magnetism, Power Augmentation, Power Nullifier, Radiation Control, Radiation Immunity, Regeneration, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telepathy Resistance, Toxin and Disease Resistance, Weapon-based Powers',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Johann Krauss', 'Johann Krauss',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1121.jpg',
-        'Intelligence, Intuitive aptitude, Invisibility, Magic, Marksmanship, Physical Anomaly, Possession, Psionic Powers, Self-Sustenance, Telekinesis, Telepathy, Telepathy Resistance',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Barb Wire', 'Barbara Kopetski',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12257.jpg',
-        'Agility, Dexterity, Durability, Endurance, Intelligence, Jump, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Man', 'Simon Williams',
-        'https://www.superherodb.com/pictures2/portraits/10/050/162.jpg',
-        'Durability, Energy Blasts, Flight, Invulnerability, Longevity, Reflexes, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kakashi Hatake', 'Kakashi Hatake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11580.jpg',
-        'Agility, Dimensional Travel, Duplication, Electrokinesis, Energy Blasts, Enhanced Sight, Fire Control, Intelligence, Marksmanship, Stamina, Stealth, Summoning, Teleportation, Wallcrawling, Water Control, Wind Control',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batgirl', 'Barbara Gordon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1111.jpg',
-        'Agility, Dexterity, Durability, Endurance, Gliding, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Namora', 'Aquaria Nautica Neptunia',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1364.jpg',
-        'Accelerated Healing, Durability, Flight, Longevity, Reflexes, Stamina, Super Speed, Super Strength, Telepathy, Underwater breathing',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mera (New 52)', 'Mera',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16323.jpg',
-        'Agility, Cold Resistance, Durability, Endurance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Heat Resistance, Intelligence, Invulnerability, Jump, Marksmanship, Reflexes, Stamina, Sub-Mariner, Super Speed, Super Strength, Underwater breathing, Water Control, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ant-Man II', 'Scott Lang',
-        'https://www.superherodb.com/pictures2/portraits/10/050/166.jpg',
-        'Agility, Animal Control, Animal Oriented Powers, Intelligence, Size Changing, Stamina, Stealth, Super Strength, Telepathy',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'She-Ra', 'Princess Adora',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10603.jpg',
-        'Accelerated Healing, Agility, Durability, Empathy, Energy Absorption, Energy Blasts, Enhanced Hearing, Flight, Force Fields, Invulnerability, Longevity, Magic, Reflexes, Stamina, Super Speed, Super Strength, Telepathy, Time Travel, Weapon-based Powers, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kilowog', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1428.jpg',
-        'Accelerated Healing, Durability, Lantern Power Ring, Stamina, Super Strength, Telepathy, Underwater breathing',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Misty Knight (MCU)', 'Mercedes Kelly',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16404.jpg',
-        'Agility, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Reflexes, Stamina, Stealth, Super Strength',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Deathlok (MCU)', 'Michael Peterson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15432.jpg',
-        'Enhanced Senses, Intelligence, Regeneration, Stamina, Super Speed, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/83.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Heat Resistance, Invulnerability, Jump, Longevity, Mind Control Resistance, Radiation Absorption, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Huntress (CW)', 'Helena Bertinelli',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15405.jpg',
-        'Agility, Marksmanship, Reflexes, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Leech', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/834.jpg',
-        'Power Nullifier', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Namor', 'Namor McKenzie',
-        'https://www.superherodb.com/pictures2/portraits/10/050/137.jpg',
-        'Accelerated Healing, Agility, Animal Control, Cold Resistance, Durability, Enhanced Senses, Flight, Intelligence, Longevity, Radiation Absorption, Reflexes, Stamina, Sub-Mariner, Super Speed, Super Strength, Telepathy, Underwater breathing',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ben 10', 'Benjamin Kirby Tennyson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1365.jpg',
-        'Agility, Cold Resistance, Cryokinesis, Dexterity, Duplication, Durability, Elasticity, Energy Absorption, Energy Beams, Energy Manipulation, Enhanced Hearing, Enhanced Smell, Fire Control, Fire Resistance, Flight, Heat Resistance, Intangibility, Intelligence, Invulnerability, Jump, Light Control, Omnitrix, Plant Control, Power Cosmic, Reflexes, Size Changing, Sonic Scream, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Underwater breathing, Wallcrawling, Web Creation',
-        31);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nina Theroux', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1529.jpg',
-        'Mind Control, Psionic Powers', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Green Lantern (2011)', 'Hal Jordan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14381.jpg',
-        'Energy Beams, Energy Blasts, Energy Constructs, Flight, Force Fields, Lantern Power Ring', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Donatello', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10330.jpg',
-        'Accelerated Healing, Agility, Jump, Marksmanship, Natural Armor, Stamina, Stealth, Sub-Mariner, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Falcon', 'Sam Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/56.jpg',
-        'Animal Oriented Powers, Flight, Gliding, Telepathy', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hope Summers', 'Hope Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1351.jpg',
-        'Energy Absorption, Energy Blasts, Natural Armor, Power Absorption, Telekinesis, Telepathy, Vision - Heat', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Firelord', 'Pyreus Kril',
-        'https://www.superherodb.com/pictures2/portraits/10/050/59.jpg',
-        'Durability, Energy Blasts, Energy Manipulation, Fire Control, Flight, Heat Resistance', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cyrus Borg', 'Cyrus Borg',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16448.jpg',
-        'Hacking, Intelligence, Marksmanship, Size Changing, Technopath/Cyberpath, Weapon Creation, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nick Fury', 'Nicholas Joseph Fury',
-        'https://www.superherodb.com/pictures2/portraits/10/050/326.jpg', 'Longevity, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Heart Of The Monster Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12522.jpg',
-        'Ability Shift, Accelerated Healing, Adaptation, Agility, Dexterity, Dimensional Awareness, Dimensional Travel, Durability, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Fire Resistance, Heat Resistance, Immortality, Intelligence, Invulnerability, Jump, Latent Abilities, Longevity, Marksmanship, Mind Control Resistance, Power Augmentation, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Resurrection, Seismic Power, Self-Sustenance, Shapeshifting, Size Changing, Sonic Scream, Spatial Awareness, Stamina, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Wishing',
-        41);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batgirl (Injustice)', 'Barbara Gordon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16343.jpg',
-        'Agility, Dexterity, Durability, Endurance, Gliding, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doctor Occult', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12210.jpg',
-        'Absorption, Accelerated Healing, Age Manipulation, Agility, Anti-Gravity, Astral Projection, Astral Trap, Astral Travel, Clairvoyance, Cloaking, Cold Resistance, Density Control, Dexterity, Dimensional Travel, Durability, Element Control, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Explosion Manipulation, Fire Control, Fire Resistance, Flight, Force Fields, Gravity Control, Heat Generation, Heat Resistance, Hypnokinesis, Illumination, Illusions, Intangibility, Intelligence, Intuitive aptitude, Invisibility, Levitation, Longevity, Magic, Magic Resistance, Memory Manipulation, Mind Blast, Mind Control, Mind Control Resistance, Non-Physical Interaction, Omnilingualism, Peak Human Condition, Phasing, Photographic Reflexes, Portal Creation, Precognition, Projection, Reflexes, Regeneration, Size Changing, Stamina, Stealth, Summoning, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Weapon Creation, Weapon-based Powers, Weapons Master',
-        57);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man (Black) (SONY)', 'Peter Benjamin Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13887.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Durability, Endurance, Enhanced Senses, Intelligence, Jump, Marksmanship, Natural Weapons, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'DL Hawkins', 'Daniel Lawrence Hawkins',
-        'https://www.superherodb.com/pictures2/portraits/10/050/943.jpg', 'Phasing', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'War Machine (MCU)', 'James Rhodes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12511.jpg',
-        'Audio Control, Durability, Flight, Marksmanship, Power Suit, Stamina, Super Speed, Super Strength, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), '3-D Man II', 'Delroy Garrett, Jr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10038.jpg', 'Super Speed, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'He-Man', 'Prince Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10602.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Absorption, Energy Beams, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Qui-Gon Jinn', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10465.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Cloaking, Danger Sense, Durability, Electrokinesis, Energy Blasts, Enhanced Hearing, The Force',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain America (Worthy)', 'Steve Rogers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13699.jpg',
-        'Accelerated Healing, Agility, Audio Control, Durability, Electrokinesis, Energy Absorption, Enhanced Senses, Flight, Force Fields, Intelligence, Light Control, Longevity, Magic Resistance, Magnetism, Matter Manipulation, Mind Control, Mind Control Resistance, Portal Creation, Power Nullifier, Power Sense, Precognition, Reflexes, Resurrection, Stamina, Summoning, Super Speed, Super Strength, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master, Weather Control, Wind Control',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent Zero', 'Christoph Nord',
-        'https://www.superherodb.com/pictures2/portraits/10/050/396.jpg',
-        'Energy Absorption, Energy Beams, Energy Blasts, Longevity, Power Suit, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Invincible', 'Markus Sebastian Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/901.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Endurance, Enhanced Memory, Flight, Invulnerability, Jump, Longevity, Marksmanship, Reflexes, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starfire', 'Koriandr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/786.jpg',
-        'Durability, Energy Absorption, Energy Blasts, Flight, Invulnerability, Omnilingualism, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mickey Mouse', 'Mickey Mouse',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12726.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Creation, Cryokinesis, Dexterity, Dimensional Awareness, Dream Manipulation, Durability, Element Control, Endurance, Fear Manipulation, Hair Manipulation, Immortality, Life Manipulation, Light Control, Magic, Magnetism, Matter Manipulation, Mind Control Resistance, Non-Corporeal, Physics Manipulation, Power Nullifier, Precognition, Reality Warping, Reflexes, Self-Sustenance, Stamina, Statistics Amplification, Stealth, Summoning, Super Breath, Super Speed, Telekinesis, Telepathy, Teleportation, The Force, Time Manipulation, Time Travel, Water Control, Weapon-based Powers, Weapons Master, Weather Control, Wishing',
-        102);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cyborg (DCEU)', 'VIctor Stone',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12532.jpg',
-        'Accelerated Healing, Biokinesis, Durability, Energy Blasts, Flight, Intelligence, Marksmanship, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Weapon-based Powers',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Question', 'Charles Victor Szasz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/760.jpg', 'Agility, Intelligence', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Atom IV', 'Ryan Choi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/940.jpg',
-        'Intelligence, Size Changing', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dollar Bill', 'Bill Brady',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12055.jpg',
-        'Agility, Endurance, Marksmanship, Peak Human Condition, Probability Manipulation, Reflexes, Stamina, Stealth, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Midnighter', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/739.jpg',
-        'Adaptation, Agility, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Longevity, Power Nullifier, Power Sense, Precognition, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Strength, Toxin and Disease Resistance, Vision - Telescopic, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aaron Cash', 'Aaron Cash',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11650.jpg', 'Weapon-based Powers, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (Dark Knight)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13907.jpg',
-        'Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Stealth, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Percy Jackson', 'Percy Jackson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10914.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Cryokinesis, Dexterity, Durability, Electrokinesis, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Intelligence, Invulnerability, Peak Human Condition, Reflexes, Seismic Power, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Underwater breathing, Vitakinesis, Water Control, Weapons Master, Weather Control, Wind Control',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Samirah Al-Abbas', 'Samirah Al-Abbas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16078.jpg',
-        'Immortality, Intelligence, Magic, Regeneration, Shapeshifting, Super Speed, Super Strength, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'White Wolf (MCU)', 'James Buchanan Barnes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12734.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nomad (MCU)', 'Steve Rogers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16688.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Intelligence, Longevity, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Marvel II', 'Frederick Christopher Freeman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/279.jpg',
-        'Clairvoyance, Hypnokinesis, Intelligence, Invulnerability, Omnilingualism, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Watcher', 'Uatu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/516.jpg',
-        'Dimensional Awareness, Empathy, Energy Manipulation, Enhanced Hearing, Flight, Force Fields, Illusions, Immortality, Intelligence, Invisibility, Invulnerability, Omnilingualism, Phasing, Psionic Powers, Size Changing, Telepathy, Telepathy Resistance, Teleportation',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Power Girl (New 52)', 'Kara Zor-L',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16414.jpg',
-        'Absorption, Agility, Energy Absorption, Enhanced Hearing, Enhanced Sight, Flight, Invulnerability, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - X-Ray',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Katana (CW)', 'Tatsu Yamashiro',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15695.jpg',
-        'Agility, Dexterity, Endurance, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'X-23', 'Laura Kinney',
-        'https://www.superherodb.com/pictures2/portraits/10/050/565.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Hearing, Enhanced Sight, Enhanced Smell, Jump, Longevity, Marksmanship, Natural Weapons, Reflexes, Stamina, Stealth, Super Strength, Toxin and Disease Resistance, Vision - Night, Vision - Telescopic',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gotenks', 'Goten/Trunks',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1257.jpg',
-        'Adaptation, Agility, Dimensional Travel, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Invulnerability, Portal Creation, Power Augmentation, Power Sense, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Vision - Night, Weather Control',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Atom', 'Nathaniel Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1007.jpg',
-        'Accelerated Healing, Agility, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Senses, Enhanced Sight, Flight, Force Fields, Heat Generation, Immortality, Invisibility, Invulnerability, Molecular Manipulation, Natural Armor, Phasing, Radiation Absorption, Radiation Control, Radiation Immunity, Self-Sustenance, Super Speed, Super Strength, Technopath/Cyberpath, Time Manipulation, Time Travel, Weapons Master',
-        37);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Elongated Man', 'Ralph Dibny',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1381.jpg',
-        'Agility, Durability, Elasticity, Shapeshifting, Size Changing', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman Prime One-Million', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10896.jpg',
-        'Absorption, Agility, Dimensional Awareness, Durability, Energy Absorption, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Flight, Immortality, Intelligence, Invulnerability, Lantern Power Ring, Longevity, Matter Manipulation, Molecular Manipulation, Power Augmentation, Radar Sense, Radiation Absorption, Radiation Control, Reality Warping, Reflexes, Regeneration, Stamina, Super Breath, Super Speed, Super Strength, Telekinesis, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray, Vitakinesis, Weapon-based Powers, Weapons Master',
-        56);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Franklin Storm', 'Dr. Franklin Storm',
-        'https://www.superherodb.com/pictures2/portraits/10/050/170.jpg',
-        'Weapons Master', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Punisher', 'Frank Castle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/112.jpg',
-        'Agility, Durability, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'White Canary (CW)', 'Sara Lance',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15403.jpg',
-        'Audio Control, Durability, Endurance, Enhanced Senses, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Sonic Scream, Stamina, Stealth, Weapons Master',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ysera', 'The Dreamer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14510.jpg',
-        'Astral Projection, Astral Travel, Element Control, Energy Manipulation, Fire Control, Flight, Illusions, Immortality, Mind Blast, Mind Control, Mind Control Resistance, Reality Warping, Regeneration, Shapeshifting, Super Speed, Super Strength, Telepathy, Teleportation, Vitakinesis',
-        38);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Leo Fitz (MCU)', 'Leopold Fitz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16405.jpg',
-        'Endurance, Intelligence, Intuitive aptitude, Marksmanship, Stealth', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Harbinger', 'Lyla Michaels',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15400.jpg',
-        'Audio Control, Bullet Time, Darkforce Manipulation, Duplication, Electrokinesis, Element Control, Energy Manipulation, Enhanced Hearing, Flight, Magnetism, Reflexes, Super Strength, Teleportation, Time Manipulation, Timeframe Control',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hiro Nakamura', 'Hiro Nakamura',
-        'https://www.superherodb.com/pictures2/portraits/10/050/947.jpg',
-        'Teleportation, Time Travel, Timeframe Control', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Red Robin', 'Tim Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10009.jpg',
-        'Agility, Intelligence, Marksmanship, Stamina, Stealth, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aqualad II', 'Jackson Hyde',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1396.jpg',
-        'Adaptation, Durability, Electrokinesis, Element Control, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength, Underwater breathing, Water Control',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Atom Smasher', 'Albert Julian Rothstein',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10472.jpg',
-        'Durability, Endurance, Intangibility, Size Changing, Stamina, Super Speed, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arceus', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12299.jpg',
-        'Astral Projection, Darkforce Manipulation, Element Control, Energy Manipulation, Flight, Force Fields, Illusions, Immortality, Invulnerability, Light Control, Matter Manipulation, Mind Control, Nigh-Omnipresent, Nigh-Omniscient, Portal Creation, Power Augmentation, Power Nullifier, Precognition, Reality Warping, Regeneration, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation',
-        91);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Oracle', 'Barbara Gordon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/749.jpg', 'Intelligence', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hooded Justice', 'Rolf Muller ( Possibly)',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11548.jpg',
-        'Agility, Camouflage, Durability, Endurance, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Strength',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jean-Luc Picard', 'Jean-Luc Picard',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10567.jpg',
-        'Intelligence, Marksmanship, Omnilingualism', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Supergirl (Cosmic Adventures)', 'Kara Zor-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12622.jpg',
-        'Dimensional Awareness, Dimensional Travel, Duplication, Durability, Elasticity, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Flight, Immortality, Matter Manipulation, Molecular Manipulation, Reality Warping, Shapeshifting, Size Changing, Super Breath, Super Speed, Super Strength, Teleportation, Time Manipulation, Time Travel, Vision - Heat, Vision - X-Ray, Wishing',
-        56);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aqualad', 'Garth',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1395.jpg',
-        'Cryokinesis, Durability, Energy Beams, Enhanced Hearing, Heat Generation, Magic, Stamina, Super Speed, Super Strength, Telepathy, Underwater breathing, Vision - Night, Water Control',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Warpath', 'James Proudstar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/541.jpg',
-        'Agility, Cold Resistance, Durability, Enhanced Hearing, Heat Resistance, Reflexes, Stamina, Super Speed, Super Strength, Vision - Night, Vision - Telescopic',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mega Man', 'Rock Man',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10536.jpg',
-        'Ability Shift, Changing Armor, Cryokinesis, Durability, Electrokinesis, Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Resistance, Enhanced Memory, Fire Control, Fire Resistance, Flight, Force Fields, Gliding, Gravity Control, Heat Generation, Heat Resistance, Illumination, Jump, Light Control, Magnetism, Marksmanship, Power Suit, Self-Sustenance, Super Speed, Super Strength, Teleportation, Time Manipulation, Underwater breathing, Water Control, Weapon-based Powers, Weapons Master, Wind Control',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gwen Stacy', 'Gwendolyn Stacy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/173.jpg', 'Agility', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lightning Lad', 'Garth Ranzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1177.jpg', 'Electrokinesis', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Amethyst', 'Amy Winston',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11112.jpg',
-        'Accelerated Healing, Age Manipulation, Agility, Animal Control, Astral Projection, Astral Travel, Banish, Chaos Magic, Clairvoyance, Cloaking, Dimensional Travel, Elemental Transmogrification, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Force Fields, Hypnokinesis, Illumination, Illusions, Intelligence, Levitation, Longevity, Magic, Matter Manipulation, Mind Blast, Mind Control, Portal Creation, Power Absorption, Psionic Powers, Regeneration, Shapeshifting, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Toxin and Disease Resistance, Weapons Master',
-        44);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Yellowjacket', 'Hank Pym',
-        'https://www.superherodb.com/pictures2/portraits/10/050/70.jpg', 'Animal Oriented Powers, Size Changing', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starman', 'Theodore Knight',
-        'https://www.superherodb.com/pictures2/portraits/10/050/787.jpg',
-        'Agility, Anti-Gravity, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Gravity Control, Heat Generation, Intelligence, Intuitive aptitude, Light Control, Peak Human Condition, Summoning, Telekinesis, Weapon-based Powers',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Boom-Boom', 'Tabitha Smith',
-        'https://www.superherodb.com/pictures2/portraits/10/050/400.jpg',
-        'Agility, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Psionic Powers', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Savage Dragon', 'Kurr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1117.jpg',
-        'Accelerated Healing, Durability, Fire Resistance, Jump, Regeneration, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Odin (MCU)', 'Odin Borson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13763.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Flight, Heat Resistance, Intelligence, Invulnerability, Longevity, Magic, Marksmanship, Portal Creation, Power Nullifier, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Underwater breathing, Weapon-based Powers, Weapons Master, Weather Control',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kai (The LEGO Ninjago Movie)', 'Kai',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16520.jpg',
-        'Element Control, Fire Control, Fire Resistance, Heat Generation, Heat Resistance, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jemma Simmons (MCU)', 'Jemma Anne Simmons',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16406.jpg',
-        'Endurance, Intelligence, Intuitive aptitude, Marksmanship', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash (New 52)', 'Wally West',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14698.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Cold Resistance, Durability, Endurance, Energy Blasts, Enhanced Memory, Heat Generation, Heat Resistance, Illusions, Intelligence, Invisibility, Marksmanship, Phasing, Portal Creation, Reflexes, Speed Force, Stamina, Stealth, Super Speed, Telepathy Resistance, Time Travel',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jolt', 'Helen Takahama',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1323.jpg',
-        'Energy Blasts, Reflexes, Super Speed, Super Strength', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lady Blackhawk', 'Zinda Blake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10084.jpg',
-        'Adaptation, Agility, Intelligence, Marksmanship, Stamina, Stealth, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Martian Manhunter (New 52)', 'Jonn Jonzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13851.jpg',
-        'Absorption, Agility, Cold Resistance, Dimensional Awareness, Elasticity, Energy Resistance, Enhanced Senses, Flight, Intangibility, Intelligence, Invisibility, Invulnerability, Marksmanship, Psionic Powers, Reflexes, Regeneration, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Toxin and Disease Resistance, Vision - Heat, Vision - Night',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Devilman', 'Akira Fudo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15850.jpg',
-        'Absorption, Acausality, Accelerated Healing, Adaptation, Agility, Astral Projection, Creation, Cryokinesis, Dexterity, Dimensional Awareness, Dimensional Travel, Dream Manipulation, Duplication, Durability, Electrokinesis, Empathy, Endurance, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Flight, Force Fields, Heat Generation, Immortality, Intangibility, Invulnerability, Life Manipulation, Light Control, Matter Manipulation, Memory Manipulation, Mind Control, Mind Control Resistance, Non-Corporeal, Non-Physical Interaction, Portal Creation, Possession, Power Absorption, Power Bestowal, Power Nullifier, Precognition, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Resurrection, Shapeshifting, Size Changing, Soul Manipulation, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Time Travel, Weather Control',
-        125);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ardina', 'Ardina',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10132.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Empathy, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Heat Resistance, Invulnerability, Molecular Manipulation, Power Cosmic, Reflexes, Self-Sustenance, Super Speed, Super Strength',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kirby', 'Kirby',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12641.jpg',
-        'Absorption, Cold Resistance, Duplication, Elasticity, Energy Beams, Energy Blasts, Enhanced Senses, Flight, Heat Resistance, Immortality, Invulnerability, Longevity, Magic, Magic Resistance, Molecular Manipulation, Power Absorption, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Wind Control',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Micah Sanders', 'Micah Sanders',
-        'https://www.superherodb.com/pictures2/portraits/10/050/951.jpg', 'Technopath/Cyberpath', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Balrog', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11037.jpg',
-        'Agility, Energy Blasts, Energy Manipulation, Peak Human Condition, Photographic Reflexes, Super Speed, Super Strength, Weapons Master, Wind Control',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Professor Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13064.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Heat Resistance, Intelligence, Invulnerability, Jump, Latent Abilities, Longevity, Mind Control Resistance, Power Augmentation, Radiation Absorption, Radiation Immunity, Reflexes, Regeneration, Seismic Power, Self-Sustenance, Size Changing, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Underwater breathing',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Peggy Carter', 'Peggy Carter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10401.jpg', 'Agility, Intelligence, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'She-Thing', 'Sharon Ventura',
-        'https://www.superherodb.com/pictures2/portraits/10/050/461.jpg',
-        'Cold Resistance, Durability, Heat Resistance, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Silk', 'Cindy Moon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10495.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Durability, Jump, Marksmanship, Natural Weapons, Reflexes, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Chun-Li', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11031.jpg',
-        'Dexterity, Jump, Super Speed, Wallcrawling', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iceman', 'Bobby Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/816.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Cryokinesis, Duplication, Durability, Elemental Transmogrification, Energy Blasts, Heat Generation, Invulnerability, Marksmanship, Size Changing, Stamina, Super Strength, Vision - Thermal, Water Control',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Synch', 'Everett Thomas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/175.jpg', 'Power Absorption', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (DC One Million)', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15560.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Senses, Gliding, Intelligence, Jump, Longevity, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hit-Girl', 'Mindy McCready',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1336.jpg',
-        'Agility, Intelligence, Reflexes, Stamina, Stealth, Weapon-based Powers', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Chaos War Hercules', 'Hercules',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12515.jpg',
-        'Dimensional Awareness, Dimensional Travel, Flight, Immortality, Matter Manipulation, Reality Warping, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Time Travel, Toxin and Disease Resistance',
-        56);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Negasonic Teenage Warhead (FOX', 'Ellie Phimister',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13982.jpg', 'Energy Beams, Force Fields, Jump', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Data', 'Data',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10577.jpg',
-        'Agility, Cold Resistance, Durability, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Heat Resistance, Intelligence, Longevity, Omnilingualism, Reflexes, Super Speed, Super Strength, Technopath/Cyberpath',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Punisher (War Zone)', 'Frank Castle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15963.jpg',
-        'Agility, Dexterity, Durability, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Generator Rex', 'Rex Salazar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15552.jpg',
-        'Ability Shift, Accelerated Healing, Agility, Anti-Gravity, Durability, Electrokinesis, Element Control, Endurance, Energy Armor, Energy Blasts, Energy Constructs, Enhanced Senses, Flight, Force Fields, Intelligence, Intuitive aptitude, Jump, Levitation, Magnetism, Natural Armor, Natural Weapons, Peak Human Condition, Radar Sense, Reflexes, Regeneration, Size Changing, Super Speed, Super Strength, Technopath/Cyberpath, Underwater breathing, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zombie Hulk (Power Cosmic)', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16987.jpg',
-        'Ability Shift, Absorption, Acausality, Accelerated Healing, Adaptation, Afterimage Creation, Agility, Cold Resistance, Dimensional Awareness, Durability, Endurance, Energy Absorption, Energy Beams, Energy Constructs, Energy Manipulation, Energy Resistance, Fire Resistance, Flight, Gravity Control, Grim Reaping, Heat Generation, Heat Resistance, Immortality, Insanity, Intelligence, Invulnerability, Jump, Levitation, Longevity, Mind Control Resistance, Nigh-Omnipotent, Phasing, Possession, Power Absorption, Power Cosmic, Radiation Absorption, Radiation Control, Radiation Immunity, Reactive Power Level, Reflexes, Regeneration, Seismic Power, Self-Sustenance, Shapeshifting, Size Changing, Sonic Scream, Spatial Awareness, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Control, Toxin and Disease Resistance, Underwater breathing, Vitakinesis, Wishing',
-        121);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hourman III', 'Matthew Tyler',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10081.jpg',
-        'Accelerated Healing, Age Manipulation, Bullet Time, Clairvoyance, Dimensional Travel, Energy Beams, Enhanced Memory, Flight, Information Analysis, Invulnerability, Memory Manipulation, Photographic Reflexes, Power Bestowal, Precognition, Super Speed, Super Strength, Teleportation, Time Manipulation, Time Travel, Vision - Infrared',
-        25);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mister Terrific (CW)', 'Curtis Holt',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15407.jpg',
-        'Agility, Endurance, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Resurrection Spawn', 'Al Simmons',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12537.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Flight, Immortality, Intelligence, Invulnerability, Jump, Magic, Marksmanship, Phasing, Reflexes, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        25);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ronin (MCU)', 'Clint Barton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15921.jpg',
-        'Agility, Durability, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tigra', 'Greer Grant Nelson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/42.jpg',
-        'Agility, Enhanced Senses, Jump, Stamina, Super Speed, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sif', 'Sif',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1533.jpg',
-        'Accelerated Healing, Agility, Dimensional Travel, Durability, Enhanced Senses, Longevity, Reflexes, Stamina, Super Speed, Super Strength, Teleportation, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash III', 'Wally West',
-        'https://www.superherodb.com/pictures2/portraits/10/050/690.jpg',
-        'Accelerated Healing, Dimensional Travel, Energy Constructs, Enhanced Senses, Flight, Longevity, Phasing, Power Absorption, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Time Travel',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Metropolis', 'Nelson Gardner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10716.jpg',
-        'Agility, Endurance, Flight, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doctor Strangefate', 'Charles Xavier',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11631.jpg',
-        'Astral Projection, Astral Trap, Astral Travel, Banish, Dimensional Travel, Duplication, Electrokinesis, Elemental Transmogrification, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Gravity Control, Illusions, Intangibility, Invisibility, Longevity, Magic, Matter Manipulation, Mind Blast, Mind Control, Molecular Manipulation, Power Nullifier, Precognition, Probability Manipulation, Psionic Powers, Reality Warping, Size Changing, Super Speed, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Vitakinesis, Weather Control',
-        79);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Chp', 'Chp Of HIven',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12175.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Cold Resistance, Dimensional Travel, Durability, Energy Absorption, Energy Armor, Energy Blasts, Energy Constructs, Energy Resistance, Flight, Force Fields, Heat Resistance, Hypnokinesis, Intelligence, Lantern Power Ring, Light Control, Longevity, Self-Sustenance, Stamina, Super Speed, Super Strength, Telepathy Resistance, Underwater breathing, Vitakinesis, Weapon-based Powers',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gamera', 'Gamera',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11413.jpg',
-        'Agility, Biokinesis, Cold Resistance, Durability, Endurance, Energy Manipulation, Explosion Manipulation, Fire Control, Flight, Immortality, Invulnerability, Reflexes, Regeneration, Resurrection, Stamina, Super Breath, Super Speed, Super Strength, Telepathy',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wolverine II', 'Laura Kinney',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12581.jpg',
-        'Agility, Animal Oriented Powers, Cold Resistance, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Longevity, Natural Weapons, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Toxin and Disease Resistance, Vision - Night',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (LEGO)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12642.jpg',
-        'Agility, Camouflage, Cold Resistance, Dimensional Awareness, Durability, Fire Control, Fire Resistance, Flight, Gliding, Heat Resistance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Strength, Vision - Microscopic, Vision - Night, Vision - Telescopic, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sadie Kane', 'Sadie Kane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16039.jpg',
-        'Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Astral Travel, Audio Control, Element Control, Energy Constructs, Fire Control, Flight, Hypnokinesis, Intelligence, Intuitive aptitude, Latent Abilities, Light Control, Magic, Omnilingualism, Portal Creation, Shapeshifting, Telepathy, Teleportation, Weapon-based Powers, Weapons Master',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Citizen Steel', 'Nathan Heywood',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10661.jpg',
-        'Agility, Durability, Jump, Natural Armor, Reflexes, Super Speed, Super Strength', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Firestorm', 'Ronald Raymond',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10395.jpg',
-        'Density Control, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Memory, Fire Control, Flight, Heat Generation, Heat Resistance, Molecular Manipulation, Phasing, Psionic Powers, Regeneration, Self-Sustenance, Shapeshifting, Super Strength, Vision - Microscopic, Vision - Thermal, Vision - X-Ray',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Brainiac 5', 'Querl Dox',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1183.jpg', 'Energy Beams, Force Fields, Intelligence',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Misfit', 'Charlotte Gage-Radcliffe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1114.jpg',
-        'Accelerated Healing, Super Strength, Teleportation', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Icon', 'Arnus',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10256.jpg',
-        'Accelerated Healing, Agility, Durability, Electrokinesis, Energy Armor, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Flight, Force Fields, Intelligence, Invulnerability, Longevity, Magnetism, Marksmanship, Power Suit, Reflexes, Stamina, Stealth, Super Speed, Super Strength',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Space Ghost', 'Thaddeus Bach',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1505.jpg',
-        'Agility, Energy Blasts, Flight, Force Fields, Heat Generation, Intelligence, Invisibility, Invulnerability, Magnetism, Phasing, Stamina, Super Strength, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shang-Chi', 'Shang-Chi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/454.jpg',
-        'Agility, Durability, Reflexes, Stamina, Stealth, Toxin and Disease Resistance', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gary Bell', 'Gary Bell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1526.jpg', 'Enhanced Senses, Intelligence', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Canary (Injustice)', 'Dinah Laurel Lance',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16091.jpg',
-        'Peak Human Condition, Sonic Scream, Stealth', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bananaman', 'Eric Wimp',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10557.jpg',
-        'Flight, Invulnerability, Stamina, Super Speed, Super Strength', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Boy', 'Number Five',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16361.jpg',
-        'Marksmanship, Reflexes, Super Speed, Teleportation, Time Manipulation, Time Travel, Weapons Master', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Britain', 'Brian Braddock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/276.jpg',
-        'Agility, Durability, Enhanced Senses, Flight, Force Fields, Reflexes, Stamina, Stealth, Super Speed, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'King Hyperion', 'Marcus Milton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13755.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Energy Beams, Energy Manipulation, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Flight, Intelligence, Invulnerability, Longevity, Reflexes, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Trunks', 'Trunks',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1210.jpg',
-        'Adaptation, Agility, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Power Sense, Reflexes, Stamina, Super Speed, Super Strength',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spoiler', 'Stephanie Brown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1399.jpg',
-        'Agility, Durability, Peak Human Condition, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superboy', 'Jonathan Kent',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10877.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Cold Resistance, Durability, Endurance, Energy Absorption, Energy Blasts, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Flight, Heat Resistance, Hypnokinesis, Invulnerability, Jump, Levitation, Longevity, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - X-Ray',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Animal Man', 'Bernhard Baker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/632.jpg',
-        'Animal Attributes, Animal Oriented Powers, Empathy, Energy Blasts, Telepathy', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Quicksilver', 'Pietro Django Maximoff',
-        'https://www.superherodb.com/pictures2/portraits/10/050/115.jpg',
-        'Durability, Molecular Manipulation, Super Speed, Super Strength, Time Manipulation', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Forge', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/62.jpg',
-        'Intelligence, Magic', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Magog', 'David Reid',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1324.jpg',
-        'Durability, Energy Beams, Energy Blasts, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Man-Wolf', 'John Jameson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/91.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Enhanced Hearing, Enhanced Senses, Stamina, Super Speed, Super Strength, Vision - Thermal',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Future Warrior', 'Ace',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15644.jpg',
-        'Adaptation, Agility, Cryokinesis, Dimensional Travel, Duplication, Durability, Electrokinesis, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Force Fields, Heat Generation, Illusions, Light Control, Magic, Matter Manipulation, Mind Control Resistance, Portal Creation, Power Augmentation, Power Nullifier, Power Sense, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Weapons Master, Wind Control',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starlord (Celestial Power MCU)', 'Peter Quill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15124.jpg',
-        'Agility, Dexterity, Durability, Endurance, Energy Constructs, Energy Manipulation, Energy Resistance, Flight, Immortality, Intelligence, Marksmanship, Molecular Manipulation, Peak Human Condition, Power Augmentation, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Martian Manhunter', 'Jonn Jonzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/733.jpg',
-        'Agility, Astral Projection, Durability, Enhanced Hearing, Enhanced Senses, Flight, Illusions, Intangibility, Intelligence, Invisibility, Invulnerability, Marksmanship, Mind Control, Phasing, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash', 'Jay Garrick',
-        'https://www.superherodb.com/pictures2/portraits/10/050/891.jpg',
-        'Accelerated Healing, Energy Absorption, Energy Constructs, Enhanced Senses, Flight, Longevity, Phasing, Reflexes, Self-Sustenance, Stamina, Super Speed',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starling', 'Evelyn Crawford',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10105.jpg', 'Agility, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batwoman V', 'Katherine Rebecca Kane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10234.jpg',
-        'Dexterity, Intelligence, Marksmanship, Stamina, Stealth, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Fëanor', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16369.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Senses, Fire Resistance, Immortality, Insanity, Intelligence, Light Control, Magic, Magic Resistance, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starfire (Titans)', 'Koriandr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16351.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Energy Absorption, Energy Blasts, Fire Control, Fire Resistance, Flight, Heat Resistance, Intelligence, Marksmanship, Omnilingualism, Reflexes, Stamina, Stealth, Super Strength',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Angel (FOX)', 'Warren Kenneth Worthington III',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14364.jpg',
-        'Energy Absorption, Energy Blasts, Fire Control', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zatanna', 'Zatanna Zatara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/809.jpg',
-        'Cryokinesis, Fire Control, Magic, Probability Manipulation, Telepathy, Terrakinesis, Water Control, Weather Control',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Alex Fierro', 'Alex Fierro',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16041.jpg',
-        'Animal Attributes, Animal Oriented Powers, Durability, Intelligence, Intuitive aptitude, Longevity, Magic, Mind Control Resistance, Natural Weapons, Shapeshifting, Stamina, Super Strength, Telepathy Resistance, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Word Girl', 'Becky Botsford',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14871.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Energy Resistance, Enhanced Senses, Enhanced Smell, Flight, Intelligence, Invulnerability, Peak Human Condition, Reflexes, Sonic Scream, Stamina, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Underwater breathing, Vision - Night, Vision - Telescopic',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blade', 'Eric Brooks',
-        'https://www.superherodb.com/pictures2/portraits/10/050/33.jpg',
-        'Accelerated Healing, Agility, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Stamina, Super Speed, Super Strength, Vision - Night, Vision - Telescopic, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Howard The Duck', 'Howard',
-        'https://www.superherodb.com/pictures2/portraits/10/050/82.jpg',
-        'Agility, Animal Attributes, Astral Travel, Dexterity, Dimensional Travel, Durability, Endurance, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Intelligence, Intuitive aptitude, Levitation, Longevity, Magic, Marksmanship, Physical Anomaly, Reflexes, Stamina, Summoning, Underwater breathing, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Harley Quinn (Injustice)', 'Harleen Quinzel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15700.jpg',
-        'Accelerated Healing, Agility, Durability, Intelligence, Peak Human Condition, Reflexes, Super Speed, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shriek', 'Frances Louise Barrison',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1319.jpg',
-        'Audio Control, Empathy, Energy Blasts, Flight, Levitation, Psionic Powers, Sonic Scream, Telekinesis', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (Injustice)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14314.jpg',
-        'Agility, Durability, Endurance, Gliding, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mister Fantastic (FOX)', 'Reed Richards',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14290.jpg',
-        'Agility, Elasticity, Gliding, Intelligence, Peak Human Condition, Shapeshifting', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Crystal', 'Crystallia Amaquelin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/305.jpg',
-        'Element Control, Fire Control, Reflexes, Stamina, Super Speed, Super Strength, Water Control, Wind Control',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hogun (MCU)', 'Hogun',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14374.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Longevity, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Green Lantern (New 52)', 'Alan Scott',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15138.jpg',
-        'Astral Projection, Cold Resistance, Durability, Element Control, Endurance, Energy Beams, Energy Blasts, Energy Constructs, Flight, Heat Resistance, Invulnerability, Plant Control, Size Changing, Super Strength, The Green',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Darkstar', 'Laynia Petrovna',
-        'https://www.superherodb.com/pictures2/portraits/10/050/169.jpg',
-        'Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Teleportation', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Luigi', 'Luigi Mario',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11141.jpg',
-        'Agility, Cryokinesis, Duplication, Electrokinesis, Energy Beams, Energy Blasts, Energy Manipulation, Fire Control, Flight, Illusions, Invulnerability, Jump, Power Augmentation, Reflexes, Size Changing, Super Speed, Super Strength, Telepathy, Time Manipulation, Wind Control',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Naruto Uzumaki', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1540.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Camouflage, Changing Armor, Clairvoyance, Duplication, Durability, Empathy, Energy Armor, Energy Constructs, Energy Manipulation, Enhanced Senses, Enhanced Smell, Fire Control, Flight, Heat Generation, Longevity, Magic, Marksmanship, Power Augmentation, Reflexes, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Stealth, Summoning, Super Speed, Super Strength, Teleportation, Vitakinesis, Wallcrawling, Water Control, Weapons Master, Weather Control, Wind Control',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sentry', 'Robert Reynolds',
-        'https://www.superherodb.com/pictures2/portraits/10/050/447.jpg',
-        'Accelerated Healing, Durability, Energy Absorption, Energy Blasts, Enhanced Hearing, Enhanced Sight, Flight, Force Fields, Immortality, Intelligence, Light Control, Molecular Manipulation, Regeneration, Resurrection, Shapeshifting, Super Speed, Super Strength, Telepathy, Teleportation, Vitakinesis, Weather Control',
-        41);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Goku (Dragon Ball GT)', 'Kakarot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15092.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Dimensional Travel, Duplication, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Heat Resistance, Illusions, Latent Abilities, Light Control, Portal Creation, Power Augmentation, Power Sense, Radar Sense, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vitakinesis, Weather Control',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Micro Lad', 'Gim Allon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1181.jpg', 'Size Changing', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Peter Griffin', 'Peter Griffin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12623.jpg', 'Durability', 1);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cyclops (FOX)', 'Scott Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14264.jpg',
-        'Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Marksmanship', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wildfire', 'Drake Burroughs',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1186.jpg',
-        'Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Invulnerability, Size Changing, Super Strength, Vision - X-Ray',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Snake Eyes', 'Classified',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10436.jpg',
-        'Agility, Danger Sense, Enhanced Hearing, Enhanced Sight, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Pied Piper (CW)', 'Hartley Rathaway',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16505.jpg',
-        'Audio Control, Energy Blasts, Enhanced Hearing, Intelligence, Intuitive aptitude, Weapon-based Powers', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Rex', 'CT-7565',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10949.jpg',
-        'Agility, Marksmanship, Peak Human Condition, Stamina, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bionic Woman', 'Jamie Sommers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10648.jpg',
-        'Agility, Durability, Enhanced Hearing, Jump, Stamina, Super Speed, Super Strength', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkman (CW)', 'Carter Hall',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15404.jpg', 'Flight, Gliding, Super Strength', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doctor Strange', 'Stephen Strange',
-        'https://www.superherodb.com/pictures2/portraits/10/050/55.jpg',
-        'Astral Projection, Banish, Dimensional Awareness, Dimensional Travel, Energy Blasts, Flight, Force Fields, Hypnokinesis, Illusions, Intangibility, Invisibility, Longevity, Magic, Phasing, Summoning, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        27);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Bat', 'Cassandra Cain',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13434.jpg',
-        'Agility, Durability, Endurance, Marksmanship, Peak Human Condition, Precognition, Reflexes, Stamina, Stealth, Super Speed, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ray', 'Ray Terrill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10204.jpg',
-        'Accelerated Healing, Durability, Elemental Transmogrification, Energy Absorption, Energy Beams, Energy Constructs, Flight, Force Fields, Illusions, Intangibility, Invisibility, Invulnerability, Light Control, Stamina, Stealth, Super Speed',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Havok (FOX)', 'Alexander Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14361.jpg',
-        'Energy Absorption, Energy Beams, Energy Blasts, Power Suit', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ezio Auditore da Firenze', 'Ezio Auditore da Firenze',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11183.jpg',
-        'Agility, Danger Sense, Energy Manipulation, Illusions, Intelligence, Marksmanship, Mind Control, Peak Human Condition, Power Suit, Reflexes, Spatial Awareness, Stamina, Vision - Cryo, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ice', 'Tora Olafsdotter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11166.jpg', 'Cryokinesis, Magic', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Avatar Korra', 'Korra',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12161.jpg',
-        'Accelerated Healing, Agility, Density Control, Element Control, Energy Manipulation, Fire Control, Heat Generation, Stamina, Super Breath, Super Strength, Water Control, Weather Control, Wind Control',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Katniss Everdeen', 'Katniss Everdeen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10484.jpg',
-        'Agility, Marksmanship, Reflexes, Stamina, Stealth, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Colleen Wing', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/298.jpg',
-        'Intelligence, Weapon-based Powers, Weapons Master', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wild Dog (CW)', 'Rene Ramirez',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15427.jpg',
-        'Agility, Durability, Endurance, Marksmanship, Peak Human Condition, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Universe', 'Laura Kinney',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13988.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Cold Resistance, Dimensional Awareness, Durability, Endurance, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Matter Manipulation, Natural Weapons, Precognition, Reflexes, Regeneration, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Uni-Power, Vision - Night',
-        31);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Thor Girl', 'Tarene',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1296.jpg',
-        'Durability, Immortality, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rubeus Hagrid', 'Rubeus Hagrid',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10885.jpg',
-        'Animal Control, Elemental Transmogrification, Fire Control, Fire Resistance, Heat Generation, Heat Resistance, Levitation, Light Control, Magic, Magic Resistance, Marksmanship, Molecular Manipulation, Stamina, Super Strength, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Optimus Prime', 'Orion Pax',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10593.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Cold Resistance, Energy Beams, Energy Blasts, Energy Constructs, Energy Resistance, Enhanced Hearing, Enhanced Sight, Entropy Projection, Fire Resistance, Heat Resistance, Intelligence, Invulnerability, Longevity, Marksmanship, Matter Manipulation, Natural Armor, Natural Weapons, Physical Anomaly, Reflexes, Resurrection, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Time Manipulation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        28);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'James T. Kirk', 'James T. Kirk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10565.jpg',
-        'Intelligence, Marksmanship, Stamina, Stealth, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bugs Bunny', 'Bugs Bunny',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12355.jpg',
-        'Agility, Biokinesis, Clairvoyance, Duplication, Durability, Elasticity, Electrokinesis, Empathy, Fire Resistance, Flight, Gravity Control, Hypnokinesis, Illusions, Immortality, Intelligence, Invisibility, Magic, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Plant Control, Power Nullifier, Probability Manipulation, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Resurrection, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Water Control, Weapons Master, Weather Control',
-        127);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lara Croft', 'Lara Croft',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10483.jpg',
-        'Agility, Intelligence, Marksmanship, Omnilingualism, Reflexes, Stamina, Stealth, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Astérix', 'Astérix Le Gaulois',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14034.jpg',
-        'Dexterity, Intelligence, Jump, Peak Human Condition, Reflexes, Stamina, Super Speed, Super Strength', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aurora', 'Jeanne-Marie Beaubier',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1289.jpg',
-        'Accelerated Healing, Durability, Energy Blasts, Flight, Illumination, Light Control, Molecular Combustion, Molecular Manipulation, Reflexes, Super Speed',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Alex Danvers (CW)', 'Alex Danvers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15557.jpg',
-        'Agility, Intelligence, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kismet', 'Ahti',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14322.jpg',
-        'Astral Projection, Astral Travel, Dimensional Awareness, Dimensional Travel, Energy Blasts, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Longevity, Nigh-Omnipresent, Reality Warping, Spatial Awareness, Super Speed, Super Strength, Teleportation, Time Manipulation, Time Travel',
-        50);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Fandral (MCU)', 'Fandral',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14382.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Longevity, Reflexes, Stamina, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Speedy', 'Thea Queen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10558.jpg',
-        'Marksmanship, Reflexes, Stamina, Stealth, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lauren Strucker (Fox)', 'Lauren Strucker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16495.jpg',
-        'Energy Beams, Energy Blasts, Force Fields, Molecular Manipulation', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bishop', 'Lucas Bishop',
-        'https://www.superherodb.com/pictures2/portraits/10/050/31.jpg',
-        'Accelerated Healing, Energy Absorption, Energy Blasts, Energy Resistance, Invulnerability, Stamina, Super Strength, Time Travel',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jay', 'Jay Gordon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16048.jpg',
-        'Agility, Animal Control, Dexterity, Durability, Electrical Transport, Electrokinesis, Element Control, Endurance, Flight, Force Fields, Intelligence, Marksmanship, Peak Human Condition, Power Nullifier, Reflexes, Stamina, Stealth, Summoning, Super Speed, Super Strength, Teleportation, Weapon-based Powers, Weapons Master, Wind Control',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rip Hunter', 'Richard Hunter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10543.jpg',
-        'Dimensional Awareness, Intelligence, Power Suit, Stealth, Time Manipulation, Time Travel, Weapons Master', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shazam', 'Billy Batson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/278.jpg',
-        'Accelerated Healing, Agility, Clairvoyance, Energy Blasts, Enhanced Hearing, Enhanced Memory, Flight, Hypnokinesis, Immortality, Intelligence, Invulnerability, Longevity, Magic, Magic Resistance, Marksmanship, Omnilingualism, Reflexes, Self-Sustenance, Stamina, Super Breath, Super Speed, Super Strength, Teleportation',
-        24);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Battle-Suit Batman (DCEU)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13708.jpg',
-        'Agility, Durability, Intelligence, Marksmanship, Peak Human Condition, Power Suit, Reflexes, Stamina, Super Strength, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bolobo', 'Bolobo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16446.jpg',
-        'Accelerated Healing, Agility, Camouflage, Cold Resistance, Element Control, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Flight, Jump, Longevity, Marksmanship, Peak Human Condition, Plant Control, Reflexes, Stamina, Stealth, Summoning, Super Strength, Underwater breathing, Wallcrawling, Weapon-based Powers',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Supergirl (Injustice)', 'Kara Zor-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16090.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Endurance, Energy Absorption, Energy Blasts, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Flight, Heat Resistance, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Mind Control Resistance, Radiation Absorption, Reflexes, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Universe (Spider-Man)', 'Peter Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13629.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Dimensional Awareness, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Jump, Marksmanship, Matter Manipulation, Natural Weapons, Precognition, Reflexes, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Telekinesis, Toxin and Disease Resistance, Vision - Night, Vision - Telescopic, Vision - X-Ray, Wallcrawling, Web Creation',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bi-Beast', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11892.jpg',
-        'Agility, Durability, Intelligence, Invulnerability, Longevity, Stamina, Super Strength', 13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rune King Thor', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10903.jpg',
-        'Accelerated Healing, Banish, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Electrokinesis, Element Control, Elemental Transmogrification, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Sight, Flight, Force Fields, Immortality, Invulnerability, Magic, Magic Resistance, Marksmanship, Molecular Manipulation, Nigh-Omniscient, Odin Force, Portal Creation, Reality Warping, Resurrection, Summoning, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Vaporising Beams, Weapon-based Powers, Weather Control',
-        172);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nick Fury (MCU)', 'Nicholas Fury',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16352.jpg',
-        'Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Stealth, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Beast Boy', 'Garfield Mark Logan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/640.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Durability, Empathy, Flight, Natural Armor, Natural Weapons, Shapeshifting, Size Changing, Sub-Mariner, Super Speed, Super Strength, Wallcrawling',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Quake', 'Daisy Johnson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10524.jpg',
-        'Agility, Durability, Intelligence, Marksmanship, Reflexes, Seismic Power, Stamina, Super Speed, Super Strength, Telepathy Resistance, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dagger', 'Tandy Bowen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/51.jpg',
-        'Energy Blasts, Light Control, Natural Weapons', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Woman (New 52)', 'Diana Of Themyscira',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13438.jpg',
-        'Accelerated Healing, Agility, Enhanced Senses, Flight, Immortality, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starlord (MCU)', 'Peter Quill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12500.jpg',
-        'Flight, Marksmanship, Super Speed, Super Strength, Vision - Thermal, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rescue', 'Pepper Potts',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11744.jpg',
-        'Energy Beams, Energy Blasts, Flight, Intelligence, Weapon-based Powers', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Whis', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11725.jpg',
-        'Clairvoyance, Empathy, Energy Manipulation, Enhanced Senses, Flight, Matter Manipulation, Portal Creation, Resurrection, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Time Travel, Vitakinesis',
-        29);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Judge Dredd', 'Joseph Dredd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1163.jpg',
-        'Agility, Enhanced Sight, Marksmanship, Peak Human Condition, Reflexes, Stamina, Vision - Night, Vision - Telescopic, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sonya Blade', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10962.jpg',
-        'Agility, Durability, Energy Blasts, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ego Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13078.jpg',
-        'Absorption, Accelerated Healing, Adaptation, Anti-Gravity, Cold Resistance, Cryokinesis, Density Control, Dexterity, Dimensional Awareness, Dimensional Travel, Durability, Elemental Transmogrification, Endurance, Energy Absorption, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Fire Resistance, Flight, Force Fields, Heat Generation, Heat Resistance, Illumination, Immortality, Intelligence, Invulnerability, Jump, Levitation, Longevity, Mind Control Resistance, Power Augmentation, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Seismic Power, Self-Sustenance, Shapeshifting, Size Changing, Sonic Scream, Stamina, Super Breath, Super Speed, Super Strength, Terrakinesis, Toxin and Disease Resistance',
-        47);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jaime Lannister', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14769.jpg',
-        'Dexterity, Reflexes, Stamina, Weapons Master', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (DCEU)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12528.jpg',
-        'Absorption, Accelerated Healing, Agility, Cold Resistance, Durability, Energy Absorption, Energy Beams, Enhanced Senses, Fire Resistance, Flight, Heat Resistance, Invulnerability, Jump, Levitation, Longevity, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Telescopic, Vision - X-Ray',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Batman Of Zur-En-Arrh', 'Tlano',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13061.jpg',
-        'Agility, Durability, Endurance, Gliding, Marksmanship, Molecular Dissipation, Molecular Immobilization, Peak Human Condition, Power Nullifier, Reflexes, Stamina, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Medusa (MCU)', 'Medusalith Amaquelin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16511.jpg',
-        'Durability, Endurance, Hair Manipulation, Stamina', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Swamp Thing (New 52)', 'Alec Holland',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16585.jpg',
-        'Accelerated Healing, Durability, Element Control, Immortality, Intelligence, Longevity, Natural Armor, Plant Control, Regeneration, Resurrection, Self-Sustenance, Size Changing, Stealth, Super Strength, The Green, Toxin and Disease Control',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Metron', 'Metron',
-        'https://www.superherodb.com/pictures2/portraits/10/050/841.jpg',
-        'Flight, Intelligence, Longevity, Teleportation, Time Travel', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dove II', 'Dawn Granger',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10210.jpg',
-        'Agility, Danger Sense, Durability, Flight, Intelligence, Light Control, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aquaman', 'Orin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/634.jpg',
-        'Accelerated Healing, Agility, Animal Control, Cold Resistance, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Heat Resistance, Intelligence, Invulnerability, Longevity, Reflexes, Sonar, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Telepathy, Underwater breathing, Vision - Night, Water Control',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Penance II', 'Robert Baldwin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/900.jpg', 'Energy Blasts', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin III', 'Tim Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/769.jpg',
-        'Agility, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ms Marvel II', 'Sharon Ventura',
-        'https://www.superherodb.com/pictures2/portraits/10/050/897.jpg', 'Durability, Super Strength', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin (Titans)', 'Dick Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15419.jpg',
-        'Intelligence, Marksmanship, Peak Human Condition, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Soap', 'John MacTavish',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16316.jpg',
-        'Peak Human Condition, Stealth, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batwoman (CW)', 'Katherine Kane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15562.jpg',
-        'Gliding, Peak Human Condition, Weapon-based Powers, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Unworthy Thor', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11882.jpg',
-        'Durability, Element Control, Energy Manipulation, Enhanced Senses, Longevity, Magic, Regeneration, Super Speed, Super Strength, Telepathy',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Vampire Hunter', 'Simon Belmont',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15793.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Energy Manipulation, Enhanced Senses, Fire Control, Fire Resistance, Intelligence, Magic, Mind Control Resistance, Non-Physical Interaction, Peak Human Condition, Power Nullifier, Self-Sustenance, Soul Manipulation, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Time Manipulation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Justice', 'Vance Astrovik',
-        'https://www.superherodb.com/pictures2/portraits/10/050/88.jpg',
-        'Energy Blasts, Flight, Force Fields, Psionic Powers, Super Speed, Telekinesis', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Citizen Steel (CW)', 'Nate Heywood',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15408.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Fire Resistance, Heat Resistance, Intelligence, Intuitive aptitude, Invulnerability, Jump, Marksmanship, Natural Armor, Omnilingualism, Stamina, Super Strength',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Fist', 'Danny Rand',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1120.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Danger Sense, Durability, Empathy, Energy Absorption, Energy Blasts, Enhanced Senses, Heat Resistance, Illusions, Longevity, Magic Resistance, Peak Human Condition, Psionic Powers, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gandalf', 'Olórin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10858.jpg',
-        'Animal Control, Energy Armor, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Intelligence, Light Control, Longevity, Magic, Mind Control, Resurrection, Stamina, Summoning, Telepathy, Weapon-based Powers, Weapons Master',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mister Miracle', 'Scott Free',
-        'https://www.superherodb.com/pictures2/portraits/10/050/743.jpg',
-        'Accelerated Healing, Agility, Dimensional Travel, Durability, Energy Manipulation, Enhanced Senses, Enhanced Sight, Flight, Illusions, Immortality, Intelligence, Invulnerability, Levitation, Longevity, Matter Manipulation, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Teleportation',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wasp III', 'Nadia Van Dyne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13991.jpg',
-        'Agility, Animal Oriented Powers, Energy Blasts, Flight, Intelligence, Size Changing, Stealth, Super Speed, Weapon-based Powers',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Yang', 'Yang Xiao Long',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11716.jpg',
-        'Absorption, Accelerated Healing, Agility, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Control, Fire Resistance, Flight, Force Fields, Heat Generation, Heat Resistance, Hyperkinesis, Latent Abilities, Marksmanship, Peak Human Condition, Physical Anomaly, Power Absorption, Power Augmentation, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Orphan', 'Cassandra Cain',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13433.jpg',
-        'Agility, Durability, Endurance, Marksmanship, Peak Human Condition, Precognition, Reflexes, Stealth, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Scathan', 'Scathan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12488.jpg',
-        'Astral Projection, Density Control, Dimensional Awareness, Electrokinesis, Energy Absorption, Energy Armor, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Levitation, Magic, Omnilingualism, Power Suit, Precognition, Probability Manipulation, Psionic Powers, Reality Warping, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Vitakinesis, Weather Control',
-        64);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spawn (Classic)', 'Al Simmons',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13951.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Empathy, Endurance, Enhanced Senses, Flight, Immortality, Intangibility, Intelligence, Invulnerability, Jump, Magic, Marksmanship, Mind Control Resistance, Phasing, Power Suit, Precognition, Reflexes, Regeneration, Resurrection, Shapeshifting, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Symbiote Costume, Telepathy, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        42);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shuri (MCU)', 'Shuri',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13971.jpg',
-        'Agility, Intelligence, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arsenal', 'Roy William Harper, Jr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1014.jpg',
-        'Agility, Marksmanship, Weapon-based Powers, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bushido', 'Ryuko Orsono',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1541.jpg', 'Agility, Weapons Master', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Northstar', 'Jean-Paul Beaubier',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1287.jpg',
-        'Durability, Illumination, Molecular Manipulation, Reflexes, Super Speed', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rogue', 'Anna Marie',
-        'https://www.superherodb.com/pictures2/portraits/10/050/831.jpg',
-        'Energy Absorption, Power Absorption', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doctor Strange (MCU)', 'Stephen Strange',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12588.jpg',
-        'Absorption, Accelerated Healing, Astral Projection, Astral Travel, Durability, Flight, Intangibility, Magic, Magic Resistance, Portal Creation, Reality Warping, Telekinesis, Teleportation, Time Manipulation, Time Travel',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Will Solace', 'Will Solace',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16043.jpg',
-        'Accelerated Healing, Agility, Audio Control, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Sight, Longevity, Magic, Marksmanship, Peak Human Condition, Reflexes, Stamina, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Odin (Destroyer Armor)', 'Odin Borson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15713.jpg',
-        'Absorption, Agility, Astral Travel, Banish, Cold Resistance, Dimensional Awareness, Dimensional Travel, Element Control, Empathy, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Senses, Entropy Projection, Fire Resistance, Flight, Force Fields, Heat Resistance, Intangibility, Intelligence, Invisibility, Invulnerability, Levitation, Longevity, Magic, Magnetism, Matter Manipulation, Natural Armor, Odin Force, Omnilingualism, Power Augmentation, Power Sense, Precognition, Psionic Powers, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stealth, Summoning, Super Speed, Super Strength, Telepathy Resistance, Time Manipulation, Time Travel, Toxin and Disease Resistance, Underwater breathing, Vitakinesis, Weapon-based Powers, Weapons Master',
-        111);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hellstorm', 'Daimon Hellstrom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/80.jpg',
-        'Accelerated Healing, Dimensional Travel, Durability, Energy Blasts, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Levitation, Magic, Matter Manipulation, Mind Control, Super Strength, Telepathy, Teleportation, Time Travel, Vitakinesis',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Impulse', 'Bartholomew Allen II',
-        'https://www.superherodb.com/pictures2/portraits/10/050/895.jpg',
-        'Accelerated Healing, Energy Constructs, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Enhanced Touch, Flight, Longevity, Phasing, Stamina, Super Speed',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Karnak (MCU)', 'Karnak Mander-Azur',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16512.jpg',
-        'Agility, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Precognition, Reflexes, Stamina, Stealth, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kid Flash (CW)', 'Wally West',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14000.jpg',
-        'Accelerated Healing, Agility, Dimensional Travel, Durability, Electrokinesis, Intangibility, Reflexes, Stamina, Super Speed',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hellbat', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11248.jpg',
-        'Agility, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Durability, Energy Absorption, Energy Blasts, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Heat Resistance, Intelligence, Invulnerability, Peak Human Condition, Power Suit, Radiation Immunity, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Telepathy Resistance, Underwater breathing, Weapon-based Powers, Weapons Master',
-        24);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jubilee', 'Jubilation Lee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/87.jpg',
-        'Energy Absorption, Energy Blasts, Energy Manipulation', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Leonardo', 'Leonardo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10327.jpg',
-        'Accelerated Healing, Agility, Jump, Marksmanship, Natural Armor, Reflexes, Stamina, Stealth, Sub-Mariner, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawk (Titans)', 'Hank Hall',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16348.jpg',
-        'Agility, Durability, Endurance, Marksmanship, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zatanna (Smallville)', 'Zatanna Zatara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14830.jpg',
-        'Cryokinesis, Fire Control, Magic, Probability Manipulation, Telepathy, Terrakinesis, Water Control, Weather Control',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Adam Strange', 'Adam Strange',
-        'https://www.superherodb.com/pictures2/portraits/10/050/626.jpg',
-        'Durability, Enhanced Sight, Fire Resistance, Flight, Intelligence, Marksmanship, Power Suit, Stealth, Super Speed, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Abe Sapien', 'Abraham Sapien',
-        'https://www.superherodb.com/pictures2/portraits/10/050/956.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Enhanced Sight, Immortality, Intelligence, Longevity, Marksmanship, Reflexes, Stamina, Sub-Mariner, Super Strength, Telepathy, Underwater breathing, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shadow Lass', 'Tasmia Mallor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1195.jpg',
-        'Agility, Darkforce Manipulation, Flight, Intelligence, Stealth, Super Speed', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rama Kushna', 'Rama Kushna',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13375.jpg',
-        'Accelerated Healing, Animal Control, Astral Projection, Astral Travel, Banish, Clairvoyance, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Empathy, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Flight, Force Fields, Gliding, Gravity Control, Illusions, Immortality, Intelligence, Invulnerability, Magic, Matter Manipulation, Nigh-Omniscient, Omnilingualism, Phasing, Portal Creation, Power Augmentation, Precognition, Radiation Immunity, Reality Warping, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Toxin and Disease Resistance, Wishing',
-        142);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Stan Lee', 'Stan Lee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10825.jpg',
-        'Magic', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (Pre-Crisis)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16368.jpg',
-        'Absorption, Accelerated Healing, Agility, Biokinesis, Cold Resistance, Dimensional Awareness, Durability, Energy Absorption, Energy Beams, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Flight, Heat Generation, Heat Resistance, Hypnokinesis, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Mind Control Resistance, Phasing, Power Absorption, Power Augmentation, Power Sense, Psionic Powers, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Time Travel, Timeframe Control, Toxin and Disease Resistance, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray, Weapons Master, Wishing',
-        34);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Flash (CW)', 'Jay Garrick',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14277.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Cold Resistance, Dimensional Travel, Durability, Electrokinesis, Endurance, Enhanced Senses, Gliding, Intangibility, Invisibility, Phasing, Reflexes, Speed Force, Stamina, Stealth, Super Speed, Super Strength, Time Travel',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Mar-vell', 'Genis-Vell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/654.jpg',
-        'Absorption, Accelerated Healing, Agility, Astral Projection, Bullet Time, Cold Resistance, Danger Sense, Dexterity, Dimensional Awareness, Dimensional Travel, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Force Fields, Heat Generation, Heat Resistance, Intelligence, Invulnerability, Jump, Levitation, Longevity, Marksmanship, Precognition, Radiation Absorption, Radiation Immunity, Reflexes, Self-Sustenance, Spatial Awareness, Stamina, Super Speed, Super Strength, Vaporising Beams, Weapons Master',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tempest', 'Angel Salvadore Bohusk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1407.jpg',
-        'Cryokinesis, Fire Control, Flight, Force Fields, Wind Control', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Old Man Logan (FOX)', 'James Howlett',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14057.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Cold Resistance, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Longevity, Marksmanship, Natural Weapons, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Drax The Destroyer (MCU)', 'Drax',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12591.jpg',
-        'Accelerated Healing, Agility, Durability, Invisibility, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jin Kazama', 'Jin Kazama',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14400.jpg',
-        'Agility, Chi Manipulation, Dexterity, Durability, Endurance, Jump, Reflexes, Stamina, Stealth, Super Speed, Super Strength',
-        2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent 13', 'Sharon Carter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/167.jpg',
-        'Agility, Camouflage, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Professor X', 'Charles Francis Xavier',
-        'https://www.superherodb.com/pictures2/portraits/10/050/113.jpg',
-        'Astral Projection, Illusions, Intelligence, Mind Blast, Mind Control, Possession, Power Sense, Projection, Psionic Powers, Telepathy',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aayla Secura', 'Aayla Secura',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10891.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Cloaking, Danger Sense', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Luke Cage', 'Luke Cage',
-        'https://www.superherodb.com/pictures2/portraits/10/050/269.jpg',
-        'Accelerated Healing, Durability, Invulnerability, Jump, Stamina, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Human Torch (FOX)', 'Jonathan Storm',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14292.jpg',
-        'Absorption, Durability, Elasticity, Fire Control, Fire Resistance, Flight, Force Fields, Heat Generation, Heat Resistance, Invisibility, Peak Human Condition, Power Absorption',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lucifer Morningstar (Mortal)', 'Samael',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15652.jpg',
-        'Accelerated Healing, Astral Projection, Astral Travel, Banish, Camouflage, Clairvoyance, Cold Resistance, Darkforce Manipulation, Empathy, Energy Absorption, Energy Blasts, Energy Constructs, Energy Resistance, Flight, Gravity Control, Immortality, Intelligence, Invulnerability, Light Control, Matter Manipulation, Nigh-Omniscient, Omnilingualism, Precognition, Psionic Powers, Reality Warping, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Time Manipulation, Toxin and Disease Resistance, Wishing',
-        75);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shazam (DCEU)', 'Billy Batson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14488.jpg',
-        'Agility, Cold Resistance, Durability, Electrokinesis, Element Control, Fire Resistance, Flight, Heat Resistance, Invulnerability, Jump, Super Speed, Super Strength, Toxin and Disease Resistance',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rey', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10561.jpg',
-        'Agility, Mind Control, Mind Control Resistance, Stamina, Telekinesis, The Force', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Xerneas', 'Xerneas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16254.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Element Control, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Jump, Levitation, Longevity, Magic, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Vitakinesis',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash IV', 'Bartholomew Allen II',
-        'https://www.superherodb.com/pictures2/portraits/10/050/893.jpg',
-        'Accelerated Healing, Dimensional Travel, Energy Constructs, Enhanced Memory, Reflexes, Speed Force, Super Speed, Time Travel',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'AmanThul', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15705.jpg',
-        'Electrical Transport, Electrokinesis, Element Control, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Illusions, Immortality, Magic, Reality Warping, Regeneration, Super Speed, Super Strength, Teleportation, Time Manipulation',
-        36);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shatterstar', 'Gaveedra Seven',
-        'https://www.superherodb.com/pictures2/portraits/10/050/124.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Blasts, Super Speed, Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Firestar', 'Angelica Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/60.jpg',
-        'Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Senses, Flight, Heat Generation', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Plo Koon', 'Plo Koon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10680.jpg',
-        'Clairvoyance, Electrokinesis, Element Control, Energy Absorption, Energy Manipulation, Force Fields, Illusions, Mind Control, Power Augmentation, Power Sense, Precognition, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Vitakinesis, Water Control, Weather Control, Wind Control',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Supergirl (New 52)', 'Kara Zor-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13657.jpg',
-        'Agility, Enhanced Hearing, Enhanced Senses, Flight, Invulnerability, Radiation Absorption, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Goddess Of War', 'Diana Prince',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12314.jpg',
-        'Accelerated Healing, Animal Control, Clairvoyance, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Empathy, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Senses, Flight, Force Fields, Gravity Control, Hair Manipulation, Heat Generation, Immortality, Intelligence, Invulnerability, Jump, Levitation, Magic, Magic Resistance, Marksmanship, Matter Manipulation, Mind Control Resistance, Natural Armor, Natural Weapons, Omnilingualism, Peak Human Condition, Phasing, Power Augmentation, Power Sense, Precognition, Reality Warping, Reflexes, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vaporising Beams, Weapon-based Powers, Weapons Master, Wishing',
-        63);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'X-Man', 'Nate Grey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1150.jpg',
-        'Astral Projection, Astral Travel, Flight, Illusions, Intangibility, Mind Control, Phasing, Psionic Powers, Telekinesis, Telepathy, Teleportation',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Drax the Destroyer', 'Arthur Sampson Douglas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10016.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Enhanced Senses, Enhanced Smell, Heat Resistance, Self-Sustenance, Stamina, Super Strength, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Beast (FOX)', 'Henry Philip McCoy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13906.jpg',
-        'Agility, Dexterity, Endurance, Intelligence, Super Speed, Super Strength', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tomar-Re', 'Tomar-Re',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12176.jpg',
-        'Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Lantern Power Ring, Latent Abilities, Matter Manipulation, Super Speed, Time Manipulation, Time Travel, Timeframe Control',
-        21);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mister Terrific', 'Michael Holt',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10076.jpg',
-        'Agility, Intelligence, Peak Human Condition, Reflexes, Stamina, Stealth', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Stardust', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1052.jpg',
-        'Durability, Energy Absorption, Energy Beams, Energy Blasts, Flight, Force Fields, Invulnerability, Longevity, Power Cosmic, Self-Sustenance, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain America (EMH)', 'Steve Rogers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14385.jpg',
-        'Accelerated Healing, Agility, Durability, Longevity, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Piccolo', 'Piccolo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1207.jpg',
-        'Agility, Banish, Biokinesis, Dimensional Travel, Duplication, Durability, Elasticity, Electrokinesis, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Hearing, Force Fields, Illusions, Immortality, Magic, Marksmanship, Matter Manipulation, Natural Weapons, Portal Creation, Power Sense, Reflexes, Regeneration, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Weather Control',
-        33);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Demolition-Man', 'Dennis Dunphy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10030.jpg',
-        'Durability, Endurance, Insanity, Jump, Marksmanship, Stamina, Super Strength, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'James Bond (Craig)', 'James Bond',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10404.jpg',
-        'Durability, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Alien Entity', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11883.jpg',
-        'Accelerated Healing, Agility, Dexterity, Dimensional Awareness, Durability, Endurance, Enhanced Senses, Flight, Immortality, Intelligence, Invulnerability, Marksmanship, Nigh-Omnipotent, Nigh-Omnipresent, Nigh-Omniscient, Omnilingualism, Probability Manipulation, Psionic Powers, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Spatial Awareness, Stamina, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        141);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Altaïr Ibn-LaAhad', 'Altaïr Ibn-LaAhad',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12260.jpg',
-        'Agility, Danger Sense, Energy Manipulation, Intelligence, Marksmanship, Mind Control, Peak Human Condition, Power Suit, Reflexes, Spatial Awareness, Stamina, Stealth, Vision - Cryo, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gogeta (Dragon Ball Super)', 'Goku/Vegeta',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15394.jpg',
-        'Accelerated Healing, Adaptation, Agility, Duplication, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Heat Resistance, Illusions, Latent Abilities, Light Control, Mind Control Resistance, Portal Creation, Power Augmentation, Power Nullifier, Power Sense, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Toxin and Disease Resistance, Vitakinesis, Weather Control',
-        31);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arthur Dayne', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14806.jpg',
-        'Dexterity, Reflexes, Stamina, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Havok', 'Alexander Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/77.jpg',
-        'Energy Absorption, Energy Blasts, Flight, Heat Resistance, Power Suit, Radiation Immunity', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kid Flash', 'Wallace Rudolph West',
-        'https://www.superherodb.com/pictures2/portraits/10/050/722.jpg', 'Accelerated Healing, Super Speed', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sun Wukong', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14224.jpg',
-        'Acausality, Accelerated Healing, Agility, Dexterity, Duplication, Durability, Electrokinesis, Endurance, Energy Manipulation, Enhanced Senses, Fire Resistance, Force Fields, Immortality, Intelligence, Invisibility, Invulnerability, Jump, Light Control, Longevity, Magic, Marksmanship, Matter Manipulation, Mind Control, Nigh-Omniscient, Non-Corporeal, Omnipresent, Reality Warping, Reflexes, Regeneration, Resurrection, Shapeshifting, Size Changing, Soul Manipulation, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Teleportation, Toxin and Disease Resistance, Weapons Master, Weather Control, Wind Control',
-        117);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mario', 'Mario',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11015.jpg',
-        'Dimensional Awareness, Dimensional Travel, Durability, Energy Manipulation, Fire Control, Jump, Mind Control, Reflexes, Self-Sustenance, Stamina, Summoning, Super Speed, Super Strength, Time Travel, Weather Control',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sam Winchester', 'Sam Winchester',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11168.jpg',
-        'Agility, Intelligence, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Harrison Wells (CW)', 'Harrison Wells',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16411.jpg',
-        'Agility, Intelligence, Intuitive aptitude, Marksmanship', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vision (MCU)', 'Vision',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12589.jpg',
-        'Density Control, Durability, Energy Beams, Energy Blasts, Flight, Intelligence, Natural Armor, Phasing, Precognition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Han Solo', 'Han Solo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10456.jpg',
-        'Agility, Marksmanship, Stamina, Stealth, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Emma Frost', 'Emma Frost',
-        'https://www.superherodb.com/pictures2/portraits/10/050/325.jpg',
-        'Astral Projection, Camouflage, Density Control, Durability, Illusions, Mind Control, Mind Control Resistance, Natural Armor, Possession, Psionic Powers, Stamina, Super Strength, Telepathy, Telepathy Resistance',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gaara', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13710.jpg',
-        'Accelerated Healing, Adaptation, Durability, Element Control, Energy Armor, Gliding, Jump, Levitation, Light Control, Magnetism, Marksmanship, Power Suit, Radar Sense, Reflexes, Stamina, Stealth, Super Speed, Terrakinesis, Wind Control',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (God Of Strength)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15141.jpg',
-        'Accelerated Healing, Agility, Berserk Mode, Cold Resistance, Dexterity, Durability, Endurance, Energy Absorption, Energy Blasts, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Flight, Heat Resistance, Hyperkinesis, Hypnokinesis, Intelligence, Invulnerability, Jump, Longevity, Magic Resistance, Marksmanship, Mind Control Resistance, Radiation Immunity, Reflexes, Regeneration, Seismic Power, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray, Weapon-based Powers, Weapons Master',
-        28);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wonder Girl (Titans)', 'Donna Troy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16342.jpg',
-        'Agility, Dexterity, Durability, Endurance, Intelligence, Intuitive aptitude, Jump, Longevity, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Midnight', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10443.jpg',
-        'Agility, Durability, Endurance, Flight, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gravity', 'Greg Willis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/74.jpg',
-        'Energy Blasts, Flight, Force Fields, Gravity Control, Molecular Manipulation', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aquaman (New 52)', 'Arthur Curry',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16322.jpg',
-        'Accelerated Healing, Agility, Animal Control, Cold Resistance, Durability, Enhanced Senses, Heat Resistance, Intelligence, Longevity, Reflexes, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Telepathy, Underwater breathing, Vision - Night, Water Control, Weapon-based Powers, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rocket Raccoon', 'Rocket Raccoon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10010.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Cold Resistance, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Enhanced Touch, Marksmanship, Vision - Night, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hyperion', 'Mark Milton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1286.jpg',
-        'Agility, Durability, Energy Beams, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Flight, Intelligence, Invulnerability, Longevity, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - X-Ray',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wild Dog', 'Jack Wheeler',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10761.jpg',
-        'Agility, Weapon-based Powers, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Heimdall', 'Rig-Heimdall',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10427.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Clairvoyance, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Electrical Transport, Energy Blasts, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Entropy Projection, Fire Control, Heat Resistance, Illusions, Jump, Longevity, Magic, Omnilingualism, Peak Human Condition, Portal Creation, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sage', 'Tessa',
-        'https://www.superherodb.com/pictures2/portraits/10/050/117.jpg',
-        'Power Augmentation, Power Sense, Technopath/Cyberpath, Telepathy, Telepathy Resistance', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Highfather', 'Izaya',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10515.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Levitation, Marksmanship, Molecular Manipulation, Psionic Powers, Resurrection, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Terrakinesis, Toxin and Disease Resistance, Weapons Master',
-        38);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), '2B', 'YoRHa No. 2 Type B',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14324.jpg',
-        'Absorption, Accelerated Healing, Agility, Duplication, Electrokinesis, Energy Beams, Energy Blasts, Flight, Force Fields, Gravity Control, Illusions, Immortality, Invulnerability, Mind Control, Power Augmentation, Reflexes, Resurrection, Seismic Power, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Vitakinesis, Weapon-based Powers, Weapons Master',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hot Rod', 'Hot Rod',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10876.jpg',
-        'Agility, Biokinesis, Durability, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Intelligence, Longevity, Natural Armor, Natural Weapons, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kevin 11', 'Kevin Ethan Levin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1408.jpg',
-        'Accelerated Healing, Agility, Density Control, Energy Absorption, Flight, Matter Absorption, Molecular Manipulation, Power Absorption, Shapeshifting, Stamina, Super Speed, Super Strength',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Maria Hill (MCU)', 'Maria Hill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13884.jpg',
-        'Agility, Intelligence, Marksmanship, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Magik', 'Illyana Rasputina',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10887.jpg',
-        'Accelerated Healing, Astral Projection, Astral Travel, Banish, Clairvoyance, Dimensional Travel, Energy Blasts, Energy Manipulation, Force Fields, Invisibility, Magic, Mind Control, Mind Control Resistance, Portal Creation, Power Absorption, Power Nullifier, Precognition, Shapeshifting, Summoning, Telepathy Resistance, Teleportation, Time Travel, Weapon-based Powers, Weapons Master',
-        29);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Matt Garetty', 'Matt Garetty',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14855.jpg',
-        'Flight, Force Fields, Intelligence, Invulnerability, Levitation, Super Strength, Telekinesis, Telepathy', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Silver Surfer', 'Norrin Radd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/127.jpg',
-        'Agility, Dimensional Awareness, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Gravity Control, Immortality, Intangibility, Invulnerability, Marksmanship, Molecular Manipulation, Phasing, Portal Creation, Power Cosmic, Stamina, Super Speed, Super Strength, Teleportation, Time Travel',
-        47);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aqualad (Young Justice)', 'Kaldurahm',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12236.jpg',
-        'Agility, Durability, Electrokinesis, Enhanced Senses, Reflexes, Stamina, Super Speed, Super Strength, Underwater breathing, Water Control',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hourman', 'Rex Tyler',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10079.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Intelligence, Intuitive aptitude, Jump, Peak Human Condition, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Time Manipulation, Underwater breathing, Vision - Night, Weapon-based Powers',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Guts', 'Guts The Black Swordsman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11406.jpg',
-        'Agility, Berserk Mode, Dexterity, Durability, Endurance, Insanity, Intelligence, Marksmanship, Non-Physical Interaction, Power Nullifier, Reflexes, Soul Manipulation, Stamina, Statistics Amplification, Stealth, Vision - Night, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mew', 'Mew',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13442.jpg',
-        'Accelerated Healing, Element Control, Empathy, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Immortality, Intuitive aptitude, Invisibility, Invulnerability, Mind Control Resistance, Portal Creation, Power Absorption, Power Augmentation, Power Nullifier, Psionic Powers, Reality Warping, Shapeshifting, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Terrakinesis, Vitakinesis',
-        35);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Azrael', 'Jean-Paul Valley',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11258.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Hearing, Enhanced Senses, Gliding, Insanity, Longevity, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mogo', 'Mogo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1432.jpg',
-        'Accelerated Healing, Adaptation, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Flight, Force Fields, Gravity Control, Immortality, Intelligence, Lantern Power Ring, Longevity, Marksmanship, Omnilingualism, Phasing, Plant Control, Radar Sense, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Terrakinesis, Water Control, Weather Control',
-        37);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nightwing (Arkham)', 'Dick Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16095.jpg',
-        'Agility, Electrokinesis, Intelligence, Peak Human Condition, Reflexes, Stealth, Technopath/Cyberpath, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'X-23 (FOX)', 'Laura Kinney',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13490.jpg',
-        'Accelerated Healing, Agility, Durability, Regeneration, Super Strength', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Storm', 'Ororo Munroe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/135.jpg',
-        'Cold Resistance, Empathy, Enhanced Senses, Flight, Heat Resistance, Intelligence, Telepathy Resistance, Weather Control',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Silk Spectre II', 'Laurel Juspeczyk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1058.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Touch, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Photographic Reflexes, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Galactus Buster)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15135.jpg',
-        'Accelerated Healing, Dimensional Awareness, Dimensional Travel, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Grim Reaping, Immortality, Intelligence, Invisibility, Invulnerability, Levitation, Longevity, Magnetism, Marksmanship, Molecular Manipulation, Nigh-Omnipotent, Portal Creation, Power Cosmic, Power Suit, Psionic Powers, Radiation Immunity, Reflexes, Regeneration, Resurrection, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Toxin and Disease Resistance, Underwater breathing, Vision - Night, Vision - Telescopic, Vision - Thermal, Vitakinesis, Weapon-based Powers',
-        167);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doc Samson', 'Leonard Samson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/54.jpg', 'Durability, Stamina, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Offspring', 'Luke OBrian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1298.jpg',
-        'Cold Resistance, Density Control, Elasticity, Heat Resistance, Immortality, Invulnerability, Mind Control Resistance, Shapeshifting, Size Changing, Telepathy Resistance',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Yellowjacket II', 'Rita DeMara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/178.jpg', 'Energy Blasts, Flight, Size Changing', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash (Injustice)', 'Barry Allen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15701.jpg',
-        'Accelerated Healing, Agility, Dimensional Travel, Electrokinesis, Intangibility, Peak Human Condition, Reflexes, Regeneration, Super Speed, Time Travel',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Phantom', 'Christopher Walker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/889.jpg',
-        'Agility, Animal Control, Bullet Time, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Goku (Ultra Instinct)', 'Kakarot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13261.jpg',
-        'Adaptation, Agility, Danger Sense, Duplication, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Illusions, Light Control, Power Augmentation, Power Nullifier, Power Sense, Precognition, Reflexes, Shapeshifting, Summoning, Super Speed, Super Strength, Telepathy, Teleportation',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Super-Soldier', 'Clark Kent',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11249.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Energy Absorption, Energy Beams, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Heat Resistance, Intelligence, Invisibility, Longevity, Mind Control Resistance, Precognition, Radiation Absorption, Radiation Immunity, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batgirl III', 'Helena Rosa Bertinelli',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1112.jpg',
-        'Agility, Dexterity, Durability, Endurance, Gliding, Intelligence, Marksmanship, Peak Human Condition', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Boy', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10040.jpg',
-        'Cold Resistance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Fire Resistance, Flight, Heat Resistance, Intelligence, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Krypto', 'Krypto the Superdog',
-        'https://www.superherodb.com/pictures2/portraits/10/050/725.jpg',
-        'Accelerated Healing, Animal Oriented Powers, Enhanced Hearing, Flight, Invulnerability, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Elektra', 'Elektra Natchios',
-        'https://www.superherodb.com/pictures2/portraits/10/050/625.jpg',
-        'Agility, Danger Sense, Hypnokinesis, Intelligence, Marksmanship, Peak Human Condition, Stealth, Telepathy, Telepathy Resistance, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jesse Quick (CW)', 'Jesse Wells',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16425.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Cold Resistance, Dimensional Travel, Durability, Electrokinesis, Endurance, Energy Blasts, Enhanced Memory, Enhanced Senses, Flight, Gliding, Heat Generation, Intangibility, Intelligence, Intuitive aptitude, Invisibility, Marksmanship, Phasing, Power Suit, Reflexes, Speed Force, Stamina, Stealth, Super Speed, Super Strength, Time Travel',
-        28);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bruce Banner (Hulkbuster)', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12616.jpg',
-        'Durability, Energy Beams, Energy Blasts, Flight, Stamina, Super Speed, Super Strength', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Negasonic Teenage Warhead', 'Ellie Phimister',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10556.jpg', 'Precognition, Telepathy', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Android 18', 'Lazuli',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1218.jpg',
-        'Agility, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Longevity, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Hulkbuster Armor)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12567.jpg',
-        'Cold Resistance, Durability, Endurance, Energy Beams, Energy Blasts, Enhanced Memory, Fire Resistance, Flight, Heat Resistance, Intelligence, Invulnerability, Natural Armor, Power Sense, Power Suit, Reflexes, Super Speed, Super Strength, Vision - Night, Vision - Thermal, Weapon-based Powers',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sif (MCU)', 'Sif',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13902.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Manipulation, Enhanced Senses, Longevity, Marksmanship, Regeneration, Super Speed, Super Strength, Weapons Master',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Raiden', 'Jack',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11518.jpg',
-        'Absorption, Accelerated Healing, Agility, Cold Resistance, Dexterity, Durability, Electrokinesis, Endurance, Enhanced Senses, Explosion Manipulation, Fire Control, Heat Resistance, Intelligence, Invisibility, Jump, Longevity, Marksmanship, Reflexes, Regeneration, Smoke Manipulation, Stamina, Statistics Amplification, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jaina Proudmoore', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14506.jpg',
-        'Animation, Astral Travel, Element Control, Elemental Transmogrification, Energy Beams, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Force Fields, Heat Generation, Heat Resistance, Intangibility, Intelligence, Invisibility, Longevity, Magic, Matter Manipulation, Mind Blast, Reality Warping, Telekinesis, Telepathy, Teleportation, Time Manipulation',
-        35);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Selene', 'Selene',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12307.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Durability, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Intelligence, Jump, Longevity, Marksmanship, Reflexes, Resurrection, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blue Beetle II', 'Theodore Kord',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1008.jpg',
-        'Agility, Anti-Gravity, Dexterity, Durability, Endurance, Energy Blasts, Enhanced Senses, Enhanced Sight, Fire Resistance, Flight, Intelligence, Intuitive aptitude, Levitation, Marksmanship, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth, Vision - Infrared, Vision - Night, Vision - Thermal, Wallcrawling, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kid Flash II', 'Bartholomew Allen II',
-        'https://www.superherodb.com/pictures2/portraits/10/050/894.jpg',
-        'Accelerated Healing, Agility, Duplication, Durability, Electrokinesis, Element Control, Empathy, Enhanced Memory, Enhanced Senses, Intangibility, Phasing, Reflexes, Speed Force, Stamina, Super Speed',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Misty Knight', 'Mercedes Misty Knight',
-        'https://www.superherodb.com/pictures2/portraits/10/050/99.jpg',
-        'Agility, Anti-Gravity, Cryokinesis, Durability, Endurance, Energy Blasts, Enhanced Touch, Force Fields, Gravity Control, Intelligence, Magnetism, Marksmanship, Reflexes, Stamina, Super Strength, Technopath/Cyberpath, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Bolt', 'Blackagar Boltagon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/243.jpg',
-        'Agility, Durability, Energy Absorption, Energy Blasts, Flight, Longevity, Molecular Manipulation, Reflexes, Sonic Scream, Stamina, Super Speed, Super Strength, Telepathy',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Star Sapphire', 'Carol Ferris',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10918.jpg',
-        'Accelerated Healing, Agility, Empathy, Energy Armor, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Intelligence, Lantern Power Ring, Levitation, Marksmanship, Omnilingualism, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ariel', 'Ariel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1348.jpg',
-        'Telepathy, Teleportation', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Aloy', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16984.jpg',
-        'Agility, Enhanced Sight, Information Analysis, Marksmanship, Reflexes, Stamina, Stealth, Weapon Creation, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'JJ Powell', 'JJ Powell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1357.jpg', 'Intelligence', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Star-Lord', 'Peter Jason Quill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10015.jpg',
-        'Agility, Durability, Intelligence, Longevity, Marksmanship, Peak Human Condition, Stamina, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (MCU)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12496.jpg',
-        'Audio Control, Cold Resistance, Energy Beams, Energy Blasts, Energy Resistance, Fire Control, Fire Resistance, Flight, Intelligence, Light Control, Super Speed, Super Strength, Weapons Master',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cyborg', 'Victor Stone',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1204.jpg',
-        'Durability, Enhanced Hearing, Enhanced Senses, Flight, Natural Armor, Power Suit, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Vision - Thermal, Weapon-based Powers',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Peter Petrelli', 'Peter Petrelli',
-        'https://www.superherodb.com/pictures2/portraits/10/050/950.jpg',
-        'Accelerated Healing, Electrokinesis, Empathy, Fire Control, Flight, Immortality, Intuitive aptitude, Invisibility, Phasing, Power Absorption, Precognition, Radiation Control, Regeneration, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        40);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (God-Killer)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13788.jpg',
-        'Accelerated Healing, Audio Control, Banish, Camouflage, Changing Armor, Clairvoyance, Cloaking, Cold Resistance, Cryokinesis, Darkforce Manipulation, Density Control, Dimensional Awareness, Durability, Electrokinesis, Empathy, Endurance, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Sight, Entropy Projection, Fire Resistance, Flight, Force Fields, Heat Generation, Illumination, Intelligence, Invulnerability, Latent Abilities, Longevity, Magic, Magnetism, Marksmanship, Melting, Mind Control Resistance, Molecular Immobilization, Natural Armor, Natural Weapons, Omnilingualism, Photographic Reflexes, Physical Anomaly, Power Absorption, Power Augmentation, Power Sense, Power Suit, Precognition, Radiation Absorption, Radiation Immunity, Reflexes, Self-Sustenance, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vision - Cryo, Vision - Heat, Vision - Microscopic, Vision - Night, Vision - Thermal, Vision - X-Ray',
-        53);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tyrande Whisperwind', 'Priestess Of Elune',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14505.jpg',
-        'Agility, Energy Blasts, Energy Manipulation, Immortality, Intelligence, Invisibility, Longevity, Magic, Marksmanship, Vitakinesis, Weapon-based Powers',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wasp', 'Janet Van Dyne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/155.jpg',
-        'Agility, Animal Oriented Powers, Energy Blasts, Flight, Intelligence, Size Changing, Stealth, Super Strength, Weapon-based Powers',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Phantom Girl', 'Tinya Wazzo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1184.jpg', 'Phasing', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ant-Man', 'Hank Pym',
-        'https://www.superherodb.com/pictures2/portraits/10/050/857.jpg',
-        'Intelligence, Size Changing', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Madame Xanadu', 'Nimue Inwudu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11224.jpg',
-        'Electrokinesis, Energy Armor, Energy Constructs, Force Fields, Immortality, Intelligence, Longevity, Magic, Precognition, Stamina, Stealth, Telekinesis, Telepathy, Teleportation',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spongebob', 'Spongebob Squarepants',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11885.jpg',
-        'Elasticity, Fire Control, Flight, Gravity Control, Magic, Matter Manipulation, Reality Warping, Regeneration, Shapeshifting, Size Changing, Telepathy, Teleportation, Wallcrawling',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Adam Monroe', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1026.jpg',
-        'Accelerated Healing, Immortality, Regeneration', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Princess Leia', 'Leia Organa Solo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10461.jpg',
-        'Agility, Clairvoyance, Durability, Energy Manipulation, Enhanced Senses, Marksmanship, Mind Control, Power Sense, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, The Force',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shaman', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/452.jpg',
-        'Accelerated Healing, Agility, Animal Control, Animal Oriented Powers, Astral Projection, Astral Travel, Cloaking, Dexterity, Dimensional Travel, Durability, Element Control, Empathy, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Control, Illusions, Intelligence, Intuitive aptitude, Levitation, Magic, Natural Weapons, Omnilingualism, Plant Control, Portal Creation, Precognition, Projection, Psionic Powers, Reflexes, Separation, Spatial Awareness, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telepathy, Teleportation, The Green, Toxin and Disease Resistance, Vision - Infrared, Vitakinesis, Weapon-based Powers, Weapons Master',
-        27);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ryu', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11029.jpg',
-        'Agility, Durability, Energy Blasts, Energy Manipulation, Energy Resistance, Jump, Latent Abilities, Peak Human Condition, Projection, Stamina, Super Strength',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nite Owl II', 'Daniel Dreiberg',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1059.jpg',
-        'Agility, Intelligence, Peak Human Condition, Weapon-based Powers, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Professor X (FOX)', 'Charles Francis Xavier',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13614.jpg',
-        'Animal Control, Astral Projection, Endurance, Illusions, Intelligence, Intuitive aptitude, Mind Blast, Mind Control, Mind Control Resistance, Omnilingualism, Possession, Power Sense, Psionic Powers, Telepathy, Telepathy Resistance',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Lightning (CW)', 'Jefferson Pierce',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15556.jpg',
-        'Accelerated Healing, Agility, Audio Control, Durability, Electrokinesis, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Force Fields, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Niki Sanders', 'Nicole Sanders',
-        'https://www.superherodb.com/pictures2/portraits/10/050/952.jpg', 'Super Strength', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Booster Gold', 'Michael Jon Carter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/647.jpg',
-        'Agility, Durability, Energy Blasts, Enhanced Hearing, Enhanced Senses, Flight, Force Fields, Intelligence, Invulnerability, Longevity, Power Suit, Precognition, Super Strength, Time Manipulation, Time Travel, Vision - Infrared, Vision - X-Ray, Weapons Master',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ancient One (MCU)', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12735.jpg',
-        'Astral Projection, Darkforce Manipulation, Dimensional Travel, Element Control, Energy Manipulation, Immortality, Magic, Portal Creation, Precognition, Reality Warping, Teleportation, Time Manipulation',
-        37);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Max Mercury', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/734.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Dimensional Travel, Instinctive Reaction, Longevity, Peak Human Condition, Reflexes, Speed Force, Super Speed, Time Travel, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Darwin (FOX)', 'Armando Muñoz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14368.jpg',
-        'Ability Shift, Accelerated Healing, Adaptation, Changing Armor, Density Control, Durability, Fire Resistance, Heat Resistance, Invulnerability, Self-Sustenance, Stamina, Super Strength, Underwater breathing, Vision - Night',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Meltdown', 'Tabitha Smith',
-        'https://www.superherodb.com/pictures2/portraits/10/050/258.jpg',
-        'Agility, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Psionic Powers',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hawkeye II', 'Katherine Elizabeth Bishop',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10043.jpg',
-        'Enhanced Memory, Photographic Reflexes, Stamina, Weapons Master', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hancock', 'John Hancock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1109.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Hearing, Enhanced Sight, Flight, Immortality, Invulnerability, Longevity, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Weather Control',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (Worthy)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13933.jpg',
-        'Absorption, Accelerated Healing, Agility, Astral Projection, Banish, Cold Resistance, Durability, Electrokinesis, Element Control, Endurance, Energy Blasts, Flight, Intelligence, Magic, Magic Resistance, Matter Manipulation, Omnilingualism, Power Nullifier, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Super Strength, Telekinesis, Telepathy Resistance, Weapon-based Powers, Weapons Master, Weather Control, Wind Control',
-        25);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent 13 (MCU)', 'Sharon Carter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13903.jpg',
-        'Intelligence, Peak Human Condition, Weapon-based Powers, Weapons Master', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Metamorpho', 'Rex Mason',
-        'https://www.superherodb.com/pictures2/portraits/10/050/738.jpg',
-        'Accelerated Healing, Cold Resistance, Dexterity, Duplication, Durability, Element Control, Elemental Transmogrification, Energy Beams, Energy Blasts, Fire Resistance, Flight, Heat Generation, Heat Resistance, Intangibility, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Matter Absorption, Natural Armor, Natural Weapons, Power Augmentation, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Telepathy Resistance, Underwater breathing',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Green Lantern Batman', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12762.jpg',
-        'Agility, Audio Control, Cold Resistance, Dimensional Travel, Durability, Empathy, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Enhanced Senses, Flight, Force Fields, Gliding, Heat Resistance, Illumination, Illusions, Intelligence, Invisibility, Lantern Power Ring, Longevity, Marksmanship, Matter Manipulation, Mind Control Resistance, Omnilingualism, Peak Human Condition, Phasing, Portal Creation, Precognition, Psionic Powers, Reflexes, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Weapon-based Powers, Weapons Master',
-        33);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'A-Bomb', 'Richard Milhouse Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10060.jpg',
-        'Accelerated Healing, Camouflage, Durability, Longevity, Self-Sustenance, Stamina, Super Strength', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'She-Hulk', 'Jennifer Walters',
-        'https://www.superherodb.com/pictures2/portraits/10/050/125.jpg',
-        'Accelerated Healing, Durability, Intelligence, Invulnerability, Jump, Longevity, Stamina, Super Strength', 13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Paul Blart', 'Paul Blart',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10479.jpg',
-        'Durability, Intelligence, Invulnerability, Jump', 1);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Creeper', 'Jack Ryder',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10213.jpg',
-        'Accelerated Healing, Agility, Audio Control, Camouflage, Endurance, Hypnokinesis, Insanity, Intelligence, Jump, Latent Abilities, Natural Weapons, Reflexes, Regeneration, Sonic Scream, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gypsy (CW)', 'Cynthia',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16420.jpg',
-        'Agility, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Intuitive aptitude, Marksmanship, Reflexes, Stamina, Stealth, Teleportation',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Revan', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10694.jpg',
-        'Absorption, Agility, Clairvoyance, Darkforce Manipulation, Durability, Electrokinesis, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Illusions, Marksmanship, Matter Manipulation, Mind Control, Power Sense, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Vitakinesis',
-        27);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jiraiya', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12598.jpg',
-        'Adaptation, Agility, Animal Control, Duplication, Energy Constructs, Energy Manipulation, Fire Control, Fire Resistance, Hair Manipulation, Intelligence, Invisibility, Marksmanship, Peak Human Condition, Possession, Radar Sense, Reflexes, Stamina, Stealth, Summoning, Super Speed, Super Strength, Wallcrawling, Water Control, Weapon-based Powers, Weapons Master',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mbaku (MCU)', 'MBaku',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16672.jpg',
-        'Agility, Durability, Marksmanship, Peak Human Condition, Reflexes, Stamina, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rocky Davis', 'Leslie Rocky Davis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11547.jpg',
-        'Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Machine Man', 'X-51, Aaron Stack',
-        'https://www.superherodb.com/pictures2/portraits/10/050/90.jpg',
-        'Durability, Flight, Stamina, Super Strength, Weapon-based Powers', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin V', 'Damian Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1473.jpg',
-        'Agility, Longevity, Reflexes, Stealth, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wolverine', 'Logan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/161.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Cold Resistance, Durability, Empathy, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Jump, Longevity, Natural Weapons, Reflexes, Regeneration, Stamina, Stealth, Super Strength, Toxin and Disease Resistance, Vision - Night, Vision - Telescopic',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (New 52)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13271.jpg',
-        'Absorption, Accelerated Healing, Agility, Enhanced Senses, Flight, Invulnerability, Longevity, Radar Sense, Radiation Absorption, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Future Warrior (Xenoverse 2)', 'Future Warrior',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15645.jpg',
-        'Adaptation, Agility, Audio Control, Cryokinesis, Dimensional Travel, Duplication, Durability, Electrokinesis, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Force Fields, Heat Generation, Illusions, Immortality, Intangibility, Light Control, Magic, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Portal Creation, Power Augmentation, Power Nullifier, Power Sense, Precognition, Reflexes, Regeneration, Self-Sustenance, Sonic Scream, Stamina, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Weapons Master, Wind Control',
-        67);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Winter Soldier (MCU)', 'Bucky Barnes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12728.jpg',
-        'Accelerated Healing, Agility, Durability, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (White Lantern)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13850.jpg',
-        'Absorption, Accelerated Healing, Agility, Cold Resistance, Danger Sense, Dexterity, Dimensional Travel, Durability, Empathy, Endurance, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Flight, Force Fields, Heat Resistance, Hypnokinesis, Intangibility, Intelligence, Invisibility, Invulnerability, Jump, Lantern Power Ring, Light Control, Longevity, Marksmanship, Matter Manipulation, Mind Control Resistance, Natural Weapons, Omnilingualism, Phasing, Portal Creation, Power Augmentation, Power Nullifier, Power Sense, Precognition, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Time Travel, Toxin and Disease Resistance, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - Thermal, Vision - X-Ray, Weapon-based Powers, Weapons Master',
-        88);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'John Wick', 'John Wick',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10935.jpg',
-        'Agility, Durability, Marksmanship, Peak Human Condition, Reflexes, Stealth, Super Strength, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Guardian', 'James Olsen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10760.jpg',
-        'Agility, Durability, Endurance, Intuitive aptitude, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth, Weapon-based Powers',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'All Might', 'Toshinori Yagi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11422.jpg',
-        'Agility, Durability, Flight, Invulnerability, Reflexes, Stamina, Super Speed, Super Strength, Weather Control',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Solomon Kane', 'Solomon Kane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15116.jpg',
-        'Agility, Berserk Mode, Dexterity, Durability, Endurance, Enhanced Senses, Intelligence, Longevity, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blue Beetle III', 'Jaime Reyes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1009.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Energy Blasts, Energy Manipulation, Flight, Force Fields, Heat Resistance, Power Suit, Super Strength, Symbiote Costume, Technopath/Cyberpath',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Panther (MCU)', 'TChalla',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12586.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Absorption, Enhanced Senses, Intelligence, Reflexes, Stamina, Stealth, Super Speed, Super Strength',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mon-El (CW)', 'Mon-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15418.jpg',
-        'Agility, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Flight, Jump, Super Breath, Super Speed, Super Strength, Vision - Microscopic',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Quake (MCU)', 'Daisy Johnson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15429.jpg',
-        'Agility, Audio Control, Durability, Stamina, Weapons Master', 11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'OMAC', 'Buddy Blank',
-        'https://www.superherodb.com/pictures2/portraits/10/050/748.jpg',
-        'Absorption, Density Control, Power Absorption, Stamina', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spawn', 'Al Simmons',
-        'https://www.superherodb.com/pictures2/portraits/10/050/842.jpg',
-        'Agility, Durability, Empathy, Flight, Immortality, Invulnerability, Magic, Power Suit, Resurrection, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Symbiote Costume, Telepathy, Teleportation, Weapons Master',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wyatt Wingfoot', 'Wyatt Wingfoot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/164.jpg',
-        'Heat Generation', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spyke', 'Evan Daniels',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1455.jpg',
-        'Accelerated Healing, Heat Generation, Natural Armor, Natural Weapons, Stamina, Wallcrawling', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gamora', 'Gamora Zen Whoberi Ben Titan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/65.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Senses, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Weapons Master',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Algalon The Observer', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14747.jpg',
-        'Astral Projection, Darkforce Manipulation, Element Control, Elemental Transmogrification, Fire Control, Flight, Immortality, Intangibility, Light Control, Magic, Reality Warping, Size Changing, Summoning, Super Speed, Super Strength, Teleportation',
-        41);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ant-Man II (MCU)', 'Scott Lang',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12594.jpg',
-        'Agility, Animal Control, Peak Human Condition, Reflexes, Size Changing, Super Speed', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Old King Phoenix Thor', 'Thor Odinson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15712.jpg',
-        'Accelerated Healing, Banish, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Energy Manipulation, Energy Resistance, Flight, Force Fields, Heat Generation, Heat Resistance, Immortality, Intelligence, Invulnerability, Jump, Magic, Matter Manipulation, Mind Control, Mind Control Resistance, Odin Force, Omnilingualism, Phoenix Force, Precognition, Reality Warping, Reflexes, Resurrection, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Time Manipulation, Time Travel, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        189);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ahsoka Tano', 'Ahsoka Tano',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11517.jpg',
-        'Accelerated Healing, Agility, Clairvoyance, Durability, Energy Absorption, Energy Manipulation, Enhanced Senses, Force Fields, Mind Control, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, The Force',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Saint Walker', 'Bro’Dee Walker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11574.jpg',
-        'Cold Resistance, Dimensional Travel, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Heat Generation, Heat Resistance, Lantern Power Ring, Matter Manipulation, Omnilingualism, Phasing, Radiation Immunity, Regeneration, Super Speed, Super Strength, Telepathy Resistance, Time Travel',
-        32);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Plastic Man', 'Patrick OBrian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/756.jpg',
-        'Accelerated Healing, Agility, Density Control, Durability, Elasticity, Immortality, Invulnerability, Shapeshifting, Size Changing, Stealth, Super Strength, Telepathy Resistance',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Box IV', 'Madison Jeffries',
-        'https://www.superherodb.com/pictures2/portraits/10/050/38.jpg', 'Telekinesis', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Crimson Avenger', 'Lee Travis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15052.jpg',
-        'Agility, Camouflage, Dexterity, Durability, Endurance, Hypnokinesis, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Wallcrawling, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Yukio (FOX)', 'Yukio',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13888.jpg',
-        'Agility, Dexterity, Endurance, Marksmanship, Precognition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'John Watson', 'John H. Watson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15909.jpg',
-        'Dexterity, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Stamina, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Beyonder', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1293.jpg',
-        'Accelerated Healing, Dimensional Awareness, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Force Fields, Immortality, Invulnerability, Nigh-Omnipotent, Psionic Powers, Reality Warping, Shapeshifting, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation',
-        55);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mera', 'Mera',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1388.jpg',
-        'Cold Resistance, Dimensional Travel, Durability, Enhanced Hearing, Jump, Reflexes, Stealth, Sub-Mariner, Super Speed, Super Strength, Telepathy, Underwater breathing, Vision - Night, Water Control',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hashirama Senju', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14515.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animal Control, Danger Sense, Duplication, Element Control, Energy Absorption, Energy Armor, Energy Constructs, Enhanced Senses, Fire Control, Illusions, Intelligence, Jump, Light Control, Marksmanship, Mind Control Resistance, Peak Human Condition, Plant Control, Reflexes, Regeneration, Shapeshifting, Stamina, Stealth, Summoning, Super Speed, Super Strength, Terrakinesis, The Green, Toxin and Disease Resistance, Vitakinesis, Wallcrawling, Water Control, Weapons Master, Wind Control',
-        26);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Professor Hulk (MCU)', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16756.jpg',
-        'Cold Resistance, Heat Resistance, Intelligence, Invulnerability, Jump, Radiation Absorption, Reflexes, Regeneration, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        19);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Piccolo Daimao', 'Piccolo Daimoa',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1229.jpg',
-        'Accelerated Healing, Camouflage, Cold Resistance, Energy Absorption, Energy Blasts, Energy Resistance, Enhanced Senses, Flight, Illusions, Intelligence, Invulnerability, Natural Armor, Regeneration, Self-Sustenance, Stamina, Super Speed, Super Strength, Telepathy Resistance',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Zatanna (Full Potential)', 'Zatanna Zatara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14591.jpg',
-        'Agility, Astral Projection, Element Control, Flight, Force Fields, Illusions, Invulnerability, Levitation, Magic, Magic Resistance, Matter Manipulation, Mind Control, Mind Control Resistance, Peak Human Condition, Precognition, Probability Manipulation, Reality Warping, Reflexes, Stamina, Super Speed, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Vitakinesis, Weather Control',
-        48);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Sentry (Stable)', 'Robert Reynolds',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16312.jpg',
-        'Accelerated Healing, Agility, Biokinesis, Cold Resistance, Durability, Energy Blasts, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Force Fields, Heat Resistance, Immortality, Intangibility, Intelligence, Invulnerability, Jump, Matter Manipulation, Power Sense, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Underwater breathing',
-        43);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Binary', 'Carol Danvers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/30.jpg',
-        'Dexterity, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Gravity Control, Invulnerability, Matter Manipulation, Molecular Manipulation, Precognition, Super Speed, Super Strength',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Longshot', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1531.jpg',
-        'Agility, Probability Manipulation, Psionic Powers, Reflexes, Stamina, Super Speed, Telepathy', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Stephanie Powell', 'Stephanie Powell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1355.jpg', 'Accelerated Healing, Super Speed', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bumblebee', 'Bumblebee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10594.jpg',
-        'Agility, Biokinesis, Changing Armor, Durability, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Heat Resistance, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Natural Armor, Natural Weapons, Physical Anomaly, Reflexes, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shadowcat (FOX)', 'Katherine Anne Pryde',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14363.jpg',
-        'Camouflage, Cloaking, Intangibility, Intelligence', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blink', 'Clarice Ferguson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/35.jpg', 'Teleportation', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ink', 'Eric Gitter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10337.jpg',
-        'Accelerated Healing, Flight, Molecular Combustion, Super Strength, Telepathy, Toxin and Disease Control, Vitakinesis',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Ray (CW)', 'Ray Terrill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15423.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Flight, Force Fields, Intangibility, Invisibility, Light Control, Marksmanship, Phasing, Stamina, Stealth, Super Speed, Super Strength',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Brainiac 5 (CW)', 'Querl Dox',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15561.jpg',
-        'Agility, Durability, Elasticity, Electrical Transport, Enhanced Memory, Flight, Intelligence, Intuitive aptitude, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telepathy Resistance',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'King Shark (CW)', 'Shay Lamden',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15558.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Durability, Endurance, Enhanced Senses, Enhanced Sight, Enhanced Smell, Invulnerability, Jump, Mind Control Resistance, Natural Armor, Natural Weapons, Radar Sense, Regeneration, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Telepathy Resistance, Underwater breathing',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Dean Winchester', 'Dean Winchester',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11188.jpg',
-        'Agility, Intelligence, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Flash II', 'Barry Allen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/892.jpg',
-        'Accelerated Healing, Agility, Energy Absorption, Energy Blasts, Energy Constructs, Enhanced Senses, Flight, Longevity, Phasing, Reflexes, Self-Sustenance, Speed Force, Stamina, Super Speed, Time Travel',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'War Machine', 'James Rhodes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/536.jpg',
-        'Durability, Energy Absorption, Energy Beams, Energy Blasts, Flight, Invisibility, Magnetism, Marksmanship, Phasing, Power Suit, Radiation Immunity, Super Speed, Super Strength, Underwater breathing, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapon-based Powers',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tien Shinhan', 'Tenshinhan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1212.jpg',
-        'Agility, Biokinesis, Duplication, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Illusions, Light Control, Power Sense, Reflexes, Stamina, Super Speed, Super Strength, Telepathy',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Captain Nemo', 'Janni Dakkar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/655.jpg',
-        'Agility, Animal Control, Animal Oriented Powers, Audio Control, Camouflage, Electrokinesis, Enhanced Memory, Fire Resistance, Intelligence, Intuitive aptitude, Marksmanship, Mind Control Resistance, Omnilingualism, Peak Human Condition, Power Suit, Reflexes, Sonar, Stamina, Stealth, Sub-Mariner, Telepathy Resistance, Underwater breathing, Vision - Telescopic, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (Smallville)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13945.jpg',
-        'Absorption, Accelerated Healing, Dexterity, Enhanced Hearing, Flight, Invulnerability, Levitation, Longevity, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        16);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Domino (FOX)', 'Neena Thurman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13839.jpg',
-        'Enhanced Senses, Marksmanship, Probability Manipulation, Reflexes, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nightcrawler (FOX)', 'Kurt Wagner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14362.jpg',
-        'Agility, Camouflage, Dexterity, Natural Weapons, Reflexes, Spatial Awareness, Stamina, Stealth, Teleportation, Vision - Night, Wallcrawling',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The Rumor', 'Allison Hargreeves',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16359.jpg',
-        'Dexterity, Intelligence, Probability Manipulation, Reality Warping, Stamina, Stealth', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Lar Gand', 'Mon-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10625.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Blasts, Enhanced Hearing, Enhanced Senses, Flight, Intelligence, Invulnerability, Longevity, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - X-Ray',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hulkling', 'Dorrek VIII',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10039.jpg',
-        'Accelerated Healing, Adaptation, Durability, Energy Resistance, Flight, Invulnerability, Regeneration, Shapeshifting, Stamina, Stealth, Super Strength, Wallcrawling',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Elongated Man (CW)', 'Ralph Dibny',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13265.jpg',
-        'Accelerated Healing, Agility, Biokinesis, Camouflage, Density Control, Durability, Elasticity, Endurance, Gliding, Intelligence, Invulnerability, Marksmanship, Reflexes, Regeneration, Shapeshifting, Size Changing, Stamina, Stealth, Super Strength, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Scarlet Witch (Life Force)', 'Wanda Maximoff',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14534.jpg',
-        'Absorption, Accelerated Healing, Animation, Astral Travel, Banish, Cold Resistance, Darkforce Manipulation, Dimensional Travel, Element Control, Empathy, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Entropy Projection, Fire Control, Flight, Force Fields, Gravity Control, Hair Manipulation, Heat Resistance, Illumination, Illusions, Insanity, Intangibility, Intelligence, Invisibility, Jump, Levitation, Magic, Magic Resistance, Matter Manipulation, Mind Control Resistance, Molecular Combustion, Molecular Dissipation, Molecular Immobilization, Molecular Manipulation, Phasing, Portal Creation, Possession, Power Absorption, Power Augmentation, Power Nullifier, Power Sense, Precognition, Probability Manipulation, Projection, Radiation Immunity, Reality Warping, Reflexes, Size Changing, Stamina, Summoning, Telekinesis, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Toxin and Disease Resistance, Wishing',
-        118);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Violet Parr', 'Violet Parr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/825.jpg',
-        'Energy Constructs, Force Fields, Intelligence, Invisibility, Levitation, Stealth', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gypsy', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10110.jpg',
-        'Astral Projection, Camouflage, Illusions, Invisibility, Precognition, Telepathy', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Heimdall (MCU)', 'Heimdall',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13882.jpg',
-        'Accelerated Healing, Cold Resistance, Darkforce Manipulation, Durability, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Longevity, Nigh-Omniscient, Stamina, Super Speed, Super Strength',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Canary II (CW)', 'Dinah Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15406.jpg',
-        'Agility, Audio Control, Peak Human Condition, Sonic Scream', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vixen', 'Mari McCabe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10109.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Enhanced Hearing, Enhanced Sight, Enhanced Smell, Flight, Force Fields, Natural Weapons, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Wallcrawling',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mr Immortal', 'Craig Hollis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10794.jpg',
-        'Accelerated Healing, Immortality, Longevity', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Angel', 'Liam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10431.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Immortality, Longevity, Magic, Psionic Powers, Stamina, Stealth, Super Speed, Super Strength',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'The White Violin', 'Vanya Hargreeves',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16363.jpg',
-        'Agility, Audio Control, Dexterity, Durability, Endurance, Intelligence, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hulk (MCU)', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12494.jpg',
-        'Absorption, Accelerated Healing, Agility, Cold Resistance, Durability, Heat Resistance, Intelligence, Jump, Radiation Immunity, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Echo Zane', 'Echo Zane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16812.jpg',
-        'Agility, Dexterity, Durability, Hacking, Immortality, Intelligence, Longevity, Marksmanship, Natural Armor, Power Suit, Self-Sustenance, Stamina, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Gohan', 'Son Gohan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1205.jpg',
-        'Adaptation, Agility, Duplication, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Latent Abilities, Portal Creation, Power Sense, Reflexes, Stamina, Super Speed, Super Strength',
-        18);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Crystal (MCU)', 'Crystalia Amaquelin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16509.jpg',
-        'Agility, Cryokinesis, Electrokinesis, Element Control, Fire Control, Molecular Combustion, Stamina, Water Control, Wind Control',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Blue Beetle (Injustice)', 'Jaime Reyes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16344.jpg',
-        'Accelerated Healing, Agility, Audio Control, Changing Armor, Cold Resistance, Durability, Endurance, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Fire Resistance, Flight, Force Fields, Heat Resistance, Marksmanship, Power Suit, Reflexes, Stamina, Super Speed, Super Strength, Symbiote Costume, Technopath/Cyberpath, Toxin and Disease Resistance, Underwater breathing, Vision - Night, Vision - Thermal',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ron Weasley', 'Ronald Bilius Weasley',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10880.jpg',
-        'Accelerated Healing, Agility, Animal Control, Cloaking, Flight, Force Fields, Magic, Weapon-based Powers', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Fin Fang Foom', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1518.jpg',
-        'Accelerated Healing, Durability, Flight, Longevity, Possession, Shapeshifting, Stamina, Substance Secretion, Super Strength, Telepathy',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bill Cipher', 'Bill Cipher',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12073.jpg',
-        'Agility, Astral Projection, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Heat Resistance, Immortality, Insanity, Invulnerability, Jump, Levitation, Magic, Magnetism, Matter Manipulation, Molecular Combustion, Omnilingualism, Precognition, Psionic Powers, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Toxin and Disease Resistance',
-        100);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Daredevil (FOX)', 'Matt Murdock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13955.jpg',
-        'Agility, Echolocation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Peak Human Condition, Radar Sense',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rorschach', 'Walter Joseph Kovacs',
-        'https://www.superherodb.com/pictures2/portraits/10/050/771.jpg',
-        'Agility, Intelligence, Stamina, Stealth, Weapons Master', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ant-Man (MCU)', 'Hank Pym',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13875.jpg',
-        'Agility, Animal Control, Density Control, Durability, Intelligence, Intuitive aptitude, Power Suit, Size Changing, Stamina, Stealth, Super Strength',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Wildcat', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10072.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Dexterity, Weapons Master', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Witchblade', 'Sara Pezzini',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11292.jpg',
-        'Accelerated Healing, Agility, Energy Blasts, Enhanced Sight, Flight, Intelligence, Invulnerability, Magic, Power Suit, Reflexes, Shapeshifting, Super Strength, Wallcrawling, Weapons Master',
-        10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Red Power Ranger', 'Jason Lee Scott',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10872.jpg',
-        'Agility, Animal Control, Dexterity, Energy Blasts, Energy Manipulation, Force Fields, Heat Generation, Intangibility, Magic, Marksmanship, Phasing, Power Suit, Stamina, Super Speed, Super Strength, Teleportation, Weapon-based Powers, Weapons Master, Wind Control',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Crimson Dynamo', 'Anton Vanko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1093.jpg',
-        'Durability, Electrokinesis, Element Control, Energy Blasts, Flight, Intelligence, Super Strength', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cosmo The Spacedog', 'Cosmo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12268.jpg',
-        'Animal Attributes, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Intelligence, Mind Blast, Mind Control, Mind Control Resistance, Psionic Powers, Telekinesis, Telepathy, Telepathy Resistance, Teleportation',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'White Witch', 'Wanda Zatara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12618.jpg',
-        'Astral Travel, Banish, Camouflage, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Elemental Transmogrification, Energy Absorption, Energy Blasts, Energy Resistance, Fire Control, Fire Resistance, Force Fields, Hypnokinesis, Illusions, Intelligence, Levitation, Longevity, Magic, Magnetism, Matter Manipulation, Molecular Dissipation, Power Absorption, Power Nullifier, Precognition, Probability Manipulation, Reality Warping, Resurrection, Shapeshifting, Stamina, Telekinesis, Telepathy',
-        42);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nova', 'Samuel Alexander',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11792.jpg',
-        'Agility, Dimensional Awareness, Durability, Energy Manipulation, Flight, Force Fields, Nova Force, Portal Creation, Reflexes, Regeneration, Spatial Awareness, Stamina, Super Speed, Super Strength, Telekinesis',
-        15);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Scooby', 'Scooby-Doo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12312.jpg',
-        'Ability Shift, Acausality, Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Animation, Camouflage, Danger Sense, Dexterity, Durability, Elasticity, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fear Manipulation, Fire Control, Fire Resistance, Flight, Force Fields, Illusions, Instinctive Reaction, Intelligence, Intuitive aptitude, Jump, Lantern Power Ring, Latent Abilities, Longevity, Magic, Marksmanship, Mind Control, Non-Physical Interaction, Omnilingualism, Portal Creation, Probability Manipulation, Qwardian Power Ring, Reflexes, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Teleportation, The Force, Vision - Night, Weapon-based Powers, Weapons Master',
-        58);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rainbow Dash', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11976.jpg',
-        'Agility, Dexterity, Durability, Element Control, Endurance, Enhanced Senses, Explosion Manipulation, Flight, Force Fields, Magic, Mind Control Resistance, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Water Control, Weather Control, Wind Control',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nozdormu', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14509.jpg',
-        'Astral Projection, Astral Travel, Banish, Dimensional Travel, Energy Constructs, Energy Manipulation, Immortality, Longevity, Magic, Projection, Reality Warping, Regeneration, Shapeshifting, Size Changing, Time Manipulation, Time Travel, Wishing',
-        47);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (2006)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14788.jpg',
-        'Absorption, Cryokinesis, Durability, Element Control, Energy Absorption, Enhanced Hearing, Enhanced Sight, Flight, Invulnerability, Longevity, Reflexes, Regeneration, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Telescopic',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Nightcrawler', 'Kurt Wagner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/107.jpg',
-        'Agility, Camouflage, Reflexes, Stealth, Teleportation, Vision - Night, Wallcrawling', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Legion', 'David Haller',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10651.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animal Oriented Powers, Astral Projection, Duplication, Fire Control, Flight, Force Fields, Levitation, Mind Blast, Molecular Manipulation, Power Absorption, Power Nullifier, Psionic Powers, Reality Warping, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        40);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent May (MCU)', 'Melinda May',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15434.jpg',
-        'Agility, Intelligence, Stealth, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Goku', 'Kakarot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1284.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Duplication, Electrokinesis, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Smell, Flight, Force Fields, Immortality, Invulnerability, Jump, Levitation, Longevity, Marksmanship, Radar Sense, Shapeshifting, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Weapons Master',
-        23);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Supreme Kai Of Time', 'Chronoa',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14874.jpg',
-        'Absorption, Agility, Animation, Dimensional Travel, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Magic, Mind Control Resistance, Portal Creation, Power Nullifier, Power Sense, Reality Warping, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Vitakinesis',
-        33);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jack Frost', 'Jackson Overland Frost',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10921.jpg',
-        'Agility, Cryokinesis, Element Control, Energy Blasts, Flight, Immortality, Magic, Plant Control, Reflexes, Summoning, Weapon-based Powers',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Popeye', 'Popeye',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11105.jpg',
-        'Accelerated Healing, Animation, Durability, Endurance, Invulnerability, Jump, Probability Manipulation, Regeneration, Stamina, Super Speed, Super Strength',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Steve Trevor', 'Steve Trevor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11201.jpg',
-        'Agility, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman Cosmic Armor', 'Thought Robot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12516.jpg',
-        'Adaptation, Astral Projection, Astral Travel, Dimensional Awareness, Dimensional Travel, Durability, Energy Manipulation, Enhanced Senses, Flight, Immortality, Intelligence, Invulnerability, Levitation, Matter Manipulation, Molecular Manipulation, Nigh-Omnipotent, Nigh-Omnipresent, Nigh-Omniscient, Precognition, Probability Manipulation, Reality Warping, Regeneration, Spatial Awareness, Stamina, Super Breath, Super Speed, Super Strength, Time Manipulation, Vision - Heat',
-        115);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jonah Hex (CW)', 'Jonah Hex',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16419.jpg',
-        'Agility, Endurance, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Miss Martian', 'Mgann Morzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1394.jpg',
-        'Accelerated Healing, Density Control, Energy Blasts, Flight, Force Fields, Invisibility, Invulnerability, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Vision - X-Ray',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Maya Herrera', 'Maya Herrera',
-        'https://www.superherodb.com/pictures2/portraits/10/050/944.jpg',
-        'Substance Secretion, Toxin and Disease Control', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rocket Raccoon (MCU)', 'Rocket Raccoon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12503.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Intelligence, Marksmanship, Weapons Master', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Atom (CW)', 'Ray Palmer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15401.jpg',
-        'Agility, Cold Resistance, Density Control, Durability, Electrokinesis, Endurance, Energy Blasts, Fire Resistance, Flight, Heat Resistance, Intelligence, Marksmanship, Peak Human Condition, Power Suit, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Underwater breathing, Vision - Night, Vision - Telescopic, Vision - X-Ray, Weapon-based Powers',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Liz Sherman', 'Elizabeth Anne Sherman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/868.jpg',
-        'Fire Control, Fire Resistance, Heat Generation, Heat Resistance, Latent Abilities', 4);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man (Worthy)', 'Peter Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13652.jpg',
-        'Accelerated Healing, Animal Attributes, Animal Oriented Powers, Danger Sense, Durability, Energy Absorption, Energy Blasts, Energy Resistance, Flight, Force Fields, Intelligence, Levitation, Magic, Odin Force, Stamina, Substance Secretion, Super Speed, Super Strength, Toxin and Disease Resistance, Weather Control, Web Creation',
-        27);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Stargirl', 'Courtney Whitmore',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1326.jpg',
-        'Agility, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Gravity Control, Heat Generation, Invulnerability, Light Control, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Superman (Donner)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13463.jpg',
-        'Accelerated Healing, Cold Resistance, Enhanced Hearing, Enhanced Memory, Flight, Heat Resistance, Intelligence, Invulnerability, Jump, Psionic Powers, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Time Manipulation, Vision - Heat, Vision - Night, Vision - Telescopic, Vision - X-Ray',
-        20);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Arishem The Judge', 'Arishem',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10608.jpg',
-        'Dimensional Travel, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Illusions, Immortality, Intangibility, Intelligence, Invisibility, Invulnerability, Levitation, Matter Manipulation, Molecular Combustion, Probability Manipulation, Reality Warping, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Water Control, Weather Control',
-        52);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Hulk', 'Tyrone Cash',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11735.jpg',
-        'Accelerated Healing, Adaptation, Agility, Durability, Endurance, Enhanced Senses, Intelligence, Invulnerability, Jump, Longevity, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Underwater breathing',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Gwen', 'Gwen Stacy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10507.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Durability, Jump, Marksmanship, Reflexes, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Wallcrawling, Web Creation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iceman (FOX)', 'Bobby Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13990.jpg',
-        'Cold Resistance, Cryokinesis, Durability, Element Control, Endurance, Invulnerability, Super Strength, Water Control',
-        6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bulma', 'Bulma',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1209.jpg',
-        'Durability, Intelligence, Intuitive aptitude', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Iron Man (Model Prime)', 'Tony Stark',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13700.jpg',
-        'Accelerated Healing, Agility, Changing Armor, Cloaking, Cold Resistance, Durability, Electrical Transport, Energy Beams, Energy Blasts, Energy Resistance, Fire Resistance, Force Fields, Heat Generation, Heat Resistance, Illusions, Intelligence, Invisibility, Invulnerability, Jump, Marksmanship, Peak Human Condition, Photographic Reflexes, Physical Anomaly, Power Sense, Power Suit, Radiation Immunity, Reflexes, Stamina, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapon-based Powers',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Rayman', 'Rayman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10535.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animation, Endurance, Energy Blasts, Energy Constructs, Energy Resistance, Enhanced Hearing, Gliding, Intelligence, Intuitive aptitude, Invulnerability, Jump, Levitation, Natural Weapons, Non-Corporeal, Non-Physical Interaction, Physical Anomaly, Projection, Reflexes, Regeneration, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Wallcrawling, Weapon-based Powers, Wind Control',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Werewolf By Night', 'Jack Russell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/546.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Durability, Enhanced Hearing, Enhanced Sight, Enhanced Smell, Immortality, Intelligence, Natural Weapons, Radiation Immunity, Regeneration, Self-Sustenance, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Vision - Night, Weapons Master',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Starkiller', 'Galen Marek',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11623.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Clairvoyance, Endurance, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Weapons Master',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Alfred (DCEU)', 'Alfred Pennyworth',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14275.jpg',
-        'Intelligence, Marksmanship, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Giant-Man', 'Hank Pym',
-        'https://www.superherodb.com/pictures2/portraits/10/050/858.jpg',
-        'Accelerated Healing, Agility, Animal Control, Animal Oriented Powers, Durability, Insanity, Intelligence, Peak Human Condition, Power Augmentation, Reflexes, Size Changing, Super Strength',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Agent Coulson (MCU)', 'Phillip J. Coulson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13968.jpg',
-        'Agility, Dexterity, Endurance, Intelligence, Reflexes, Stealth, Super Speed, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Cole MacGrath', 'Cole MacGrath',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11863.jpg',
-        'Accelerated Healing, Agility, Durability, Electrical Transport, Electrokinesis, Energy Absorption, Energy Armor, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Flight, Force Fields, Gliding, Jump, Radar Sense, Reflexes',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Bruce Banner', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13715.jpg', 'Intelligence', 9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Catwoman', 'Selina Kyle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/659.jpg',
-        'Agility, Animal Attributes, Dexterity, Empathy, Marksmanship, Peak Human Condition, Stamina, Stealth', 6);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (GAM)', 'Kirk Langstrom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13859.jpg',
-        'Accelerated Healing, Durability, Enhanced Senses, Flight, Intelligence, Invulnerability, Levitation, Stealth, Super Strength',
-        11);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Black Canary (CW)', 'Laurel Lance',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15402.jpg',
-        'Agility, Audio Control, Sonic Scream, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Kick-Ass', 'Dave Lizewski',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1158.jpg',
-        'Agility, Durability, Stamina, Weapon-based Powers', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Atom Girl', 'Salu Digby',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1180.jpg', 'Size Changing', 3);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Raven (Titans)', 'Rachel Roth',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16347.jpg',
-        'Absorption, Accelerated Healing, Astral Projection, Biokinesis, Clairvoyance, Danger Sense, Darkforce Manipulation, Element Control, Empathy, Energy Armor, Energy Blasts, Energy Manipulation, Illusions, Levitation, Magic, Portal Creation, Summoning, Super Speed, Telekinesis, Telepathy, Teleportation, Umbrakinesis, Vitakinesis',
-        14);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Doc Green', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13718.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Durability, Endurance, Energy Absorption, Energy Resistance, Fire Resistance, Heat Resistance, Immortality, Invulnerability, Jump, Longevity, Mind Control Resistance, Radiation Absorption, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Stamina, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance',
-        24);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Shrek', 'Shrek',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11203.jpg',
-        'Enhanced Senses, Super Speed, Super Strength', 7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Splinter', 'Hamato Splinter Yoshi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10382.jpg',
-        'Accelerated Healing, Adaptation, Agility, Astral Projection, Intelligence, Marksmanship, Precognition, Stamina, Stealth, Wallcrawling, Weapons Master',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Ken', 'Ken Masters',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11030.jpg',
-        'Agility, Dexterity, Durability, Endurance, Energy Blasts, Energy Manipulation, Energy Resistance, Fire Control, Jump, Latent Abilities, Marksmanship, Peak Human Condition, Projection, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Hybrid', 'Scott Washington',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10493.jpg',
-        'Accelerated Healing, Agility, Camouflage, Danger Sense, Durability, Flight, Gliding, Jump, Marksmanship, Matter Absorption, Natural Armor, Natural Weapons, Reflexes, Shapeshifting, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Symbiote Costume, Wallcrawling, Web Creation',
-        9);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Luna', 'Luna Maximoff',
-        'https://www.superherodb.com/pictures2/portraits/10/050/933.jpg',
-        'Psionic Powers', 5);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Vixen II (CW)', 'Mari',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15409.jpg',
-        'Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Camouflage, Cold Resistance, Durability, Empathy, Endurance, Energy Constructs, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Flight, Jump, Magic, Marksmanship, Natural Armor, Reflexes, Stamina, Super Speed, Super Strength, Underwater breathing, Vision - Night, Wallcrawling',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Invisible Woman (FOX)', 'Susan Storm',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14293.jpg',
-        'Agility, Force Fields, Illusions, Intelligence, Invisibility, Levitation, Mind Control, Peak Human Condition, Telekinesis',
-        13);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Tiamut', 'Tiamut',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14455.jpg',
-        'Banish, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Element Control, Elemental Transmogrification, Empathy, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Fire Resistance, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Matter Manipulation, Omnilingualism, Precognition, Reality Warping, Regeneration, Self-Sustenance, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Travel, Toxin and Disease Resistance, Underwater breathing',
-        83);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Franklin Richards (Adult)', 'Franklin Richards',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13630.jpg',
-        'Agility, Astral Projection, Clairvoyance, Durability, Energy Manipulation, Enhanced Senses, Matter Manipulation, Mind Control, Reality Warping, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Time Travel',
-        22);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spock', 'Schn Tgai Spock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10566.jpg',
-        'Enhanced Hearing, Intelligence, Longevity, Omnilingualism, Psionic Powers, Stamina, Stealth, Super Strength, Telepathy',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'John Wraith', 'John Wraith',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1314.jpg', 'Longevity, Psionic Powers, Teleportation',
-        8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Spider-Man (MCU)', 'Peter Parker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12514.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Durability, Energy Manipulation, Enhanced Senses, Flight, Heat Generation, Natural Armor, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Vision - X-Ray, Wallcrawling, Web Creation',
-        7);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'El Diablo (DCEU)', 'Chato Santana',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13967.jpg',
-        'Element Control, Fire Control, Fire Resistance, Super Strength', 8);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Batman (Arkham)', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16093.jpg',
-        'Agility, Audio Control, Cryokinesis, Electrokinesis, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Control, Gliding, Intelligence, Marksmanship, Mind Control Resistance, Peak Human Condition, Reflexes, Stamina, Stealth, Technopath/Cyberpath, Telepathy Resistance, Toxin and Disease Resistance, Vision - X-Ray, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Meta Knight', 'Meta Knight',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13828.jpg',
-        'Accelerated Healing, Agility, Berserk Mode, Creation, Darkforce Manipulation, Dexterity, Dimensional Travel, Duplication, Durability, Electrokinesis, Empathy, Endurance, Energy Blasts, Enhanced Senses, Explosion Manipulation, Fire Control, Flight, Force Fields, Immortality, Intangibility, Intelligence, Invisibility, Invulnerability, Jump, Longevity, Magic Resistance, Marksmanship, Mind Control Resistance, Natural Weapons, Non-Physical Interaction, Power Bestowal, Reflexes, Regeneration, Self-Sustenance, Stamina, Statistics Amplification, Stealth, Summoning, Super Breath, Super Speed, Super Strength, Teleportation, Weapon-based Powers, Weapons Master, Wind Control',
-        52);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Mister Fantastic', 'Reed Richards',
-        'https://www.superherodb.com/pictures2/portraits/10/050/408.jpg',
-        'Durability, Elasticity, Intelligence, Shapeshifting, Size Changing', 10);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Jar Jar Binks', 'Jar Jar Binks',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10563.jpg',
-        'Agility, Enhanced Smell, Stealth, Sub-Mariner', 2);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Indestructible Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13626.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Dexterity, Dimensional Awareness, Durability, Endurance, Energy Absorption, Energy Manipulation, Immortality, Invulnerability, Super Speed, Super Strength',
-        17);
-INSERT INTO heroEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('heroEntity_seq'), 'Robin (Teen Titans)', 'Dick Grayson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16061.jpg',
-        'Agility, Intelligence, Stamina, Stealth, Weapon-based Powers, Weapons Master', 7);
@@ -1,7 +1,8 @@
 package io.quarkus.workshop.superheroes.hero;
 
 import io.quarkus.test.junit.QuarkusTest;
-import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import io.quarkus.workshop.superheroes.hero.api.model.HeroBatchResult;
 import io.restassured.common.mapper.TypeRef;
 import org.hamcrest.core.Is;
 import org.junit.jupiter.api.MethodOrderer;
@@ -16,15 +17,26 @@ import static io.restassured.RestAssured.get;
 import static io.restassured.RestAssured.given;
 import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+import static jakarta.ws.rs.core.Response.Status.NOT_MODIFIED;
 import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
 import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.jboss.resteasy.reactive.RestMediaType.APPLICATION_NDJSON;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
@@ -44,6 +56,7 @@ public class HeroResourceTest {
 
   private static final int NB_HEROES = 941;
   private static String heroId;
+  private static List<Long> batchHeroIds;
 
   @Test
   public void testHelloEndpoint() {
@@ -77,17 +90,17 @@ public class HeroResourceTest {
       .contentType(APPLICATION_JSON)
       .extract()
       .body()
-      .as(HeroEntity.class));
+      .as(Hero.class));
   }
 
   @Test
   void shouldNotAddInvalidItem() {
-    HeroEntity hero = new HeroEntity();
-    hero.name = null;
-    hero.otherName = DEFAULT_OTHER_NAME;
-    hero.picture = DEFAULT_PICTURE;
-    hero.powers = DEFAULT_POWERS;
-    hero.level = 0;
+    Hero hero = new Hero();
+    hero.setName(null);
+    hero.setOtherName(DEFAULT_OTHER_NAME);
+    hero.setPicture(DEFAULT_PICTURE);
+    hero.setPowers(DEFAULT_POWERS);
+    hero.setLevel(0);
 
     given()
       .body(hero)
@@ -99,27 +112,79 @@ public class HeroResourceTest {
       .statusCode(BAD_REQUEST.getStatusCode());
   }
 
+  @Test
+  void shouldNotUpdateItemWithoutId() {
+    given()
+      .body(defaultHero(UPDATED_NAME))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .put("/api/heroes")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldNotAddABatchWithAnInvalidItem() {
+    Hero invalid = defaultHero(null);
+    invalid.setLevel(0);
+
+    given()
+      .body(List.of(defaultHero(DEFAULT_NAME + " valid"), invalid))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/heroes/batch")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode())
+      .body(containsString("heroes[1].name"), containsString("heroes[1].level"),
+        not(containsString("heroes[0]")));
+
+    assertTrue(searchHeroNames(DEFAULT_NAME + " valid").isEmpty());
+  }
+
+  @Test
+  void shouldNotAcceptABatchWithoutBody() {
+    given()
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/heroes/batch")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+
+    given()
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .put("/api/heroes/batch")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
   @Test
   @Order(1)
   void shouldGetInitialItems() {
-    List<HeroEntity> heroes = get("/api/heroes").then()
+    List<Hero> heroes = get("/api/heroes").then()
       .statusCode(OK.getStatusCode())
       .contentType(APPLICATION_JSON)
       .extract()
       .body()
       .as(getHeroTypeRef());
     assertEquals(NB_HEROES, heroes.size());
+    // The powers are only loaded by the operations reading a single hero
+    heroes.forEach(hero -> assertNull(hero.getPowers()));
   }
 
   @Test
   @Order(2)
   void shouldAddAnItem() {
-    HeroEntity hero = new HeroEntity();
-    hero.name = DEFAULT_NAME;
-    hero.otherName = DEFAULT_OTHER_NAME;
-    hero.picture = DEFAULT_PICTURE;
-    hero.powers = DEFAULT_POWERS;
-    hero.level = DEFAULT_LEVEL;
+    Hero hero = new Hero();
+    hero.setName(DEFAULT_NAME);
+    hero.setOtherName(DEFAULT_OTHER_NAME);
+    hero.setPicture(DEFAULT_PICTURE);
+    hero.setPowers(DEFAULT_POWERS);
+    hero.setLevel(DEFAULT_LEVEL);
 
     String location = given()
       .body(hero)
@@ -150,7 +215,7 @@ public class HeroResourceTest {
       .body("picture", Is.is(DEFAULT_PICTURE))
       .body("powers", Is.is(DEFAULT_POWERS));
 
-    List<HeroEntity> heroes = get("/api/heroes").then()
+    List<Hero> heroes = get("/api/heroes").then()
       .statusCode(OK.getStatusCode())
       .extract()
       .body()
@@ -161,13 +226,22 @@ public class HeroResourceTest {
   @Test
   @Order(3)
   void shouldUpdateAnItem() {
-    HeroEntity hero = new HeroEntity();
-    hero.id = Long.valueOf(heroId);
-    hero.name = UPDATED_NAME;
-    hero.otherName = UPDATED_OTHER_NAME;
-    hero.picture = UPDATED_PICTURE;
-    hero.powers = UPDATED_POWERS;
-    hero.level = UPDATED_LEVEL;
+    Hero hero = new Hero();
+    hero.setId(Long.valueOf(heroId));
+    hero.setName(UPDATED_NAME);
+    hero.setOtherName(UPDATED_OTHER_NAME);
+    hero.setPicture(UPDATED_PICTURE);
+    hero.setPowers(UPDATED_POWERS);
+    hero.setLevel(UPDATED_LEVEL);
+
+    String heroETag = get("/api/heroes/" + heroId).then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .header(ETAG);
+    String heroesETag = get("/api/heroes").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .header(ETAG);
 
     given()
       .body(hero)
@@ -184,8 +258,25 @@ public class HeroResourceTest {
       .body("picture", Is.is(UPDATED_PICTURE))
       .body("powers", Is.is(UPDATED_POWERS));
 
-    List<HeroEntity> heroes = get("/api/heroes").then()
+    // The hero was cached by the previous lookup, the update must have evicted it and changed its ETag
+    given()
+      .pathParam("id", heroId)
+      .header(IF_NONE_MATCH, heroETag)
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, not(heroETag))
+      .body("name", Is.is(UPDATED_NAME))
+      .body("level", Is.is(UPDATED_LEVEL));
+
+    List<Hero> heroes = given()
+      .header(IF_NONE_MATCH, heroesETag)
+      .when()
+      .get("/api/heroes")
+      .then()
       .statusCode(OK.getStatusCode())
+      .header(ETAG, not(heroesETag))
       .contentType(APPLICATION_JSON)
       .extract()
       .body()
@@ -203,17 +294,483 @@ public class HeroResourceTest {
       .then()
       .statusCode(NO_CONTENT.getStatusCode());
 
-    List<HeroEntity> heroes = get("/api/heroes").then()
+    given()
+      .pathParam("id", heroId)
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(NO_CONTENT.getStatusCode());
+
+    List<Hero> heroes = get("/api/heroes").then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(NB_HEROES, heroes.size());
+  }
+
+  @Test
+  @Order(5)
+  void shouldAddABatchOfItems() {
+    List<HeroBatchResult> results = given()
+      .body(List.of(defaultHero(DEFAULT_NAME), defaultHero(DEFAULT_NAME + " 2"), defaultHero(DEFAULT_NAME + " 3")))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/heroes/batch")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getBatchResultTypeRef());
+    assertEquals(3, results.size());
+    results.forEach(result -> {
+      assertEquals(CREATED.getStatusCode(), result.getStatus());
+      assertNotNull(result.getId());
+    });
+    batchHeroIds = results.stream().map(HeroBatchResult::getId).toList();
+
+    List<Hero> heroes = get("/api/heroes").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(NB_HEROES + 3, heroes.size());
+  }
+
+  @Test
+  @Order(6)
+  void shouldUpdateABatchOfItems() {
+    Hero updated = defaultHero(UPDATED_NAME);
+    updated.setId(batchHeroIds.get(0));
+    Hero unknown = defaultHero(UPDATED_NAME);
+    unknown.setId(-1L);
+
+    List<HeroBatchResult> results = given()
+      .body(List.of(updated, unknown))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .put("/api/heroes/batch")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getBatchResultTypeRef());
+    assertEquals(OK.getStatusCode(), results.get(0).getStatus());
+    assertEquals(NOT_FOUND.getStatusCode(), results.get(1).getStatus());
+
+    given()
+      .pathParam("id", updated.getId())
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("name", Is.is(UPDATED_NAME));
+  }
+
+  @Test
+  @Order(7)
+  void shouldRemoveABatchOfItems() {
+    List<HeroBatchResult> results = given()
+      .queryParam("id", batchHeroIds.get(0), batchHeroIds.get(1), batchHeroIds.get(2), -1L)
+      .when()
+      .delete("/api/heroes/batch")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getBatchResultTypeRef());
+    assertEquals(4, results.size());
+    assertEquals(NO_CONTENT.getStatusCode(), results.get(0).getStatus());
+    assertEquals(NOT_FOUND.getStatusCode(), results.get(3).getStatus());
+
+    List<Hero> heroes = get("/api/heroes").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(NB_HEROES, heroes.size());
+  }
+
+  @Test
+  void shouldGetHeroesPageByPage() {
+    List<Hero> firstPage = given()
+      .queryParam("size", 10)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .header("Link", containsString("rel=\"next\""))
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(10, firstPage.size());
+
+    Long lastId = firstPage.get(firstPage.size() - 1).getId();
+    List<Hero> secondPage = given()
+      .queryParam("after", lastId)
+      .queryParam("size", 10)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(10, secondPage.size());
+    assertTrue(secondPage.get(0).getId() > lastId);
+  }
+
+  @Test
+  void shouldGetSelectedFieldsOfHeroes() {
+    List<Hero> heroes = given()
+      .queryParam("fields", "name,level")
+      .queryParam("size", 10)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .header("Link", containsString("rel=\"next\""))
+      .body("[0]", not(hasKey("otherName")))
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(10, heroes.size());
+    heroes.forEach(hero -> {
+      assertNotNull(hero.getId());
+      assertNotNull(hero.getName());
+      assertNotNull(hero.getLevel());
+      assertNull(hero.getOtherName());
+      assertNull(hero.getPicture());
+      assertNull(hero.getVersion());
+    });
+
+    String etag = get("/api/heroes").then()
+      .extract()
+      .header(ETAG);
+    given()
+      .queryParam("fields", "name,level")
+      .header(IF_NONE_MATCH, etag)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, not(is(etag)));
+  }
+
+  @Test
+  void shouldGetPageOfHeroesWithTheirPowers() {
+    List<Hero> heroes = given()
+      .queryParam("fields", "name,powers")
+      .queryParam("size", 10)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .body("[0]", not(hasKey("level")))
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(10, heroes.size());
+    heroes.forEach(hero -> given()
+      .pathParam("id", hero.getId())
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("name", is(hero.getName()))
+      .body("powers", is(hero.getPowers())));
+  }
+
+  @Test
+  void shouldNotGetUnknownFieldsOfHeroes() {
+    given()
+      .queryParam("fields", "name,strength")
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldGetNotModifiedHero() {
+    Long id = given()
+      .queryParam("size", 1)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef())
+      .get(0).getId();
+    String etag = get("/api/heroes/" + id).then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, notNullValue())
+      .extract()
+      .header(ETAG);
+
+    given()
+      .pathParam("id", id)
+      .header(IF_NONE_MATCH, etag)
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(NOT_MODIFIED.getStatusCode())
+      .header(ETAG, is(etag))
+      .body(is(""));
+
+    given()
+      .pathParam("id", id)
+      .header(IF_NONE_MATCH, "\"unknown\", W/" + etag)
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(NOT_MODIFIED.getStatusCode());
+
+    given()
+      .pathParam("id", id)
+      .header(IF_NONE_MATCH, "\"unknown\"")
+      .when()
+      .get("/api/heroes/{id}")
+      .then()
+      .statusCode(OK.getStatusCode());
+  }
+
+  @Test
+  void shouldGetNotModifiedHeroes() {
+    String etag = get("/api/heroes").then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, notNullValue())
+      .extract()
+      .header(ETAG);
+
+    given()
+      .header(IF_NONE_MATCH, etag)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(NOT_MODIFIED.getStatusCode())
+      .header(ETAG, is(etag));
+  }
+
+  @Test
+  void shouldSearchHeroesByPowerAndLevel() {
+    List<Hero> firstPage = given()
+      .queryParam("q", "\"super strength\"")
+      .queryParam("minLevel", 2)
+      .queryParam("maxLevel", 5)
+      .queryParam("size", 10)
+      .when()
+      .get("/api/heroes/search")
+      .then()
       .statusCode(OK.getStatusCode())
       .contentType(APPLICATION_JSON)
+      .header("Link", containsString("rel=\"next\""))
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(10, firstPage.size());
+    firstPage.forEach(hero -> {
+      assertTrue(hero.getLevel() >= 2 && hero.getLevel() <= 5);
+      given()
+        .pathParam("id", hero.getId())
+        .when()
+        .get("/api/heroes/{id}")
+        .then()
+        .statusCode(OK.getStatusCode())
+        .body("powers", containsString("Super Strength"));
+    });
+
+    Long lastId = firstPage.get(firstPage.size() - 1).getId();
+    List<Hero> secondPage = given()
+      .queryParam("q", "\"super strength\"")
+      .queryParam("minLevel", 2)
+      .queryParam("maxLevel", 5)
+      .queryParam("after", lastId)
+      .queryParam("size", 10)
+      .when()
+      .get("/api/heroes/search")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertTrue(secondPage.get(0).getId() > lastId);
+  }
+
+  @Test
+  void shouldSearchHeroesByName() {
+    List<Hero> heroes = given()
+      .queryParam("q", "chewbacca")
+      .when()
+      .get("/api/heroes/search")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef());
+    assertEquals(1, heroes.size());
+    assertEquals("Chewbacca", heroes.get(0).getName());
+  }
+
+  @Test
+  void shouldSearchAllWordsAndExclusionsAcrossPowers() {
+    Hero chrononaut = defaultHero("Chrononaut");
+    chrononaut.setPowers("Quantumleap, Timeshift");
+    Hero moonwalker = defaultHero("Moonwalker");
+    moonwalker.setPowers("Quantumleap, Moonwalk");
+    List<Long> ids = List.of(createHero(chrononaut), createHero(moonwalker));
+
+    try {
+      assertEquals(List.of("Chrononaut"), searchHeroNames("quantumleap timeshift"));
+      assertEquals(List.of("Chrononaut"), searchHeroNames("quantumleap -moonwalk"));
+      assertEquals(List.of("Chrononaut", "Moonwalker"), searchHeroNames("timeshift or moonwalk"));
+    } finally {
+      ids.forEach(id -> given()
+        .pathParam("id", id)
+        .when()
+        .delete("/api/heroes/{id}")
+        .then()
+        .statusCode(NO_CONTENT.getStatusCode()));
+    }
+  }
+
+  @Test
+  void shouldNotSearchPageOfInvalidSize() {
+    given()
+      .queryParam("q", "flight")
+      .queryParam("size", 0)
+      .when()
+      .get("/api/heroes/search")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldNotGetPageOfInvalidSize() {
+    given()
+      .queryParam("size", 0)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldStreamAllHeroesAsNdjson() {
+    String body = given()
+      .header(ACCEPT, APPLICATION_NDJSON)
+      .when()
+      .get("/api/heroes/stream")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .asString();
+    assertEquals(NB_HEROES, body.lines().filter(line -> !line.isBlank()).count());
+  }
+
+  @Test
+  void shouldStreamAllHeroesAsJsonArray() {
+    List<Hero> heroes = given()
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .get("/api/heroes/stream")
+      .then()
+      .statusCode(OK.getStatusCode())
       .extract()
       .body()
       .as(getHeroTypeRef());
     assertEquals(NB_HEROES, heroes.size());
   }
 
-  private TypeRef<List<HeroEntity>> getHeroTypeRef() {
-    return new TypeRef<List<HeroEntity>>() {
+  @Test
+  void shouldExposeHeroCacheStatistics() {
+    Long id = get("/api/heroes/random").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(Hero.class)
+      .getId();
+    for (int i = 0; i < 2; i++) {
+      given()
+        .pathParam("id", id)
+        .when()
+        .get("/api/heroes/{id}")
+        .then()
+        .statusCode(OK.getStatusCode());
+    }
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*cache_gets_total\\{cache=\"hero-by-id\",result=\"hit\",?} [1-9].*"))
+      .body(containsString("cache_evictions_total{cache=\"hero-by-id\""));
+  }
+
+  @Test
+  void shouldExposeHeroLatencyMetrics() {
+    get("/api/heroes/random").then()
+      .statusCode(OK.getStatusCode());
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*heroes_api_requests_seconds\\{.*operation=\"get-random-hero\".*quantile=\"0\\.99\".*"))
+      .body(containsString("heroes_db_queries_seconds_bucket"))
+      .body(containsString("heroes_random_index_lookups_total"));
+  }
+
+  private Long createHero(Hero hero) {
+    String location = given()
+      .body(hero)
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/heroes")
+      .then()
+      .statusCode(CREATED.getStatusCode())
+      .extract()
+      .header("Location");
+    return Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+  }
+
+  private List<String> searchHeroNames(String query) {
+    return given()
+      .queryParam("q", query)
+      .when()
+      .get("/api/heroes/search")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getHeroTypeRef())
+      .stream()
+      .map(Hero::getName)
+      .toList();
+  }
+
+  private Hero defaultHero(String name) {
+    Hero hero = new Hero();
+    hero.setName(name);
+    hero.setOtherName(DEFAULT_OTHER_NAME);
+    hero.setPicture(DEFAULT_PICTURE);
+    hero.setPowers(DEFAULT_POWERS);
+    hero.setLevel(DEFAULT_LEVEL);
+    return hero;
+  }
+
+  private TypeRef<List<HeroBatchResult>> getBatchResultTypeRef() {
+    return new TypeRef<List<HeroBatchResult>>() {
+      // Kept empty on purpose
+    };
+  }
+
+  private TypeRef<List<Hero>> getHeroTypeRef() {
+    return new TypeRef<List<Hero>>() {
       // Kept empty on purpose
     };
   }
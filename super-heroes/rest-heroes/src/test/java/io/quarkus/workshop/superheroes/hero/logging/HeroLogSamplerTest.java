@@ -0,0 +1,40 @@
+package io.quarkus.workshop.superheroes.hero.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeroLogSamplerTest {
+
+  private static final int MAX_PER_SECOND = 10;
+
+  @Test
+  void shouldLetEverythingThroughWhenDisabled() {
+    HeroLogSampler sampler = new HeroLogSampler(0);
+    assertTrue(IntStream.range(0, 1_000).allMatch(i -> sampler.isLoggable(new LogRecord(Level.INFO, "Hero " + i))));
+  }
+
+  @Test
+  void shouldDropAndCountRecordsOverTheLimit() {
+    HeroLogSampler sampler = new HeroLogSampler(MAX_PER_SECOND);
+    long droppedBefore = HeroLogSampler.droppedEvents();
+
+    // Unless the second changes during the loop, only the first records of the second are let through
+    long logged = IntStream.range(0, 1_000).filter(i -> sampler.isLoggable(new LogRecord(Level.INFO, "Hero " + i))).count();
+
+    assertTrue(logged >= MAX_PER_SECOND && logged <= 2 * MAX_PER_SECOND, "Logged " + logged + " records");
+    assertEquals(1_000 - logged, HeroLogSampler.droppedEvents() - droppedBefore);
+  }
+
+  @Test
+  void shouldNeverDropWarningsAndErrors() {
+    HeroLogSampler sampler = new HeroLogSampler(MAX_PER_SECOND);
+    assertTrue(IntStream.range(0, 1_000).allMatch(i -> sampler.isLoggable(new LogRecord(Level.WARNING, "Hero " + i))));
+    assertTrue(sampler.isLoggable(new LogRecord(Level.SEVERE, "Hero error")));
+  }
+}
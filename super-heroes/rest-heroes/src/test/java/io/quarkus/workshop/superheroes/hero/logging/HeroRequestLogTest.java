@@ -0,0 +1,31 @@
+package io.quarkus.workshop.superheroes.hero.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeroRequestLogTest {
+
+  private static final int NB_REQUESTS = 100_000;
+
+  @Test
+  void shouldSampleEveryRequestWithRateOfOne() {
+    HeroRequestLog requestLog = new HeroRequestLog(1);
+    assertTrue(IntStream.range(0, 100).allMatch(i -> requestLog.isSampled()));
+  }
+
+  @Test
+  void shouldSampleAboutOneRequestPerRate() {
+    HeroRequestLog requestLog = new HeroRequestLog(100);
+    long sampled = IntStream.range(0, NB_REQUESTS).filter(i -> requestLog.isSampled()).count();
+    assertTrue(sampled > 500 && sampled < 1_500, "Sampled " + sampled + " requests out of " + NB_REQUESTS);
+  }
+
+  @Test
+  void shouldRejectRateBelowOne() {
+    assertThrows(IllegalArgumentException.class, () -> new HeroRequestLog(0));
+  }
+}
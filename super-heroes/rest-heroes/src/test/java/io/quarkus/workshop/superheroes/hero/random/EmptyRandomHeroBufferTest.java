@@ -0,0 +1,41 @@
+package io.quarkus.workshop.superheroes.hero.random;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.get;
+import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@QuarkusTest
+@TestProfile(EmptyRandomHeroBufferTest.EmptyTableProfile.class)
+public class EmptyRandomHeroBufferTest {
+
+  @Inject
+  RandomHeroBuffer randomHeroBuffer;
+
+  // The schema is dropped and created at startup, and no hero is loaded into it
+  public static class EmptyTableProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("hero.data.load", "false");
+    }
+  }
+
+  @Test
+  void shouldStayEmptyWithoutHeroes() {
+    assertNull(randomHeroBuffer.poll());
+    randomHeroBuffer.refill();
+    assertEquals(0, randomHeroBuffer.size());
+
+    get("/api/heroes/random").then()
+      .statusCode(NO_CONTENT.getStatusCode());
+    assertEquals(0, randomHeroBuffer.size());
+  }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.workshop.superheroes.hero.random;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.workshop.superheroes.hero.api.model.Hero;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BooleanSupplier;
+
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@QuarkusTest
+public class RandomHeroBufferTest {
+
+  private static final long TIMEOUT_MILLIS = 10_000;
+
+  @Inject
+  RandomHeroBuffer randomHeroBuffer;
+
+  @ConfigProperty(name = "hero.random-buffer.size")
+  int capacity;
+
+  @ConfigProperty(name = "hero.random-buffer.refill-threshold")
+  int refillThreshold;
+
+  @Test
+  void shouldRefillWhenRunningLow() {
+    await(() -> randomHeroBuffer.size() == capacity, "the buffer to be filled");
+
+    for (int i = 0; i < capacity - refillThreshold; i++) {
+      assertNotNull(randomHeroBuffer.poll());
+    }
+
+    await(() -> randomHeroBuffer.size() == capacity, "the buffer to be refilled");
+  }
+
+  @Test
+  void shouldEvictHero() {
+    await(() -> randomHeroBuffer.size() > 0, "a buffered hero");
+    Long id = randomHeroBuffer.heroes().get(0).getId();
+
+    randomHeroBuffer.evict(id);
+
+    assertFalse(randomHeroBuffer.heroes().stream().anyMatch(hero -> id.equals(hero.getId())));
+  }
+
+  @Test
+  void shouldNotServeUpdatedHeroWithItsFormerValues() {
+    await(() -> randomHeroBuffer.size() > 0, "a buffered hero");
+    Hero hero = randomHeroBuffer.heroes().get(0);
+    Long id = hero.getId();
+    String formerName = hero.getName();
+
+    try {
+      update(hero, "Updated hero " + id);
+      // A refill may buffer the hero again, only with its new values
+      assertTrue(randomHeroBuffer.heroes().stream()
+        .noneMatch(buffered -> id.equals(buffered.getId()) && formerName.equals(buffered.getName())));
+    } finally {
+      update(hero, formerName);
+    }
+  }
+
+  // The buffered hero is copied, as it is shared with the buffer
+  private static void update(Hero hero, String name) {
+    given()
+      .body(new Hero()
+        .id(hero.getId())
+        .name(name)
+        .otherName(hero.getOtherName())
+        .level(hero.getLevel())
+        .picture(hero.getPicture())
+        .powers(hero.getPowers()))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .put("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode());
+  }
+
+  static void await(BooleanSupplier condition, String description) {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        fail("Timed out waiting for " + description);
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail("Interrupted while waiting for " + description);
+      }
+    }
+  }
+}
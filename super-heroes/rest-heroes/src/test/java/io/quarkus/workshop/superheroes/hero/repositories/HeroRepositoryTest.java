@@ -0,0 +1,53 @@
+package io.quarkus.workshop.superheroes.hero.repositories;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.vertx.VertxContextSupport;
+import io.quarkus.workshop.superheroes.hero.entities.HeroEntity;
+import io.quarkus.workshop.superheroes.hero.random.HeroIdIndex;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.get;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@QuarkusTest
+@TestProfile(HeroRepositoryTest.StaleIdIndexProfile.class)
+public class HeroRepositoryTest {
+
+  @Inject
+  HeroRepository heroRepository;
+
+  @Inject
+  HeroIdIndex heroIdIndex;
+
+  // The random heroes are read through the id index rather than the buffer, and the test empties the index of its
+  // application, so it does not share it with the other tests
+  public static class StaleIdIndexProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("hero.random-buffer.enabled", "false");
+    }
+  }
+
+  @Test
+  void shouldFindRandomHeroWhenOnlyStaleIdsAreIndexed() throws Throwable {
+    List<Long> ids = VertxContextSupport.subscribeAndAwait(() -> Panache.withSession(() -> heroRepository.listAllIds()));
+    ids.forEach(id -> heroIdIndex.remove(id));
+    List.of(-1L, -2L, -3L).forEach(id -> heroIdIndex.add(id));
+
+    HeroEntity hero = VertxContextSupport.subscribeAndAwait(() -> Panache.withSession(() -> heroRepository.findRandom()));
+
+    assertNotNull(hero);
+    assertEquals(0, heroIdIndex.size());
+    get("/api/heroes/random").then()
+      .statusCode(OK.getStatusCode());
+  }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.workshop.superheroes.hero.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests the span structure of a request: the server span, then the service, repository query and mapping spans, with
+ * the SQL statements as client spans, all in the trace propagated by the caller.
+ */
+@QuarkusTest
+public class HeroTracingTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+  private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+  private static final long TIMEOUT_MILLIS = 5_000;
+
+  @Inject
+  InMemorySpanExporter exporter;
+
+  @BeforeEach
+  void resetExporter() {
+    exporter.reset();
+  }
+
+  @Test
+  void shouldTraceHeroPageFromServiceToDatabase() {
+    given()
+      .header("traceparent", TRACEPARENT)
+      .queryParam("after", 0)
+      .queryParam("size", 5)
+      .when()
+      .get("/api/heroes")
+      .then()
+      .statusCode(OK.getStatusCode());
+
+    SpanData service = awaitSpan("HeroService.retrieveHeroPage");
+    SpanData query = awaitSpan("HeroRepository.findPageAfter");
+    SpanData mapping = awaitSpan("HeroMapper.toHeroDtoList");
+    SpanData server = awaitSpan(span -> span.getKind() == SpanKind.SERVER && span.getName().contains("/api/heroes"));
+
+    for (SpanData span : List.of(server, service, query, mapping)) {
+      assertEquals(TRACE_ID, span.getTraceId(), span.getName());
+    }
+    assertEquals(server.getSpanId(), service.getParentSpanId());
+    assertEquals(service.getSpanId(), query.getParentSpanId());
+    assertTrue(exporter.getFinishedSpanItems().stream()
+        .anyMatch(span -> span.getKind() == SpanKind.CLIENT && span.getTraceId().equals(TRACE_ID)),
+        "No database span in the trace");
+  }
+
+  private SpanData awaitSpan(String name) {
+    return awaitSpan(span -> span.getName().equals(name));
+  }
+
+  // Spans are exported once they end, which may be after the response has been sent.
+  private SpanData awaitSpan(Predicate<SpanData> predicate) {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      Optional<SpanData> span = exporter.getFinishedSpanItems().stream().filter(predicate).findFirst();
+      if (span.isPresent()) {
+        return span.get();
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return fail("Span not exported, got " + exporter.getFinishedSpanItems().stream().map(SpanData::getName).toList());
+  }
+}
@@ -0,0 +1,273 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.api.reactive.VillainsApi;
+import io.quarkus.workshop.superheroes.villain.logging.VillainRequestLog;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex.Match;
+import io.quarkus.workshop.superheroes.villain.services.ReactiveVillainService;
+import io.quarkus.workshop.superheroes.villain.services.VillainExportService;
+import io.quarkus.workshop.superheroes.villain.services.VillainExportService.ExportFormat;
+import io.quarkus.workshop.superheroes.villain.services.VillainField;
+import io.quarkus.workshop.superheroes.villain.services.VillainImportResult;
+import io.quarkus.workshop.superheroes.villain.services.VillainService;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestMediaType;
+import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestQuery;
+
+import java.net.URI;
+import java.util.List;
+
+import static io.quarkus.workshop.superheroes.villain.metrics.VillainMeterFilters.API_TIMER;
+
+/**
+ * Reactive implementation of the Villains API, selected with {@code villain.execution-model=reactive} at build time.
+ * The API endpoints run on the event loop with the reactive PostgreSQL client, like the Heroes API. The export and
+ * bulk import stay on worker threads, as they rely on JDBC cursors and batches.
+ */
+@Path("/api/villains")
+@Tag(name = "villains")
+@IfBuildProperty(name = "villain.execution-model", stringValue = "reactive")
+public class ReactiveVillainResource implements VillainsApi {
+
+  @Context
+  UriInfo uriInfo;
+
+  // The villain OpenAPI reference does not declare the If-None-Match header, so it is read from the request headers.
+  @Context
+  HttpHeaders httpHeaders;
+
+  @Inject
+  ReactiveVillainService reactiveVillainService;
+
+  @Inject
+  VillainService villainService;
+
+  @Inject
+  VillainExportService villainExportService;
+
+  @Inject
+  VillainRequestLog requestLog;
+
+  @Inject
+  Logger logger;
+
+  // GET methods
+
+  @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-all-villains"})
+  public Uni<Response> getAllVillains() {
+    requestLog.log("All Villains are requested.");
+    String ifNoneMatch = httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+    List<VillainField> fields = VillainETags.fields(uriInfo);
+    return reactiveVillainService.findVillainsVersion().chain(version -> {
+      EntityTag etag = VillainETags.of(version, fields);
+      if (VillainETags.matches(ifNoneMatch, etag)) {
+        logger.debug("Villains not modified.");
+        return Uni.createFrom().item(Response.notModified(etag).build());
+      }
+      Uni<List<Villain>> allVillains = fields != null
+        ? reactiveVillainService.findAllVillainFields(fields)
+        : reactiveVillainService.findAllVillains();
+      return allVillains
+        .invoke(villains -> {
+          if (logger.isDebugEnabled()) {
+            logger.debugf("Number of Villains found: %d", villains.size());
+          }
+        })
+        .map(villains -> Response.ok(villains).tag(etag).build());
+    });
+  }
+
+  @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-villain"})
+  public Uni<Response> getVillainById(@RestPath Long id) {
+    requestLog.log("Villain with ID %d is requested.", id);
+    String ifNoneMatch = httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+    return reactiveVillainService.findVillainVersion(id).chain(version -> {
+      if (version == null) {
+        logger.debugf("Villain with ID %d not found.", id);
+        return Uni.createFrom().item(Response.noContent().build());
+      }
+      EntityTag etag = VillainETags.of(id, version);
+      if (VillainETags.matches(ifNoneMatch, etag)) {
+        logger.debugf("Villain with ID %d not modified.", id);
+        return Uni.createFrom().item(Response.notModified(etag).build());
+      }
+      return reactiveVillainService.findVillainById(id)
+        .map(villain -> {
+          if (villain == null) {
+            logger.debugf("Villain with ID %d not found.", id);
+            return Response.noContent().build();
+          }
+          logger.debugf("Villain found: %s", villain);
+          return Response.ok(villain).tag(etag).build();
+        });
+    });
+  }
+
+  @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-random-villain"})
+  public Uni<Response> getRandomVillain() {
+    requestLog.log("Random Villain is requested.");
+    return reactiveVillainService.findRandomVillain()
+      .map(villain -> {
+        logger.debugf("Random Villain found: %s", villain);
+        return Response.ok(villain).build();
+      })
+      .onFailure(IllegalArgumentException.class).recoverWithItem(e -> {
+        logger.error(e.getMessage());
+        return Response.noContent().build();
+      });
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(RestMediaType.APPLICATION_NDJSON)
+  @Blocking
+  @Timed(value = API_TIMER, extraTags = {"operation", "export-villains"})
+  public Response exportVillainsAsNdjson() {
+    requestLog.log("Villains export is requested as NDJSON.");
+    return Response.ok(exportVillains(ExportFormat.NDJSON)).build();
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Blocking
+  @Timed(value = API_TIMER, extraTags = {"operation", "export-villains"})
+  public Response exportVillainsAsJsonArray() {
+    requestLog.log("Villains export is requested as a JSON array.");
+    return Response.ok(exportVillains(ExportFormat.JSON_ARRAY)).build();
+  }
+
+  @GET
+  @Path("/search")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(summary = "Searches the villains by powers and level, ordered by id")
+  @APIResponse(responseCode = "200", description = "A page of the matching villains")
+  @APIResponse(responseCode = "400", description = "The page size is invalid")
+  @Timed(value = API_TIMER, extraTags = {"operation", "search-villains"})
+  public Uni<Response> searchVillains(@RestQuery List<String> power,
+                                      @RestQuery @DefaultValue("all") Match match,
+                                      @RestQuery @Min(1) Integer minLevel,
+                                      @RestQuery @Min(1) Integer maxLevel,
+                                      @RestQuery Long after,
+                                      @RestQuery @DefaultValue("100") @Min(1) @Max(1000) int size) {
+    requestLog.log("Villains with %d powers are searched.", power.size());
+    return reactiveVillainService.searchVillains(power, match, minLevel, maxLevel, after, size)
+      .invoke(villains -> {
+        if (logger.isDebugEnabled()) {
+          logger.debugf("Number of Villains found: %d", villains.size());
+        }
+      })
+      .map(villains -> Response.ok(villains).build());
+  }
+
+  @GET
+  @Path("/hello")
+  @Produces(MediaType.TEXT_PLAIN)
+  public Uni<Response> hello() {
+    return Uni.createFrom().item(Response.ok("Hello Villain Resource").build());
+  }
+
+  private StreamingOutput exportVillains(ExportFormat format) {
+    return output -> {
+      long count = villainExportService.exportVillains(output, format);
+      if (logger.isDebugEnabled()) {
+        logger.debugf("Number of Villains exported: %d", count);
+      }
+    };
+  }
+
+  // POST methods
+
+  @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "create-villain"})
+  public Uni<Response> createVillain(@Valid Villain villain) {
+    requestLog.log("Villain is requested to be added.");
+    logger.debugf("Villain to add: %s", villain);
+    return reactiveVillainService.persistVillain(villain)
+      .map(created -> {
+        URI uri = uriInfo.getAbsolutePathBuilder().path(Long.toString(created.getId())).build();
+        logger.debugf("New villain created with URI %s", uri);
+        return Response.created(uri).build();
+      });
+  }
+
+  @POST
+  @Path("/bulk")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  @Blocking
+  @Operation(summary = "Imports a list of villains in a single transaction")
+  @APIResponse(responseCode = "200", description = "The number and ids of the imported villains")
+  @APIResponse(responseCode = "400", description = "One of the villains is invalid, nothing is imported")
+  @Timed(value = API_TIMER, extraTags = {"operation", "import-villains"})
+  public Response importVillains(@Valid List<Villain> villains) {
+    requestLog.log("Bulk import of %d villains is requested.", villains.size());
+    VillainImportResult result = villainService.importVillains(villains);
+    if (logger.isDebugEnabled()) {
+      logger.debugf("Number of Villains imported: %d", result.imported());
+    }
+    return Response.ok(result).build();
+  }
+
+  // PUT methods
+
+  @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "update-villain"})
+  public Uni<Response> updateVillain(@Valid Villain villain) {
+    requestLog.log("Villain with ID %d is requested to be updated.", villain.getId());
+    return reactiveVillainService.updateVillain(villain)
+      .map(updated -> {
+        logger.debugf("Villain updated: %s", updated);
+        return Response.ok(updated).build();
+      })
+      .onFailure(IllegalArgumentException.class).recoverWithItem(e -> {
+        logger.error(e.getMessage());
+        return Response.noContent().build();
+      });
+  }
+
+  // DELETE methods
+
+  @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "delete-villain"})
+  public Uni<Response> deleteVillain(Long id) {
+    requestLog.log("Villain with ID %d is requested to be deleted.", id);
+    return reactiveVillainService.deleteVillain(id)
+      .map(ignored -> {
+        logger.debugf("Villain with ID %d is deleted.", id);
+        return Response.ok().build();
+      })
+      .onFailure(IllegalArgumentException.class).recoverWithItem(e -> {
+        logger.error(e.getMessage());
+        return Response.noContent().build();
+      });
+  }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.workshop.superheroes.villain.services.VillainCollectionVersion;
+import io.quarkus.workshop.superheroes.villain.services.VillainField;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entity tags of the villain representations, derived from the villain versions so that they can be checked against
+ * the {@code If-None-Match} header before the villains are loaded.
+ */
+final class VillainETags {
+
+  private VillainETags() {
+  }
+
+  static EntityTag of(Long id, long version) {
+    return new EntityTag(id + "-" + version);
+  }
+
+  static EntityTag of(VillainCollectionVersion version) {
+    return new EntityTag(version.count() + "-" + version.versionSum() + "-" + version.maxId());
+  }
+
+  // Each selection of fields is a different representation of the same collection, with its own tag.
+  static EntityTag of(VillainCollectionVersion version, List<VillainField> fields) {
+    if (fields == null) {
+      return of(version);
+    }
+    return new EntityTag(of(version).getValue() + "-" + fields.stream()
+      .map(VillainField::attribute)
+      .collect(Collectors.joining(".")));
+  }
+
+  /**
+   * Parses the {@code fields} query parameter of the villain list. The villain OpenAPI reference does not declare
+   * it, so it is read from the request URI.
+   * @return the selected fields, or null if the parameter is missing.
+   * @throws BadRequestException if a field is unknown.
+   */
+  static List<VillainField> fields(UriInfo uriInfo) {
+    String fields = uriInfo.getQueryParameters().getFirst("fields");
+    if (fields == null) {
+      return null;
+    }
+    try {
+      return VillainField.parse(fields);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException(e.getMessage());
+    }
+  }
+
+  /**
+   * Checks the {@code If-None-Match} header with the weak comparison of RFC 9110: a tag matches whether it is weak or
+   * not, and {@code *} matches any representation.
+   * @param ifNoneMatch the value of the header, or null if it is missing.
+   * @param etag the entity tag of the current representation.
+   * @return true if the client already holds the current representation.
+   */
+  static boolean matches(String ifNoneMatch, EntityTag etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String opaqueTag = '"' + etag.getValue() + '"';
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(opaqueTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
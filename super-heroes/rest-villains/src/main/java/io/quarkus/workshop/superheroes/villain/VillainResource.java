@@ -1,68 +1,122 @@
 package io.quarkus.workshop.superheroes.villain;
 
+import io.micrometer.core.annotation.Timed;
 
+import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.workshop.superheroes.villain.api.VillainsApi;
 import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.logging.VillainRequestLog;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex.Match;
+import io.quarkus.workshop.superheroes.villain.services.VillainExportService;
+import io.quarkus.workshop.superheroes.villain.services.VillainExportService.ExportFormat;
+import io.quarkus.workshop.superheroes.villain.services.VillainField;
+import io.quarkus.workshop.superheroes.villain.services.VillainImportResult;
 import io.quarkus.workshop.superheroes.villain.services.VillainService;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestMediaType;
 import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestQuery;
 
+import java.net.URI;
 import java.util.List;
 
+import static io.quarkus.workshop.superheroes.villain.metrics.VillainMeterFilters.API_TIMER;
 
 
+
+// Blocking implementation of the Villains API, the default execution model.
+// See VirtualThreadVillainResource and ReactiveVillainResource for the other ones.
 @Path("/api/villains")
 @Tag(name = "villains")
+@IfBuildProperty(name = "villain.execution-model", stringValue = "blocking", enableIfMissing = true)
 public class VillainResource implements VillainsApi {
 
   @Context
   UriInfo uriInfo;
 
+  // The villain OpenAPI reference does not declare the If-None-Match header, so it is read from the request headers.
+  @Context
+  HttpHeaders httpHeaders;
+
   @Inject
   private VillainService villainService;
 
+  @Inject
+  private VillainExportService villainExportService;
+
+  @Inject
+  private VillainRequestLog requestLog;
+
   @Inject
   private Logger logger;
 
   // GET methods
 
   @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-all-villains"})
   public Response getAllVillains() {
-    logger.info("All Villains are requested.");
-    List<Villain> allVillains = villainService.findAllVillains();
-    logger.debug("Number of Villains found: " + allVillains.size());
-    return Response.ok(allVillains).build();
+    requestLog.log("All Villains are requested.");
+    List<VillainField> fields = VillainETags.fields(uriInfo);
+    EntityTag etag = VillainETags.of(villainService.findVillainsVersion(), fields);
+    if (VillainETags.matches(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+      logger.debug("Villains not modified.");
+      return Response.notModified(etag).build();
+    }
+    List<Villain> allVillains = fields != null
+      ? villainService.findAllVillainFields(fields)
+      : villainService.findAllVillains();
+    if (logger.isDebugEnabled()) {
+      logger.debugf("Number of Villains found: %d", allVillains.size());
+    }
+    return Response.ok(allVillains).tag(etag).build();
   }
 
   @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-villain"})
   public Response getVillainById(@RestPath Long id) {
-    logger.info("Villain with ID " + id + " is requested.");
-    Villain villain = villainService.findVillainById(id);
-    if (villain == null) {
-      logger.debug("Villain with ID " + id + " not found.");
+    requestLog.log("Villain with ID %d is requested.", id);
+    Long version = villainService.findVillainVersion(id);
+    if (version == null) {
+      logger.debugf("Villain with ID %d not found.", id);
       return Response.noContent().build();
     }
-    logger.debug("Villain found: " + villain);
-    return Response.ok(villain).build();
+    EntityTag etag = VillainETags.of(id, version);
+    if (VillainETags.matches(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+      logger.debugf("Villain with ID %d not modified.", id);
+      return Response.notModified(etag).build();
+    }
+    Villain villain = villainService.findVillainById(id);
+    logger.debugf("Villain found: %s", villain);
+    return Response.ok(villain).tag(etag).build();
   }
 
   @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "get-random-villain"})
   public Response getRandomVillain() {
-    logger.info("Random Villain is requested.");
+    requestLog.log("Random Villain is requested.");
     try {
       Villain randomVillain = villainService.findRandomVillain();
-      logger.debug("Random Villain found: " + randomVillain);
+      logger.debugf("Random Villain found: %s", randomVillain);
       return Response.ok(randomVillain).build();
     }
     catch (IllegalArgumentException e) {
@@ -71,6 +125,45 @@ public class VillainResource implements VillainsApi {
     }
   }
 
+  @GET
+  @Path("/export")
+  @Produces(RestMediaType.APPLICATION_NDJSON)
+  @Timed(value = API_TIMER, extraTags = {"operation", "export-villains"})
+  public Response exportVillainsAsNdjson() {
+    requestLog.log("Villains export is requested as NDJSON.");
+    return Response.ok(exportVillains(ExportFormat.NDJSON)).build();
+  }
+
+  @GET
+  @Path("/export")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(value = API_TIMER, extraTags = {"operation", "export-villains"})
+  public Response exportVillainsAsJsonArray() {
+    requestLog.log("Villains export is requested as a JSON array.");
+    return Response.ok(exportVillains(ExportFormat.JSON_ARRAY)).build();
+  }
+
+  @GET
+  @Path("/search")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(summary = "Searches the villains by powers and level, ordered by id")
+  @APIResponse(responseCode = "200", description = "A page of the matching villains")
+  @APIResponse(responseCode = "400", description = "The page size is invalid")
+  @Timed(value = API_TIMER, extraTags = {"operation", "search-villains"})
+  public Response searchVillains(@RestQuery List<String> power,
+                                 @RestQuery @DefaultValue("all") Match match,
+                                 @RestQuery @Min(1) Integer minLevel,
+                                 @RestQuery @Min(1) Integer maxLevel,
+                                 @RestQuery Long after,
+                                 @RestQuery @DefaultValue("100") @Min(1) @Max(1000) int size) {
+    requestLog.log("Villains with %d powers are searched.", power.size());
+    List<Villain> villains = villainService.searchVillains(power, match, minLevel, maxLevel, after, size);
+    if (logger.isDebugEnabled()) {
+      logger.debugf("Number of Villains found: %d", villains.size());
+    }
+    return Response.ok(villains).build();
+  }
+
   @GET
   @Path("/hello")
   @Produces(MediaType.TEXT_PLAIN)
@@ -78,25 +171,54 @@ public class VillainResource implements VillainsApi {
       return Response.ok("Hello Villain Resource").build();
   }
 
+  private StreamingOutput exportVillains(ExportFormat format) {
+    return output -> {
+      long count = villainExportService.exportVillains(output, format);
+      if (logger.isDebugEnabled()) {
+        logger.debugf("Number of Villains exported: %d", count);
+      }
+    };
+  }
+
   //POST methods
 
   @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "create-villain"})
   public Response createVillain(@Valid Villain villain) {
-    logger.info("Villain is requested to be added: " + villain);
+    requestLog.log("Villain is requested to be added.");
+    logger.debugf("Villain to add: %s", villain);
     villain = villainService.persistVillain(villain);
-    UriBuilder builder = uriInfo.getAbsolutePathBuilder().path(Long.toString(villain.getId()));
-    logger.debug("New villain created with URI " + builder.build().toString());
-    return Response.created(builder.build()).build();
+    URI uri = uriInfo.getAbsolutePathBuilder().path(Long.toString(villain.getId())).build();
+    logger.debugf("New villain created with URI %s", uri);
+    return Response.created(uri).build();
+  }
+
+  @POST
+  @Path("/bulk")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(summary = "Imports a list of villains in a single transaction")
+  @APIResponse(responseCode = "200", description = "The number and ids of the imported villains")
+  @APIResponse(responseCode = "400", description = "One of the villains is invalid, nothing is imported")
+  @Timed(value = API_TIMER, extraTags = {"operation", "import-villains"})
+  public Response importVillains(@Valid List<Villain> villains) {
+    requestLog.log("Bulk import of %d villains is requested.", villains.size());
+    VillainImportResult result = villainService.importVillains(villains);
+    if (logger.isDebugEnabled()) {
+      logger.debugf("Number of Villains imported: %d", result.imported());
+    }
+    return Response.ok(result).build();
   }
 
   // PUT methods
 
   @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "update-villain"})
   public Response updateVillain(@Valid Villain villain) {
-    logger.info("Villain is requested to be updated: " + villain);
+    requestLog.log("Villain with ID %d is requested to be updated.", villain.getId());
     try {
       villain = villainService.updateVillain(villain);
-      logger.debug("Villain updated: " + villain);
+      logger.debugf("Villain updated: %s", villain);
       return Response.ok(villain).build();
     } catch (IllegalArgumentException e) {
       logger.error(e.getMessage());
@@ -107,11 +229,12 @@ public class VillainResource implements VillainsApi {
   // DELETE methods
 
   @Override
+  @Timed(value = API_TIMER, extraTags = {"operation", "delete-villain"})
   public Response deleteVillain(Long id) {
-    logger.info("Villain with ID " + id + " is requested to be deleted.");
+    requestLog.log("Villain with ID %d is requested to be deleted.", id);
     try {
       villainService.deleteVillain(id);
-      logger.debug("Villain with ID " + id + " is deleted.");
+      logger.debugf("Villain with ID %d is deleted.", id);
       return Response.ok().build();
     }
     catch (IllegalArgumentException e) {
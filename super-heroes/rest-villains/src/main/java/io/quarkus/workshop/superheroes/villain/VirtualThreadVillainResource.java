@@ -0,0 +1,17 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.Path;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+// Runs the blocking implementation of the Villains API on virtual threads, selected with
+// villain.execution-model=virtual-threads at build time. The endpoints still block on JDBC, but a blocked virtual
+// thread does not hold a worker thread, so bursts of requests queue on the connection pool instead of the worker pool.
+// It requires Java 21; on older runtimes Quarkus falls back to worker threads.
+@Path("/api/villains")
+@Tag(name = "villains")
+@RunOnVirtualThread
+@IfBuildProperty(name = "villain.execution-model", stringValue = "virtual-threads")
+public class VirtualThreadVillainResource extends VillainResource {
+}
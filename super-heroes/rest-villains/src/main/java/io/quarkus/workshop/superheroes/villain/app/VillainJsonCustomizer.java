@@ -0,0 +1,25 @@
+package io.quarkus.workshop.superheroes.villain.app;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import jakarta.inject.Singleton;
+
+/**
+ * Leaves the null fields of the villains out of the responses, such as the powers that the operations listing
+ * villains do not read, or the fields that a projection does not select. The Villain model is generated from the
+ * OpenAPI reference, so the annotation is added with a mix-in. The other types keep the default inclusion.
+ */
+@Singleton
+public class VillainJsonCustomizer implements ObjectMapperCustomizer {
+
+  @Override
+  public void customize(ObjectMapper objectMapper) {
+    objectMapper.addMixIn(Villain.class, NonNullFields.class);
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private interface NonNullFields {
+  }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.workshop.superheroes.villain.entities;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.smallrye.common.constraint.NotNull;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Entity class representing a power of the dictionary shared by all the villains.
+ * Every distinct power name is stored once, and villains reference it by its id through the {@code villainEntity_power}
+ * join table. Powers never change once added, so they are kept in the second-level cache.
+ */
+@Entity
+@Table(name = "power")
+@Cacheable
+@Immutable
+public class PowerEntity extends PanacheEntityBase {
+
+  // The separator of the powers in the powers field of the Villain API.
+  public static final String SEPARATOR = ", ";
+
+  // Concurrent transactions adding the same new power both succeed, the second one finds the power of the first.
+  private static final String INSERT_POWER = "insert into power(id, name) values (nextval('power_seq'), :name) " +
+    "on conflict (name) do nothing";
+
+  // An int is enough for the distinct powers, and keeps the rows of the join table small.
+  // Powers are only ever inserted with SQL taking their id from the sequence, so it is not pooled.
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "power_seq")
+  @SequenceGenerator(name = "power_seq", sequenceName = "power_seq", allocationSize = 1)
+  public Integer id;
+
+  @NotNull
+  @Column(unique = true, nullable = false)
+  public String name;
+
+  /**
+   * Resolves power names to the powers of the dictionary, adding the names that are not in it yet.
+   * @param names the power names.
+   * @return the powers by name.
+   */
+  public static Map<String, PowerEntity> resolve(Collection<String> names) {
+    Set<String> distinctNames = new LinkedHashSet<>(names);
+    if (distinctNames.isEmpty()) {
+      return Map.of();
+    }
+    List<PowerEntity> powers = list("name in ?1", distinctNames);
+    if (powers.size() < distinctNames.size()) {
+      Set<String> missing = new LinkedHashSet<>(distinctNames);
+      powers.forEach(power -> missing.remove(power.name));
+      for (String name : missing) {
+        // Synchronized on the powers only, otherwise Hibernate would evict every region of the second-level cache
+        getEntityManager().createNativeQuery(INSERT_POWER)
+          .setParameter("name", name)
+          .unwrap(NativeQuery.class)
+          .addSynchronizedEntityClass(PowerEntity.class)
+          .executeUpdate();
+      }
+      powers = list("name in ?1", distinctNames);
+    }
+    return powers.stream().collect(Collectors.toMap(power -> power.name, Function.identity()));
+  }
+
+  /**
+   * Splits the comma-separated powers of the Villain API into power names, in order. Blank powers are skipped.
+   */
+  public static List<String> names(String powers) {
+    if (powers == null) {
+      return List.of();
+    }
+    return Arrays.stream(powers.split(","))
+      .map(String::trim)
+      .filter(name -> !name.isEmpty())
+      .toList();
+  }
+
+  /**
+   * Joins powers back into the comma-separated form of the Villain API.
+   * @return the comma-separated power names, or null if there are no powers.
+   */
+  public static String join(List<PowerEntity> powers) {
+    if (powers == null || powers.isEmpty()) {
+      return null;
+    }
+    return powers.stream().map(power -> power.name).collect(Collectors.joining(SEPARATOR));
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
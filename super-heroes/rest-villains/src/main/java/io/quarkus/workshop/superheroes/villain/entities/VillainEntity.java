@@ -1,19 +1,43 @@
 package io.quarkus.workshop.superheroes.villain.entities;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.smallrye.common.constraint.NotNull;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Entity class representing a Villain in the system.
- * Extends PanacheEntity to leverage Panache's active record pattern.
+ * Extends PanacheEntityBase to leverage Panache's active record pattern while declaring its own id generator.
+ * Villains rarely change, so they are kept in the second-level cache.
  */
 @Entity
-public class VillainEntity extends PanacheEntity {
+@Cacheable
+public class VillainEntity extends PanacheEntityBase {
 
+  // Pooled sequence: bulk imports only hit the sequence once every 50 villains.
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "villainEntity_seq")
+  @SequenceGenerator(name = "villainEntity_seq", sequenceName = "villainEntity_seq", allocationSize = 50)
+  public Long id;
 
   //The name of the villain.
   @NotNull
@@ -31,11 +55,25 @@ public class VillainEntity extends PanacheEntity {
   public String picture;
 
   /**
-   * A description of the villain's powers.
-   * Stored as a TEXT column in the database.
+   * The powers of the villain, in order, as references to the {@link PowerEntity} dictionary.
+   * They are loaded lazily, so that the queries listing villains do not read them, and kept in the second-level cache
+   * with the villain. The join rows are deleted with the villain by the database, so the SQL deletes of the reactive
+   * execution model can ignore them.
    */
-  @Column(columnDefinition = "TEXT")
-  public String powers;
+  @ManyToMany(fetch = FetchType.LAZY)
+  @JoinTable(name = "villainEntity_power",
+    joinColumns = @JoinColumn(name = "villain_id", foreignKey = @ForeignKey(name = "villainEntity_power_villain_fk",
+      foreignKeyDefinition = "foreign key (villain_id) references villainEntity (id) on delete cascade")),
+    inverseJoinColumns = @JoinColumn(name = "power_id"))
+  @OrderColumn(name = "position")
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+  public List<PowerEntity> powers = new ArrayList<>();
+
+  // Incremented by every update, used for optimistic locking and as the ETag of the villain.
+  // The default value lets the column be added to an existing table, and lets SQL inserts omit it.
+  @Version
+  @Column(columnDefinition = "bigint default 0 not null")
+  public long version;
 
   @Override
   public String toString() {
@@ -45,7 +83,7 @@ public class VillainEntity extends PanacheEntity {
       ", otherName='" + otherName + '\'' +
       ", level=" + level +
       ", picture='" + picture + '\'' +
-      ", powers='" + powers + '\'' +
+      ", version=" + version +
       '}';
   }
 }
@@ -3,6 +3,7 @@ package io.quarkus.workshop.superheroes.villain.lifecycle;
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.configuration.ConfigUtils;
+import io.quarkus.workshop.superheroes.villain.services.VillainService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
@@ -14,6 +15,15 @@ public class VillainAppLifecycle {
   @Inject
   private Logger logger;
 
+  @Inject
+  VillainSchemaMigration villainSchemaMigration;
+
+  @Inject
+  VillainDataLoader villainDataLoader;
+
+  @Inject
+  VillainService villainService;
+
   public void onStart(@Observes StartupEvent ev) {
     logger.info("__      ___  _ _      _             -   _____  _____    ");
     logger.info("\\ \\    / (_) | |     (_)           /\\   |  __ \\_   _|");
@@ -22,6 +32,10 @@ public class VillainAppLifecycle {
     logger.info("   \\  /  | | | | (_| | | | | |  / ____ \\| |    _| |_ ");
     logger.info("    \\/   |_|_|_|\\__,_|_|_| |_| /_/    \\_\\_|   |_____|");
     logger.info("The application VILLAIN is starting with profile " + ConfigUtils.getProfiles());
+    villainSchemaMigration.migrate();
+    villainDataLoader.load();
+    villainService.primeVillainIdIndex();
+    villainService.primeVillainPowerIndex();
   }
 
   public void onStop(@Observes ShutdownEvent ev) {
@@ -0,0 +1,194 @@
+package io.quarkus.workshop.superheroes.villain.lifecycle;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+
+/**
+ * Loads the initial villains from a CSV resource at startup.
+ * The CSV is streamed to a temporary table with {@code COPY} and then upserted into the villains table, and the
+ * SHA-256 checksum of the dataset is stored in the {@code dataset_checksum} table so that the load is skipped when the
+ * same dataset is already in the database.
+ * The comma-separated powers of the villains are added to the power dictionary, and the powers of the villains are only
+ * rewritten for the villains whose powers change.
+ * The CSV columns are {@code id,name,otherName,picture,powers,level}, with a header line.
+ */
+@ApplicationScoped
+public class VillainDataLoader {
+
+  private static final String DATASET = "villains";
+
+  private static final String CREATE_CHECKSUM_TABLE = "CREATE TABLE IF NOT EXISTS dataset_checksum " +
+    "(name VARCHAR(64) PRIMARY KEY, checksum VARCHAR(64) NOT NULL, loaded_at TIMESTAMP NOT NULL)";
+
+  private static final String IS_LOADED = "SELECT checksum, (SELECT count(*) FROM villainEntity) AS villains " +
+    "FROM dataset_checksum WHERE name = ?";
+
+  private static final String CREATE_STAGING_TABLE = "CREATE TEMPORARY TABLE villain_staging " +
+    "(id int8 NOT NULL, name text, otherName text, picture text, powers text, level int4 NOT NULL) ON COMMIT DROP";
+
+  // One row per power of a villain, numbered from 0 in the order of the dataset
+  private static final String CREATE_STAGING_POWERS = "CREATE TEMPORARY TABLE villain_staging_power ON COMMIT DROP AS " +
+    "SELECT s.id AS villain_id, trim(t.name) AS name, " +
+    "(row_number() OVER (PARTITION BY s.id ORDER BY t.ordinality) - 1)::int4 AS position " +
+    "FROM villain_staging s " +
+    "CROSS JOIN LATERAL unnest(string_to_array(s.powers, ',')) WITH ORDINALITY t(name, ordinality) " +
+    "WHERE trim(t.name) <> ''";
+
+  private static final String INSERT_POWERS = "INSERT INTO power(id, name) " +
+    "SELECT nextval('power_seq'), d.name FROM (SELECT DISTINCT name FROM villain_staging_power) d " +
+    "WHERE NOT EXISTS (SELECT 1 FROM power p WHERE p.name = d.name)";
+
+  // Run before the upsert, so that only the existing villains whose powers change get a new version and ETag. Both
+  // sub-statements see the powers as they were before the statement.
+  private static final String REPLACE_CHANGED_POWERS = "WITH changed AS (" +
+    "UPDATE villainEntity v SET version = v.version + 1 FROM villain_staging s WHERE s.id = v.id " +
+    "AND ARRAY(SELECT vp.power_id FROM villainEntity_power vp WHERE vp.villain_id = v.id ORDER BY vp.position) " +
+    "IS DISTINCT FROM ARRAY(SELECT p.id FROM villain_staging_power sp JOIN power p ON p.name = sp.name " +
+    "WHERE sp.villain_id = v.id ORDER BY sp.position) " +
+    "RETURNING v.id) " +
+    "DELETE FROM villainEntity_power vp USING changed c WHERE vp.villain_id = c.id";
+
+  private static final String COPY_VILLAINS = "COPY villain_staging(id, name, otherName, picture, powers, level) " +
+    "FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+  // New villains get the default version, and the version of existing ones is only incremented if they change, so
+  // that their ETags stay valid across reloads of the same villains.
+  private static final String UPSERT_VILLAINS = "INSERT INTO villainEntity(id, name, otherName, picture, level) " +
+    "SELECT id, name, otherName, picture, level FROM villain_staging " +
+    "ON CONFLICT (id) DO UPDATE SET name = excluded.name, otherName = excluded.otherName, " +
+    "picture = excluded.picture, level = excluded.level, version = villainEntity.version + 1 " +
+    "WHERE (villainEntity.name, villainEntity.otherName, villainEntity.picture, villainEntity.level) " +
+    "IS DISTINCT FROM (excluded.name, excluded.otherName, excluded.picture, excluded.level)";
+
+  // Adds the powers of the new villains, and of the villains whose powers were deleted because they change
+  private static final String INSERT_VILLAIN_POWERS = "INSERT INTO villainEntity_power(villain_id, power_id, position) " +
+    "SELECT sp.villain_id, p.id, sp.position FROM villain_staging_power sp JOIN power p ON p.name = sp.name " +
+    "WHERE NOT EXISTS (SELECT 1 FROM villainEntity_power vp WHERE vp.villain_id = sp.villain_id)";
+
+  private static final String UPSERT_CHECKSUM = "INSERT INTO dataset_checksum(name, checksum, loaded_at) " +
+    "VALUES (?, ?, now()) ON CONFLICT (name) DO UPDATE SET checksum = excluded.checksum, loaded_at = now()";
+
+  @Inject
+  Logger logger;
+
+  @Inject
+  AgroalDataSource dataSource;
+
+  @Inject
+  EntityManagerFactory entityManagerFactory;
+
+  @ConfigProperty(name = "villain.data.load", defaultValue = "true")
+  boolean enabled;
+
+  @ConfigProperty(name = "villain.data.resource", defaultValue = "villains.csv")
+  String resource;
+
+  /**
+   * Loads the villains dataset, unless it is disabled or the same dataset has already been loaded.
+   * The load runs in its own transaction, outside of the JTA one, so that a failure leaves the database untouched.
+   */
+  public void load() {
+    if (!enabled) {
+      return;
+    }
+    byte[] dataset = readDataset();
+    String checksum = checksum(dataset);
+    long start = System.nanoTime();
+    try (Connection connection = dataSource.getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute(CREATE_CHECKSUM_TABLE);
+        }
+        if (isLoaded(connection, checksum)) {
+          connection.commit();
+          logger.infof("Villains dataset %s is already loaded, skipping", checksum);
+          return;
+        }
+        long copied = copyVillains(connection, dataset);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute(CREATE_STAGING_POWERS);
+          statement.executeUpdate(INSERT_POWERS);
+          statement.executeUpdate(REPLACE_CHANGED_POWERS);
+          statement.executeUpdate(UPSERT_VILLAINS);
+          statement.executeUpdate(INSERT_VILLAIN_POWERS);
+          statement.execute("SELECT setval('villainEntity_seq', (SELECT max(id) FROM villainEntity))");
+        }
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_CHECKSUM)) {
+          statement.setString(1, DATASET);
+          statement.setString(2, checksum);
+          statement.executeUpdate();
+        }
+        connection.commit();
+        // COPY bypasses Hibernate, so nothing cached before the load can be trusted anymore
+        entityManagerFactory.getCache().evictAll();
+        logger.infof("Loaded %d villains in %d ms", copied, (System.nanoTime() - start) / 1_000_000);
+      } catch (SQLException | IOException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not load the villains dataset", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean isLoaded(Connection connection, String checksum) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(IS_LOADED)) {
+      statement.setString(1, DATASET);
+      try (ResultSet result = statement.executeQuery()) {
+        return result.next() && checksum.equals(result.getString("checksum")) && result.getLong("villains") > 0;
+      }
+    }
+  }
+
+  private long copyVillains(Connection connection, byte[] dataset) throws SQLException, IOException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_STAGING_TABLE);
+    }
+    return connection.unwrap(PGConnection.class)
+      .getCopyAPI()
+      .copyIn(COPY_VILLAINS, new ByteArrayInputStream(dataset));
+  }
+
+  private byte[] readDataset() {
+    try (InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+      if (input == null) {
+        throw new IllegalStateException("Villains dataset " + resource + " not found");
+      }
+      return input.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String checksum(byte[] dataset) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(dataset));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.workshop.superheroes.villain.lifecycle;
+
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Migrates what Hibernate does not generate from the entity mapping, at startup and before the initial villains are
+ * loaded. The migration is idempotent, so it is a no-op once it has run.
+ */
+@ApplicationScoped
+public class VillainSchemaMigration {
+
+  // The powers used to be stored as a comma-separated TEXT column of the villains. If the column is still there, its
+  // powers are moved to the power dictionary and the join table, in order, then the column is dropped.
+  private static final String MIGRATE_POWERS = """
+    DO $$
+    BEGIN
+      IF EXISTS (SELECT 1 FROM information_schema.columns
+                 WHERE table_schema = current_schema() AND table_name = 'villainentity' AND column_name = 'powers') THEN
+        INSERT INTO power(id, name)
+          SELECT nextval('power_seq'), d.name
+          FROM (SELECT DISTINCT trim(t.name) AS name
+                FROM villainEntity v CROSS JOIN LATERAL unnest(string_to_array(v.powers, ',')) t(name)) d
+          WHERE d.name <> '' AND NOT EXISTS (SELECT 1 FROM power p WHERE p.name = d.name);
+        INSERT INTO villainEntity_power(villain_id, power_id, position)
+          SELECT v.id, p.id, (row_number() OVER (PARTITION BY v.id ORDER BY t.ordinality) - 1)::int4
+          FROM villainEntity v
+          CROSS JOIN LATERAL unnest(string_to_array(v.powers, ',')) WITH ORDINALITY t(name, ordinality)
+          JOIN power p ON p.name = trim(t.name)
+          ON CONFLICT DO NOTHING;
+        ALTER TABLE villainEntity DROP COLUMN powers;
+      END IF;
+    END $$""";
+
+  @Inject
+  Logger logger;
+
+  @Inject
+  AgroalDataSource dataSource;
+
+  /**
+   * Migrates the powers of a previous schema. It runs in its own transaction, outside of the JTA one.
+   */
+  public void migrate() {
+    long start = System.nanoTime();
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute(MIGRATE_POWERS);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not migrate the villains schema", e);
+    }
+    logger.infof("Villain schema migrated in %d ms", (System.nanoTime() - start) / 1_000_000);
+  }
+}
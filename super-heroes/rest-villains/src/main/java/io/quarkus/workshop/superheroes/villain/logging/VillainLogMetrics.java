@@ -0,0 +1,22 @@
+package io.quarkus.workshop.superheroes.villain.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes the number of log records dropped by the {@link VillainLogSampler}.
+ */
+@Singleton
+public class VillainLogMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("villains.log.events.dropped", VillainLogSampler.class,
+        ignored -> VillainLogSampler.droppedEvents())
+      .description("Log records dropped by the log sampler")
+      .tag("policy", "sample")
+      .register(registry);
+  }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.workshop.superheroes.villain.logging;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs the requests received by the Villains API at INFO, for one in every {@code villain.log.request-sample-rate}
+ * requests. The messages take a single primitive or already boxed parameter, so that nothing is allocated or
+ * formatted for the requests that are not sampled. The request logs can be turned off with the
+ * {@code io.quarkus.workshop.superheroes.villain.requests} category.
+ */
+@Singleton
+public class VillainRequestLog {
+
+  private static final Logger LOGGER = Logger.getLogger("io.quarkus.workshop.superheroes.villain.requests");
+
+  private final int sampleRate;
+
+  @Inject
+  public VillainRequestLog(@ConfigProperty(name = "villain.log.request-sample-rate", defaultValue = "100") int sampleRate) {
+    if (sampleRate < 1) {
+      throw new IllegalArgumentException("The request log sample rate must be at least 1, got " + sampleRate);
+    }
+    this.sampleRate = sampleRate;
+  }
+
+  /**
+   * @return true if the current request is logged.
+   */
+  public boolean isSampled() {
+    return LOGGER.isInfoEnabled() && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+  }
+
+  public void log(String message) {
+    if (isSampled()) {
+      LOGGER.info(message);
+    }
+  }
+
+  public void log(String format, long param) {
+    if (isSampled()) {
+      LOGGER.infof(format, param);
+    }
+  }
+
+  public void log(String format, Object param) {
+    if (isSampled()) {
+      LOGGER.infof(format, param);
+    }
+  }
+}
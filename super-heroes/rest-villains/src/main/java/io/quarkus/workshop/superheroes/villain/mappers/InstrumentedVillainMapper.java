@@ -0,0 +1,79 @@
+package io.quarkus.workshop.superheroes.villain.mappers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.entities.VillainEntity;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.quarkus.workshop.superheroes.villain.metrics.VillainMeterFilters.MAPPER_TIMER;
+
+/**
+ * Decorates the generated {@link VillainMapper} to time every mapping, tagged by mapper method, and to trace it in its
+ * own span.
+ */
+@Decorator
+@Priority(10)
+public class InstrumentedVillainMapper implements VillainMapper {
+
+  private final VillainMapper delegate;
+
+  private final Tracer tracer;
+
+  private final Timer toVillainDTOTimer;
+
+  private final Timer toVillainEntityTimer;
+
+  private final Timer toVillainDTOsTimer;
+
+  @Inject
+  public InstrumentedVillainMapper(@Delegate @Any VillainMapper delegate, MeterRegistry meterRegistry, Tracer tracer) {
+    this.delegate = delegate;
+    this.tracer = tracer;
+    this.toVillainDTOTimer = timer(meterRegistry, "toVillainDTO");
+    this.toVillainEntityTimer = timer(meterRegistry, "toVillainEntity");
+    this.toVillainDTOsTimer = timer(meterRegistry, "toVillainDTOs");
+  }
+
+  @Override
+  public Villain toVillainDTO(VillainEntity villainEntity) {
+    return record(toVillainDTOTimer, "VillainMapper.toVillainDTO", () -> delegate.toVillainDTO(villainEntity));
+  }
+
+  @Override
+  public VillainEntity toVillainEntity(Villain villain) {
+    return record(toVillainEntityTimer, "VillainMapper.toVillainEntity", () -> delegate.toVillainEntity(villain));
+  }
+
+  @Override
+  public List<Villain> toVillainDTOs(List<VillainEntity> villainEntities) {
+    return record(toVillainDTOsTimer, "VillainMapper.toVillainDTOs", () -> delegate.toVillainDTOs(villainEntities));
+  }
+
+  // Decorators cannot be intercepted, so the spans are created here rather than with @WithSpan.
+  private <T> T record(Timer timer, String spanName, Supplier<T> mapping) {
+    Span span = tracer.spanBuilder(spanName).startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      return timer.record(mapping);
+    } finally {
+      span.end();
+    }
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String method) {
+    return Timer.builder(MAPPER_TIMER)
+      .description("Time spent mapping villains")
+      .tag("method", method)
+      .register(meterRegistry);
+  }
+}
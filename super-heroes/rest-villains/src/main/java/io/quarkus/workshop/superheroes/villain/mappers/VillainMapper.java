@@ -2,8 +2,11 @@ package io.quarkus.workshop.superheroes.villain.mappers;
 
 
 import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.entities.PowerEntity;
 import io.quarkus.workshop.superheroes.villain.entities.VillainEntity;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -23,11 +26,14 @@ public interface VillainMapper {
   Villain toVillainDTO(VillainEntity villainEntity);
 
   /**
-   * Converts a Villain DTO to a VillainEntity.
+   * Converts a Villain DTO to a VillainEntity. The version is only set by Hibernate, and the powers are resolved from
+   * the power dictionary by the VillainService.
    *
    * @param villain the DTO to convert
    * @return the converted VillainEntity
    */
+  @Mapping(target = "version", ignore = true)
+  @Mapping(target = "powers", ignore = true)
   VillainEntity toVillainEntity(Villain villain);
 
   /**
@@ -37,4 +43,15 @@ public interface VillainMapper {
    * @return the list of converted Villain DTOs
    */
   List<Villain> toVillainDTOs(List<VillainEntity> villainEntities);
+
+  /**
+   * Converts the powers of a villain to the comma-separated powers of the Villain DTO. Powers that were not loaded
+   * with the villain are left out.
+   *
+   * @param powers the powers of the villain
+   * @return the comma-separated powers, or null if they were not loaded
+   */
+  default String toPowers(List<PowerEntity> powers) {
+    return Hibernate.isInitialized(powers) ? PowerEntity.join(powers) : null;
+  }
 }
@@ -0,0 +1,135 @@
+package io.quarkus.workshop.superheroes.villain.random;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the live villain ids, backed by a primitive long array.
+ * Picking a random villain is a single array access; removals move the last id into the freed slot
+ * so that the array stays dense.
+ */
+@ApplicationScoped
+public class VillainIdIndex {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<Long, Integer> positions = new HashMap<>();
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+
+  private int size;
+
+  private volatile boolean primed;
+
+  /**
+   * Registers the counter of random villain lookups by an id picked from the index, for the given result.
+   * The blocking and reactive services share the same counters.
+   * @param result {@code hit} when the villain was found, {@code stale} when the id no longer exists.
+   */
+  public static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("villains.random.index.lookups")
+      .description("Random villain lookups by an id picked from the id index")
+      .tag("result", result)
+      .register(meterRegistry);
+  }
+
+  /**
+   * Replaces the content of the index with the given villain ids.
+   * @param villainIds all the villain ids currently stored in the database.
+   */
+  public void prime(Collection<Long> villainIds) {
+    lock.writeLock().lock();
+    try {
+      ids = new long[Math.max(INITIAL_CAPACITY, villainIds.size())];
+      positions.clear();
+      size = 0;
+      villainIds.forEach(this::append);
+      primed = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds a villain id to the index. Adding an id that is already indexed has no effect.
+   */
+  public void add(long id) {
+    lock.writeLock().lock();
+    try {
+      if (!positions.containsKey(id)) {
+        append(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a villain id from the index. Removing an id that is not indexed has no effect.
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      Integer position = positions.remove(id);
+      if (position == null) {
+        return;
+      }
+      long lastId = ids[--size];
+      if (position != size) {
+        ids[position] = lastId;
+        positions.put(lastId, position);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Picks a random villain id.
+   * @return a random indexed id, or an empty optional if the index is empty.
+   */
+  public OptionalLong randomId() {
+    lock.readLock().lock();
+    try {
+      if (size == 0) {
+        return OptionalLong.empty();
+      }
+      return OptionalLong.of(ids[ThreadLocalRandom.current().nextInt(size)]);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public boolean isPrimed() {
+    return primed;
+  }
+
+  private void append(long id) {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+    ids[size] = id;
+    positions.put(id, size++);
+  }
+}
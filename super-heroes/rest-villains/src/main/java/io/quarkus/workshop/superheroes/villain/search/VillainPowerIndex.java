@@ -0,0 +1,236 @@
+package io.quarkus.workshop.superheroes.villain.search;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of the villain powers: each power maps to the compressed bitmap of the ids of the villains
+ * having it, so that villains can be searched by power with bitmap intersections and unions instead of joining the
+ * powers of every villain in the database.
+ * Powers are compared ignoring case and surrounding spaces.
+ */
+@ApplicationScoped
+public class VillainPowerIndex {
+
+  /**
+   * How the powers of a search are combined.
+   */
+  public enum Match {
+    /** Villains having all the powers. */
+    ALL,
+    /** Villains having at least one of the powers. */
+    ANY;
+
+    // Lets JAX-RS convert query parameters regardless of their case.
+    public static Match fromString(String value) {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+  }
+
+  /**
+   * The indexed fields of a villain.
+   * @param id the id of the villain.
+   * @param level the level of the villain.
+   * @param powers the comma-separated powers of the villain, or null.
+   */
+  public record Entry(long id, int level, String powers) {
+  }
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<String, Roaring64Bitmap> villainsByPower = new HashMap<>();
+
+  // Forward index, to find the powers to clear when a villain is updated or removed.
+  private final Map<Long, IndexedVillain> villains = new HashMap<>();
+
+  private volatile boolean primed;
+
+  /**
+   * Replaces the content of the index with the given villains.
+   * @param entries all the villains currently stored in the database.
+   */
+  public void prime(Collection<Entry> entries) {
+    lock.writeLock().lock();
+    try {
+      villainsByPower.clear();
+      villains.clear();
+      entries.forEach(this::index);
+      villainsByPower.values().forEach(Roaring64Bitmap::runOptimize);
+      primed = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Adds a villain to the index, or replaces its powers and level if it is already indexed.
+   */
+  public void put(Entry entry) {
+    lock.writeLock().lock();
+    try {
+      unindex(entry.id());
+      index(entry);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a villain from the index. Removing a villain that is not indexed has no effect.
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      unindex(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Searches the villains by powers and level, ordered by id.
+   * @param powers the powers to look for; an empty list matches every villain.
+   * @param match whether the villains must have all the powers or any of them.
+   * @param minLevel the minimum level, or null for no minimum.
+   * @param maxLevel the maximum level, or null for no maximum.
+   * @param afterId only villains with a greater id are returned.
+   * @param size the maximum number of ids to return.
+   * @return the ids of the matching villains, in ascending order.
+   */
+  public List<Long> search(Collection<String> powers, Match match, Integer minLevel, Integer maxLevel, long afterId,
+                           int size) {
+    lock.readLock().lock();
+    try {
+      Roaring64Bitmap candidates = candidates(powers, match);
+      List<Long> ids = new ArrayList<>();
+      LongIterator iterator = candidates.getLongIterator();
+      while (iterator.hasNext() && ids.size() < size) {
+        long id = iterator.next();
+        if (id <= afterId) {
+          continue;
+        }
+        int level = villains.get(id).level();
+        if ((minLevel == null || level >= minLevel) && (maxLevel == null || level <= maxLevel)) {
+          ids.add(id);
+        }
+      }
+      return ids;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Checks a villain against the powers and level of a search, the same way as {@link #search}. The villains found in
+   * the index are loaded afterwards, and may have changed in between.
+   * @return true if the villain matches.
+   */
+  public static boolean matches(Entry entry, Collection<String> powers, Match match, Integer minLevel,
+                                Integer maxLevel) {
+    if ((minLevel != null && entry.level() < minLevel) || (maxLevel != null && entry.level() > maxLevel)) {
+      return false;
+    }
+    if (powers.isEmpty()) {
+      return true;
+    }
+    Set<String> villainPowers = Set.of(tokenize(entry.powers()));
+    return match == Match.ALL
+      ? powers.stream().map(VillainPowerIndex::normalize).allMatch(villainPowers::contains)
+      : powers.stream().map(VillainPowerIndex::normalize).anyMatch(villainPowers::contains);
+  }
+
+  /**
+   * @return the number of distinct indexed powers.
+   */
+  public int powerCount() {
+    lock.readLock().lock();
+    try {
+      return villainsByPower.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public boolean isPrimed() {
+    return primed;
+  }
+
+  private Roaring64Bitmap candidates(Collection<String> powers, Match match) {
+    Roaring64Bitmap candidates = null;
+    if (powers.isEmpty()) {
+      candidates = new Roaring64Bitmap();
+      villains.keySet().forEach(candidates::addLong);
+      return candidates;
+    }
+    for (String power : powers) {
+      Roaring64Bitmap villainIds = villainsByPower.get(normalize(power));
+      if (villainIds == null) {
+        if (match == Match.ALL) {
+          return new Roaring64Bitmap();
+        }
+        continue;
+      }
+      // The first bitmap is copied, as the intersections and unions modify it
+      if (candidates == null) {
+        candidates = villainIds.clone();
+      } else if (match == Match.ALL) {
+        candidates.and(villainIds);
+      } else {
+        candidates.or(villainIds);
+      }
+    }
+    return candidates != null ? candidates : new Roaring64Bitmap();
+  }
+
+  private void index(Entry entry) {
+    String[] powers = tokenize(entry.powers());
+    villains.put(entry.id(), new IndexedVillain(entry.level(), powers));
+    for (String power : powers) {
+      villainsByPower.computeIfAbsent(power, ignored -> new Roaring64Bitmap()).addLong(entry.id());
+    }
+  }
+
+  private void unindex(long id) {
+    IndexedVillain villain = villains.remove(id);
+    if (villain == null) {
+      return;
+    }
+    for (String power : villain.powers()) {
+      Roaring64Bitmap villainIds = villainsByPower.get(power);
+      villainIds.removeLong(id);
+      if (villainIds.isEmpty()) {
+        villainsByPower.remove(power);
+      }
+    }
+  }
+
+  private static String[] tokenize(String powers) {
+    if (powers == null || powers.isBlank()) {
+      return new String[0];
+    }
+    return Arrays.stream(powers.split(","))
+      .map(VillainPowerIndex::normalize)
+      .filter(power -> !power.isEmpty())
+      .distinct()
+      .toArray(String[]::new);
+  }
+
+  private static String normalize(String power) {
+    return power.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record IndexedVillain(int level, String[] powers) {
+  }
+}
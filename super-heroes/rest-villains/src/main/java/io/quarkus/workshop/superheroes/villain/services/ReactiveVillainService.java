@@ -0,0 +1,371 @@
+package io.quarkus.workshop.superheroes.villain.services;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.entities.PowerEntity;
+import io.quarkus.workshop.superheroes.villain.entities.VillainEntity;
+import io.quarkus.workshop.superheroes.villain.random.VillainIdIndex;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex.Match;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import static io.quarkus.workshop.superheroes.villain.metrics.VillainMeterFilters.DB_TIMER;
+
+/**
+ * Non-blocking counterpart of {@link VillainService}, used by the reactive execution model.
+ * Villains are read and written with the reactive PostgreSQL client, so no worker thread is held while waiting for
+ * the database.
+ */
+@ApplicationScoped
+public class ReactiveVillainService {
+
+  /**
+   * Number of random ids tried before giving up, in case villains are deleted concurrently.
+   */
+  private static final int MAX_RANDOM_ATTEMPTS = 3;
+
+  private static final String COLUMNS = "id, name, otherName, picture, level";
+
+  // The powers of a villain, in order, only read by the queries returning a single villain
+  private static final String POWERS_COLUMN = "(SELECT string_agg(p.name, '" + PowerEntity.SEPARATOR + "' " +
+    "ORDER BY vp.position) FROM villainEntity_power vp JOIN power p ON p.id = vp.power_id " +
+    "WHERE vp.villain_id = villainEntity.id) AS powers";
+
+  private static final String INSERT_VILLAIN = "INSERT INTO villainEntity(" + COLUMNS + ") " +
+    "VALUES ($1, $2, $3, $4, $5) RETURNING " + COLUMNS;
+
+  private static final String UPDATE_VILLAIN = "UPDATE villainEntity " +
+    "SET name = $2, otherName = $3, picture = $4, level = $5, version = version + 1 " +
+    "WHERE id = $1 RETURNING " + COLUMNS;
+
+  // The powers that are not in the dictionary yet are added to it, the same way as PowerEntity#resolve
+  private static final String INSERT_POWERS = "INSERT INTO power(id, name) " +
+    "SELECT nextval('power_seq'), d.name FROM (SELECT DISTINCT name FROM unnest($1::text[]) name) d " +
+    "WHERE NOT EXISTS (SELECT 1 FROM power p WHERE p.name = d.name) ON CONFLICT (name) DO NOTHING";
+
+  private static final String INSERT_VILLAIN_POWERS = "INSERT INTO villainEntity_power(villain_id, power_id, position) " +
+    "SELECT $1, p.id, (t.position - 1)::int4 FROM unnest($2::text[]) WITH ORDINALITY t(name, position) " +
+    "JOIN power p ON p.name = t.name";
+
+  private static final String COLLECTION_VERSION = "SELECT count(*) AS count, " +
+    "coalesce(sum(version), 0)::int8 AS versionSum, coalesce(max(id), 0) AS maxId FROM villainEntity";
+
+  @Inject
+  PgPool pool;
+
+  @Inject
+  SessionFactory sessionFactory;
+
+  @Inject
+  VillainIdIndex villainIdIndex;
+
+  @Inject
+  VillainPowerIndex villainPowerIndex;
+
+  @Inject
+  MeterRegistry meterRegistry;
+
+  @ConfigProperty(name = "level.multiplier", defaultValue = "1.0")
+  double levelMultiplier;
+
+  private Counter indexHits;
+
+  private Counter staleIds;
+
+  @PostConstruct
+  void registerMetrics() {
+    indexHits = VillainIdIndex.lookupCounter(meterRegistry, "hit");
+    staleIds = VillainIdIndex.lookupCounter(meterRegistry, "stale");
+  }
+
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-all"})
+  public Uni<List<Villain>> findAllVillains() {
+    return pool.query("SELECT " + COLUMNS + " FROM villainEntity").execute()
+      .map(ReactiveVillainService::toVillains);
+  }
+
+  /**
+   * Finds only the given fields of all the villains, ordered by id, the same way as
+   * {@link VillainService#findAllVillainFields}.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-all-fields"})
+  public Uni<List<Villain>> findAllVillainFields(List<VillainField> fields) {
+    List<VillainField> columns = VillainField.columns(fields);
+    String select = columns.stream().map(VillainField::attribute).collect(Collectors.joining(", "));
+    Uni<List<Villain>> villains = pool.query("SELECT " + select + " FROM villainEntity ORDER BY id").execute()
+      .map(rows -> {
+        List<Villain> villainList = new ArrayList<>(rows.size());
+        rows.forEach(row -> {
+          Villain villain = new Villain();
+          for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).set(villain, row.getValue(i));
+          }
+          villainList.add(villain);
+        });
+        return villainList;
+      });
+    if (!fields.contains(VillainField.POWERS)) {
+      return villains;
+    }
+    return villains.chain(villainList -> pool.query(VillainService.ALL_POWERS_QUERY).execute()
+      .map(rows -> {
+        Map<Long, String> powers = new HashMap<>(rows.size());
+        rows.forEach(row -> powers.put(row.getLong(0), row.getString(1)));
+        villainList.forEach(villain -> villain.setPowers(powers.get(villain.getId())));
+        return villainList;
+      }));
+  }
+
+  /**
+   * Finds a villain by its ID.
+   * @return a Uni containing the villain, or null if it does not exist.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-by-id"})
+  public Uni<Villain> findVillainById(Long id) {
+    return pool.preparedQuery("SELECT " + COLUMNS + ", " + POWERS_COLUMN + " FROM villainEntity WHERE id = $1")
+      .execute(Tuple.of(id))
+      .map(ReactiveVillainService::toFirstVillain);
+  }
+
+  /**
+   * Finds the version of a villain.
+   * @return a Uni containing the version of the villain, or null if it does not exist.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-version-by-id"})
+  public Uni<Long> findVillainVersion(Long id) {
+    return pool.preparedQuery("SELECT version FROM villainEntity WHERE id = $1").execute(Tuple.of(id))
+      .map(rows -> rows.iterator().hasNext() ? rows.iterator().next().getLong("version") : null);
+  }
+
+  /**
+   * Computes the version of the whole collection of villains, the same way as
+   * {@link VillainService#findVillainsVersion()}.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "collection-version"})
+  public Uni<VillainCollectionVersion> findVillainsVersion() {
+    return pool.query(COLLECTION_VERSION).execute()
+      .map(rows -> {
+        Row row = rows.iterator().next();
+        return new VillainCollectionVersion(row.getLong("count"), row.getLong("versionsum"), row.getLong("maxid"));
+      });
+  }
+
+  /**
+   * Finds a random villain by picking a random id from the in-memory {@link VillainIdIndex}, the same way as
+   * {@link VillainService#findRandomVillain()}.
+   * @return a Uni containing the villain, or failing with an IllegalArgumentException if no villains are found.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-random"})
+  public Uni<Villain> findRandomVillain() {
+    Uni<Void> primed = Uni.createFrom().voidItem();
+    if (!villainIdIndex.isPrimed()) {
+      primed = pool.query("SELECT id FROM villainEntity").execute()
+        .invoke(rows -> {
+          List<Long> ids = new ArrayList<>(rows.size());
+          rows.forEach(row -> ids.add(row.getLong("id")));
+          villainIdIndex.prime(ids);
+        })
+        .replaceWithVoid();
+    }
+    return primed.chain(() -> findRandomVillain(MAX_RANDOM_ATTEMPTS));
+  }
+
+  private Uni<Villain> findRandomVillain(int attempts) {
+    OptionalLong randomId = villainIdIndex.randomId();
+    if (attempts == 0 || randomId.isEmpty()) {
+      return Uni.createFrom().failure(() -> new IllegalArgumentException("No villains found in DB."));
+    }
+    return findVillainById(randomId.getAsLong())
+      .chain(villain -> {
+        if (villain != null) {
+          indexHits.increment();
+          return Uni.createFrom().item(villain);
+        }
+        staleIds.increment();
+        villainIdIndex.remove(randomId.getAsLong());
+        return findRandomVillain(attempts - 1);
+      });
+  }
+
+  /**
+   * Searches the villains by powers and level with the in-memory {@link VillainPowerIndex}, the same way as
+   * {@link VillainService#searchVillains}, then loads the matching villains with a single query, without their powers.
+   * @return a Uni containing the page of matching villains, ordered by id.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "search"})
+  public Uni<List<Villain>> searchVillains(Collection<String> powers, Match match, Integer minLevel, Integer maxLevel,
+                                           Long after, int size) {
+    Uni<Void> primed = Uni.createFrom().voidItem();
+    if (!villainPowerIndex.isPrimed()) {
+      primed = pool.query(VillainService.POWER_INDEX_QUERY).execute()
+        .invoke(rows -> {
+          List<VillainPowerIndex.Entry> entries = new ArrayList<>(rows.size());
+          rows.forEach(row -> entries.add(
+            new VillainPowerIndex.Entry(row.getLong("id"), row.getInteger("level"), row.getString("powers"))));
+          villainPowerIndex.prime(entries);
+        })
+        .replaceWithVoid();
+    }
+    return primed.chain(() -> {
+      List<Long> ids = villainPowerIndex.search(powers, match, minLevel, maxLevel, after != null ? after : 0L, size);
+      if (ids.isEmpty()) {
+        return Uni.createFrom().item(List.<Villain>of());
+      }
+      return pool.preparedQuery("SELECT " + COLUMNS + " FROM villainEntity WHERE id = ANY($1) ORDER BY id")
+        .execute(Tuple.of(ids.toArray(Long[]::new)))
+        .map(ReactiveVillainService::toVillains);
+    });
+  }
+
+  /**
+   * Inserts a villain and its powers in a single transaction.
+   * @return a Uni containing the created villain.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "persist"})
+  public Uni<Villain> persistVillain(Villain villain) {
+    int level = (int) Math.round(villain.getLevel() * levelMultiplier);
+    String[] powers = PowerEntity.names(villain.getPowers()).toArray(String[]::new);
+    return nextVillainId()
+      .chain(id -> pool.withTransaction(connection -> connection.preparedQuery(INSERT_VILLAIN)
+        .execute(Tuple.of(id, villain.getName(), villain.getOtherName(), villain.getPicture(), level))
+        .map(ReactiveVillainService::toFirstVillain)
+        .call(created -> insertPowers(connection, created, powers))))
+      .invoke(created -> {
+        villainIdIndex.add(created.getId());
+        villainPowerIndex.put(powerIndexEntry(created));
+      });
+  }
+
+  // The id is allocated by the generator of VillainEntity, so that it shares its pooled blocks with the villains
+  // persisted by Hibernate. Fetching a new block from the sequence is a blocking JDBC call, hence the worker thread.
+  private Uni<Long> nextVillainId() {
+    return Uni.createFrom().item(() -> {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+          IdentifierGenerator generator = (IdentifierGenerator) sessionFactory.unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel().getEntityDescriptor(VillainEntity.class).getGenerator();
+          return (Long) generator.generate((SharedSessionContractImplementor) session, null);
+        }
+      })
+      .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+  }
+
+  /**
+   * Updates an existing villain and replaces its powers in a single transaction.
+   * @return a Uni containing the updated villain, or failing with an IllegalArgumentException if the villain with the
+   * given ID does not exist.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "update"})
+  public Uni<Villain> updateVillain(Villain villain) {
+    String[] powers = PowerEntity.names(villain.getPowers()).toArray(String[]::new);
+    return pool.withTransaction(connection -> connection.preparedQuery(UPDATE_VILLAIN)
+        .execute(Tuple.tuple()
+          .addLong(villain.getId())
+          .addString(villain.getName())
+          .addString(villain.getOtherName())
+          .addString(villain.getPicture())
+          .addInteger(villain.getLevel()))
+        .map(ReactiveVillainService::toFirstVillain)
+        .onItem().ifNull().failWith(() -> new IllegalArgumentException("Villain with id " + villain.getId() + " does not exist."))
+        .call(() -> connection.preparedQuery("DELETE FROM villainEntity_power WHERE villain_id = $1")
+          .execute(Tuple.of(villain.getId())))
+        .call(updated -> insertPowers(connection, updated, powers)))
+      .invoke(updated -> villainPowerIndex.put(powerIndexEntry(updated)));
+  }
+
+  /**
+   * Deletes a villain by its ID. Its powers are deleted with it by the database.
+   * @return a Uni completing once the villain is deleted, or failing with an IllegalArgumentException if the villain
+   * with the given ID does not exist.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "delete"})
+  public Uni<Void> deleteVillain(Long id) {
+    return pool.preparedQuery("DELETE FROM villainEntity WHERE id = $1").execute(Tuple.of(id))
+      .invoke(rows -> {
+        if (rows.rowCount() == 0) {
+          throw new IllegalArgumentException("Villain with id " + id + " does not exist.");
+        }
+        villainIdIndex.remove(id);
+        villainPowerIndex.remove(id);
+      })
+      .replaceWithVoid();
+  }
+
+  /*
+    Helper methods
+   */
+
+  // Sets the powers of the villain, which must not have any yet, and copies them to the returned villain
+  private static Uni<Void> insertPowers(SqlConnection connection, Villain villain, String[] powers) {
+    villain.setPowers(powers.length > 0 ? String.join(PowerEntity.SEPARATOR, powers) : null);
+    if (powers.length == 0) {
+      return Uni.createFrom().voidItem();
+    }
+    return connection.preparedQuery(INSERT_POWERS).execute(Tuple.of(powers))
+      .chain(() -> connection.preparedQuery(INSERT_VILLAIN_POWERS).execute(Tuple.of(villain.getId(), powers)))
+      .replaceWithVoid();
+  }
+
+  private static VillainPowerIndex.Entry powerIndexEntry(Villain villain) {
+    return new VillainPowerIndex.Entry(villain.getId(), villain.getLevel(), villain.getPowers());
+  }
+
+  private static List<Villain> toVillains(RowSet<Row> rows) {
+    List<Villain> villains = new ArrayList<>(rows.size());
+    rows.forEach(row -> villains.add(toVillain(row)));
+    return villains;
+  }
+
+  private static Villain toFirstVillain(RowSet<Row> rows) {
+    return rows.iterator().hasNext() ? toVillain(rows.iterator().next()) : null;
+  }
+
+  private static Villain toVillain(Row row) {
+    Villain villain = new Villain();
+    villain.setId(row.getLong("id"));
+    villain.setName(row.getString("name"));
+    villain.setOtherName(row.getString("othername"));
+    villain.setPicture(row.getString("picture"));
+    // Only the queries returning a single villain read its powers
+    if (row.getColumnIndex("powers") != -1) {
+      villain.setPowers(row.getString("powers"));
+    }
+    villain.setLevel(row.getInteger("level"));
+    return villain;
+  }
+}
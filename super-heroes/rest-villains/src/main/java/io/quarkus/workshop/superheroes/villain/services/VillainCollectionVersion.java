@@ -0,0 +1,11 @@
+package io.quarkus.workshop.superheroes.villain.services;
+
+/**
+ * Summary of the villain table that changes whenever a villain is created, updated or deleted, used as the version
+ * of the whole collection of villains.
+ * @param count the number of villains; it changes when villains are created or deleted.
+ * @param versionSum the sum of the villain versions; it changes when a villain is updated.
+ * @param maxId the greatest villain id; it changes when a villain is created and another one deleted.
+ */
+public record VillainCollectionVersion(long count, long versionSum, long maxId) {
+}
@@ -0,0 +1,109 @@
+package io.quarkus.workshop.superheroes.villain.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.narayana.jta.runtime.TransactionConfiguration;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.entities.PowerEntity;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service class exporting all the villains to an output stream.
+ * Villains are read with a forward-only cursor at a fixed fetch size through a stateless session, which keeps no
+ * persistence context, and written one at a time, so the heap used by an export does not depend on the number of
+ * villains.
+ * PostgreSQL only uses a cursor inside a transaction, so the export runs in one transaction for as long as
+ * the villains are written. Its timeout is {@code villain.export.transaction-timeout} rather than the default one, as
+ * a large export to a slow client takes longer.
+ * The villains are read as rows rather than entities, with their powers aggregated by the same query, so that the
+ * powers are not loaded villain by villain.
+ */
+@ApplicationScoped
+public class VillainExportService {
+
+  /**
+   * Output formats supported by the export.
+   */
+  public enum ExportFormat {
+    /** One JSON villain per line. */
+    NDJSON,
+    /** A single JSON array of villains. */
+    JSON_ARRAY
+  }
+
+  private static final String EXPORT_QUERY = "SELECT v.id, v.name, v.otherName, v.picture, v.level, " +
+    "(SELECT string_agg(p.name, '" + PowerEntity.SEPARATOR + "' ORDER BY vp.position) " +
+    "FROM villainEntity_power vp JOIN power p ON p.id = vp.power_id WHERE vp.villain_id = v.id) AS powers " +
+    "FROM villainEntity v ORDER BY v.id";
+
+  @Inject
+  ObjectMapper objectMapper;
+
+  @Inject
+  SessionFactory sessionFactory;
+
+  @ConfigProperty(name = "villain.export.fetch-size", defaultValue = "500")
+  int fetchSize;
+
+  /**
+   * Writes all the villains, ordered by id, to the given output.
+   * The output is flushed after every fetch but not closed.
+   * @param output the stream the villains are written to.
+   * @param format the format of the export.
+   * @return the number of exported villains.
+   */
+  @Transactional
+  @TransactionConfiguration(timeoutFromConfigProperty = "villain.export.transaction-timeout")
+  @WithSpan
+  public long exportVillains(OutputStream output, ExportFormat format) throws IOException {
+    long count = 0;
+    try (StatelessSession session = sessionFactory.openStatelessSession();
+         JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+         ScrollableResults<Object[]> villains = session
+           .createNativeQuery(EXPORT_QUERY, Object[].class)
+           .setFetchSize(fetchSize)
+           .setReadOnly(true)
+           .scroll(ScrollMode.FORWARD_ONLY)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+      if (format == ExportFormat.JSON_ARRAY) {
+        generator.writeStartArray();
+      }
+      while (villains.next()) {
+        generator.writeObject(toVillain(villains.get()));
+        if (format == ExportFormat.NDJSON) {
+          generator.writeRaw('\n');
+        }
+        if (++count % fetchSize == 0) {
+          generator.flush();
+        }
+      }
+      if (format == ExportFormat.JSON_ARRAY) {
+        generator.writeEndArray();
+      }
+    }
+    return count;
+  }
+
+  private static Villain toVillain(Object[] row) {
+    Villain villain = new Villain();
+    villain.setId(((Number) row[0]).longValue());
+    villain.setName((String) row[1]);
+    villain.setOtherName((String) row[2]);
+    villain.setPicture((String) row[3]);
+    villain.setLevel(((Number) row[4]).intValue());
+    villain.setPowers((String) row[5]);
+    return villain;
+  }
+}
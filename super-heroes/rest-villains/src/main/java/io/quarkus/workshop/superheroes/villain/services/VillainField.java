@@ -0,0 +1,100 @@
+package io.quarkus.workshop.superheroes.villain.services;
+
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The fields of a villain that can be selected by the {@code fields} parameter of the villain list. Each field but the
+ * powers is a column of the villain table, so that a projection only reads the columns it returns. The powers are
+ * read by a second query for all the villains.
+ */
+public enum VillainField {
+
+  ID("id"),
+  NAME("name"),
+  OTHER_NAME("otherName"),
+  PICTURE("picture"),
+  LEVEL("level"),
+  POWERS("powers", false);
+
+  private final String attribute;
+
+  private final boolean column;
+
+  VillainField(String attribute) {
+    this(attribute, true);
+  }
+
+  VillainField(String attribute, boolean column) {
+    this.attribute = attribute;
+    this.column = column;
+  }
+
+  /**
+   * @return the name of the field, both in the Villain API and in the VillainEntity.
+   */
+  public String attribute() {
+    return attribute;
+  }
+
+  /**
+   * Sets the value of this field, as read by a projection query, on a villain.
+   */
+  public void set(Villain villain, Object value) {
+    switch (this) {
+      case ID -> villain.setId((Long) value);
+      case NAME -> villain.setName((String) value);
+      case OTHER_NAME -> villain.setOtherName((String) value);
+      case PICTURE -> villain.setPicture((String) value);
+      case LEVEL -> villain.setLevel((Integer) value);
+      case POWERS -> villain.setPowers((String) value);
+    }
+  }
+
+  /**
+   * Builds a villain with only the given fields set.
+   * @param fields the selected fields.
+   * @param row the values of the fields, in the same order.
+   * @return the partial villain.
+   */
+  public static Villain toVillain(List<VillainField> fields, Object[] row) {
+    Villain villain = new Villain();
+    for (int i = 0; i < fields.size(); i++) {
+      fields.get(i).set(villain, row[i]);
+    }
+    return villain;
+  }
+
+  /**
+   * @return the fields that are columns of the villain table, in the same order.
+   */
+  public static List<VillainField> columns(List<VillainField> fields) {
+    return fields.stream().filter(field -> field.column).toList();
+  }
+
+  /**
+   * Parses the comma-separated fields of the {@code fields} parameter. The id is always selected.
+   * @param fields the comma-separated field names.
+   * @return the distinct fields, in declaration order.
+   * @throws IllegalArgumentException if a field is unknown.
+   */
+  public static List<VillainField> parse(String fields) {
+    Set<VillainField> parsed = EnumSet.of(ID);
+    for (String name : fields.split(",")) {
+      parsed.add(of(name.trim()));
+    }
+    return List.copyOf(parsed);
+  }
+
+  private static VillainField of(String attribute) {
+    for (VillainField field : values()) {
+      if (field.attribute.equals(attribute)) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("Unknown villain field: " + attribute);
+  }
+}
@@ -0,0 +1,11 @@
+package io.quarkus.workshop.superheroes.villain.services;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import of villains.
+ * @param imported the number of imported villains.
+ * @param ids the ids of the imported villains, in the order of the import.
+ */
+public record VillainImportResult(int imported, List<Long> ids) {
+}
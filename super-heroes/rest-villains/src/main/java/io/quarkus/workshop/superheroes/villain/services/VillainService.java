@@ -1,18 +1,41 @@
 package io.quarkus.workshop.superheroes.villain.services;
 
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.entities.PowerEntity;
 import io.quarkus.workshop.superheroes.villain.entities.VillainEntity;
 import io.quarkus.workshop.superheroes.villain.mappers.VillainMapper;
+import io.quarkus.workshop.superheroes.villain.random.VillainIdIndex;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex.Match;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
 
+import static io.quarkus.workshop.superheroes.villain.metrics.VillainMeterFilters.DB_TIMER;
 import static jakarta.transaction.Transactional.TxType.SUPPORTS;
 
 /**
@@ -22,82 +45,385 @@ import static jakarta.transaction.Transactional.TxType.SUPPORTS;
 @Transactional
 public class VillainService {
 
+  /**
+   * Number of random ids tried before giving up, in case villains are deleted concurrently.
+   */
+  private static final int MAX_RANDOM_ATTEMPTS = 3;
+
+  private static final String COLLECTION_VERSION_QUERY = "select new " + VillainCollectionVersion.class.getName() +
+    "(count(v), coalesce(sum(v.version), 0L), coalesce(max(v.id), 0L)) from VillainEntity v";
+
+  // The powers of every villain, aggregated in order in a single query rather than loaded villain by villain.
+  static final String POWER_INDEX_QUERY = "SELECT v.id, v.level, " +
+    "string_agg(p.name, ',' ORDER BY vp.position) AS powers FROM villainEntity v " +
+    "LEFT JOIN villainEntity_power vp ON vp.villain_id = v.id LEFT JOIN power p ON p.id = vp.power_id " +
+    "GROUP BY v.id, v.level";
+
+  // The powers of every villain, in order, aggregated in a single query for the villains listed with their powers.
+  static final String ALL_POWERS_QUERY = "SELECT vp.villain_id, string_agg(p.name, '" + PowerEntity.SEPARATOR +
+    "' ORDER BY vp.position) FROM villainEntity_power vp JOIN power p ON p.id = vp.power_id GROUP BY vp.villain_id";
+
   @Inject
   VillainMapper villainMapper;
 
+  @Inject
+  VillainIdIndex villainIdIndex;
+
+  @Inject
+  VillainPowerIndex villainPowerIndex;
+
+  @Inject
+  MeterRegistry meterRegistry;
+
+  @Inject
+  TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
   @ConfigProperty(name = "level.multiplier", defaultValue = "1.0")
   private double levelMultiplier;
 
+  @ConfigProperty(name = "villain.import.batch-size", defaultValue = "50")
+  int importBatchSize;
+
+  private Counter indexHits;
+
+  private Counter staleIds;
+
+  @PostConstruct
+  void registerMetrics() {
+    indexHits = VillainIdIndex.lookupCounter(meterRegistry, "hit");
+    staleIds = VillainIdIndex.lookupCounter(meterRegistry, "stale");
+    Gauge.builder("villains.random.index.size", villainIdIndex, VillainIdIndex::size)
+      .description("Number of villain ids in the id index")
+      .register(meterRegistry);
+    Gauge.builder("villains.power.index.powers", villainPowerIndex, VillainPowerIndex::powerCount)
+      .description("Number of distinct powers in the power index")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Finds all the villains, without their powers. The query result is kept in the query cache and the villains
+   * themselves in the second-level cache, until a villain is persisted, updated or deleted.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-all"})
   @Transactional(SUPPORTS)
   public List<Villain> findAllVillains() {
-    return villainMapper.toVillainDTOs(VillainEntity.listAll());
+    return villainMapper.toVillainDTOs(VillainEntity.<VillainEntity>findAll()
+      .withHint(HibernateHints.HINT_CACHEABLE, true)
+      .list());
+  }
+
+  /**
+   * Finds only the given fields of all the villains, ordered by id, with a projection query that reads no other
+   * column and loads no entity. Like the list of all the villains, the rows are kept in the query cache until a
+   * villain is persisted, updated or deleted. When the powers are selected, those of all the villains are aggregated
+   * by a second query.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-all-fields"})
+  @Transactional(SUPPORTS)
+  public List<Villain> findAllVillainFields(List<VillainField> fields) {
+    List<VillainField> columns = VillainField.columns(fields);
+    String query = columns.stream()
+      .map(field -> "v." + field.attribute())
+      .collect(Collectors.joining(", ", "select ", " from VillainEntity v order by v.id"));
+    List<Villain> villains = VillainEntity.getEntityManager()
+      .createQuery(query, Object[].class)
+      .setHint(HibernateHints.HINT_CACHEABLE, true)
+      .getResultList()
+      .stream()
+      .map(row -> VillainField.toVillain(columns, row))
+      .toList();
+    if (fields.contains(VillainField.POWERS)) {
+      @SuppressWarnings("unchecked")
+      List<Object[]> rows = VillainEntity.getEntityManager().createNativeQuery(ALL_POWERS_QUERY).getResultList();
+      Map<Long, String> powers = rows.stream()
+        .collect(Collectors.toMap(row -> ((Number) row[0]).longValue(), row -> (String) row[1]));
+      villains.forEach(villain -> villain.setPowers(powers.get(villain.getId())));
+    }
+    return villains;
   }
 
+  /**
+   * Finds a villain by its ID with its powers, from the second-level cache when possible.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-by-id"})
   @Transactional(SUPPORTS)
   public Villain findVillainById(Long id) {
-    return villainMapper.toVillainDTO(VillainEntity.findById(id));
+    return villainMapper.toVillainDTO(withPowers(VillainEntity.findById(id)));
+  }
+
+  /**
+   * Finds the version of a villain, from the second-level cache when possible.
+   * @return the version of the villain, or null if it does not exist.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-version-by-id"})
+  @Transactional(SUPPORTS)
+  public Long findVillainVersion(Long id) {
+    VillainEntity villainEntity = VillainEntity.findById(id);
+    return villainEntity != null ? villainEntity.version : null;
+  }
+
+  /**
+   * Computes the version of the whole collection of villains with a single aggregate query. Like the list of all the
+   * villains, the result is kept in the query cache until a villain is persisted, updated or deleted.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "collection-version"})
+  @Transactional(SUPPORTS)
+  public VillainCollectionVersion findVillainsVersion() {
+    return VillainEntity.getEntityManager()
+      .createQuery(COLLECTION_VERSION_QUERY, VillainCollectionVersion.class)
+      .setHint(HibernateHints.HINT_CACHEABLE, true)
+      .getSingleResult();
   }
 
   /**
-   * Finds a random villain from the database by first counting the total number of villains in the database.
-   * If there are no villains present, it throws an `IllegalArgumentException`.
-   * Otherwise, it finds all villains in a paginated way and return the random page containing 1 villain.
+   * Finds a random villain by picking a random id from the in-memory {@link VillainIdIndex} and loading it by
+   * primary key. If the picked villain has just been deleted, its id is evicted from the index and another one is tried.
    * @throws IllegalArgumentException if no villains are found in the database.
    */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "find-random"})
   @Transactional(SUPPORTS)
   public Villain findRandomVillain() {
-    long countVillains = VillainEntity.count();
-    if (countVillains == 0) {
-      throw new IllegalArgumentException("No villains found in DB.");
+    if (!villainIdIndex.isPrimed()) {
+      primeVillainIdIndex();
     }
-    Random random = new Random();
-    int randomVillain = random.nextInt((int) countVillains);
-    return villainMapper.toVillainDTO(VillainEntity.findAll().page(randomVillain, 1).firstResult());
+    for (int attempt = 0; attempt < MAX_RANDOM_ATTEMPTS; attempt++) {
+      OptionalLong randomId = villainIdIndex.randomId();
+      if (randomId.isEmpty()) {
+        break;
+      }
+      VillainEntity villainEntity = VillainEntity.findById(randomId.getAsLong());
+      if (villainEntity != null) {
+        indexHits.increment();
+        return villainMapper.toVillainDTO(withPowers(villainEntity));
+      }
+      staleIds.increment();
+      villainIdIndex.remove(randomId.getAsLong());
+    }
+    throw new IllegalArgumentException("No villains found in DB.");
+  }
+
+  /**
+   * Loads the ids of all the villains stored in the database into the {@link VillainIdIndex}.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "list-all-ids"})
+  public void primeVillainIdIndex() {
+    villainIdIndex.prime(VillainEntity.getEntityManager()
+      .createQuery("select v.id from VillainEntity v", Long.class)
+      .setHint(HibernateHints.HINT_CACHEABLE, true)
+      .getResultList());
+  }
+
+  /**
+   * Loads the ids, levels and powers of all the villains stored in the database into the {@link VillainPowerIndex}.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "list-all-powers"})
+  @Transactional(SUPPORTS)
+  public void primeVillainPowerIndex() {
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows = VillainEntity.getEntityManager().createNativeQuery(POWER_INDEX_QUERY).getResultList();
+    villainPowerIndex.prime(rows.stream()
+      .map(row -> new VillainPowerIndex.Entry(
+        ((Number) row[0]).longValue(), ((Number) row[1]).intValue(), (String) row[2]))
+      .toList());
   }
 
+  /**
+   * Searches the villains by powers and level with the in-memory {@link VillainPowerIndex}, then loads the matching
+   * villains by primary key, from the second-level cache when possible, and checks them against the search again.
+   * The villains are returned without their powers.
+   * @param powers the powers to look for; an empty list matches every villain.
+   * @param match whether the villains must have all the powers or any of them.
+   * @param minLevel the minimum level, or null for no minimum.
+   * @param maxLevel the maximum level, or null for no maximum.
+   * @param after the id after which the page starts, or null for the first page.
+   * @param size the maximum number of villains in the page.
+   * @return the page of matching villains, ordered by id.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "search"})
+  @Transactional(SUPPORTS)
+  public List<Villain> searchVillains(Collection<String> powers, Match match, Integer minLevel, Integer maxLevel,
+                                     Long after, int size) {
+    if (!villainPowerIndex.isPrimed()) {
+      primeVillainPowerIndex();
+    }
+    List<Long> ids = villainPowerIndex.search(powers, match, minLevel, maxLevel, after != null ? after : 0L, size);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    // Villains deleted since the search are returned as nulls, and skipped, as are the villains changed since the
+    // search that no longer match
+    List<VillainEntity> villainEntities = VillainEntity.getEntityManager().unwrap(Session.class)
+      .byMultipleIds(VillainEntity.class)
+      .multiLoad(ids);
+    return villainMapper.toVillainDTOs(villainEntities.stream()
+      .filter(Objects::nonNull)
+      .filter(villainEntity -> matchesSearch(villainEntity, powers, match, minLevel, maxLevel))
+      .toList());
+  }
+
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "persist"})
   public Villain persistVillain(@Valid Villain villain) {
     VillainEntity villainEntity = villainMapper.toVillainEntity(villain);
     villainEntity.level = (int) Math.round(villainEntity.level * levelMultiplier);
+    villainEntity.powers = powers(villain, resolvePowers(List.of(villain)));
     villainEntity.persist();
+    VillainPowerIndex.Entry powerIndexEntry = powerIndexEntry(villainEntity);
+    afterCommit(() -> {
+      villainIdIndex.add(powerIndexEntry.id());
+      villainPowerIndex.put(powerIndexEntry);
+    });
     return villainMapper.toVillainDTO(villainEntity);
   }
 
+  /**
+   * Imports a list of villains in a single transaction, applying the level multiplier to all of them in one pass.
+   * The powers of all the villains are resolved from the power dictionary up front.
+   * The session is flushed and cleared every {@code villain.import.batch-size} villains, so that inserts are sent as
+   * JDBC batches and the persistence context does not grow with the size of the import.
+   * @param villains the villains to import.
+   * @return the number and ids of the imported villains.
+   */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "import"})
+  public VillainImportResult importVillains(@Valid List<Villain> villains) {
+    EntityManager entityManager = VillainEntity.getEntityManager();
+    List<Long> ids = new ArrayList<>(villains.size());
+    List<VillainPowerIndex.Entry> powerIndexEntries = new ArrayList<>(villains.size());
+    // The powers are detached by the first clear, which is fine as they are only referenced by their ids
+    Map<String, PowerEntity> dictionary = resolvePowers(villains);
+    for (Villain villain : villains) {
+      VillainEntity villainEntity = villainMapper.toVillainEntity(villain);
+      villainEntity.level = (int) Math.round(villainEntity.level * levelMultiplier);
+      villainEntity.powers = powers(villain, dictionary);
+      entityManager.persist(villainEntity);
+      ids.add(villainEntity.id);
+      powerIndexEntries.add(powerIndexEntry(villainEntity));
+      if (ids.size() % importBatchSize == 0) {
+        entityManager.flush();
+        entityManager.clear();
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    afterCommit(() -> {
+      ids.forEach(villainIdIndex::add);
+      powerIndexEntries.forEach(villainPowerIndex::put);
+    });
+    return new VillainImportResult(ids.size(), ids);
+  }
+
   /**
    * Updates an existing villain in the database.
    * @param villain the villain with updated information.
    * @return the updated villain.
    * @throws IllegalArgumentException if the villain with the given ID does not exist.
    */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "update"})
   public Villain updateVillain(@Valid Villain villain) {
     VillainEntity villainEntity = VillainEntity.findById(villain.getId());
     if (villainEntity == null) {
       throw new IllegalArgumentException("Villain with id " + villain.getId() + " does not exist.");
     }
-    return villainMapper.toVillainDTO(updateVillainFields(villainEntity, villain));
+    updateVillainFields(villainEntity, villain, resolvePowers(List.of(villain)));
+    VillainPowerIndex.Entry powerIndexEntry = powerIndexEntry(villainEntity);
+    afterCommit(() -> villainPowerIndex.put(powerIndexEntry));
+    return villainMapper.toVillainDTO(villainEntity);
   }
 
   /**
    * Deletes a villain by its ID.
    * @throws IllegalArgumentException if the villain with the given ID does not exist.
    */
+  @WithSpan
+  @Timed(value = DB_TIMER, extraTags = {"query", "delete"})
   public void deleteVillain(Long id) {
     VillainEntity villain = VillainEntity.findById(id);
     if (villain == null) {
       throw new IllegalArgumentException("Villain with id " + id + " does not exist.");
     }
     villain.delete();
+    afterCommit(() -> {
+      villainIdIndex.remove(id);
+      villainPowerIndex.remove(id);
+    });
   }
 
   /*
     Helper methods
    */
 
-  private static VillainEntity updateVillainFields(VillainEntity villainEntity, Villain villain) {
+  // The indexes only reflect committed villains: their changes are applied once the transaction has committed, and
+  // dropped if it rolls back.
+  private void afterCommit(Runnable indexUpdate) {
+    transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+      @Override
+      public void beforeCompletion() {
+        // Nothing to do before the commit
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        if (status == Status.STATUS_COMMITTED) {
+          indexUpdate.run();
+        }
+      }
+    });
+  }
+
+  private static VillainPowerIndex.Entry powerIndexEntry(VillainEntity villainEntity) {
+    return new VillainPowerIndex.Entry(villainEntity.id, villainEntity.level, PowerEntity.join(villainEntity.powers));
+  }
+
+  // The powers of the villain are only loaded when the search has some.
+  private static boolean matchesSearch(VillainEntity villainEntity, Collection<String> powers, Match match,
+                                       Integer minLevel, Integer maxLevel) {
+    String villainPowers = powers.isEmpty() ? null : PowerEntity.join(villainEntity.powers);
+    return VillainPowerIndex.matches(new VillainPowerIndex.Entry(villainEntity.id, villainEntity.level, villainPowers),
+      powers, match, minLevel, maxLevel);
+  }
+
+  private static VillainEntity withPowers(VillainEntity villainEntity) {
+    if (villainEntity != null) {
+      Hibernate.initialize(villainEntity.powers);
+    }
+    return villainEntity;
+  }
+
+  private static Map<String, PowerEntity> resolvePowers(List<Villain> villains) {
+    return PowerEntity.resolve(villains.stream()
+      .flatMap(villain -> PowerEntity.names(villain.getPowers()).stream())
+      .toList());
+  }
+
+  private static List<PowerEntity> powers(Villain villain, Map<String, PowerEntity> dictionary) {
+    return PowerEntity.names(villain.getPowers()).stream()
+      .map(dictionary::get)
+      .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  // The powers are only rewritten if they change, so that the version of an unchanged villain stays the same.
+  private static VillainEntity updateVillainFields(VillainEntity villainEntity, Villain villain,
+                                                   Map<String, PowerEntity> dictionary) {
     villainEntity.name = villain.getName();
     villainEntity.otherName = villain.getOtherName();
     villainEntity.level = villain.getLevel();
     villainEntity.picture = villain.getPicture();
-    villainEntity.powers = villain.getPowers();
+    List<PowerEntity> powers = powers(villain, dictionary);
+    if (!powers.equals(villainEntity.powers)) {
+      villainEntity.powers.clear();
+      villainEntity.powers.addAll(powers);
+    }
     return villainEntity;
   }
 }
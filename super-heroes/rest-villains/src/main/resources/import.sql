@@ -1,2680 +0,0 @@
--- tag::adocSQL[]
-ALTER SEQUENCE villainEntity_seq RESTART WITH 50;
-
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Buuccolo', 'Majin Buu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15355.jpg',
-        'Accelerated Healing, Adaptation, Agility, Flight, Immortality, Intelligence, Invulnerability, Reflexes, Self-Sustenance, Size Changing, Spatial Awareness, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Teleportation',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Vader', 'Anakin Skywalker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10444.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Cloaking, Danger Sense, Durability, Electrokinesis, Energy Blasts, Enhanced Hearing, Enhanced Senses, Force Fields, Hypnokinesis, Illusions, Intelligence, Jump, Light Control, Marksmanship, Precognition, Psionic Powers, Reflexes, Stealth, Super Speed, Telekinesis, Telepathy, The Force, Weapons Master',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Rival (CW)', 'Edward Clariss',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13846.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Durability, Electrokinesis, Endurance, Enhanced Senses, Intangibility, Marksmanship, Phasing, Reflexes, Speed Force, Stamina, Super Speed, Super Strength',
-        10);
--- end::adocSQL[]
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'William Stryker (FOX)', 'William Stryker, Jr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13957.jpg',
-        'Intelligence, Intuitive aptitude, Marksmanship, Weapon-based Powers', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Annihilus', 'Annihilus',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1307.jpg',
-        'Agility, Durability, Flight, Reflexes, Stamina, Super Speed, Super Strength', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Angel Salvadore (FOX)', 'Angel Salvadore',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14367.jpg',
-        'Animal Attributes, Animal Oriented Powers, Energy Blasts, Flight, Regeneration, Toxin and Disease Control', 3);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Laufey (MCU)', 'Laufey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13974.jpg',
-        'Cold Resistance, Cryokinesis, Durability, Invulnerability, Longevity, Super Strength', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Tobias Whale (CW)', 'Tobias Whale',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15894.jpg',
-        'Durability, Endurance, Longevity, Marksmanship, Stamina, Super Strength', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Towa', 'Towa',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14841.jpg',
-        'Agility, Biokinesis, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Intelligence, Magic, Mind Control, Portal Creation, Possession, Power Augmentation, Power Nullifier, Power Sense, Reflexes, Resurrection, Self-Sustenance, Size Changing, Stamina, Summoning, Super Speed, Super Strength, Teleportation, Time Travel, Umbrakinesis',
-        35);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hela (MCU)', 'Hela Odinsdottir',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12595.jpg',
-        'Accelerated Healing, Darkforce Manipulation, Durability, Elasticity, Longevity, Matter Manipulation, Portal Creation, Reflexes, Regeneration, Super Speed, Super Strength, Telekinesis',
-        17);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Queen Azshara', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14261.jpg',
-        'Accelerated Healing, Astral Projection, Astral Travel, Darkforce Manipulation, Element Control, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Force Fields, Hair Manipulation, Heat Generation, Immortality, Invisibility, Magic, Matter Manipulation, Mind Blast, Phasing, Possession, Psionic Powers, Telepathy, Teleportation',
-        39);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Proto-Goblin', 'Nels Van Adder',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1402.jpg',
-        'Agility, Durability, Natural Weapons, Super Strength', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ego (MCU)', 'Ego',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13892.jpg',
-        'Durability, Element Control, Energy Manipulation, Flight, Immortality, Intelligence, Invulnerability, Light Control, Matter Manipulation, Molecular Manipulation, Self-Sustenance, Shapeshifting, Super Strength',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Starscream', 'Starscream',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10598.jpg',
-        'Agility, Biokinesis, Durability, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Natural Armor, Natural Weapons, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Janemba', 'Janemba',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11523.jpg',
-        'Absorption, Agility, Duplication, Elasticity, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Immortality, Invulnerability, Magic, Matter Manipulation, Molecular Manipulation, Portal Creation, Possession, Power Absorption, Power Augmentation, Power Nullifier, Power Sense, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Teleportation, Weapon-based Powers, Weapons Master',
-        50);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Green Goblin II', 'Harold Osborn',
-        'https://www.superherodb.com/pictures2/portraits/10/050/25.jpg',
-        'Accelerated Healing, Durability, Insanity, Intelligence, Reflexes, Stamina, Super Speed, Super Strength', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Elle Bishop', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1021.jpg',
-        'Electrokinesis', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Eraser', 'Leonard Fiasco',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11674.jpg',
-        'Agility, Camouflage, Cloaking, Dexterity, Durability, Hypnokinesis, Intelligence, Intuitive aptitude, Molecular Dissipation, Power Suit, Stealth, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Archimonde', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15708.jpg',
-        'Absorption, Darkforce Manipulation, Dimensional Travel, Fire Control, Immortality, Magic, Magic Resistance, Portal Creation, Regeneration, Shapeshifting, Size Changing, Summoning, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Vitakinesis',
-        46);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Tobias Church (CW)', 'Tobias Church',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15938.jpg',
-        'Durability, Intelligence, Marksmanship, Peak Human Condition, Stamina, Weapon-based Powers', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Prometheus (CW)', 'Adrian Chase',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15420.jpg',
-        'Agility, Dexterity, Durability, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Plagueis', 'Hego Damask',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10697.jpg',
-        'Agility, Clairvoyance, Cloaking, Darkforce Manipulation, Durability, Electrokinesis, Energy Absorption, Energy Manipulation, Enhanced Senses, Force Fields, Illusions, Mind Control, Power Nullifier, Power Sense, Precognition, Reflexes, Resurrection, Sonic Scream, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Vitakinesis',
-        36);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darkseid (Soulfire)', 'Uxas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14608.jpg',
-        'Absorption, Agility, Astral Projection, Astral Trap, Astral Travel, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Duplication, Durability, Element Control, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Gravity Control, Heat Generation, Heat Resistance, Immortality, Insanity, Intelligence, Invulnerability, Levitation, Marksmanship, Matter Manipulation, Mind Blast, Mind Control, Omega Effect, Omnilingualism, Possession, Precognition, Psionic Powers, Reality Warping, Regeneration, Self-Sustenance, Size Changing, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy',
-        72);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ubu', 'Ubu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10362.jpg',
-        'Agility, Intelligence, Super Strength', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Joe Wilson (CW)', 'Joe Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16410.jpg',
-        'Agility, Durability, Endurance, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Commander Raggmunk', 'Raggmunk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16438.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Cold Resistance, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Heat Resistance, Insanity, Longevity, Marksmanship, Natural Weapons, Peak Human Condition, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Stealth, Summoning, Super Strength, Telepathy, Vision - Night, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Erik Killmonger', 'NJadaka',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14058.jpg',
-        'Accelerated Healing, Agility, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Peak Human Condition, Reflexes, Stamina, Stealth, Vision - Night, Vision - Telescopic, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Croc', 'Waylon Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/723.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Natural Armor, Natural Weapons, Reflexes, Stamina, Sub-Mariner, Super Speed, Super Strength',
-        4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Savitar (CW)', 'Barry Allen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13779.jpg',
-        'Absorption, Agility, Cold Resistance, Dimensional Travel, Electrokinesis, Element Control, Enhanced Senses, Intangibility, Invisibility, Portal Creation, Possession, Regeneration, Telepathy, Time Travel, Wind Control',
-        18);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Pyro (FOX)', 'St. John Allerdyce',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14268.jpg',
-        'Element Control, Fire Control, Fire Resistance, Heat Resistance', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Freddy Krueger', 'Freddy Krueger',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11028.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dimensional Awareness, Durability, Elasticity, Illusions, Immortality, Intelligence, Invisibility, Invulnerability, Longevity, Magic, Phasing, Possession, Psionic Powers, Reality Warping, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Summoning, Super Strength, Telekinesis, Wallcrawling',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Tanker Bug', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14089.jpg',
-        'Durability, Enhanced Senses, Fire Resistance, Heat Generation, Invulnerability, Natural Armor, Natural Weapons, Substance Secretion, Super Speed, Super Strength',
-        3);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shocker', 'Herman Schultz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/19.jpg',
-        'Energy Blasts, Marksmanship, Power Suit, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dex-Starr', 'Dexter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12298.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Camouflage, Cloaking, Cold Resistance, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Enhanced Senses, Fire Control, Fire Resistance, Force Fields, Heat Resistance, Intelligence, Lantern Power Ring, Reflexes, Regeneration, Self-Sustenance, Stamina, Super Speed, Super Strength, Telepathy Resistance',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Superman (Injustice)', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14313.jpg',
-        'Agility, Energy Absorption, Energy Resistance, Enhanced Senses, Flight, Invulnerability, Mind Control Resistance, Radiation Absorption, Reflexes, Self-Sustenance, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Empty Hand', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14456.jpg',
-        'Astral Projection, Darkforce Manipulation, Dimensional Awareness, Duplication, Immortality, Nigh-Omnipresent, Nigh-Omniscient, Reality Warping, Spatial Awareness, Teleportation, Time Manipulation, Time Travel',
-        69);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Arkade', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16531.jpg',
-        'Absorption, Agility, Camouflage, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Heat Resistance, Insanity, Intelligence, Longevity, Marksmanship, Peak Human Condition, Power Suit, Reflexes, Stamina, Stealth, Summoning, Vision - Night, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mystique', 'Raven Darkholme',
-        'https://www.superherodb.com/pictures2/portraits/10/050/817.jpg',
-        'Accelerated Healing, Agility, Intelligence, Longevity, Marksmanship, Molecular Manipulation, Shapeshifting, Stamina, Stealth, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cell', 'Cell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1215.jpg',
-        'Absorption, Adaptation, Agility, Biokinesis, Duplication, Durability, Elasticity, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Immortality, Light Control, Longevity, Power Sense, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Size Changing, Stamina, Summoning, Super Speed, Super Strength, Telekinesis, Teleportation',
-        28);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Egg Fu', 'Chang Tzu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11157.jpg',
-        'Cold Resistance, Duplication, Explosion Manipulation, Jump, Natural Weapons, Power Suit, Resurrection, Super Strength, Technopath/Cyberpath, Toxin and Disease Resistance, Weapon-based Powers',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Grant Ward (MCU)', 'Grant Ward',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15437.jpg',
-        'Intelligence, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'King Shark', 'Nanaue',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10512.jpg',
-        'Animal Attributes, Animal Oriented Powers, Cold Resistance, Durability, Enhanced Sight, Enhanced Smell, Invulnerability, Longevity, Natural Armor, Natural Weapons, Radar Sense, Regeneration, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Underwater breathing',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Wonder Woman (Injustice)', 'Diana Prince',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14315.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Endurance, Energy Blasts, Energy Resistance, Enhanced Senses, Flight, Heat Resistance, Intelligence, Invulnerability, Longevity, Magic, Marksmanship, Omnilingualism, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Zarathos', 'Zarathos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12100.jpg',
-        'Darkforce Manipulation, Durability, Energy Manipulation, Illusions, Immortality, Magic, Matter Manipulation, Mind Control, Portal Creation, Possession, Power Nullifier, Reality Warping, Regeneration, Resurrection, Size Changing, Summoning, Super Speed, Super Strength, Telepathy, Teleportation, Time Travel, Weather Control',
-        81);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cable (FOX)', 'Nathan Summers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13087.jpg',
-        'Durability, Element Control, Enhanced Sight, Force Fields, Invulnerability, Marksmanship, Super Strength, Technopath/Cyberpath, Telekinesis, Time Travel, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lord Voldemort', 'Tom Riddle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10883.jpg',
-        'Accelerated Healing, Animal Control, Darkforce Manipulation, Energy Blasts, Energy Constructs, Fire Control, Flight, Force Fields, Intelligence, Invulnerability, Levitation, Magic, Plant Control, Possession, Reality Warping, Resurrection, Shapeshifting, Stealth, Telepathy, Teleportation, Toxin and Disease Control, Weather Control',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Commander Blunck', 'Blunck',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16515.jpg',
-        'Accelerated Healing, Agility, Camouflage, Cold Resistance, Dexterity, Durability, Endurance, Heat Resistance, Insanity, Invulnerability, Natural Armor, Peak Human Condition, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Stealth, Summoning, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lashina', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15005.jpg',
-        'Agility, Dexterity, Durability, Endurance, Immortality, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'A.I.M. Agent', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16263.jpg',
-        'Marksmanship, Stealth, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Steel Serpent', 'Davos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15554.jpg',
-        'Accelerated Healing, Dimensional Travel, Durability, Empathy, Energy Absorption, Energy Manipulation, Energy Resistance, Enhanced Senses, Power Augmentation, Reflexes, Toxin and Disease Resistance',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doubloon', 'Pete Doubloon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16429.jpg',
-        'Agility, Banish, Camouflage, Cold Resistance, Dexterity, Dimensional Travel, Durability, Element Control, Endurance, Enhanced Memory, Enhanced Senses, Enhanced Smell, Heat Resistance, Insanity, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Summoning, Super Strength, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Siryn', 'Theresa Rourke Cassidy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/833.jpg',
-        'Enhanced Hearing, Flight, Sonar, Sonic Scream', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jerome Valeska', 'Jerome Valeska',
-        'https://www.superherodb.com/pictures2/portraits/10/050/44792.jpg',
-        'Agility, Durability, Endurance, Enhanced Memory, Insanity, Intelligence, Intuitive aptitude, Marksmanship, Resurrection, Stamina, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Morlun', 'Morlun',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1171.jpg',
-        'Agility, Durability, Immortality, Reflexes, Stamina, Super Speed, Super Strength', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Brainiac', 'Vril Dox',
-        'https://www.superherodb.com/pictures2/portraits/10/050/648.jpg',
-        'Durability, Flight, Force Fields, Intelligence, Longevity, Omnilingualism, Self-Sustenance, Super Speed, Super Strength, Telekinesis, Telepathy',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Venom', 'Eddie Brock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/22.jpg',
-        'Accelerated Healing, Danger Sense, Durability, Jump, Natural Weapons, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Symbiote Costume, Wallcrawling, Weapon-based Powers, Web Creation',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doomsday (New 52)', 'Doomsday',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16327.jpg',
-        'Accelerated Healing, Adaptation, Changing Armor, Cold Resistance, Durability, Energy Resistance, Fire Resistance, Heat Resistance, Immortality, Invulnerability, Jump, Mind Control Resistance, Natural Armor, Natural Weapons, Physical Anomaly, Power Absorption, Power Sense, Radiation Immunity, Reflexes, Regeneration, Resurrection, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing',
-        28);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'King Thanos', 'Thanos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12561.jpg',
-        'Accelerated Healing, Cold Resistance, Danger Sense, Dexterity, Dimensional Travel, Durability, Endurance, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Flight, Heat Resistance, Immortality, Insanity, Intelligence, Invulnerability, Jump, Longevity, Magic, Matter Absorption, Matter Manipulation, Mind Control, Power Cosmic, Radiation Immunity, Reflexes, Self-Sustenance, Spatial Awareness, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Toxin and Disease Resistance, Underwater breathing, Vision - Microscopic, Vision - Telescopic',
-        78);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kraven II', 'Alyosha Kravinoff',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1034.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Enhanced Senses, Stamina, Super Speed, Super Strength',
-        4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Heat Wave', 'Mick Rory',
-        'https://www.superherodb.com/pictures2/portraits/10/050/705.jpg', 'Weapon-based Powers', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Two-Face', 'Harvey Dent',
-        'https://www.superherodb.com/pictures2/portraits/10/050/802.jpg',
-        'Energy', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Golden Glider', 'Lisa Snart',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10486.jpg',
-        'Agility, Astral Projection, Astral Travel, Elemental Transmogrification, Energy Constructs, Flight, Hair Manipulation, Hypnokinesis, Intangibility, Intelligence, Intuitive aptitude, Marksmanship, Natural Weapons, Peak Human Condition, Phasing, Reflexes, Super Speed, Teleportation, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Moth', 'Drury Walker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14434.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Bullet Time, Camouflage, Durability, Endurance, Enhanced Senses, Enhanced Sight, Flight, Gliding, Intelligence, Intuitive aptitude, Marksmanship, Natural Weapons, Power Suit, Sonar, Stealth, Super Speed, Vision - Infrared, Vision - Telescopic, Wallcrawling, Weapon-based Powers, Web Creation, Wind Control',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cestis', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15651.jpg',
-        'Dimensional Travel, Flight, Immortality, Mind Control, Mind Control Resistance, Power Nullifier, Reality Warping, Regeneration, Size Changing, Super Speed, Super Strength, Teleportation',
-        37);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Plantman', 'Samuel Smithers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10487.jpg',
-        'Durability, Invulnerability, Plant Control, Stealth, Super Strength', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Talia Al Ghul (CW)', 'Talia Al Ghul',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15936.jpg',
-        'Agility, Dexterity, Endurance, Intelligence, Longevity, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nosferatu Zodd', 'Nosferatu Zodd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11514.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Senses, Flight, Immortality, Intelligence, Jump, Longevity, Marksmanship, Reflexes, Regeneration, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'KGBeast', 'Anatoli Knyazev',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11023.jpg',
-        'Agility, Intelligence, Invulnerability, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mister Sinister', 'Nathaniel Essex',
-        'https://www.superherodb.com/pictures2/portraits/10/050/856.jpg',
-        'Accelerated Healing, Animal Attributes, Animal Oriented Powers, Duplication, Durability, Energy Blasts, Flight, Force Fields, Intelligence, Longevity, Mind Blast, Mind Control, Molecular Manipulation, Power Nullifier, Reflexes, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bane (new 52)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16508.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Intelligence, Longevity, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Baron Strucker', 'Baron Wolfgang Von Strucker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11418.jpg',
-        'Accelerated Healing, Camouflage, Durability, Electrokinesis, Energy Blasts, Longevity, Marksmanship, Peak Human Condition, Regeneration, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Alex Mercer', 'Alexander J. Mercer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10398.jpg',
-        'Accelerated Healing, Adaptation, Agility, Danger Sense, Elasticity, Energy Absorption, Energy Blasts, Enhanced Hearing, Enhanced Senses, Gliding, Immortality, Invulnerability, Jump, Longevity, Marksmanship, Matter Absorption, Natural Armor, Natural Weapons, Shapeshifting, Stamina, Stealth, Substance Secretion, Super Speed, Super Strength, Vision - Thermal, Wallcrawling, Weapons Master',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kid Buu', 'Majin Buu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14772.jpg',
-        'Absorption, Agility, Biokinesis, Cold Resistance, Dimensional Travel, Duplication, Elasticity, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Illusions, Immortality, Invulnerability, Magic, Mind Control Resistance, Molecular Manipulation, Power Absorption, Power Augmentation, Power Sense, Radar Sense, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Vitakinesis, Weather Control',
-        44);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Batroc The Leaper (MCU)', 'Georges Batroc',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13067.jpg',
-        'Agility, Durability, Marksmanship, Reflexes, Stamina, Stealth', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Crazy Quilt', 'Paul Dekker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13613.jpg',
-        'Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Sight, Illusions, Insanity, Intelligence, Intuitive aptitude, Light Control, Mind Blast, Mind Control, Power Suit, Telepathy, Weapon-based Powers',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deathwing', 'Neltharion',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14508.jpg',
-        'Darkforce Manipulation, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Heat Generation, Immortality, Invisibility, Invulnerability, Light Control, Magic, Mind Control, Reality Warping, Regeneration, Shapeshifting, Size Changing, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Vitakinesis',
-        52);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Amazo', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1390.jpg',
-        'Agility, Camouflage, Cryokinesis, Duplication, Durability, Energy Blasts, Energy Constructs, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Fire Control, Flight, Force Fields, Intelligence, Invisibility, Invulnerability, Jump, Lantern Power Ring, Longevity, Magnetism, Marksmanship, Phasing, Power Absorption, Power Augmentation, Reflexes, Shapeshifting, Size Changing, Stamina, Super Breath, Super Speed, Super Strength, Telepathy, Teleportation, Time Travel, Underwater breathing, Vision - Heat, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray, Water Control, Weapon-based Powers',
-        35);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Abra Kadabra', 'Abhararakadhararbarakh',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10912.jpg',
-        'Animation, Astral Projection, Dimensional Travel, Hypnokinesis, Illusions, Immortality, Intelligence, Longevity, Magic, Marksmanship, Matter Manipulation, Possession, Precognition, Probability Manipulation, Stamina, Stealth, Time Manipulation, Time Travel',
-        29);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Plastique', 'Bette Sans Souci',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1176.jpg', 'Energy Blasts', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Gorilla Grodd', 'Grodd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/694.jpg',
-        'Agility, Animal Attributes, Animal Control, Durability, Energy Blasts, Enhanced Hearing, Intelligence, Mind Control, Molecular Manipulation, Natural Weapons, Super Strength, Telekinesis, Telepathy',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shuma Gorath', 'Shuma Gorath',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11660.jpg',
-        'Absorption, Dimensional Travel, Durability, Elasticity, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Illusions, Immortality, Intelligence, Invulnerability, Longevity, Magic, Nigh-Omniscient, Phasing, Portal Creation, Reality Warping, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Vitakinesis',
-        50);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Midgard Serpent', 'Jormungand',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11341.jpg',
-        'Agility, Bullet Time, Camouflage, Cold Resistance, Energy Blasts, Energy Resistance, Enhanced Senses, Fire Resistance, Heat Resistance, Illusions, Immortality, Invisibility, Invulnerability, Magic, Power Sense, Precognition, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance',
-        26);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darkseid (True Form)', 'Uxas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12757.jpg',
-        'Energy Manipulation, Flight, Illusions, Immortality, Intelligence, Matter Manipulation, Mind Control, Molecular Manipulation, Omega Effect, Reality Warping, Regeneration, Resurrection, Size Changing, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        87);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Frost (CW)', 'Caitlin Snow',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14001.jpg',
-        'Cold Resistance, Cryokinesis, Energy Absorption, Natural Weapons, Reflexes', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Abeloth', 'Abeloth',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12232.jpg',
-        'Absorption, Agility, Astral Projection, Clairvoyance, Darkforce Manipulation, Dimensional Awareness, Duplication, Durability, Electrokinesis, Empathy, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Immortality, Insanity, Intangibility, Matter Manipulation, Mind Control, Possession, Power Augmentation, Power Sense, Precognition, Reality Warping, Reflexes, Regeneration, Shapeshifting, Spatial Awareness, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, The Force, Time Travel, Vitakinesis, Weather Control',
-        91);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Krona', 'Krona',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11576.jpg',
-        'Durability, Energy Blasts, Energy Manipulation, Immortality, Intelligence, Invulnerability, Mind Control, Mind Control Resistance, Possession, Precognition, Stamina, Super Strength, Telekinesis, Telepathy, Telepathy Resistance',
-        23);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jinx', '/',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10226.jpg',
-        'Electrokinesis, Element Control, Flight, Force Fields, Jump, Telekinesis, Terrakinesis, Time Manipulation',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nadakhan', 'Nadakhan The Djinn',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16173.jpg',
-        'Ability Shift, Absorption, Accelerated Healing, Agility, Animation, Anti-Gravity, Astral Trap, Audio Control, Banish, Bullet Time, Clairvoyance, Cold Resistance, Cryokinesis, Darkforce Manipulation, Dimensional Travel, Durability, Element Control, Empathy, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Control, Fire Resistance, Flight, Force Fields, Gravity Control, Heat Resistance, Illusions, Intangibility, Intelligence, Invisibility, Invulnerability, Jump, Levitation, Longevity, Magic, Marksmanship, Mind Control, Mind Control Resistance, Peak Human Condition, Portal Creation, Power Absorption, Power Nullifier, Precognition, Probability Manipulation, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Summoning, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Terrakinesis, Time Manipulation, Time Travel, Timeframe Control, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master, Wishing',
-        160);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Yog-Sothoth', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14575.jpg',
-        'Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Element Control, Energy Constructs, Energy Manipulation, Immortality, Matter Manipulation, Molecular Manipulation, Nigh-Omnipotent, Omnipresent, Omniscient, Reality Warping, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Super Speed, Super Strength',
-        114);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Senator Armstrong', 'Steven Armstrong',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11519.jpg',
-        'Absorption, Agility, Dexterity, Durability, Endurance, Energy Absorption, Energy Manipulation, Enhanced Senses, Explosion Manipulation, Fire Control, Intelligence, Invulnerability, Jump, Magnetism, Marksmanship, Natural Armor, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ras Al Ghul', 'Ras Al Ghul',
-        'https://www.superherodb.com/pictures2/portraits/10/050/761.jpg',
-        'Agility, Durability, Intelligence, Longevity, Stamina, Super Speed, Super Strength, Weapon-based Powers', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Thanos (Cosmic Cube)', 'Thanos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13502.jpg',
-        'Astral Projection, Astral Travel, Dimensional Travel, Duplication, Durability, Elasticity, Element Control, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Immortality, Magic, Matter Manipulation, Power Nullifier, Probability Manipulation, Psionic Powers, Reality Warping, Regeneration, Summoning, Super Speed, Teleportation, Time Manipulation, Vitakinesis, Weather Control, Wishing',
-        57);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nekron', 'Nekron',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10713.jpg',
-        'Darkforce Manipulation, Death Touch, Energy Blasts, Energy Manipulation, Fire Control, Immortality, Invisibility, Invulnerability, Lantern Power Ring, Longevity, Magic, Power Absorption, Power Nullifier, Reality Warping, Resurrection, Size Changing, Stamina, Sub-Mariner, Super Strength, Telepathy, Umbrakinesis, Vision - Night',
-        80);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Trapster', 'Peter Petruski',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1538.jpg',
-        'Anti-Gravity, Camouflage, Fire Resistance, Flight, Marksmanship, Molecular Dissipation, Molecular Immobilization, Power Suit, Super Speed, Wallcrawling, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mad Hatter', 'Jervis Tetch',
-        'https://www.superherodb.com/pictures2/portraits/10/050/730.jpg', 'Animation, Intelligence, Mind Control', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Maximus (MCU)', 'Maximus Boltagon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16510.jpg', 'Intelligence, Intuitive aptitude', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Venom III', 'MacDonald Gargan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1042.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Camouflage, Danger Sense, Durability, Natural Weapons, Reflexes, Stamina, Super Speed, Super Strength, Symbiote Costume, Wallcrawling',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Fallen One II', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1051.jpg',
-        'Accelerated Healing, Darkforce Manipulation, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Gravity Control, Illusions, Invulnerability, Phasing, Self-Sustenance, Size Changing, Super Speed, Super Strength, Telepathy, Time Travel',
-        27);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Blackwing', 'Joseph Manfredi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/249.jpg', 'Flight, Telepathy', 3);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Arkham Knight', 'Jason Todd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12123.jpg',
-        'Agility, Enhanced Senses, Marksmanship, Peak Human Condition, Reflexes, Stamina, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nobu (MCU)', 'Nobu Yoshioka',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16403.jpg',
-        'Agility, Dexterity, Durability, Endurance, Longevity, Marksmanship, Peak Human Condition, Reflexes, Resurrection, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Buuhan', 'Majin Buu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15356.jpg',
-        'Absorption, Agility, Biokinesis, Dimensional Travel, Duplication, Elasticity, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Immortality, Intelligence, Intuitive aptitude, Invulnerability, Latent Abilities, Magic, Matter Manipulation, Mind Control Resistance, Portal Creation, Power Absorption, Power Sense, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Teleportation, Toxin and Disease Resistance, Weather Control',
-        49);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Callisto', 'Callisto',
-        'https://www.superherodb.com/pictures2/portraits/10/050/271.jpg',
-        'Accelerated Healing, Agility, Enhanced Senses, Reflexes, Super Strength, Vision - Night, Wallcrawling', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Zom', 'Zom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12081.jpg',
-        'Durability, Elasticity, Endurance, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Immortality, Invulnerability, Magic, Possession, Precognition, Psionic Powers, Reality Warping, Reflexes, Shapeshifting, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Teleportation',
-        27);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Proxima Midnight (MCU)', 'Proxima Midnight',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16757.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Energy Blasts, Jump, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Satan', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1083.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Darkforce Manipulation, Death Manipulation, Durability, Endurance, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Illusions, Immortality, Intelligence, Invulnerability, Jump, Life Manipulation, Matter Manipulation, Mind Control, Nigh-Omnipotent, Nigh-Omnipresent, Nigh-Omniscient, Reality Warping, Reflexes, Regeneration, Resurrection, Self-Sustenance, Soul Manipulation, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Weather Control',
-        198);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Juggernaut (FOX)', 'Cain Marko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13062.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Dexterity, Durability, Endurance, Energy Resistance, Fire Resistance, Heat Resistance, Immortality, Longevity, Mind Control Resistance, Power Augmentation, Radiation Immunity, Regeneration, Self-Sustenance, Stamina, Super Speed, Super Strength, Telepathy Resistance',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Klaw (MCU)', 'Ulysses Klaue',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13419.jpg',
-        'Energy Manipulation, Marksmanship, Weapons Master', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Viper', 'Ophelia Sarkissian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10400.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Camouflage, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Omnilingualism, Peak Human Condition, Photographic Reflexes, Probability Manipulation, Stamina, Stealth, Teleportation, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Knull', 'Knull The God Of Symbiotes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14705.jpg',
-        'Accelerated Healing, Agility, Astral Travel, Banish, Camouflage, Changing Armor, Clairvoyance, Cloaking, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Duplication, Element Control, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Flight, Force Fields, Gravity Control, Grim Reaping, Heat Resistance, Illusions, Immortality, Intelligence, Invulnerability, Longevity, Magnetism, Matter Manipulation, Natural Armor, Omnilingualism, Phasing, Portal Creation, Power Augmentation, Power Nullifier, Precognition, Psionic Powers, Radiation Absorption, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy Resistance, Teleportation, Time Travel, Toxin and Disease Resistance, Umbrakinesis, Vitakinesis, Wallcrawling, Weapon-based Powers, Weapons Master, Web Creation',
-        91);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'General Kozu', 'Kozu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16125.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Darkforce Manipulation, Dimensional Travel, Durability, Endurance, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Immortality, Invulnerability, Jump, Mind Control, Mind Control Resistance, Natural Armor, Omnilingualism, Peak Human Condition, Reflexes, Regeneration, Resurrection, Seismic Power, Self-Sustenance, Stamina, Stealth, Summoning, Super Strength, Telepathy, Telepathy Resistance, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        33);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Captain Boomerang (DCEU)', 'Digger Harkness',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15413.jpg',
-        'Agility, Durability, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Imperfect Cell', 'Cell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14873.jpg',
-        'Absorption, Adaptation, Agility, Biokinesis, Duplication, Durability, Elasticity, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance',
-        18);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'T-X', 'Cyberdyne Systems Series X Terminator',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10412.jpg',
-        'Accelerated Healing, Agility, Camouflage, Cold Resistance, Durability, Energy Beams, Energy Blasts, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Intelligence, Invulnerability, Longevity, Marksmanship, Natural Weapons, Reflexes, Regeneration, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Vision - Infrared, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Penguin', 'Oswald Cobblepot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/753.jpg',
-        'Agility, Cold Resistance, Insanity, Intelligence, Stealth, Weapons Master', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Superman Prime', 'Clark Kent',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13079.jpg',
-        'Absorption, Accelerated Healing, Agility, Biokinesis, Bullet Time, Changing Armor, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Empathy, Endurance, Energy Absorption, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Flight, Gliding, Heat Generation, Heat Resistance, Hypnokinesis, Insanity, Intelligence, Invulnerability, Jump, Longevity, Magic Resistance, Mind Control Resistance, Phasing, Power Absorption, Power Augmentation, Power Sense, Power Suit, Radiation Immunity, Reflexes, Seismic Power, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Timeframe Control, Toxin and Disease Resistance, Vision - Heat, Vision - Microscopic, Vision - Thermal, Vision - X-Ray, Weapons Master',
-        40);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ares (DCEU)', 'Ares',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12597.jpg',
-        'Accelerated Healing, Agility, Durability, Electrokinesis, Element Control, Empathy, Energy Manipulation, Fire Control, Fire Resistance, Flight, Illusions, Immortality, Invisibility, Matter Manipulation, Mind Control, Power Augmentation, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Terrakinesis, Toxin and Disease Resistance, Weather Control',
-        27);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Chthon', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11322.jpg',
-        'Adaptation, Astral Projection, Astral Travel, Darkforce Manipulation, Death Touch, Dimensional Awareness, Dimensional Travel, Energy Blasts, Energy Manipulation, Grim Reaping, Heat Generation, Hypnokinesis, Illusions, Immortality, Intangibility, Intelligence, Invisibility, Invulnerability, Magic, Matter Manipulation, Molecular Combustion, Possession, Reality Warping, Self-Sustenance, Size Changing, Super Speed, Super Strength, Teleportation, Time Manipulation, Time Travel',
-        88);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Anti-Monitor II', 'Mobius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12764.jpg',
-        'Cold Resistance, Darkforce Manipulation, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Entropy Projection, Flight, Gravity Control, Immortality, Insanity, Intelligence, Invulnerability, Matter Manipulation, Molecular Dissipation, Natural Armor, Natural Weapons, Portal Creation, Power Absorption, Power Augmentation, Power Nullifier, Power Sense, Precognition, Radiation Control, Radiation Immunity, Reality Warping, Shapeshifting, Summoning, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation',
-        67);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Grail', 'Grail',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10657.jpg',
-        'Agility, Dexterity, Dimensional Travel, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Immortality, Resurrection, Stamina, Summoning, Super Speed, Super Strength, Telekinesis, Teleportation, Vitakinesis, Weapons Master',
-        25);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Golden Jaguar', 'NJadaka',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11769.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Durability, Energy Absorption, Energy Armor, Enhanced Senses, Intelligence, Jump, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cyborg Superman', 'Henry Henshaw',
-        'https://www.superherodb.com/pictures2/portraits/10/050/667.jpg',
-        'Durability, Energy Absorption, Energy Constructs, Energy Manipulation, Enhanced Hearing, Flight, Immortality, Invulnerability, Molecular Manipulation, Qwardian Power Ring, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Vision - Heat, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - X-Ray',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mephisto', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1322.jpg',
-        'Accelerated Healing, Astral Projection, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Illusions, Immortality, Longevity, Magic, Molecular Manipulation, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deadshot', 'Floyd Lawton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/670.jpg',
-        'Marksmanship, Stamina, Stealth, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'T-850', 'Cyberdyne Systems Series 850 Terminator',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10410.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Enhanced Hearing, Enhanced Memory, Heat Resistance, Invulnerability, Longevity, Stamina, Stealth, Super Strength, Technopath/Cyberpath, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Captain Boomerang', 'George Harkness',
-        'https://www.superherodb.com/pictures2/portraits/10/050/652.jpg',
-        'Agility, Marksmanship, Reflexes, Stamina, Stealth, Weapons Master', 2);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Croc (DCEU)', 'Waylon Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13849.jpg',
-        'Agility, Cold Resistance, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Fire Resistance, Heat Resistance, Invulnerability, Sub-Mariner, Super Strength, Toxin and Disease Resistance, Underwater breathing',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Spider-Carnage', 'Benjamin Reilly',
-        'https://www.superherodb.com/pictures2/portraits/10/050/957.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Danger Sense, Durability, Symbiote Costume',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Crossbones', 'Brock Rumlow',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10008.jpg',
-        'Agility, Dexterity, Durability, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Morgan Le Fay', 'Morgan Le Fay',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12489.jpg',
-        'Agility, Astral Projection, Astral Travel, Electrical Transport, Electrokinesis, Energy Beams, Energy Constructs, Energy Manipulation, Flight, Force Fields, Illusions, Immortality, Intelligence, Invulnerability, Longevity, Magic, Reality Warping, Shapeshifting, Telekinesis, Telepathy, Teleportation, Vitakinesis, Weather Control',
-        30);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Professor Zoom', 'Eobard Thawne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/766.jpg',
-        'Phasing, Reflexes, Stamina, Super Speed, Time Travel', 11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Electro', 'Maxwell Dillon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/7.jpg',
-        'Electrical Transport, Electrokinesis, Super Speed', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Android 21', 'Android 21',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14643.jpg',
-        'Absorption, Adaptation, Agility, Cold Resistance, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Longevity, Mind Control Resistance, Molecular Manipulation, Power Absorption, Power Augmentation, Power Sense, Radar Sense, Radiation Immunity, Reflexes, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Telepathy Resistance, Weather Control',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Barbatos', 'Barbatos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12551.jpg',
-        'Absorption, Agility, Audio Control, Biokinesis, Darkforce Manipulation, Electrokinesis, Empathy, Energy Manipulation, Flight, Illusions, Immortality, Invulnerability, Matter Manipulation, Mind Control, Reality Warping, Reflexes, Size Changing, Stamina, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Umbrakinesis',
-        49);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ravager', 'Grant Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1474.jpg',
-        'Accelerated Healing, Agility, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Intelligence, Longevity, Marksmanship, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Blizzard II', 'Donald Gill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/619.jpg', 'Cryokinesis', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'KelThuzad', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14751.jpg',
-        'Biokinesis, Darkforce Manipulation, Death Touch, Element Control, Energy Manipulation, Immortality, Invulnerability, Magic, Mind Control, Portal Creation, Power Nullifier, Regeneration, Resurrection, Size Changing, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vitakinesis',
-        60);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kang', 'Nathaniel Richards',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1053.jpg',
-        'Anti-Gravity, Durability, Electrokinesis, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Force Fields, Intelligence, Levitation, Longevity, Magnetism, Power Nullifier, Radiation Immunity, Summoning, Super Speed, Super Strength, Time Manipulation, Time Travel, Weapon-based Powers, Weapons Master',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Pinhead', 'Elliott Spencer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11129.jpg',
-        'Adaptation, Animation, Dimensional Awareness, Dimensional Travel, Duplication, Durability, Fire Control, Illusions, Immortality, Invulnerability, Magic, Matter Absorption, Possession, Psionic Powers, Reality Warping, Resurrection, Super Strength, Telekinesis, Teleportation, Weapons Master',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Multi-Oblivion', 'Oblivion',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13656.jpg',
-        'Agility, Darkforce Manipulation, Death Touch, Duplication, Energy Manipulation, Flight, Grim Reaping, Immortality, Invulnerability, Matter Manipulation, Mind Control, Nigh-Omnipotent, Nigh-Omniscient, Omnipresent, Reality Warping, Reflexes, Regeneration, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation',
-        169);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cicada (CW)', 'Orlin Dwyer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15628.jpg',
-        'Durability, Electrokinesis, Element Control, Flight, Force Fields, Super Strength, Weapon-based Powers', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'General Zod', 'Dru-Zod',
-        'https://www.superherodb.com/pictures2/portraits/10/050/837.jpg',
-        'Accelerated Healing, Durability, Energy Absorption, Enhanced Hearing, Enhanced Senses, Flight, Hypnokinesis, Intelligence, Invulnerability, Jump, Longevity, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        18);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darkseid (Anti-Life Equation)', 'Uxas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14447.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Levitation, Marksmanship, Mind Control, Molecular Manipulation, Nigh-Omniscient, Omega Effect, Psionic Powers, Reality Warping, Reflexes, Resurrection, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Toxin and Disease Resistance',
-        96);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Prince Nuada', 'Prince Nuada',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11880.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Immortality, Intelligence, Jump, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Telepathy, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        17);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Chaos King', 'Amatsu-Mikaboshi',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11113.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animation, Darkforce Manipulation, Death Touch, Dimensional Awareness, Dimensional Travel, Duplication, Elasticity, Energy Beams, Energy Blasts, Enhanced Senses, Flight, Grim Reaping, Illusions, Immortality, Intelligence, Invisibility, Invulnerability, Magic, Matter Manipulation, Mind Control, Power Absorption, Probability Manipulation, Psionic Powers, Reality Warping, Reflexes, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Vitakinesis',
-        96);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doctor Doom (FOX)', 'Victor Doom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13960.jpg',
-        'Accelerated Healing, Danger Sense, Durability, Electrokinesis, Endurance, Energy Absorption, Energy Beams, Heat Resistance, Intelligence, Magnetism, Natural Armor, Super Strength',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Pyro', 'St. John Allerdyce',
-        'https://www.superherodb.com/pictures2/portraits/10/050/853.jpg', 'Fire Control', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nyarlathotep', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14577.jpg',
-        'Astral Projection, Changing Armor, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Element Control, Elemental Transmogrification, Energy Beams, Energy Blasts, Energy Manipulation, Entropy Projection, Force Fields, Grim Reaping, Illusions, Immortality, Insanity, Intelligence, Invulnerability, Matter Manipulation, Mind Blast, Mind Control, Molecular Manipulation, Omnilingualism, Phasing, Possession, Radiation Immunity, Reality Warping, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        140);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Imperiex', 'Imperiex',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10826.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Density Control, Durability, Electrokinesis, Energy Absorption, Energy Armor, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Levitation, Radar Sense, Reality Warping, Size Changing, Stamina, Stealth, Super Strength, Teleportation, Time Travel',
-        32);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darkseid (New 52)', 'Uxas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13847.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Marksmanship, Mind Control, Molecular Manipulation, Omega Effect, Psionic Powers, Reality Warping, Resurrection, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Toxin and Disease Resistance',
-        61);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ajax', 'Francis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10422.jpg',
-        'Agility, Heat Generation, Power Suit, Super Speed, Super Strength', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Enchantress (DCEU)', 'June Moone',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13885.jpg',
-        'Durability, Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Hypnokinesis, Intangibility, Invulnerability, Magic, Resurrection, Super Strength, Telekinesis, Teleportation, Wallcrawling, Weather Control',
-        18);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Blob', 'Frederick J. Dukes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1119.jpg',
-        'Durability, Gravity Control, Super Strength', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Dwarf', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12289.jpg',
-        'Density Control, Durability, Super Speed, Super Strength', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sylar', 'Gabriel Gray',
-        'https://www.superherodb.com/pictures2/portraits/10/050/953.jpg',
-        'Accelerated Healing, Audio Control, Electrokinesis, Empathy, Flight, Illusions, Intuitive aptitude, Molecular Manipulation, Regeneration, Shapeshifting, Sonic Scream, Telekinesis',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kaelthas Sunstrider', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14739.jpg',
-        'Astral Projection, Energy Manipulation, Force Fields, Immortality, Insanity, Intangibility, Intelligence, Invisibility, Magic, Magic Resistance, Matter Absorption, Matter Manipulation, Melting, Mind Blast, Precognition, Probability Manipulation, Reality Warping, Telekinesis, Telepathy',
-        29);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mandarin', 'Khan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1175.jpg',
-        'Cryokinesis, Electrokinesis, Energy Beams, Energy Blasts, Intelligence, Levitation, Mind Control, Molecular Manipulation, Self-Sustenance, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dormammu (MCOC)', 'Dormammu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16099.jpg',
-        'Agility, Astral Projection, Astral Trap, Astral Travel, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Fire Control, Flight, Force Fields, Gravity Control, Illusions, Immortality, Intelligence, Invulnerability, Levitation, Longevity, Magic, Magic Resistance, Matter Manipulation, Natural Armor, Omnilingualism, Power Absorption, Precognition, Radiation Immunity, Reality Warping, Regeneration, Shapeshifting, Size Changing, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Time Travel, Toxin and Disease Resistance',
-        89);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cheetah', 'Priscilla Rich',
-        'https://www.superherodb.com/pictures2/portraits/10/050/661.jpg',
-        'Agility, Animal Oriented Powers, Reflexes, Stamina, Stealth', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Daken', 'Akihiro',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10011.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Empathy, Enhanced Memory, Enhanced Senses, Heat Resistance, Longevity, Peak Human Condition, Reflexes, Regeneration, Stamina, Super Speed, Telepathy, Telepathy Resistance, Toxin and Disease Resistance',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'I-Rex', 'Indominus Rex',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11521.jpg',
-        'Biokinesis, Camouflage, Durability, Enhanced Senses, Stamina, Super Speed, Super Strength, Vision - Thermal',
-        1);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Atomic Skull', 'Joseph Martin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11004.jpg',
-        'Agility, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Flight, Heat Generation, Invulnerability, Power Suit, Radiation Absorption, Radiation Control, Stamina, Stealth, Super Speed, Super Strength',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Baron Zemo (MCU)', 'Helmut J. Zemo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13898.jpg',
-        'Agility, Intelligence, Peak Human Condition, Weapon-based Powers, Weapons Master', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Steppenwolf', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10653.jpg',
-        'Accelerated Healing, Agility, Enhanced Senses, Immortality, Intelligence, Invulnerability, Longevity, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Abomination', 'Emil Blonsky',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1.jpg',
-        'Accelerated Healing, Animation, Intelligence, Invulnerability, Jump, Stamina, Super Breath, Super Speed, Super Strength',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Atrocitus', 'Atros',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10003.jpg',
-        'Accelerated Healing, Clairvoyance, Dimensional Awareness, Dimensional Travel, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Flight, Force Fields, Intelligence, Invulnerability, Lantern Power Ring, Levitation, Marksmanship, Matter Manipulation, Phasing, Radiation Immunity, Super Speed, Super Strength, Telepathy Resistance, Weapon-based Powers',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Norman Bates', 'Norman Bates',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11135.jpg', 'Agility, Intelligence, Stamina, Stealth',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lex Luthor', 'Lex Luthor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/727.jpg',
-        'Durability, Energy Beams, Energy Blasts, Energy Constructs, Flight, Force Fields, Intelligence, Power Suit, Super Strength, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Rhino', 'Aleksei Mikhailovich Sytsevich',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15.jpg',
-        'Cold Resistance, Durability, Heat Resistance, Natural Armor, Power Suit, Stamina, Super Speed, Super Strength',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Galvatron', 'Galvatron',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10607.jpg',
-        'Agility, Biokinesis, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Insanity, Intelligence, Intuitive aptitude, Invulnerability, Longevity, Marksmanship, Matter Manipulation, Natural Armor, Natural Weapons, Physical Anomaly, Reflexes, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Destroyer', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1294.jpg',
-        'Energy Blasts, Levitation, Molecular Manipulation, Size Changing, Super Strength', 11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Joker (LEGO)', 'Joker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14607.jpg',
-        'Accelerated Healing, Cold Resistance, Durability, Enhanced Memory, Enhanced Senses, Intelligence, Reflexes, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hela', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10835.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Death Touch, Durability, Enhanced Hearing, Enhanced Sight, Illusions, Invulnerability, Longevity, Magic, Omnilingualism, Stamina, Super Speed, Super Strength, Teleportation',
-        16);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jack OLantern', 'Maguire Beck',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10652.jpg',
-        'Changing Armor, Cold Resistance, Durability, Energy Blasts, Enhanced Memory, Enhanced Senses, Fire Resistance, Flight, Illusions, Insanity, Jump, Marksmanship, Natural Armor, Peak Human Condition, Reflexes, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cheshire', 'Jade Nguyen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10082.jpg',
-        'Agility, Intelligence, Marksmanship, Reflexes, Stamina, Stealth, Toxin and Disease Control, Wallcrawling, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Leatherface', 'Jed Sawyer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11122.jpg',
-        'Reflexes', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deadshot (New 52)', 'Floyd Lawton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16367.jpg',
-        'Agility, Enhanced Senses, Intelligence, Marksmanship, Peak Human Condition, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lex Luthor (Injustice)', 'Alexander Luthor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16426.jpg',
-        'Durability, Energy Beams, Flight, Intelligence, Invisibility, Marksmanship, Power Suit, Summoning, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sportsmaster', 'Lawrence Crock',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10056.jpg',
-        'Adaptation, Agility, Reflexes, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hugo Strange', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10919.jpg',
-        'Agility, Hypnokinesis, Insanity, Intelligence, Peak Human Condition, Reflexes, Stamina, Stealth', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killian (MCU)', 'Aldrich Killian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13899.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Energy Blasts, Fire Resistance, Heat Generation, Heat Resistance, Intelligence, Reflexes, Regeneration, Stamina, Super Strength',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Power Ring', 'Harold Jordan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11603.jpg',
-        'Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Magic, Weapon-based Powers',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kalibak', 'Kalibak',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10658.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Energy Blasts, Energy Resistance, Heat Resistance, Immortality, Invulnerability, Omega Effect, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'White Rabbit', 'Dr. Lorina Dodson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10505.jpg',
-        'Agility, Animal Oriented Powers, Flight, Intelligence, Power Suit, Summoning, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ubbo-Sathla', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15635.jpg',
-        'Astral Projection, Astral Trap, Astral Travel, Banish, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Force Fields, Immortality, Intelligence, Invisibility, Invulnerability, Matter Manipulation, Molecular Manipulation, Nigh-Omnipotent, Nigh-Omnipresent, Nigh-Omniscient, Reality Warping, Regeneration, Shapeshifting, Size Changing, Super Speed, Super Strength, Time Manipulation',
-        153);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Thinker (CW)', 'Clifford DeVoe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14780.jpg',
-        'Animation, Anti-Gravity, Audio Control, Density Control, Dimensional Travel, Enhanced Memory, Gravity Control, Intelligence, Intuitive aptitude, Mind Blast, Portal Creation, Power Augmentation, Probability Manipulation, Psionic Powers, Size Changing, Technopath/Cyberpath, Telepathy, Toxin and Disease Control',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Knockout', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15010.jpg',
-        'Accelerated Healing, Agility, Dimensional Awareness, Dimensional Travel, Durability, Immortality, Invulnerability, Regeneration, Super Strength, Weapons Master',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Manta', 'David',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10546.jpg',
-        'Agility, Camouflage, Cold Resistance, Durability, Energy Blasts, Jump, Marksmanship, Peak Human Condition, Power Suit, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Underwater breathing, Vision - Infrared, Vision - Telescopic, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Pythor', 'Pythor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15908.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Camouflage, Cloaking, Cold Resistance, Durability, Endurance, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Insanity, Intelligence, Invisibility, Invulnerability, Jump, Longevity, Marksmanship, Natural Armor, Natural Weapons, Peak Human Condition, Reflexes, Regeneration, Resurrection, Self-Sustenance, Size Changing, Stamina, Stealth, Summoning, Super Speed, Super Strength, Toxin and Disease Resistance, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Metallo', 'John Corben',
-        'https://www.superherodb.com/pictures2/portraits/10/050/737.jpg',
-        'Durability, Energy Beams, Radiation Control, Regeneration, Shapeshifting, Size Changing, Stamina, Super Strength, Technopath/Cyberpath',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Great Evil Beast', 'The Great Darkness',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11025.jpg',
-        'Absorption, Accelerated Healing, Agility, Astral Travel, Clairvoyance, Cryokinesis, Darkforce Manipulation, Death Touch, Density Control, Dimensional Awareness, Dimensional Travel, Durability, Electrokinesis, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Hearing, Fire Control, Fire Resistance, Flight, Force Fields, Heat Generation, Immortality, Insanity, Intangibility, Intelligence, Latent Abilities, Levitation, Magic, Matter Absorption, Matter Manipulation, Plant Control, Precognition, Reality Warping, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Substance Secretion, Super Speed, Super Strength, Telekinesis, Telepathy, Terrakinesis, Thirstokinesis, Time Manipulation, Time Travel, Umbrakinesis, Vision - Night, Weather Control',
-        120);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Giratina', 'Giratina',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13492.jpg',
-        'Animal Attributes, Animal Oriented Powers, Clairvoyance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Duplication, Electrokinesis, Element Control, Empathy, Energy Beams, Energy Blasts, Enhanced Senses, Fire Control, Fire Resistance, Flight, Heat Resistance, Illusions, Immortality, Intangibility, Invulnerability, Matter Manipulation, Mind Control Resistance, Molecular Manipulation, Nigh-Omnipresent, Portal Creation, Power Augmentation, Power Nullifier, Power Sense, Reality Warping, Self-Sustenance, Shapeshifting, Spatial Awareness, Stamina, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Teleportation, Terrakinesis, Time Manipulation, Toxin and Disease Resistance, Umbrakinesis, Wind Control',
-        93);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Manta (DCEU)', 'David Kane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15579.jpg',
-        'Electrokinesis, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Peak Human Condition, Power Suit, Super Strength, Underwater breathing, Vision - Heat, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nebula', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10632.jpg',
-        'Durability, Marksmanship, Super Strength', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Yogg Saron', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14263.jpg',
-        'Absorption, Astral Projection, Astral Travel, Banish, Biokinesis, Darkforce Manipulation, Dimensional Awareness, Empathy, Energy Manipulation, Force Fields, Immortality, Insanity, Light Control, Magic, Mind Blast, Mind Control, Portal Creation, Precognition, Reality Warping, Regeneration, Shapeshifting, Summoning, Super Speed, Super Strength, Telepathy, Teleportation',
-        57);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Azrael (Gotham)', 'Theo Galavan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16587.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Vanisher', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1105.jpg',
-        'Teleportation', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Mamba', 'Tanya Sealy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1106.jpg',
-        'Darkforce Manipulation, Hypnokinesis, Illusions', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darkseid', 'Uxas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/668.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Levitation, Marksmanship, Mind Control, Molecular Manipulation, Omega Effect, Psionic Powers, Reflexes, Resurrection, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Toxin and Disease Resistance',
-        51);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dormammu (MCU)', 'Dormammu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12736.jpg',
-        'Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Immortality, Invulnerability, Magic, Matter Manipulation, Mind Control, Molecular Manipulation, Portal Creation, Power Augmentation, Reality Warping, Stamina, Super Speed, Super Strength, Telekinesis, Time Manipulation',
-        32);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Vibe (CW)', 'Cisco Ramon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13794.jpg',
-        'Agility, Dimensional Travel, Intelligence, Seismic Power, Teleportation, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Solomon Grundy', 'Cyrus Gold',
-        'https://www.superherodb.com/pictures2/portraits/10/050/782.jpg',
-        'Cold Resistance, Durability, Energy Absorption, Fire Resistance, Invulnerability, Resurrection, Self-Sustenance, Stamina, Super Strength, Toxin and Disease Resistance',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Molten Man', 'Mark Raxton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/411.jpg',
-        'Durability, Heat Generation, Heat Resistance, Super Strength', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'T-800', 'Cyberdyne Systems Series 800 Terminator Model 101',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10409.jpg',
-        'Cold Resistance, Durability, Enhanced Hearing, Enhanced Memory, Heat Resistance, Invulnerability, Longevity, Stamina, Stealth, Super Strength, Technopath/Cyberpath, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Toad (FOX)', 'Mortimer Toynbee',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14269.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Durability, Jump, Reflexes, Stamina, Substance Secretion, Super Strength, Toxin and Disease Control, Wallcrawling',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Absorbing Man', 'Carl Creel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1448.jpg',
-        'Cold Resistance, Durability, Elemental Transmogrification, Energy Absorption, Fire Resistance, Heat Resistance, Invulnerability, Matter Absorption, Molecular Manipulation, Natural Armor, Regeneration, Size Changing, Super Strength',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Match', 'Kent Connor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1459.jpg',
-        'Accelerated Healing, Durability, Energy Absorption, Energy Blasts, Enhanced Hearing, Flight, Invulnerability, Jump, Super Breath, Super Speed, Super Strength, Telekinesis, Vision - Heat, Vision - Telescopic, Vision - X-Ray',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Android 17 (Super 17)', 'Lapis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13415.jpg',
-        'Afterimage Creation, Agility, Chi Manipulation, Cold Resistance, Dimensional Travel, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Enhanced Senses, Flight, Force Fields, Longevity, Portal Creation, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Weather Control',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deacon Blackfire', 'Deacon Joseph Blackfire',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11210.jpg',
-        'Accelerated Healing, Intelligence, Longevity, Magic, Mind Control, Non-Corporeal, Peak Human Condition, Possession, Toxin and Disease Resistance',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Infinites', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14540.jpg',
-        'Darkforce Manipulation, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Immortality, Nigh-Omnipresent, Nigh-Omniscient, Reality Warping, Super Speed, Super Strength, Telekinesis, Teleportation, Time Manipulation, Time Travel',
-        71);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Malekith (MCU)', 'Malekith',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15125.jpg',
-        'Absorption, Accelerated Healing, Agility, Cold Resistance, Darkforce Manipulation, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Heat Resistance, Invulnerability, Longevity, Matter Manipulation, Regeneration, Size Changing, Super Strength, Telekinesis, Teleportation, Weapons Master',
-        26);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Harley Quinn (Arkham)', 'Harleen Quinzel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15704.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Insanity, Intelligence, Latent Abilities, Marksmanship, Peak Human Condition, Plant Control, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Wesker', 'Albert Wesker',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14330.jpg',
-        'Absorption, Accelerated Healing, Agility, Biokinesis, Dexterity, Durability, Endurance, Enhanced Senses, Heat Resistance, Intelligence, Jump, Longevity, Marksmanship, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hydro-Man', 'Morris Bench',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1451.jpg',
-        'Invulnerability, Natural Weapons, Psionic Powers, Shapeshifting, Size Changing, Underwater breathing, Water Control',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Atom Smasher (CW)', 'Al Rothstein',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14014.jpg',
-        'Agility, Durability, Heat Resistance, Invulnerability, Jump, Radiation Absorption, Size Changing, Stamina, Super Speed, Super Strength',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hellfire (MCU)', 'JT James',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16068.jpg',
-        'Fire Control, Heat Generation, Marksmanship, Molecular Combustion, Weapon-based Powers', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Weather Wizard (CW)', 'Mark Mardon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15954.jpg',
-        'Electrokinesis, Energy Blasts, Energy Constructs, Flight, Water Control, Weather Control, Wind Control', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Thanos (Infinity Gauntlet)', 'Thanos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12559.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Banish, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Heat Resistance, Illusions, Immortality, Intelligence, Invulnerability, Longevity, Magic, Matter Manipulation, Mind Control, Molecular Dissipation, Molecular Manipulation, Omnilingualism, Phasing, Portal Creation, Power Augmentation, Power Nullifier, Power Sense, Psionic Powers, Radiation Immunity, Reality Warping, Reflexes, Resurrection, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Timeframe Control, Toxin and Disease Resistance, Vision - Heat, Vitakinesis, Weapon-based Powers',
-        157);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Pralaya', 'Pralaya',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13391.jpg',
-        'Darkforce Manipulation, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Immortality, Matter Manipulation, Mind Control, Molecular Combustion, Reality Warping, Regeneration, Shapeshifting, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        75);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Joker (Arkham)', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16094.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Insanity, Intelligence, Jump, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Vulture', 'Adrian Toomes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1031.jpg',
-        'Agility, Animal Oriented Powers, Flight, Gravity Control, Levitation, Marksmanship, Super Speed, Super Strength',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mirror Master', 'Evan McCulloch',
-        'https://www.superherodb.com/pictures2/portraits/10/050/741.jpg',
-        'Agility, Duplication, Energy Absorption, Energy Blasts, Flight, Hypnokinesis, Illusions, Intangibility, Intelligence, Intuitive aptitude, Peak Human Condition, Teleportation, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Big Barda', 'Barda Free',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1169.jpg',
-        'Agility, Durability, Flight, Immortality, Invulnerability, Longevity, Reflexes, Stamina, Super Strength, Toxin and Disease Resistance',
-        16);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Brain Bug', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14088.jpg',
-        'Intelligence, Mind Control, Telepathy', 11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kraven the Hunter', 'Sergei Kravinoff',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1033.jpg',
-        'Agility, Longevity, Reflexes, Stamina, Super Speed, Super Strength', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cartman', 'Eric Cartman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12156.jpg',
-        'Accelerated Healing, Durability, Gliding, Insanity, Jump, Magic, Mind Control, Stealth, Time Travel', 2);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Evil Nya', 'Nya',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16222.jpg',
-        'Absorption, Agility, Audio Control, Darkforce Manipulation, Dimensional Travel, Durability, Element Control, Endurance, Insanity, Peak Human Condition, Reflexes, Telekinesis, Vaporising Beams',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Emperor Joker', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12490.jpg',
-        'Duplication, Elasticity, Energy Manipulation, Immortality, Intangibility, Invulnerability, Magic, Matter Manipulation, Mind Control, Power Nullifier, Reality Warping, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation',
-        50);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Molecule Man', 'Owen Reece',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10895.jpg',
-        'Animation, Anti-Gravity, Cryokinesis, Death Touch, Dimensional Awareness, Electrokinesis, Energy Absorption, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Gravity Control, Heat Generation, Invisibility, Longevity, Matter Absorption, Molecular Combustion, Molecular Dissipation, Molecular Immobilization, Molecular Manipulation, Psionic Powers, Radiation Absorption, Radiation Control, Radiation Immunity, Reality Warping, Telekinesis, Teleportation, Terrakinesis',
-        27);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Graviton (MCU)', 'Glenn Talbot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15435.jpg',
-        'Absorption, Accelerated Healing, Agility, Durability, Endurance, Energy Absorption, Energy Armor, Flight, Force Fields, Gravity Control, Intelligence, Jump, Levitation, Marksmanship, Mind Control Resistance, Power Augmentation, Reflexes, Seismic Power, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mysterio', 'Quentin Beck',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1039.jpg',
-        'Animation, Hypnokinesis, Illusions, Intelligence, Jump, Magic, Peak Human Condition, Power Suit, Sonar, Stamina, Weapon-based Powers, Weapons Master, Web Creation',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Death Seed Sentry', 'Robert Reynolds',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11266.jpg',
-        'Accelerated Healing, Dexterity, Durability, Energy Absorption, Energy Blasts, Enhanced Senses, Flight, Force Fields, Immortality, Light Control, Matter Manipulation, Molecular Manipulation, Psionic Powers, Regeneration, Resurrection, Self-Sustenance, Super Speed, Super Strength, Telepathy, Teleportation, Vitakinesis, Weather Control',
-        33);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kilgrave (MCU)', 'Kevin Thompson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15430.jpg', 'Hypnokinesis, Mind Control', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Madame Hydra', 'Ophelia Sarkissian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10101.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Dimensional Travel, Endurance, Intelligence, Intuitive aptitude, Longevity, Marksmanship, Natural Weapons, Peak Human Condition, Stamina, Teleportation, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Buutenks', 'Majin Buu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15354.jpg',
-        'Banish, Cold Resistance, Durability, Energy Absorption, Energy Armor, Energy Blasts, Fire Resistance, Flight, Heat Generation, Heat Resistance, Intelligence, Invulnerability, Latent Abilities, Levitation, Longevity, Magic, Marksmanship, Matter Manipulation, Mind Control Resistance, Natural Armor, Power Absorption, Psionic Powers, Regeneration, Self-Sustenance, Stealth, Super Speed, Super Strength, Telekinesis, Vision - Microscopic, Vision - Night',
-        24);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killmonger (MCU)', 'Erik Stevens',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16698.jpg',
-        'Agility, Dexterity, Durability, Endurance, Energy Absorption, Intelligence, Jump, Marksmanship, Power Suit, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Artemis (CW)', 'Evelyn Sharp',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15569.jpg',
-        'Agility, Intelligence, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Predator', 'Yautja',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10448.jpg',
-        'Accelerated Healing, Camouflage, Cloaking, Cold Resistance, Durability, Intelligence, Jump, Longevity, Marksmanship, Natural Weapons, Power Suit, Radar Sense, Reflexes, Stamina, Stealth, Super Strength, Toxin and Disease Resistance, Vision - Infrared, Vision - Night, Vision - Thermal, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Tinkerer', 'Phineas Mason',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1036.jpg', 'Intelligence', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Commander Machia', 'Machia',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16439.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Cold Resistance, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Heat Resistance, Insanity, Intelligence, Longevity, Marksmanship, Natural Weapons, Peak Human Condition, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Stealth, Summoning, Super Strength, Telepathy, Vision - Night, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Captain Marvel (Venomized)', 'Carol Danvers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14673.jpg',
-        'Absorption, Accelerated Healing, Agility, Cold Resistance, Danger Sense, Dexterity, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Memory, Enhanced Senses, Flight, Heat Resistance, Intelligence, Invulnerability, Levitation, Longevity, Marksmanship, Omnilingualism, Precognition, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Symbiote Costume, Toxin and Disease Resistance, Weapon-based Powers',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Junkpile', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10002.jpg',
-        'Durability, Invulnerability, Magnetism, Regeneration, Stamina, Super Strength, Telekinesis', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doppelganger', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1320.jpg',
-        'Accelerated Healing, Agility, Natural Weapons, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Wallcrawling',
-        4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Zombie Sentry', 'Robert Reynolds',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16292.jpg',
-        'Absorption, Agility, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Force Fields, Grim Reaping, Hair Manipulation, Heat Resistance, Illusions, Immortality, Insanity, Intelligence, Invulnerability, Longevity, Magic Resistance, Matter Manipulation, Molecular Combustion, Possession, Power Sense, Radiation Immunity, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Vision - Heat, Vision - Microscopic, Vision - Thermal',
-        40);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bullseye (MCU)', 'Benjamin Poindexter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15428.jpg',
-        'Agility, Marksmanship, Peak Human Condition, Reflexes, Weapon-based Powers, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mystique (FOX)', 'Raven Darkhölme',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13964.jpg',
-        'Accelerated Healing, Agility, Element Control, Longevity, Marksmanship, Regeneration, Shapeshifting, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Scar', 'Taka',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12432.jpg',
-        'Agility, Animal Attributes, Animal Oriented Powers, Durability, Enhanced Senses, Intelligence, Natural Armor, Natural Weapons, Stamina, Stealth, Super Speed, Super Strength',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ocean Master (DCEU)', 'Orm Marius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15630.jpg',
-        'Adaptation, Cold Resistance, Durability, Enhanced Senses, Enhanced Sight, Heat Resistance, Invulnerability, Sub-Mariner, Super Speed, Super Strength, Toxin and Disease Resistance, Underwater breathing',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Thanos', 'Thanos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1305.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Heat Resistance, Immortality, Intelligence, Invulnerability, Longevity, Magic, Matter Absorption, Molecular Manipulation, Omnilingualism, Radiation Immunity, Reality Warping, Reflexes, Stamina, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Teleportation, Time Manipulation, Toxin and Disease Resistance, Vision - Heat',
-        51);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jigsaw (MCU)', 'Billy Russo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13686.jpg',
-        'Agility, Durability, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deathstroke (Godkiller)', 'Slade Joseph Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13987.jpg',
-        'Absorption, Accelerated Healing, Adaptation, Agility, Danger Sense, Durability, Electrokinesis, Element Control, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Immortality, Intelligence, Longevity, Magic, Marksmanship, Reflexes, Resurrection, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        28);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Beyonder (Post-Retcon)', 'Beyonder',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14042.jpg',
-        'Astral Projection, Banish, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Force Fields, Immortality, Invulnerability, Matter Manipulation, Reality Warping, Regeneration, Shapeshifting, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Vitakinesis, Wishing',
-        52);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lady Deathstrike', 'Yuriko Oyama',
-        'https://www.superherodb.com/pictures2/portraits/10/050/810.jpg',
-        'Accelerated Healing, Agility, Durability, Intelligence, Natural Weapons, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Night King', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14654.jpg',
-        'Animation, Cold Resistance, Cryokinesis, Death Touch, Durability, Fire Resistance, Intelligence, Longevity, Magic, Marksmanship, Mind Control Resistance, Peak Human Condition, Reflexes, Seismic Power, Stamina, Stealth, Summoning, Super Strength, Telepathy, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Weapons Master, Weather Control',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Surtur', 'Surtur',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10908.jpg',
-        'Agility, Animal Attributes, Astral Projection, Dimensional Travel, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Sight, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Immortality, Intangibility, Intelligence, Invulnerability, Levitation, Longevity, Magic, Molecular Manipulation, Natural Weapons, Psionic Powers, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Teleportation, Vision - Heat, Weapons Master',
-        35);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Omega', 'The Omega',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10257.jpg',
-        'Absorption, Accelerated Healing, Agility, Clairvoyance, Cloaking, Cold Resistance, Danger Sense, Darkforce Manipulation, Dexterity, Durability, Element Control, Endurance, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Fire Resistance, Heat Resistance, Immortality, Insanity, Intelligence, Invulnerability, Longevity, Mind Control Resistance, Nigh-Omnipotent, Peak Human Condition, Portal Creation, Reflexes, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Summoning, Super Strength, Telepathy, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        108);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Michael Myers', 'Michael Myers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11119.jpg',
-        'Accelerated Healing, Durability, Endurance, Immortality, Insanity, Super Strength, Weapon-based Powers', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Unicron', 'Unicron',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11391.jpg',
-        'Adaptation, Agility, Anti-Gravity, Biokinesis, Changing Armor, Clairvoyance, Cold Resistance, Darkforce Manipulation, Death Touch, Dimensional Awareness, Dimensional Travel, Duplication, Empathy, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Flight, Force Fields, Gravity Control, Grim Reaping, Heat Resistance, Immortality, Intelligence, Invulnerability, Mind Control, Mind Control Resistance, Molecular Manipulation, Omnilingualism, Portal Creation, Power Augmentation, Power Nullifier, Probability Manipulation, Projection, Psionic Powers, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Resurrection, Seismic Power, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Time Manipulation, Toxin and Disease Resistance, Umbrakinesis',
-        146);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cull Obsidian (MCU)', 'Cull Obsidian',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16759.jpg',
-        'Accelerated Healing, Agility, Durability, Jump, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Goblin Queen', 'Madelyne Jennifer Pryor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1054.jpg', 'Summoning, Telekinesis, Telepathy', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Grand Admiral Thrawn', 'Mitthrawnuruodo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11561.jpg',
-        'Agility, Enhanced Hearing, Enhanced Sight, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dementor', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15098.jpg',
-        'Accelerated Healing, Cryokinesis, Darkforce Manipulation, Flight, Immortality, Invulnerability, Magic, Power Absorption, Telepathy, Teleportation, Weather Control',
-        23);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Elder God Demonbane', 'Demonbane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14574.jpg',
-        'Accelerated Healing, Animal Attributes, Anti-Gravity, Apotheosis, Astral Projection, Camouflage, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Energy Manipulation, Enhanced Memory, Entropy Projection, Flight, Gravity Control, Hypnokinesis, Immortality, Intelligence, Invulnerability, Longevity, Matter Manipulation, Molecular Dissipation, Molecular Immobilization, Molecular Manipulation, Nigh-Omnipotent, Nigh-Omnipresent, Power Augmentation, Precognition, Probability Manipulation, Psionic Powers, Reality Warping, Reflexes, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Wishing',
-        176);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sargeras', 'The Dark Titan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14033.jpg',
-        'Darkforce Manipulation, Durability, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Flight, Immortality, Intelligence, Magic, Marksmanship, Matter Manipulation, Mind Control, Molecular Combustion, Molecular Manipulation, Possession, Precognition, Reality Warping, Spatial Awareness, Super Speed, Super Strength, Telepathy, Teleportation, Weapon-based Powers',
-        51);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Croc (Arkham)', 'Waylon Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16517.jpg',
-        'Accelerated Healing, Animal Attributes, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Intelligence, Jump, Longevity, Natural Armor, Natural Weapons, Regeneration, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Infinite Zamasu', 'Zamasu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14537.jpg',
-        'Adaptation, Dimensional Awareness, Dimensional Travel, Duplication, Electrokinesis, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Immortality, Intangibility, Invulnerability, Latent Abilities, Light Control, Magic, Nigh-Omnipresent, Portal Creation, Power Augmentation, Power Sense, Precognition, Reality Warping, Regeneration, Self-Sustenance, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Weapon-based Powers, Weather Control',
-        56);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Silver Banshee (CW)', 'Siobhan Smythe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16002.jpg',
-        'Audio Control, Flight, Magic, Sonic Scream, Super Strength', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Air-Walker', 'Gabriel Lan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1358.jpg',
-        'Flight, Molecular Manipulation, Power Cosmic, Self-Sustenance, Super Speed, Super Strength', 15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jigsaw', 'John Kramer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11136.jpg', 'Intelligence', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Corvus Glaive', 'Corvus Glaive',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11873.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Darkforce Manipulation, Durability, Enhanced Hearing, Enhanced Memory, Heat Resistance, Immortality, Intelligence, Longevity, Natural Armor, Peak Human Condition, Super Speed, Super Strength, Telepathy Resistance, Weapon-based Powers, Weapons Master',
-        23);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Oblivion', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10416.jpg',
-        'Astral Projection, Darkforce Manipulation, Death Touch, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Gravity Control, Grim Reaping, Immortality, Intangibility, Nigh-Omniscient, Omnipresent, Precognition, Psionic Powers, Reality Warping, Resurrection, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        123);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Blitzwing', 'Blitzwing',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16262.jpg',
-        'Agility, Biokinesis, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Insanity, Jump, Longevity, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Electro (SONY)', 'Max Dillon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13835.jpg',
-        'Accelerated Healing, Electrical Transport, Electrokinesis, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Flight, Intelligence, Self-Sustenance, Stamina, Super Speed',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'IT', 'Pennywise the Dancing Clown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10951.jpg',
-        'Agility, Animal Control, Animal Oriented Powers, Cloaking, Density Control, Dimensional Awareness, Duplication, Durability, Elasticity, Empathy, Entropy Projection, Hypnokinesis, Illusions, Insanity, Intelligence, Invisibility, Jump, Matter Manipulation, Mind Control, Mind Control Resistance, Omnilingualism, Plant Control, Regeneration, Shapeshifting, Size Changing, Spatial Awareness, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Wallcrawling',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Prometheus', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10989.jpg',
-        'Agility, Camouflage, Enhanced Memory, Hypnokinesis, Intelligence, Intuitive aptitude, Marksmanship, Molecular Dissipation, Molecular Immobilization, Omnilingualism, Peak Human Condition, Photographic Reflexes, Power Suit, Reflexes, Shapeshifting, Stealth, Teleportation, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Riot (SONY)', 'Carlton Drake',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15398.jpg',
-        'Biokinesis, Durability, Invulnerability, Natural Weapons, Possession, Regeneration, Shapeshifting, Super Speed, Super Strength, Symbiote Costume, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doctor Octopus (SONY)', 'Otto Octavius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13832.jpg',
-        'Agility, Durability, Intelligence, Power Suit, Reflexes, Stamina, Super Strength, Technopath/Cyberpath', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Onyxia', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14732.jpg',
-        'Accelerated Healing, Durability, Elasticity, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Flight, Immortality, Insanity, Matter Manipulation, Reflexes, Regeneration, Shapeshifting, Super Speed, Super Strength, Telepathy',
-        25);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kylo Ren', 'Ben Solo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10559.jpg',
-        'Accelerated Healing, Agility, Danger Sense, Durability, Energy Blasts, Enhanced Senses, Force Fields, Hypnokinesis, Illusions, Intelligence, Jump, Light Control, Marksmanship, Precognition, Psionic Powers, Reflexes, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shin Akuma', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11057.jpg',
-        'Agility, Berserk Mode, Chi Manipulation, Dexterity, Durability, Electrokinesis, Element Control, Endurance, Enhanced Senses, Flight, Immortality, Insanity, Intangibility, Intelligence, Jump, Longevity, Reflexes, Stamina, Statistics Amplification, Super Speed, Super Strength, Teleportation',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sabretooth', 'Victor Creed',
-        'https://www.superherodb.com/pictures2/portraits/10/050/17.jpg',
-        'Accelerated Healing, Agility, Animal Oriented Powers, Cold Resistance, Durability, Enhanced Hearing, Enhanced Sight, Enhanced Smell, Longevity, Marksmanship, Natural Weapons, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Alien', 'Xenomorph',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10449.jpg',
-        'Agility, Cold Resistance, Durability, Enhanced Senses, Heat Resistance, Jump, Natural Armor, Natural Weapons, Stealth, Substance Secretion, Super Speed, Super Strength, Vision - Thermal, Wallcrawling',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Red Death', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12557.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Absorption, Energy Blasts, Energy Constructs, Enhanced Senses, Flight, Force Fields, Gliding, Intelligence, Longevity, Marksmanship, Peak Human Condition, Phasing, Reflexes, Self-Sustenance, Speed Force, Stamina, Stealth, Super Speed, Technopath/Cyberpath, Time Travel, Toxin and Disease Control, Weapon-based Powers, Weapons Master',
-        23);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doctor Doomsday', 'Victor Von Doom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11634.jpg',
-        'Adaptation, Agility, Apotheosis, Audio Control, Cryokinesis, Electrokinesis, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Hearing, Fire Control, Flight, Force Fields, Gravity Control, Immortality, Intelligence, Intuitive aptitude, Invisibility, Invulnerability, Magic, Magnetism, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Portal Creation, Power Absorption, Power Nullifier, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Teleportation, Vitakinesis, Weather Control',
-        89);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Reverse Flash (CW)', 'Eobard Thawne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12716.jpg',
-        'Accelerated Healing, Agility, Bullet Time, Dexterity, Dimensional Travel, Duplication, Durability, Electrokinesis, Heat Generation, Immortality, Intelligence, Intuitive aptitude, Phasing, Radiation Immunity, Reflexes, Speed Force, Stamina, Super Speed, Super Strength, Time Manipulation, Time Travel',
-        31);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sentinel Prime', 'Sentinel Prime',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13591.jpg',
-        'Agility, Durability, Endurance, Energy Blasts, Intelligence, Longevity, Marksmanship, Stamina, Stealth, Super Strength, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Calendar Man', 'Julian Day',
-        'https://www.superherodb.com/pictures2/portraits/10/050/651.jpg',
-        'Accelerated Healing, Agility, Durability, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Resurrection, Stamina, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lex Luthor (DCEU)', 'Alexander Joseph Luthor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12706.jpg',
-        'Intelligence, Intuitive aptitude, Marksmanship', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sebastian Shaw (FOX)', 'Sebastian Hiram Shaw',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14369.jpg',
-        'Durability, Energy Absorption, Energy Manipulation, Intelligence, Invulnerability, Longevity, Self-Sustenance, Super Strength',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Eclipso', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/684.jpg',
-        'Darkforce Manipulation, Energy Manipulation, Flight, Immortality, Invulnerability, Magic, Possession, Size Changing, Super Speed, Super Strength',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jason Voorhees', 'Jason Voorhees',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11127.jpg',
-        'Accelerated Healing, Darkforce Manipulation, Durability, Immortality, Intelligence, Invulnerability, Longevity, Regeneration, Resurrection, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Teleportation, Weapons Master',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'SCP-096', 'Shy-Guy',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12574.jpg',
-        'Agility, Cold Resistance, Durability, Enhanced Senses, Immortality, Latent Abilities, Radar Sense, Reflexes, Regeneration, Stamina, Super Speed, Super Strength',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Reaper', 'Gabriel Reyes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12541.jpg',
-        'Accelerated Healing, Agility, Durability, Intangibility, Marksmanship, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Teleportation, Vitakinesis, Weapon-based Powers, Weapons Master, Wind Control',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Parasite', 'Rudolph C. Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1447.jpg',
-        'Adaptation, Agility, Energy Absorption, Matter Absorption, Power Absorption, Shapeshifting, Size Changing, Stamina, Super Strength',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Infernal Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13833.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Durability, Endurance, Energy Resistance, Enhanced Senses, Fire Resistance, Heat Resistance, Immortality, Insanity, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Mind Control Resistance, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing',
-        25);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Godzilla Earth', 'Gojira',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14003.jpg',
-        'Absorption, Agility, Danger Sense, Durability, Electrokinesis, Element Control, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Hearing, Enhanced Sight, Enhanced Smell, Magnetism, Radiation Absorption, Radiation Control, Regeneration',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Giganta', 'Doris Zuel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1376.jpg',
-        'Durability, Intelligence, Size Changing, Super Strength', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kaecilius (MCU)', 'Kaecilius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16353.jpg',
-        'Agility, Astral Projection, Astral Travel, Darkforce Manipulation, Dimensional Travel, Durability, Endurance, Energy Beams, Energy Constructs, Illusions, Magic, Marksmanship, Peak Human Condition, Portal Creation, Reflexes, Stamina, Stealth, Teleportation, Weapons Master',
-        16);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Red Skull (MCU)', 'Johann Shmidt',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12613.jpg',
-        'Agility, Durability, Intelligence, Invulnerability, Marksmanship, Regeneration, Stamina, Super Speed, Super Strength, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doctor Octopus', 'Otto Octavius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/622.jpg',
-        'Agility, Intelligence, Marksmanship, Power Suit, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Wallcrawling, Weapon-based Powers',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Omega Red', 'Arkady Gregorivich',
-        'https://www.superherodb.com/pictures2/portraits/10/050/208.jpg',
-        'Accelerated Healing, Durability, Endurance, Energy Absorption, Grim Reaping, Peak Human Condition, Reflexes, Stamina, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Weapon-based Powers',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Steel Serpent (MCU)', 'Davos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16402.jpg',
-        'Agility, Endurance, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Whiplash (MCU)', 'Ivan Vanko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13895.jpg',
-        'Electrokinesis, Element Control, Intelligence, Weapons Master', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bushmaster (MCU)', 'John Mclver',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15431.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Intelligence, Reflexes, Stamina, Super Speed, Super Strength',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Weapon XI', 'Weapon XI',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1318.jpg',
-        'Accelerated Healing, Agility, Energy Blasts, Super Speed, Super Strength, Teleportation, Weapon-based Powers',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Taskmaster', 'Tony Masters',
-        'https://www.superherodb.com/pictures2/portraits/10/050/21.jpg',
-        'Agility, Marksmanship, Photographic Reflexes, Power Suit, Reflexes, Stamina, Stealth, Super Speed, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Poison Ivy', 'Pamela Isley',
-        'https://www.superherodb.com/pictures2/portraits/10/050/757.jpg',
-        'Accelerated Healing, Agility, Death Touch, Durability, Enhanced Senses, Hypnokinesis, Intelligence, Marksmanship, Plant Control, Stamina, Stealth, Substance Secretion, Super Strength, The Green, Toxin and Disease Control, Toxin and Disease Resistance',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Felix Faust', 'Dekan Drache',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10983.jpg',
-        'Accelerated Healing, Enhanced Sight, Illusions, Immortality, Intelligence, Invisibility, Longevity, Magic, Possession, Reality Warping, Resurrection, Telepathy, Teleportation',
-        28);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Frieza', 'Frieza',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1214.jpg',
-        'Accelerated Healing, Agility, Biokinesis, Duplication, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Portal Creation, Power Sense, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'CThun', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14262.jpg',
-        'Agility, Astral Projection, Astral Travel, Banish, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Energy Beams, Energy Manipulation, Force Fields, Immortality, Intangibility, Intelligence, Invulnerability, Magic, Mind Blast, Mind Control, Portal Creation, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation',
-        41);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Blob (FOX)', 'Fred Dukes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14357.jpg',
-        'Durability, Invulnerability, Super Strength', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Blackheart', 'Blackheart',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11206.jpg',
-        'Cold Resistance, Darkforce Manipulation, Dimensional Travel, Durability, Energy Blasts, Energy Manipulation, Force Fields, Heat Resistance, Immortality, Invulnerability, Levitation, Mind Control, Phasing, Regeneration, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Toxin and Disease Resistance',
-        38);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mister Knife', 'Json',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10633.jpg', 'Intelligence, Weapons Master', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bowser', 'King Bowser Koopa',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11334.jpg',
-        'Accelerated Healing, Animal Control, Anti-Gravity, Bullet Time, Death Touch, Dimensional Awareness, Dimensional Travel, Duplication, Electrokinesis, Element Control, Empathy, Energy Manipulation, Fire Control, Flight, Force Fields, Gravity Control, Invulnerability, Latent Abilities, Magic, Mind Control, Portal Creation, Power Nullifier, Radiation Control, Radiation Immunity, Reality Warping, Resurrection, Self-Sustenance, Size Changing, Summoning, Teleportation, Terrakinesis, Time Manipulation, Timeframe Control, Toxin and Disease Control, Wallcrawling, Weapons Master, Weather Control',
-        37);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Faora', 'Faora Hu-Ul',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1502.jpg',
-        'Accelerated Healing, Durability, Energy Absorption, Enhanced Hearing, Enhanced Senses, Flight, Hypnokinesis, Intelligence, Invulnerability, Jump, Longevity, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Adam (Pre-Crisis)', 'Teth-Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16710.jpg',
-        'Accelerated Healing, Clairvoyance, Durability, Electrokinesis, Element Control, Endurance, Energy Resistance, Enhanced Memory, Flight, Intelligence, Invulnerability, Magic, Magic Resistance, Marksmanship, Probability Manipulation, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Teleportation',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ebony Maw', 'Ebony Maw',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11957.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animal Control, Durability, Empathy, Force Fields, Hypnokinesis, Insanity, Intelligence, Mind Control, Omnilingualism, Stealth, Telekinesis, Teleportation',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Arnim Zola (MCU)', 'Arnim Zola',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13068.jpg', 'Intelligence, Intuitive aptitude', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Thanoseid', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10654.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Longevity, Magic, Matter Manipulation, Molecular Manipulation, Omega Effect, Omnilingualism, Psionic Powers, Radiation Immunity, Reality Warping, Reflexes, Size Changing, Stamina, Super Speed, Super Strength, Teleportation, Time Manipulation, Toxin and Disease Resistance',
-        66);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Frenzy', 'Joanna Cargill',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1108.jpg',
-        'Cold Resistance, Heat Resistance, Invulnerability, Stamina, Super Strength', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Onslaught', 'Onslaught',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13.jpg',
-        'Astral Projection, Astral Travel, Camouflage, Dimensional Awareness, Flight, Force Fields, Illusions, Intangibility, Intelligence, Invulnerability, Magnetism, Mind Blast, Mind Control, Power Absorption, Psionic Powers, Reality Warping, Size Changing, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Vision - X-Ray',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Nihilus', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10700.jpg',
-        'Absorption, Agility, Animal Control, Animation, Astral Projection, Clairvoyance, Darkforce Manipulation, Death Touch, Electrokinesis, Empathy, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Grim Reaping, Illusions, Immortality, Invulnerability, Latent Abilities, Levitation, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Possession, Power Augmentation, Power Nullifier, Power Sense, Precognition, Reflexes, Regeneration, Resurrection, Self-Sustenance, Sonic Scream, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, The Force, Vitakinesis',
-        96);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Enchantress', 'Amora',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11193.jpg',
-        'Agility, Animation, Astral Projection, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Illusions, Immortality, Intelligence, Invulnerability, Levitation, Magic, Psionic Powers, Shapeshifting, Stamina, Super Speed, Super Strength, Telepathy, Teleportation, Vitakinesis',
-        33);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ultimator', 'Ultimator',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13392.jpg',
-        'Astral Projection, Astral Travel, Dimensional Awareness, Dimensional Travel, Duplication, Durability, Elasticity, Endurance, Energy Blasts, Energy Constructs, Energy Manipulation, Force Fields, Immortality, Intangibility, Invulnerability, Matter Manipulation, Melting, Mind Blast, Molecular Dissipation, Molecular Manipulation, Phasing, Power Nullifier, Precognition, Psionic Powers, Reality Warping, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation',
-        63);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Moses Magnum', 'Moses Magnum',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1020.jpg', 'Seismic Power', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kraglin (MCU)', 'Kraglin Obfonteri',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14011.jpg',
-        'Intelligence, Marksmanship, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shao Kahn', 'Shao Kahn',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10960.jpg',
-        'Accelerated Healing, Agility, Animation, Astral Travel, Cold Resistance, Darkforce Manipulation, Dexterity, Dimensional Travel, Durability, Endurance, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Control, Heat Resistance, Immortality, Intuitive aptitude, Invulnerability, Jump, Longevity, Magic, Magic Resistance, Mind Control Resistance, Natural Weapons, Portal Creation, Possession, Power Augmentation, Power Sense, Radiation Immunity, Reflexes, Regeneration, Spatial Awareness, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Weapons Master',
-        53);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Captain Boomerang (CW)', 'Digger Harkness',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16418.jpg',
-        'Agility, Durability, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Composite Superman', 'Joseph Meach',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11842.jpg',
-        'Agility, Duplication, Elasticity, Electrokinesis, Energy Absorption, Fire Control, Flight, Gravity Control, Intangibility, Intelligence, Invisibility, Invulnerability, Magnetism, Matter Manipulation, Mind Control, Radiation Absorption, Reflexes, Regeneration, Shapeshifting, Size Changing, Stamina, Super Breath, Super Speed, Super Strength, Telekinesis, Telepathy, Time Travel, Vision - Heat, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        39);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Silver Samurai', 'Kenuichio Harada',
-        'https://www.superherodb.com/pictures2/portraits/10/050/126.jpg',
-        'Agility, Peak Human Condition, Power Suit, Reflexes, Stealth, Super Strength, Teleportation, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hecate', 'Hecate',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15718.jpg',
-        'Accelerated Healing, Agility, Banish, Camouflage, Clairvoyance, Cold Resistance, Cryokinesis, Darkforce Manipulation, Dexterity, Dimensional Awareness, Dimensional Travel, Duplication, Durability, Elemental Transmogrification, Energy Absorption, Energy Blasts, Energy Manipulation, Entropy Projection, Flight, Force Fields, Gliding, Gravity Control, Hair Manipulation, Heat Resistance, Illusions, Immortality, Insanity, Intangibility, Intelligence, Invisibility, Invulnerability, Magic, Magic Resistance, Matter Manipulation, Mind Blast, Molecular Manipulation, Omnilingualism, Portal Creation, Power Absorption, Power Augmentation, Power Sense, Precognition, Probability Manipulation, Psionic Powers, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Spatial Awareness, Stamina, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Time Manipulation, Time Travel, Timeframe Control, Toxin and Disease Resistance, Vaporising Beams, Vitakinesis, Weapons Master, Wishing',
-        164);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sabretooth (FOX)', 'Victor Creed',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13266.jpg',
-        'Accelerated Healing, Agility, Enhanced Senses, Longevity, Reflexes, Regeneration, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance, Wallcrawling',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Korvac', 'Michael Korvac',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10285.jpg',
-        'Clairvoyance, Element Control, Energy Beams, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Immortality, Matter Manipulation, Mind Control, Molecular Manipulation, Portal Creation, Possession, Power Absorption, Psionic Powers, Reality Warping, Regeneration, Shapeshifting, Size Changing, Teleportation, Time Manipulation, Time Travel, Weather Control',
-        70);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Superwoman', 'Lois Lane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11594.jpg',
-        'Agility, Durability, Flight, Immortality, Reflexes, Stamina, Super Speed, Super Strength, Vision - Heat', 15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Joker (DCEU)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12707.jpg',
-        'Durability, Insanity, Intelligence, Marksmanship, Peak Human Condition, Toxin and Disease Resistance', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bane (Injustice)', 'Dorrance',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16345.jpg',
-        'Durability, Intelligence, Super Speed, Super Strength, Toxin and Disease Resistance', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ebony Maw (MCU)', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13090.jpg',
-        'Element Control, Flight, Force Fields, Gravity Control, Intelligence, Levitation, Longevity, Magic, Marksmanship, Super Speed, Telekinesis, Teleportation',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Purple Man', 'Zebediah Killgrave',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10451.jpg',
-        'Accelerated Healing, Hypnokinesis, Mind Control, Substance Secretion, Telepathy', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Owlman', 'Thomas Wayne Jr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11001.jpg',
-        'Agility, Durability, Gliding, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lady Bullseye', 'Maki Matsumotu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1170.jpg',
-        'Agility, Intelligence, Marksmanship, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Thanos (Infinity Gauntlet MCU)', 'Thanos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14396.jpg',
-        'Absorption, Accelerated Healing, Agility, Biokinesis, Density Control, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Flight, Force Fields, Gravity Control, Illusions, Intangibility, Intelligence, Invisibility, Levitation, Longevity, Matter Manipulation, Molecular Combustion, Portal Creation, Power Nullifier, Reality Warping, Reflexes, Seismic Power, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Weapons Master',
-        41);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dark Monitor', 'Mandrakk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12266.jpg',
-        'Darkforce Manipulation, Death Touch, Dimensional Awareness, Energy Absorption, Energy Blasts, Energy Manipulation, Flight, Immortality, Intelligence, Invulnerability, Nigh-Omniscient, Possession, Reality Warping, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        80);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Rick Flag', 'Richard Rogers Flag',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1352.jpg', 'Weapon-based Powers', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dormammu', 'Dormammu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1359.jpg',
-        'Absorption, Astral Projection, Astral Travel, Banish, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Energy Absorption, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Illusions, Immortality, Intelligence, Invulnerability, Magic, Matter Manipulation, Power Absorption, Reality Warping, Regeneration, Resurrection, Shapeshifting, Size Changing, Stamina, Summoning, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Teleportation, Time Travel',
-        102);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Count Dooku', 'Dooku',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10457.jpg',
-        'Agility, Clairvoyance, Darkforce Manipulation, Durability, Electrokinesis, Energy Absorption, Energy Manipulation, Enhanced Senses, Force Fields, Illusions, Invisibility, Mind Control, Precognition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Vitakinesis, Weapons Master',
-        26);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'White Canary', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10542.jpg',
-        'Agility, Reflexes, Stamina, Stealth, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Gorilla Grodd (CW)', 'Grodd',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15415.jpg',
-        'Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Durability, Endurance, Enhanced Senses, Intelligence, Jump, Mind Control, Mind Control Resistance, Omnilingualism, Reflexes, Stamina, Super Strength, Telepathy, Telepathy Resistance',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bane (Dark Knight)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13841.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Intelligence, Longevity, Reflexes, Stamina, Super Strength, Toxin and Disease Resistance, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Harley Quinn', 'Harley Quinn',
-        'https://www.superherodb.com/pictures2/portraits/10/050/701.jpg',
-        'Accelerated Healing, Agility, Intelligence, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Strength, Toxin and Disease Resistance',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Major Force', 'Clifford Zmeck',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11011.jpg',
-        'Accelerated Healing, Agility, Darkforce Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Senses, Flight, Force Fields, Heat Generation, Heat Resistance, Immortality, Invulnerability, Matter Manipulation, Natural Armor, Phasing, Radiation Absorption, Radiation Control, Technopath/Cyberpath',
-        26);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Vegeta', 'Vegeta',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1206.jpg',
-        'Accelerated Healing, Adaptation, Agility, Energy Blasts, Enhanced Hearing, Fire Control, Flight, Force Fields, Heat Generation, Immortality, Intelligence, Invulnerability, Jump, Levitation, Light Control, Longevity, Marksmanship, Radar Sense, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Brainiac (Injustice)', 'Vril Dox',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15647.jpg',
-        'Accelerated Healing, Camouflage, Changing Armor, Clairvoyance, Cloaking, Cold Resistance, Durability, Energy Resistance, Enhanced Memory, Enhanced Senses, Force Fields, Heat Resistance, Illusions, Intelligence, Longevity, Omnilingualism, Peak Human Condition, Photographic Reflexes, Possession, Power Absorption, Power Sense, Precognition, Radiation Control, Reflexes, Self-Sustenance, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vaporising Beams, Vision - Infrared, Vision - Night, Vision - Telescopic, Weapon-based Powers, Weapons Master',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Beetle', 'Abner Jenkins',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1122.jpg',
-        'Element Control, Fire Control, Flight, Intelligence, Power Suit, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bullseye', 'Lester',
-        'https://www.superherodb.com/pictures2/portraits/10/050/624.jpg',
-        'Durability, Marksmanship, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Frost II', 'Louise Lincoln',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10088.jpg',
-        'Absorption, Cryokinesis, Element Control, Energy Absorption, Heat Generation', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ultra-Humanite', 'Gerard Shugel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10984.jpg',
-        'Marksmanship, Mind Control, Super Strength, Toxin and Disease Resistance', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Greedo', 'Greedo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10468.jpg',
-        'Weapons Master', 3);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Grid', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11605.jpg',
-        'Agility, Dexterity, Durability, Endurance, Enhanced Senses, Flight, Natural Armor, Natural Weapons, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Silver Samurai (FOX)', 'Ichirō Yashida',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14037.jpg',
-        'Accelerated Healing, Durability, Intelligence, Invulnerability, Power Absorption, Power Suit, Reflexes, Stamina, Super Strength, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Warp', 'Emil LaSalle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1353.jpg', 'Flight, Teleportation', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ultron (MCU)', 'Ultron',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12509.jpg',
-        'Agility, Anti-Gravity, Changing Armor, Durability, Energy Beams, Energy Blasts, Enhanced Memory, Enhanced Senses, Flight, Gravity Control, Heat Generation, Intelligence, Intuitive aptitude, Magnetism, Natural Armor, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Vision - Night, Vision - Thermal, Vision - X-Ray, Weapon-based Powers',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Joker (Dark Knight)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13840.jpg',
-        'Durability, Insanity, Intelligence, Marksmanship, Peak Human Condition, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Maestro Hulk', 'Bruce Banner',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12749.jpg',
-        'Accelerated Healing, Adaptation, Agility, Bullet Time, Cold Resistance, Dexterity, Durability, Endurance, Energy Resistance, Fire Resistance, Heat Resistance, Immortality, Intelligence, Invulnerability, Jump, Latent Abilities, Mind Control Resistance, Power Suit, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Seismic Power, Shapeshifting, Size Changing, Sonic Scream, Spatial Awareness, Stamina, Super Breath, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Control, Toxin and Disease Resistance, Underwater breathing, Weapons Master',
-        35);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ras Al Ghul (CW)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15421.jpg',
-        'Agility, Dexterity, Durability, Intelligence, Longevity, Magic, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Witch King', 'Witch-King of Angmar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10857.jpg',
-        'Absorption, Energy Blasts, Fire Control, Immortality, Invisibility, Invulnerability, Longevity, Magic, Sonic Scream, Stamina, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Supergiant', 'Supergiant',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11958.jpg',
-        'Accelerated Healing, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Durability, Energy Absorption, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Force Fields, Intelligence, Levitation, Marksmanship, Mind Control, Mind Control Resistance, Omnilingualism, Separation, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Weapons Master',
-        18);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Parademon', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10806.jpg',
-        'Fire Resistance, Flight, Gliding, Heat Generation, Natural Weapons, Power Suit, Shapeshifting, Super Breath, Super Strength',
-        2);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shockwave (G1)', 'Shockwave',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16817.jpg',
-        'Durability, Endurance, Energy Beams, Energy Blasts, Intelligence, Longevity, Physical Anomaly, Stamina, Super Speed, Super Strength, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mister Zsasz', 'Victor Zsasz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1486.jpg', 'Agility, Reflexes, Stealth, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'YellowJacket (MCU)', 'Darren Cross',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13896.jpg',
-        'Density Control, Durability, Energy Beams, Energy Blasts, Flight, Intelligence, Marksmanship, Power Suit, Size Changing, Stamina, Super Strength, Weapon-based Powers',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Scarecrow (Dark Knight)', 'Jonathan Crane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13877.jpg',
-        'Insanity, Intelligence, Psionic Powers, Weapon-based Powers', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sindragosa', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14731.jpg',
-        'Darkforce Manipulation, Death Touch, Dexterity, Dimensional Awareness, Duplication, Durability, Element Control, Elemental Transmogrification, Energy Manipulation, Fire Control, Immortality, Magic, Marksmanship, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers',
-        34);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Gilotina', 'Gilotina',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12359.jpg',
-        'Accelerated Healing, Adaptation, Agility, Immortality, Intelligence, Invulnerability, Levitation, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        17);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Collector', 'Taneleer Tivan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10402.jpg',
-        'Energy Blasts, Energy Manipulation, Immortality, Invulnerability, Matter Manipulation, Mind Control, Precognition, Regeneration, Super Strength',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Red Mist', 'Chris Genovese',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1337.jpg', 'Agility, Stamina', 3);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Lich King', 'Arthas Menethil',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12303.jpg',
-        'Astral Projection, Clairvoyance, Darkforce Manipulation, Energy Blasts, Energy Manipulation, Immortality, Magic, Mind Control, Power Nullifier, Resurrection, Super Speed, Super Strength, Telepathy, Teleportation, Weapon-based Powers',
-        42);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Talia Al Ghul', 'Talia Al Ghul',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1480.jpg',
-        'Agility, Durability, Intelligence, Longevity, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hush', 'Thomas Elliot',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11315.jpg',
-        'Agility, Intelligence, Marksmanship, Peak Human Condition, Stamina, Weapon-based Powers, Weapons Master', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dark Phoenix (Venomized)', 'Jean Grey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14690.jpg',
-        'Accelerated Healing, Agility, Astral Projection, Astral Travel, Camouflage, Cloaking, Durability, Empathy, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Fire Control, Fire Resistance, Flight, Force Fields, Illusions, Immortality, Intelligence, Invulnerability, Levitation, Matter Manipulation, Memory Manipulation, Mind Blast, Mind Control, Molecular Manipulation, Phoenix Force, Possession, Power Augmentation, Power Nullifier, Psionic Powers, Reality Warping, Reflexes, Resurrection, Stamina, Super Speed, Super Strength, Symbiote Costume, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Time Manipulation, Weather Control',
-        128);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deadshot (Injustice)', 'Floyd Lawton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16424.jpg',
-        'Agility, Danger Sense, Intelligence, Marksmanship, Stamina, Stealth, Weapon-based Powers, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Majin Android 21', 'Android 21',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14644.jpg',
-        'Absorption, Adaptation, Agility, Biokinesis, Elasticity, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Immortality, Invulnerability, Longevity, Molecular Manipulation, Portal Creation, Power Absorption, Power Augmentation, Power Nullifier, Power Sense, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Teleportation',
-        41);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shoggoth', 'Shoggoth',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15641.jpg',
-        'Accelerated Healing, Adaptation, Biokinesis, Changing Armor, Durability, Illumination, Invulnerability, Longevity, Natural Armor, Natural Weapons, Possession, Power Augmentation, Power Suit, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Substance Secretion, Symbiote Costume, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vision - Thermal, Vitakinesis, Wallcrawling',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'General Zod (DCEU)', 'Dru-Zod',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12609.jpg',
-        'Enhanced Senses, Flight, Invulnerability, Longevity, Radiation Absorption, Reflexes, Stamina, Super Speed, Super Strength, Vision - Heat, Vision - Telescopic, Vision - X-Ray',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ronan The Accuser', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10636.jpg',
-        'Energy Absorption, Energy Blasts, Energy Manipulation, Force Fields, Gravity Control, Intelligence, Invulnerability, Longevity, Matter Manipulation, Mind Control, Power Suit, Stamina, Stealth, Super Speed, Super Strength, Teleportation, Time Manipulation, Vision - Heat, Vitakinesis, Weapons Master',
-        23);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Saruman', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10855.jpg',
-        'Element Control, Elemental Transmogrification, Empathy, Energy Manipulation, Flight, Force Fields, Heat Generation, Immortality, Intangibility, Invulnerability, Light Control, Mind Control, Precognition, Regeneration, Shapeshifting, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy, Weapons Master, Weather Control, Wind Control',
-        31);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Widow II', 'Yelena Belova',
-        'https://www.superherodb.com/pictures2/portraits/10/050/618.jpg',
-        'Intelligence, Marksmanship, Stealth, Weapons Master', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mirror Master (CW)', 'Sam Scudder',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16500.jpg',
-        'Dimensional Travel, Durability, Portal Creation, Teleportation', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Iron Monger', 'Obadiah Stane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/886.jpg',
-        'Durability, Energy Beams, Flight, Intelligence, Super Strength', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kingpin', 'Wilson Grant Fisk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/623.jpg',
-        'Energy Absorption, Energy Armor, Energy Beams, Energy Blasts', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ultron (Final Form)', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14832.jpg',
-        'Agility, Cold Resistance, Dexterity, Durability, Endurance, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Resistance, Enhanced Senses, Enhanced Sight, Fire Resistance, Flight, Force Fields, Immortality, Intelligence, Intuitive aptitude, Invulnerability, Matter Absorption, Mind Control, Mind Control Resistance, Natural Armor, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Vaporising Beams, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        31);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Samukai', 'Samukai',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16171.jpg',
-        'Adaptation, Agility, Cryokinesis, Dimensional Travel, Durability, Electrokinesis, Element Control, Enhanced Memory, Enhanced Senses, Fire Control, Fire Resistance, Immortality, Insanity, Intelligence, Invulnerability, Longevity, Marksmanship, Natural Armor, Natural Weapons, Peak Human Condition, Portal Creation, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Stealth, Summoning, Super Strength, Terrakinesis, Toxin and Disease Resistance, Wallcrawling, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deathstroke (Arkham)', 'Slade Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16123.jpg',
-        'Durability, Endurance, Intelligence, Super Strength, Weapon-based Powers, Weapons Master', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Soundwave', 'Soundwave',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10596.jpg',
-        'Agility, Biokinesis, Durability, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Natural Armor, Natural Weapons, Physical Anomaly, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Demogoblin', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1515.jpg',
-        'Agility, Magic, Natural Weapons, Reflexes, Stamina, Super Speed, Super Strength, Telepathy', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Helya', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14652.jpg',
-        'Agility, Astral Projection, Astral Travel, Darkforce Manipulation, Death Touch, Energy Manipulation, Force Fields, Grim Reaping, Immortality, Intangibility, Invisibility, Invulnerability, Matter Manipulation, Reality Warping, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Super Speed, Super Strength, Telekinesis, Telepathy',
-        53);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Faora (DCEU)', 'Faora-Ul',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15086.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Absorption, Enhanced Hearing, Enhanced Senses, Flight, Longevity, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Telescopic, Vision - X-Ray',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Goblin Force', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14451.jpg',
-        'Agility, Creation, Death Manipulation, Durability, Empathy, Endurance, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Flight, Immortality, Intelligence, Invulnerability, Life Manipulation, Magic, Matter Manipulation, Mind Blast, Mind Control, Molecular Combustion, Molecular Dissipation, Molecular Immobilization, Molecular Manipulation, Nigh-Omnipotent, Possession, Power Bestowal, Psionic Powers, Reality Warping, Reflexes, Regeneration, Resurrection, Size Changing, Spatial Awareness, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel, Weather Control',
-        167);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cheetah II', 'Deborah Domaine',
-        'https://www.superherodb.com/pictures2/portraits/10/050/925.jpg',
-        'Agility, Animal Oriented Powers, Reflexes, Stamina, Super Speed, Super Strength', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Jango Fett', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10458.jpg',
-        'Element Control, Fire Control, Flight, Peak Human Condition, Weapons Master', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Parasite (CW)', 'Rudy Jones',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15965.jpg',
-        'Absorption, Durability, Energy Absorption, Intelligence, Invulnerability, Jump, Matter Absorption, Power Absorption, Size Changing, Stamina, Super Strength',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mongul The Elder', 'Mongul',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10073.jpg',
-        'Accelerated Healing, Agility, Durability, Energy Blasts, Energy Manipulation, Intelligence, Invulnerability, Levitation, Longevity, Marksmanship, Reflexes, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vision - Heat, Weapon-based Powers, Weapons Master',
-        16);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mad Jim Jaspers', 'Jim Jaspers',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11019.jpg',
-        'Accelerated Healing, Animation, Biokinesis, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Energy Blasts, Energy Constructs, Energy Manipulation, Insanity, Intangibility, Intelligence, Invulnerability, Longevity, Matter Manipulation, Melting, Molecular Manipulation, Reality Warping, Resurrection, Shapeshifting, Size Changing, Super Speed, Super Strength, Teleportation, Time Manipulation, Vitakinesis',
-        54);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Anti-Spawn', 'The Redeemer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1071.jpg',
-        'Agility, Astral Projection, Durability, Element Control, Energy Blasts, Energy Manipulation, Fire Control, Invulnerability, Magic, Mind Control, Possession, Reflexes, Stamina, Super Speed, Super Strength, Teleportation',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ultraman', 'Kal-Il',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11000.jpg',
-        'Agility, Enhanced Hearing, Flight, Invulnerability, Reflexes, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - X-Ray',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Beetle', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10054.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Flight, Symbiote Costume', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Zoom (CW)', 'Hunter Zolomon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12620.jpg',
-        'Accelerated Healing, Agility, Dimensional Travel, Duplication, Durability, Electrokinesis, Enhanced Senses, Illusions, Intangibility, Reflexes, Speed Force, Stamina, Super Speed, Time Travel, Toxin and Disease Resistance, Wind Control',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shades (MCU)', 'Herman Enrique Salazar Alvarez',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16354.jpg',
-        'Durability, Endurance, Intelligence, Intuitive aptitude, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'T-1000', 'Cyberdyne Systems Series 1000 Terminator',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10411.jpg',
-        'Accelerated Healing, Agility, Camouflage, Cold Resistance, Durability, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Intelligence, Invulnerability, Longevity, Marksmanship, Melting, Natural Weapons, Reflexes, Regeneration, Shapeshifting, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Broly', 'Broly',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1242.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Energy Armor, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Invulnerability, Latent Abilities, Power Sense, Reflexes, Self-Sustenance, Stamina, Super Speed, Super Strength',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Devastator', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12555.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Energy Absorption, Energy Resistance, Flight, Heat Resistance, Intelligence, Invulnerability, Jump, Marksmanship, Natural Armor, Natural Weapons, Power Absorption, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Control, Weapon-based Powers, Weapons Master',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Sidious', 'Sheev Palpatine',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10462.jpg',
-        'Absorption, Agility, Clairvoyance, Cloaking, Darkforce Manipulation, Durability, Electrokinesis, Element Control, Energy Absorption, Energy Manipulation, Enhanced Senses, Fire Control, Force Fields, Illusions, Immortality, Invisibility, Magic, Matter Manipulation, Mind Control, Possession, Power Nullifier, Power Sense, Precognition, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Teleportation, The Force, Toxin and Disease Resistance, Vitakinesis',
-        70);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dilara', 'Dilara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16526.jpg',
-        'Agility, Darkforce Manipulation, Durability, Endurance, Insanity, Intelligence, Marksmanship, Peak Human Condition, Stamina, Stealth, Summoning, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Maul', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10464.jpg',
-        'Agility, Danger Sense, Darkforce Manipulation, Durability, Electrokinesis, Illusions, Marksmanship, Stamina, Stealth, Super Strength, Telekinesis, Telepathy, The Force, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Caedus', 'Jacen Solo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11572.jpg',
-        'Absorption, Accelerated Healing, Agility, Astral Projection, Camouflage, Clairvoyance, Cloaking, Darkforce Manipulation, Dexterity, Durability, Electrokinesis, Endurance, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Hypnokinesis, Illusions, Intuitive aptitude, Jump, Light Control, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Peak Human Condition, Power Augmentation, Power Sense, Precognition, Psionic Powers, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, The Force, Time Travel, Toxin and Disease Resistance, Weapons Master',
-        66);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Corvus Glaive (MCU)', 'Corvus Glaive',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16758.jpg',
-        'Accelerated Healing, Agility, Durability, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Baron Mordo (MCU)', 'Karl Mordo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15123.jpg',
-        'Absorption, Astral Projection, Dimensional Travel, Force Fields, Magic, Portal Creation, Power Absorption, Teleportation',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Joker', 'Jack Napier',
-        'https://www.superherodb.com/pictures2/portraits/10/050/719.jpg',
-        'Durability, Insanity, Intelligence, Marksmanship, Stamina, Stealth, Toxin and Disease Resistance, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Red Skull', 'Johann Shmidt',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1392.jpg', 'Enhanced Memory', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Evil Deadpool', 'Wade Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10090.jpg',
-        'Accelerated Healing, Agility, Dimensional Awareness, Immortality, Longevity, Marksmanship, Mind Control Resistance, Reflexes, Regeneration, Stamina, Stealth, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Weapon-based Powers, Weapons Master',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Trickster (CW)', 'James Jesse',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15953.jpg',
-        'Insanity, Intelligence, Intuitive aptitude, Weapon-based Powers', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Smiling Knight', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15100.jpg',
-        'Dexterity, Endurance, Insanity, Stamina, Weapons Master', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lizard', 'Curtis Connors',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Oriented Powers, Durability, Enhanced Senses, Jump, Natural Armor, Natural Weapons, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Wallcrawling',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'MODOK', 'George Tarleton',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10438.jpg',
-        'Agility, Empathy, Energy Blasts, Flight, Force Fields, Heat Generation, Illusions, Intelligence, Levitation, Longevity, Psionic Powers, Technopath/Cyberpath, Telekinesis, Telepathy, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Exodus', 'Bennet du Paris',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1517.jpg',
-        'Accelerated Healing, Astral Projection, Energy Blasts, Flight, Illusions, Mind Blast, Psionic Powers, Regeneration, Resurrection, Telekinesis, Telepathy, Teleportation',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'David Cain', 'David Cain',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11226.jpg',
-        'Agility, Intelligence, Weapon-based Powers, Weapons Master', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Acronix', 'Acronix',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16291.jpg',
-        'Agility, Bullet Time, Clairvoyance, Durability, Element Control, Endurance, Enhanced Memory, Flight, Force Fields, Insanity, Intelligence, Longevity, Marksmanship, Peak Human Condition, Portal Creation, Precognition, Reflexes, Stamina, Stealth, Summoning, Super Speed, Teleportation, Time Manipulation, Time Travel, Timeframe Control, Weapon-based Powers, Weapons Master',
-        24);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Riddler', 'Edward Nigma',
-        'https://www.superherodb.com/pictures2/portraits/10/050/768.jpg', 'Intelligence', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Klaw', 'Ulysses Klaw',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1539.jpg',
-        'Audio Control, Durability, Energy Blasts, Invulnerability, Self-Sustenance, Super Strength, Telepathy Resistance',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Leader', 'Samuel Sterns',
-        'https://www.superherodb.com/pictures2/portraits/10/050/885.jpg', 'Intelligence, Telekinesis, Telepathy', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Copperhead', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10910.jpg',
-        'Agility, Natural Weapons, Wallcrawling, Weapon-based Powers, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Moonstone', 'Karla Sofen',
-        'https://www.superherodb.com/pictures2/portraits/10/050/100.jpg',
-        'Durability, Energy Blasts, Flight, Intangibility, Light Control, Molecular Manipulation, Super Speed, Super Strength',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Alucard', 'Dracula',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10915.jpg',
-        'Absorption, Darkforce Manipulation, Element Control, Endurance, Fire Control, Gravity Control, Immortality, Intangibility, Mind Control, Omnipresent, Reflexes, Regeneration, Shapeshifting, Super Speed, Super Strength, Telekinesis, Telepathy, Weather Control',
-        33);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Bane', 'Dessel',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10692.jpg',
-        'Agility, Darkforce Manipulation, Electrokinesis, Energy Absorption, Force Fields, Heat Generation, Illusions, Immortality, Latent Abilities, Matter Manipulation, Mind Control, Mind Control Resistance, Possession, Precognition, Reflexes, Regeneration, Super Speed, Super Strength, Telekinesis, Telepathy, The Force, Toxin and Disease Resistance, Weather Control',
-        46);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Evilhawk', 'Dargin Bokk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1516.jpg',
-        'Accelerated Healing, Durability, Energy Blasts, Flight, Force Fields, Power Suit, Super Strength, Vision - Infrared, Vision - Telescopic, Weapon-based Powers',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Choprai', 'Chope',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16542.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Camouflage, Cloaking, Dexterity, Durability, Endurance, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Insanity, Invulnerability, Jump, Longevity, Marksmanship, Natural Armor, Natural Weapons, Peak Human Condition, Photographic Reflexes, Reflexes, Self-Sustenance, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Vision - Night, Wallcrawling, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Shocker (MCU)', 'Herman Schultz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12708.jpg',
-        'Agility, Electrokinesis, Element Control, Energy Blasts, Super Strength, Weapons Master', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Granny Goodness', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1344.jpg',
-        'Accelerated Healing, Agility, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Energy Manipulation, Force Fields, Immortality, Intelligence, Invulnerability, Longevity, Omnilingualism, Peak Human Condition, Power Sense, Precognition, Reflexes, Self-Sustenance, Stamina, Stealth, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Underwater breathing, Weapon-based Powers',
-        22);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Graviton', 'Franklin Hall',
-        'https://www.superherodb.com/pictures2/portraits/10/050/201.jpg',
-        'Energy Constructs, Energy Manipulation, Flight, Force Fields, Gravity Control, Intelligence, Light Control, Super Speed, Super Strength',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Phantom Lantern', 'Frank Laminski',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16711.jpg',
-        'Accelerated Healing, Agility, Audio Control, Changing Armor, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Flight, Force Fields, Heat Resistance, Intelligence, Invulnerability, Lantern Power Ring, Levitation, Longevity, Matter Manipulation, Peak Human Condition, Power Sense, Reflexes, Self-Sustenance, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Vision - Infrared, Vitakinesis, Weapon-based Powers, Weapons Master',
-        35);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Magneto', 'Erik Magnus Lensherr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12.jpg',
-        'Durability, Energy Beams, Enhanced Senses, Flight, Force Fields, Intelligence, Magnetism, Stamina, Super Strength, Telepathy Resistance',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The First Lantern', 'Volthoom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12331.jpg',
-        'Agility, Astral Projection, Durability, Empathy, Endurance, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Energy Resistance, Fear Manipulation, Flight, Force Fields, Illusions, Immortality, Intangibility, Intelligence, Intuitive aptitude, Invulnerability, Lantern Power Ring, Light Control, Phasing, Precognition, Projection, Psionic Powers, Qwardian Power Ring, Reality Warping, Reflexes, Regeneration, Self-Sustenance, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Telepathy, Teleportation, Time Manipulation, Time Travel, Weapon-based Powers, Weapons Master',
-        103);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Crossbones (MCU)', 'Brock Rumlow',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13066.jpg',
-        'Agility, Durability, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master', 3);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Abomination (MCU)', 'Emil Blonsky',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12512.jpg',
-        'Agility, Durability, Jump, Marksmanship, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Juggernaut (8th Day)', 'Cain Marko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14012.jpg',
-        'Energy Absorption, Energy Beams, Energy Manipulation, Energy Resistance, Force Fields, Immortality, Levitation, Matter Manipulation, Mind Control, Portal Creation, Regeneration, Self-Sustenance, Size Changing, Super Speed, Super Strength, Telepathy, Teleportation',
-        29);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Chope', 'Chope',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16540.jpg',
-        'Agility, Dexterity, Insanity, Marksmanship, Reflexes, Stamina, Stealth, Weapon-based Powers, Weapons Master',
-        2);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Firefly', 'Theodore Carson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11263.jpg',
-        'Agility, Audio Control, Element Control, Flight, Light Control, Weapon-based Powers', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Changeling', 'Kevin Sidney',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1107.jpg', 'Shapeshifting, Telekinesis, Telepathy', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Arclight', 'Philippa Sontag',
-        'https://www.superherodb.com/pictures2/portraits/10/050/832.jpg',
-        'Durability, Seismic Power, Stamina, Super Strength', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sebastian Shaw', 'Sebastian Hiram Shaw',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1482.jpg',
-        'Agility, Durability, Energy Absorption, Energy Manipulation, Super Strength', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Maxima', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1168.jpg',
-        'Durability, Flight, Force Fields, Mind Blast, Mind Control, Psionic Powers, Stamina, Super Speed, Super Strength, Telekinesis',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Boba Fett', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10467.jpg',
-        'Agility, Enhanced Hearing, Enhanced Sight, Flight, Intelligence, Marksmanship, Power Suit, Radar Sense, Stamina, Stealth, Weapons Master',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Count Vertigo', 'Count Werner Vertigo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10083.jpg',
-        'Energy Manipulation, Enhanced Senses, Flight, Intelligence, Intuitive aptitude, Magnetism, Marksmanship, Mind Blast, Mind Control, Peak Human Condition, Projection, Radiation Control, Reflexes, Telekinesis, Toxin and Disease Control, Wallcrawling, Weapon-based Powers, Weapons Master',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Poison Ivy (Arkham)', 'Pamela Isley',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16122.jpg',
-        'Agility, Empathy, Mind Control, Peak Human Condition, Plant Control, Reflexes, Summoning, Telepathy, Toxin and Disease Control, Toxin and Disease Resistance',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Baron Zemo', 'Helmut Zemo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10406.jpg',
-        'Agility, Endurance, Gravity Control, Intelligence, Light Control, Longevity, Mind Control, Mind Control Resistance, Molecular Dissipation, Phasing, Reflexes, Stamina, Technopath/Cyberpath, Telepathy Resistance, Vaporising Beams, Weapon-based Powers, Weapons Master',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Clock King', 'William Tockman',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10396.jpg',
-        'Intelligence', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Batroc', 'Georges Batroc',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10005.jpg', 'Agility, Reflexes', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cheetah III', 'Barbara Minerva',
-        'https://www.superherodb.com/pictures2/portraits/10/050/926.jpg',
-        'Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Durability, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Intelligence, Jump, Reflexes, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Vision - Night',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Hard-To-Destroy Reptile', 'Atanti-ql-Paneu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11884.jpg',
-        'Adaptation, Animal Attributes, Animal Oriented Powers, Biokinesis, Camouflage, Changing Armor, Cold Resistance, Density Control, Dimensional Travel, Duplication, Energy Resistance, Enhanced Senses, Fire Resistance, Flight, Heat Resistance, Immortality, Intelligence, Invulnerability, Latent Abilities, Magic Resistance, Mind Control, Mind Control Resistance, Natural Armor, Natural Weapons, Nigh-Omnipotent, Physical Anomaly, Power Absorption, Radiation Immunity, Reality Warping, Regeneration, Resurrection, Shapeshifting, Size Changing, Stamina, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Control, Toxin and Disease Resistance',
-        89);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Scarebeast', 'Jonathan Crane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11875.jpg',
-        'Agility, Durability, Empathy, Illusions, Reflexes, Stamina, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mysterio (MCU)', 'Quentin Beck',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15699.jpg', 'Intelligence', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Zzzax', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10389.jpg',
-        'Absorption, Agility, Electrokinesis, Element Control, Energy Absorption, Flight, Super Speed, Super Strength',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'T-3000', 'John Connor',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14814.jpg',
-        'Adaptation, Agility, Bullet Time, Camouflage, Cold Resistance, Density Control, Durability, Enhanced Memory, Enhanced Senses, Enhanced Touch, Fire Resistance, Gravity Control, Heat Resistance, Intelligence, Invulnerability, Jump, Longevity, Magnetism, Marksmanship, Natural Armor, Natural Weapons, Phasing, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Teleportation, Vision - Microscopic, Vision - Night, Vision - Telescopic, Vision - Thermal, Weapon-based Powers, Weapons Master',
-        16);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Megamind', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1367.jpg',
-        'Agility, Anti-Gravity, Cloaking, Cryokinesis, Endurance, Energy Armor, Energy Beams, Enhanced Memory, Explosion Manipulation, Hacking, Information Analysis, Intelligence, Intuitive aptitude, Invisibility, Marksmanship, Memory Manipulation, Molecular Dissipation, Molecular Immobilization, Molecular Manipulation, Peak Human Condition, Photographic Reflexes, Physical Anomaly, Power Bestowal, Power Suit, Psionic Powers, Reflexes, Shapeshifting, Sleep Manipulation, Super Strength, Technopath/Cyberpath, Weapon Creation, Weapon-based Powers, Weapons Master',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Incubus (DCEU)', 'Incubus',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15960.jpg',
-        'Accelerated Healing, Durability, Elasticity, Hypnokinesis, Invulnerability, Longevity, Magic, Matter Absorption, Possession, Power Augmentation, Regeneration, Stamina, Super Strength, Telekinesis',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Steppenwolf (DCEU)', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12579.jpg',
-        'Element Control, Immortality, Intelligence, Longevity, Matter Manipulation, Portal Creation, Super Speed, Super Strength, Weapons Master',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deathstroke (CW)', 'Slade Wilson',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13778.jpg',
-        'Accelerated Healing, Agility, Durability, Peak Human Condition, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Adam (Yellow Lantern)', 'Teth-Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15051.jpg',
-        'Accelerated Healing, Agility, Clairvoyance, Durability, Endurance, Energy Blasts, Enhanced Hearing, Enhanced Memory, Enhanced Sight, Fire Resistance, Flight, Force Fields, Heat Resistance, Immortality, Intelligence, Invulnerability, Longevity, Magic, Matter Manipulation, Omnilingualism, Radiation Control, Reflexes, Self-Sustenance, Stamina, Super Breath, Telekinesis, Teleportation, Toxin and Disease Resistance',
-        34);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mammoth', 'Baran Flinders',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10065.jpg',
-        'Fire Resistance, Jump, Super Strength, Toxin and Disease Resistance', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Deathspawn', 'Deathspawn',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10659.jpg',
-        'Absorption, Agility, Astral Projection, Biokinesis, Changing Armor, Cold Resistance, Dimensional Awareness, Dimensional Travel, Durability, Energy Blasts, Entropy Projection, Flight, Grim Reaping, Heat Resistance, Immortality, Insanity, Invulnerability, Mind Control Resistance, Molecular Immobilization, Power Nullifier, Precognition, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Stamina, Stealth, Super Speed, Super Strength, Telepathy Resistance, Toxin and Disease Control, Toxin and Disease Resistance',
-        33);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Orochimaru', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13177.jpg',
-        'Accelerated Healing, Adaptation, Agility, Animal Control, Duplication, Elasticity, Fire Control, Intelligence, Marksmanship, Peak Human Condition, Possession, Reflexes, Regeneration, Resurrection, Stamina, Stealth, Summoning, Super Speed, Super Strength, Toxin and Disease Control, Wallcrawling, Weapon-based Powers, Weapons Master, Weather Control, Wind Control',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Upgrade', 'Grey Trace',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15584.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Danger Sense, Dexterity, Durability, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Heat Resistance, Insanity, Intelligence, Jump, Marksmanship, Peak Human Condition, Reflexes, Self-Sustenance, Spatial Awareness, Stamina, Stealth, Super Speed, Super Strength, Weapon-based Powers, Weapons Master',
-        12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Circe', 'Circe',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10917.jpg',
-        'Astral Projection, Darkforce Manipulation, Force Fields, Illusions, Immortality, Magic, Matter Manipulation, Mind Control, Reality Warping, Shapeshifting, Super Speed, Super Strength, Teleportation',
-        40);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bloodaxe', 'Jackie Lukus',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1509.jpg',
-        'Agility, Cryokinesis, Durability, Energy Blasts, Fire Control, Invulnerability, Magnetism, Reflexes, Stamina, Super Speed, Super Strength, Teleportation, Weapon-based Powers',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Damien Darhk (CW)', 'Damien Darhk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15940.jpg',
-        'Accelerated Healing, Agility, Darkforce Manipulation, Death Touch, Durability, Electrokinesis, Endurance, Energy Absorption, Intelligence, Intuitive aptitude, Levitation, Longevity, Magic, Marksmanship, Peak Human Condition, Reflexes, Stamina, Stealth, Super Strength, Telekinesis, Teleportation, Time Travel, Weapons Master',
-        29);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Dark Phoenix (FOX)', 'Jean Grey',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13890.jpg',
-        'Biokinesis, Element Control, Energy Absorption, Energy Manipulation, Flight, Force Fields, Hypnokinesis, Illusions, Levitation, Matter Manipulation, Mind Control, Molecular Manipulation, Possession, Precognition, Projection, Psionic Powers, Telekinesis, Telepathy',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Anti-Monitor', 'Mobius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1292.jpg',
-        'Accelerated Healing, Darkforce Manipulation, Dimensional Awareness, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Flight, Immortality, Intelligence, Invulnerability, Matter Absorption, Molecular Manipulation, Power Augmentation, Power Suit, Reality Warping, Size Changing, Super Strength, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        70);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Nyssa Raatko', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10339.jpg',
-        'Agility, Longevity, Weapon-based Powers, Weapons Master', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Fury', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15649.jpg',
-        'Adaptation, Agility, Cold Resistance, Density Control, Dimensional Travel, Durability, Elasticity, Electrical Transport, Electrokinesis, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Senses, Force Fields, Heat Generation, Heat Resistance, Immortality, Insanity, Invulnerability, Longevity, Matter Absorption, Matter Manipulation, Mind Blast, Mind Control Resistance, Molecular Manipulation, Power Nullifier, Precognition, Radar Sense, Radiation Control, Radiation Immunity, Reality Warping, Reflexes, Regeneration, Stamina, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Teleportation, Vitakinesis',
-        60);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Malgus', 'Veradun',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10701.jpg',
-        'Agility, Clairvoyance, Darkforce Manipulation, Durability, Electrokinesis, Energy Blasts, Force Fields, Mind Blast, Mind Control, Power Sense, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, The Force',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hannibal Lecter', 'Hannibal Lecter',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11137.jpg', 'Intelligence', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Silver Banshee', 'Siobhan McDougal',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10911.jpg',
-        'Accelerated Healing, Agility, Death Touch, Endurance, Flight, Intelligence, Magic, Marksmanship, Omnilingualism, Sonic Scream, Stamina, Super Speed, Super Strength, Teleportation',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Trigon', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10703.jpg',
-        'Accelerated Healing, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Flight, Heat Generation, Heat Resistance, Hypnokinesis, Illusions, Immortality, Intelligence, Invulnerability, Magic, Matter Absorption, Mind Control, Precognition, Reality Warping, Reflexes, Regeneration, Shapeshifting, Stamina, Super Breath, Super Strength, Telekinesis, Telepathy, Teleportation',
-        67);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mordru', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15648.jpg',
-        'Astral Travel, Darkforce Manipulation, Dimensional Awareness, Fire Control, Flight, Heat Generation, Illusions, Immortality, Magic, Matter Manipulation, Possession, Regeneration, Spatial Awareness, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation, Time Travel',
-        61);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Batman Who Laughs', 'Bruce Wayne',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12552.jpg',
-        'Agility, Insanity, Intelligence, Mind Control, Reality Warping, Reflexes, Stamina, Super Speed, Super Strength, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The One Below All', 'The Devil',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16100.jpg',
-        'Accelerated Healing, Agility, Camouflage, Causality Manipulation, Durability, Endurance, Immortality, Intangibility, Invisibility, Invulnerability, Nigh-Omnipotent, Nigh-Omnipresent, Nigh-Omniscient, Non-Corporeal, Non-Physical Interaction, Possession, Power Nullifier, Precognition, Radiation Absorption, Reality Warping, Resurrection, Self-Sustenance, Sleep Manipulation, Soul Manipulation, Stamina, Stealth, Super Speed, Super Strength, Teleportation, Time Manipulation',
-        127);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Man-Thing (Venomized)', 'Theodore Sallis',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14693.jpg',
-        'Accelerated Healing, Adaptation, Death Touch, Durability, Empathy, Endurance, Heat Generation, Immortality, Invulnerability, Longevity, Marksmanship, Matter Absorption, Natural Weapons, Plant Control, Reality Warping, Regeneration, Resurrection, Self-Sustenance, Size Changing, Stamina, Stealth, Sub-Mariner, Substance Secretion, Super Strength, Symbiote Costume, Telepathy, Teleportation, Toxin and Disease Control, Toxin and Disease Resistance, Underwater breathing',
-        42);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Lizard (SONY)', 'Curtis Connors',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13834.jpg',
-        'Agility, Dexterity, Endurance, Jump, Reflexes, Super Speed, Super Strength, Wallcrawling', 11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mister Mxyzptlk', 'Mr. Mxyzptlk',
-        'https://www.superherodb.com/pictures2/portraits/10/050/744.jpg',
-        'Accelerated Healing, Agility, Animation, Astral Projection, Cryokinesis, Density Control, Dimensional Awareness, Dimensional Travel, Duplication, Elasticity, Energy Blasts, Energy Constructs, Fire Control, Flight, Force Fields, Gravity Control, Immortality, Intelligence, Invulnerability, Levitation, Longevity, Magic, Molecular Manipulation, Phasing, Reality Warping, Shapeshifting, Telekinesis, Teleportation, Time Manipulation, Time Travel, Weather Control',
-        54);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Marquis Of Death', 'Clyde Wyncham',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11800.jpg',
-        'Dimensional Awareness, Energy Manipulation, Flight, Illusions, Immortality, Invulnerability, Matter Manipulation, Mind Control, Probability Manipulation, Psionic Powers, Reality Warping, Shapeshifting, Spatial Awareness, Stamina, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Manipulation',
-        39);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mister Freeze', 'Victor Fries',
-        'https://www.superherodb.com/pictures2/portraits/10/050/742.jpg',
-        'Cold Resistance, Cryokinesis, Durability, Intelligence, Longevity, Marksmanship, Power Suit, Super Strength',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Gizmo', 'Mikron OJeneus',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10225.jpg',
-        'Flight, Illumination, Intelligence, Jump, Stealth, Vision - X-Ray, Wallcrawling, Weapon-based Powers, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Superboy-Prime', 'Kal-El',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1535.jpg',
-        'Accelerated Healing, Durability, Energy Absorption, Enhanced Hearing, Enhanced Senses, Enhanced Smell, Flight, Hypnokinesis, Intelligence, Invulnerability, Jump, Longevity, Magic Resistance, Power Suit, Stamina, Super Breath, Super Speed, Super Strength, Vision - Heat, Vision - Infrared, Vision - Microscopic, Vision - Telescopic, Vision - X-Ray',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Shadow the Hedgehog', 'Shadow the Hedgehog',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10537.jpg',
-        'Absorption, Accelerated Healing, Agility, Anti-Gravity, Biokinesis, Bullet Time, Cryokinesis, Darkforce Manipulation, Dimensional Travel, Duplication, Electrokinesis, Element Control, Energy Manipulation, Fire Control, Flight, Force Fields, Gravity Control, Illusions, Immortality, Intangibility, Invisibility, Invulnerability, Levitation, Magnetism, Matter Manipulation, Mind Control Resistance, Resurrection, Self-Sustenance, Size Changing, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Timeframe Control, Water Control, Weapons Master, Wind Control',
-        89);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Zoom', 'Hunter Zolomon',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1384.jpg',
-        'Intangibility, Super Speed, Time Manipulation, Time Travel', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cooler', 'Cooler',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1244.jpg',
-        'Agility, Biokinesis, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Force Fields, Invulnerability, Reflexes, Self-Sustenance, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Vision - Heat',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Weather Wizard', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10075.jpg',
-        'Agility, Electrokinesis, Element Control, Water Control, Weapon-based Powers', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Swarm', 'Fritz von Meyer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10428.jpg',
-        'Animal Control, Animal Oriented Powers, Durability, Flight, Intangibility, Intelligence, Longevity, Shapeshifting, Size Changing, Super Strength',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Anacondrai Serpent', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16582.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Camouflage, Cold Resistance, Durability, Endurance, Energy Resistance, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Invisibility, Invulnerability, Longevity, Natural Armor, Reflexes, Regeneration, Self-Sustenance, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Resistance, Wallcrawling',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Surtur (MCU)', 'Surtur',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12718.jpg',
-        'Durability, Fire Control, Invulnerability, Longevity, Resurrection, Self-Sustenance, Super Speed, Super Strength, Weapons Master',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ganon', 'Ganondorf',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16007.jpg',
-        'Absorption, Accelerated Healing, Afterimage Creation, Agility, Astral Projection, Berserk Mode, Chaos Magic, Clairvoyance, Creation, Cryokinesis, Darkforce Manipulation, Death Manipulation, Dimensional Travel, Duplication, Durability, Electrokinesis, Empathy, Endurance, Energy Manipulation, Enhanced Senses, Explosion Manipulation, Fire Control, Flight, Force Fields, Illusions, Immortality, Insanity, Intangibility, Invisibility, Invulnerability, Life Manipulation, Light Control, Longevity, Magic, Marksmanship, Mind Control, Mind Control Resistance, Necromancy, Non-Physical Interaction, Plant Control, Portal Creation, Possession, Power Absorption, Power Bestowal, Power Mimicry, Power Nullifier, Projection, Reflexes, Regeneration, Resurrection, Self-Sustenance, Shapeshifting, Size Changing, Sleep Manipulation, Soul Manipulation, Stamina, Statistics Amplification, Summoning, Super Breath, Super Speed, Super Strength, Technopath/Cyberpath, Telekinesis, Telepathy, Teleportation, Toxin and Disease Control, Toxin and Disease Resistance, Water Control, Weapon Creation, Weapon-based Powers, Weapons Master, Weather Control, Wind Control',
-        125);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mewtwo', 'Mewtwo',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11317.jpg',
-        'Agility, Cryokinesis, Duplication, Electrokinesis, Element Control, Empathy, Energy Beams, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Illusions, Immortality, Intelligence, Invisibility, Invulnerability, Light Control, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Portal Creation, Power Absorption, Power Augmentation, Power Nullifier, Precognition, Reality Warping, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Terrakinesis, Time Travel, Umbrakinesis, Vitakinesis, Weather Control, Wind Control',
-        113);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Big Man', 'Frederick Foswell',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1038.jpg', 'Marksmanship', 6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mach-IV', 'Abner Jenkins',
-        'https://www.superherodb.com/pictures2/portraits/10/050/370.jpg',
-        'Durability, Flight, Super Speed, Super Strength, Weapon-based Powers', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Venom II', 'Angelo Fortunato',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1124.jpg',
-        'Agility, Animal Oriented Powers, Camouflage, Durability, Reflexes, Shapeshifting, Super Speed, Super Strength, Wallcrawling',
-        6);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Great Devourer', 'The Great Devourer',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16174.jpg',
-        'Accelerated Healing, Agility, Animal Attributes, Animal Control, Animal Oriented Powers, Animation, Camouflage, Cold Resistance, Darkforce Manipulation, Durability, Element Control, Endurance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Intelligence, Invulnerability, Longevity, Mind Control, Natural Armor, Natural Weapons, Peak Human Condition, Reflexes, Regeneration, Resurrection, Self-Sustenance, Size Changing, Stamina, Stealth, Super Speed, Super Strength, Toxin and Disease Control, Toxin and Disease Resistance, Vision - Microscopic, Vision - Night',
-        32);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Abra Kadabra (CW)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16421.jpg',
-        'Dimensional Travel, Illusions, Intelligence, Intuitive aptitude, Matter Manipulation, Technopath/Cyberpath, Teleportation',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doctor Sivana', 'Dr. Thaddeus Sivana, Sr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11675.jpg',
-        'Dexterity, Duplication, Energy Beams, Energy Resistance, Enhanced Memory, Enhanced Senses, Enhanced Sight, Flight, Force Fields, Hypnokinesis, Intangibility, Intelligence, Intuitive aptitude, Magic, Mind Blast, Mind Control Resistance, Omnilingualism, Phasing, Power Suit, Resurrection, Size Changing, Super Strength, Telepathy Resistance, Teleportation, Time Travel, Vaporising Beams',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Adam', 'Teth-Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/643.jpg',
-        'Accelerated Healing, Clairvoyance, Energy Blasts, Enhanced Hearing, Flight, Intelligence, Invulnerability, Longevity, Magic, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis',
-        17);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Protege', 'Protege',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12684.jpg',
-        'Adaptation, Agility, Animal Control, Animation, Astral Projection, Biokinesis, Danger Sense, Darkforce Manipulation, Death Touch, Density Control, Dimensional Awareness, Duplication, Elasticity, Electrokinesis, Empathy, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Flight, Heat Generation, Immortality, Intelligence, Magnetism, Mind Control, Nigh-Omnipotent, Power Absorption, Power Augmentation, Psionic Powers, Reality Warping, Stamina, Stealth, Sub-Mariner, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Weather Control',
-        114);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Stormtrooper', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10539.jpg',
-        'Durability, Weapon-based Powers', 2);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Iron Monger (MCU)', 'Obadiah Stane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13973.jpg',
-        'Durability, Flight, Invulnerability, Jump, Super Strength', 11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Anti-Life Entity', 'Anti-Life',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12395.jpg',
-        'Afterimage Creation, Animated Shadow, Anti-Gravity, Biokinesis, Cold Resistance, Dimensional Travel, Duplication, Durability, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Fire Control, Fire Resistance, Flight, Force Fields, Gravity Control, Grim Reaping, Immortality, Intelligence, Invulnerability, Matter Manipulation, Mind Control, Molecular Combustion, Molecular Dissipation, Non-Corporeal, Non-Physical Interaction, Omnilingualism, Pain Manipulation, Physics Manipulation, Possession, Power Bestowal, Power Nullifier, Probability Manipulation, Psionic Powers, Radiation Immunity, Reality Warping, Regeneration, Resurrection, Seismic Power, Self-Sustenance, Size Changing, Soul Manipulation, Spatial Awareness, Stealth, Summoning, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Terrakinesis, Time Manipulation, Toxin and Disease Resistance, Vitakinesis',
-        106);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Angel Of Death', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1174.jpg',
-        'Accelerated Healing, Agility, Dexterity, Durability, Endurance, Enhanced Senses, Flight, Immortality, Intelligence, Jump, Longevity, Marksmanship, Reflexes, Regeneration, Stamina, Stealth, Super Speed, Super Strength, Weapons Master',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Killer Frost', 'Caitlin Snow',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10508.jpg',
-        'Cold Resistance, Cryokinesis, Durability, Energy Absorption, Natural Weapons, Super Breath', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Giant Stone Warrior', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16464.jpg',
-        'Adaptation, Agility, Cold Resistance, Darkforce Manipulation, Dexterity, Durability, Endurance, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Fire Resistance, Heat Resistance, Immortality, Invulnerability, Jump, Longevity, Mind Control, Mind Control Resistance, Natural Armor, Omnilingualism, Peak Human Condition, Reflexes, Regeneration, Self-Sustenance, Stamina, Summoning, Super Strength, Telepathy, Telepathy Resistance, Toxin and Disease Resistance, Wallcrawling, Weapons Master',
-        30);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Despero', 'Despero',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10514.jpg',
-        'Accelerated Healing, Astral Projection, Durability, Elasticity, Endurance, Energy Beams, Energy Constructs, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Illusions, Levitation, Longevity, Magic, Mind Control, Possession, Reality Warping, Regeneration, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Vision - Heat, Vitakinesis',
-        32);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Black Adam (New 52)', 'Teth-Adam',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14815.jpg',
-        'Accelerated Healing, Clairvoyance, Cold Resistance, Durability, Electrokinesis, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Fire Resistance, Heat Resistance, Intelligence, Invulnerability, Longevity, Magic, Self-Sustenance, Stamina, Super Speed, Super Strength, Telekinesis, Toxin and Disease Resistance',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Bane', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/637.jpg',
-        'Agility, Durability, Enhanced Memory, Intelligence, Marksmanship, Reflexes, Regeneration, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Starheart Eclipso', 'Eclipso',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16195.jpg',
-        'Accelerated Healing, Agility, Animation, Astral Travel, Banish, Cold Resistance, Cryokinesis, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Energy Absorption, Energy Blasts, Energy Manipulation, Fire Resistance, Flight, Force Fields, Gravity Control, Heat Resistance, Hypnokinesis, Immortality, Insanity, Invulnerability, Levitation, Magic, Magic Resistance, Mind Control Resistance, Molecular Immobilization, Possession, Power Augmentation, Power Nullifier, Power Sense, Precognition, Psionic Powers, Radiation Immunity, Reality Warping, Reflexes, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Summoning, Super Speed, Super Strength, Telepathy Resistance, Teleportation, Toxin and Disease Resistance, Underwater breathing, Weapon-based Powers',
-        73);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Scorpia', 'Elaine Coll',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1123.jpg',
-        'Energy Blasts, Force Fields, Super Speed, Super Strength, Weapon-based Powers', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Godspeed', 'August Hart',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10909.jpg',
-        'Accelerated Healing, Agility, Duplication, Electrokinesis, Energy Blasts, Flight, Force Fields, Intangibility, Marksmanship, Phasing, Super Speed, Time Manipulation, Time Travel, Wind Control',
-        21);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Atlas', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10838.jpg',
-        'Durability, Invulnerability, Stamina, Super Speed, Super Strength', 11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ego', 'Ego',
-        'https://www.superherodb.com/pictures2/portraits/10/050/6.jpg',
-        'Energy Absorption, Super Speed, Super Strength', 12);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cyborg Superman (CW)', 'Hank Henshaw',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15978.jpg',
-        'Agility, Durability, Endurance, Energy Blasts, Intelligence, Invulnerability, Marksmanship, Reflexes, Stamina, Stealth, Super Speed, Super Strength, Technopath/Cyberpath, Vision - Heat, Weapons Master',
-        14);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'King Vegeta', 'Vegeta',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14852.jpg',
-        'Adaptation, Agility, Durability, Energy Armor, Energy Beams, Energy Blasts, Energy Manipulation, Enhanced Senses, Flight, Force Fields, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength',
-        10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lightning Lord', 'Mekt Ranzz',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1179.jpg', 'Electrokinesis, Energy Absorption', 5);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Gellert Grindelwald', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13757.jpg',
-        'Energy Manipulation, Fire Control, Intelligence, Invisibility, Magic, Precognition, Shapeshifting, Telekinesis, Teleportation, Water Control',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Thanos (IG MCOC)', 'Thanos',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15714.jpg',
-        'Agility, Astral Projection, Astral Travel, Banish, Biokinesis, Changing Armor, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Durability, Element Control, Endurance, Energy Absorption, Energy Blasts, Energy Manipulation, Fire Control, Flight, Force Fields, Gravity Control, Grim Reaping, Heat Resistance, Immortality, Insanity, Intelligence, Invulnerability, Levitation, Longevity, Magic, Matter Manipulation, Natural Armor, Nigh-Omnipresent, Omnilingualism, Power Augmentation, Precognition, Reflexes, Resurrection, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, Teleportation, Time Manipulation, Time Travel, Timeframe Control, Toxin and Disease Resistance, Vitakinesis',
-        122);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Magus', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1297.jpg',
-        'Elasticity, Electrokinesis, Energy Absorption, Flight, Immortality, Omnilingualism, Shapeshifting, Size Changing, Super Strength, Technopath/Cyberpath',
-        17);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Warrior Bug', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14087.jpg',
-        'Agility, Camouflage, Enhanced Smell, Jump, Natural Armor, Natural Weapons, Radar Sense, Stamina, Stealth, Wallcrawling',
-        2);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Utgard-Loki', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1484.jpg',
-        'Durability, Invulnerability, Longevity, Magic, Stamina, Super Strength', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mangog', 'Mangog',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10387.jpg',
-        'Durability, Super Strength', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'King Ghidorah', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10609.jpg',
-        'Accelerated Healing, Animal Attributes, Cold Resistance, Durability, Endurance, Energy Beams, Enhanced Senses, Fire Resistance, Heat Generation, Heat Resistance, Immortality, Invulnerability, Latent Abilities, Natural Armor, Regeneration, Self-Sustenance, Super Strength, Toxin and Disease Resistance',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doomsday', 'Doomsday',
-        'https://www.superherodb.com/pictures2/portraits/10/050/679.jpg',
-        'Accelerated Healing, Adaptation, Agility, Cold Resistance, Durability, Energy Absorption, Energy Resistance, Heat Resistance, Invulnerability, Jump, Natural Armor, Natural Weapons, Power Absorption, Reflexes, Regeneration, Resurrection, Self-Sustenance, Stamina, Super Speed, Super Strength',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sentinel', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11339.jpg',
-        'Cloaking, Cold Resistance, Durability, Endurance, Energy Beams, Energy Blasts, Fire Resistance, Flight, Power Nullifier, Radiation Immunity, Sonar, Super Strength, Telepathy Resistance, Toxin and Disease Resistance, Vision - Heat, Vision - Infrared, Vision - Night, Vision - Telescopic, Vision - Thermal, Vision - X-Ray, Weapon-based Powers',
-        8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Walrus', 'Hubert Carpent',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10058.jpg',
-        'Durability, Natural Armor, Natural Weapons, Super Strength', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Vulture (MCU)', 'Adrian Toomes',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12593.jpg',
-        'Agility, Durability, Endurance, Energy Beams, Energy Blasts, Energy Manipulation, Flight, Peak Human Condition, Power Suit, Super Strength',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'General Grievous', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10460.jpg',
-        'Agility, Dexterity, Durability, Intelligence, Jump, Longevity, Self-Sustenance, Stamina, Weapon-based Powers, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ocean Master', 'Orm Curry Marius',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11175.jpg',
-        'Agility, Animal Control, Durability, Electrokinesis, Energy Blasts, Enhanced Hearing, Enhanced Senses, Enhanced Sight, Enhanced Smell, Magic, Marksmanship, Reality Warping, Reflexes, Sonar, Stamina, Stealth, Sub-Mariner, Underwater breathing, Water Control, Weapon-based Powers, Weapons Master',
-        13);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cyttorak', 'Cyttorak',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12082.jpg',
-        'Death Touch, Dimensional Travel, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Memory, Enhanced Senses, Fire Control, Fire Resistance, Grim Reaping, Heat Generation, Heat Resistance, Immortality, Invulnerability, Longevity, Magic, Magic Resistance, Molecular Manipulation, Possession, Power Augmentation, Power Nullifier, Reality Warping, Resurrection, Self-Sustenance, Size Changing, Stamina, Super Strength, Teleportation',
-        57);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Titania', 'Mary McPherran',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1453.jpg',
-        'Durability, Endurance, Invulnerability, Stamina, Super Strength', 10);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Lady Loki', 'Loki Laufeysdottir',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12665.jpg',
-        'Agility, Cold Resistance, Cryokinesis, Dimensional Travel, Durability, Flight, Force Fields, Illusions, Immortality, Intelligence, Invulnerability, Magic, Matter Manipulation, Mind Control, Omnilingualism, Reflexes, Regeneration, Stamina, Super Speed, Super Strength, Telepathy Resistance',
-        27);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Sith Emperor Vitiate', 'Tenebrae',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10851.jpg',
-        'Absorption, Agility, Clairvoyance, Darkforce Manipulation, Duplication, Durability, Electrokinesis, Energy Absorption, Energy Manipulation, Enhanced Senses, Force Fields, Illusions, Immortality, Magic, Mind Control, Possession, Power Augmentation, Power Nullifier, Precognition, Psionic Powers, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, The Force',
-        41);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darkseid (Injustice)', 'Uxas',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16054.jpg',
-        'Agility, Astral Travel, Banish, Cold Resistance, Darkforce Manipulation, Element Control, Energy Manipulation, Flight, Force Fields, Immortality, Intelligence, Invulnerability, Levitation, Magic, Matter Absorption, Matter Manipulation, Omega Effect, Omnilingualism, Precognition, Reflexes, Regeneration, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        48);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Professor Pyg', 'Lazlo Valentin',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11239.jpg',
-        'Animal Attributes, Animal Control, Animal Oriented Powers, Camouflage, Endurance, Insanity, Intelligence, Intuitive aptitude, Marksmanship, Mind Control, Stamina, Weapons Master',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Catwoman (Injustice)', 'Selina Kyle',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15702.jpg',
-        'Agility, Animal Attributes, Dexterity, Empathy, Peak Human Condition, Reflexes, Stealth, Weapon-based Powers, Weapons Master',
-        9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Gorr The God Butcher', 'Gorr',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12194.jpg',
-        'Agility, Darkforce Manipulation, Durability, Energy Constructs, Energy Manipulation, Flight, Invulnerability, Longevity, Power Suit, Regeneration, Shapeshifting, Spatial Awareness, Super Speed, Super Strength, Weapons Master',
-        25);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Stompa', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12483.jpg',
-        'Cold Resistance, Durability, Endurance, Fire Resistance, Heat Resistance, Immortality, Invulnerability, Reflexes, Super Strength, Toxin and Disease Resistance',
-        20);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Cottonmouth', 'Burchell Clemens',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10452.jpg', 'Super Strength', 4);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Kurse', 'Algrim',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10007.jpg',
-        'Cold Resistance, Durability, Endurance, Enhanced Senses, Fire Resistance, Heat Resistance, Invulnerability, Longevity, Power Suit, Regeneration, Self-Sustenance, Stamina, Super Speed, Super Strength, Toxin and Disease Resistance',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Umar', 'Umar',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12316.jpg',
-        'Agility, Astral Projection, Darkforce Manipulation, Dimensional Awareness, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Fire Control, Illusions, Immortality, Intelligence, Levitation, Magic, Matter Absorption, Matter Manipulation, Molecular Manipulation, Possession, Psionic Powers, Reality Warping, Shapeshifting, Size Changing, Stamina, Telekinesis, Telepathy, Teleportation, Time Travel',
-        67);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Super Skrull', 'Kl’rt',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11016.jpg',
-        'Agility, Durability, Elasticity, Flight, Force Fields, Heat Generation, Heat Resistance, Hypnokinesis, Invisibility, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength',
-        11);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Living Brain', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/1037.jpg',
-        'Durability, Flight, Intelligence, Super Strength', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Goku Black', 'Zamasu',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11692.jpg',
-        'Accelerated Healing, Adaptation, Agility, Durability, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Senses, Force Fields, Latent Abilities, Matter Manipulation, Portal Creation, Power Augmentation, Power Sense, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Teleportation, Time Travel',
-        25);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Chameleon', 'Dmitri Smerdyakov',
-        'https://www.superherodb.com/pictures2/portraits/10/050/660.jpg',
-        'Camouflage, Intelligence, Longevity, Omnilingualism, Shapeshifting, Stealth, Weapons Master', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hive (MCU)', 'Unknown',
-        'https://www.superherodb.com/pictures2/portraits/10/050/16408.jpg',
-        'Accelerated Healing, Agility, Animation, Death Touch, Durability, Endurance, Enhanced Memory, Enhanced Smell, Longevity, Marksmanship, Matter Absorption, Mind Control, Omnilingualism, Possession, Reflexes, Regeneration, Stamina, Super Strength',
-        16);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Doctor Doom (Venomized)', 'Victor Von Doom',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14676.jpg',
-        'Agility, Astral Travel, Banish, Dimensional Travel, Durability, Electrokinesis, Element Control, Endurance, Energy Blasts, Enhanced Senses, Flight, Force Fields, Hypnokinesis, Intelligence, Magic, Marksmanship, Portal Creation, Power Absorption, Power Nullifier, Psionic Powers, Stamina, Stealth, Summoning, Super Speed, Super Strength, Symbiote Costume, Technopath/Cyberpath, Telekinesis, Teleportation, Time Travel, Weapon-based Powers, Weapons Master',
-        26);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Madara Uchiha', 'Uchiha Madara',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12336.jpg',
-        'Accelerated Healing, Agility, Animal Control, Danger Sense, Duplication, Durability, Element Control, Energy Absorption, Energy Armor, Energy Constructs, Energy Manipulation, Enhanced Senses, Enhanced Sight, Fire Control, Force Fields, Hypnokinesis, Illumination, Intelligence, Jump, Longevity, Marksmanship, Peak Human Condition, Plant Control, Power Suit, Reality Warping, Reflexes, Stamina, Stealth, Summoning, Super Speed, Super Strength, Wallcrawling, Water Control, Weapons Master, Wind Control',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Darth Nox', 'Remowa Alucard',
-        'https://www.superherodb.com/pictures2/portraits/10/050/11821.jpg',
-        'Absorption, Accelerated Healing, Agility, Animal Control, Astral Projection, Astral Trap, Clairvoyance, Darkforce Manipulation, Duplication, Durability, Electrokinesis, Energy Absorption, Energy Blasts, Energy Manipulation, Enhanced Senses, Force Fields, Grim Reaping, Hypnokinesis, Illusions, Immortality, Insanity, Intelligence, Jump, Levitation, Magic, Matter Manipulation, Mind Control, Mind Control Resistance, Molecular Manipulation, Peak Human Condition, Possession, Power Absorption, Power Augmentation, Power Nullifier, Power Sense, Precognition, Reflexes, Stamina, Super Speed, Super Strength, Telekinesis, Telepathy, Telepathy Resistance, The Force',
-        78);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Saint Of Killers', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/772.jpg',
-        'Accelerated Healing, Agility, Dimensional Travel, Durability, Enhanced Sight, Immortality, Invulnerability, Longevity, Marksmanship, Radiation Immunity, Reflexes, Resurrection, Stamina, Super Breath, Super Speed, Super Strength, Weapons Master',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Angel Dust (FOX)', 'Christina',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14335.jpg',
-        'Agility, Durability, Invulnerability, Latent Abilities, Super Strength', 8);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'The Scarecrow (Gotham)', 'Jonathan Crane',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14781.jpg',
-        'Insanity, Intelligence, Psionic Powers, Stealth, Weapon-based Powers', 7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Mad Harriet', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/12469.jpg',
-        'Cold Resistance, Durability, Fire Resistance, Heat Resistance, Immortality, Invulnerability, Reflexes, Super Speed, Super Strength',
-        19);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Omega Of The Thanosi', 'Omega',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13505.jpg',
-        'Agility, Camouflage, Cold Resistance, Darkforce Manipulation, Dimensional Awareness, Dimensional Travel, Element Control, Energy Absorption, Energy Armor, Energy Beams, Energy Blasts, Energy Resistance, Enhanced Senses, Fire Control, Flight, Force Fields, Gravity Control, Heat Resistance, Insanity, Intelligence, Invulnerability, Longevity, Matter Manipulation, Molecular Dissipation, Omnilingualism, Power Absorption, Power Augmentation, Power Cosmic, Power Sense, Reality Warping, Reflexes, Super Speed, Super Strength, Telepathy, Telepathy Resistance, Teleportation, Time Travel, Toxin and Disease Resistance',
-        77);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Hulk (Venomized)', 'Amadeus Cho',
-        'https://www.superherodb.com/pictures2/portraits/10/050/14682.jpg',
-        'Accelerated Healing, Agility, Cold Resistance, Durability, Empathy, Endurance, Enhanced Senses, Heat Resistance, Intelligence, Invulnerability, Jump, Longevity, Marksmanship, Mind Control Resistance, Physical Anomaly, Radiation Absorption, Radiation Control, Radiation Immunity, Reflexes, Regeneration, Self-Sustenance, Shapeshifting, Size Changing, Stamina, Stealth, Super Breath, Super Speed, Super Strength, Symbiote Costume, Telepathy Resistance, Toxin and Disease Control, Toxin and Disease Resistance, Underwater breathing, Weapon-based Powers, Weapons Master',
-        25);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Galactus Venom', 'Galan',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13263.jpg',
-        'Absorption, Dexterity, Duplication, Durability, Empathy, Energy Absorption, Energy Beams, Energy Blasts, Energy Constructs, Energy Manipulation, Enhanced Hearing, Enhanced Memory, Enhanced Senses, Enhanced Sight, Enhanced Smell, Enhanced Touch, Immortality, Matter Manipulation, Molecular Manipulation, Power Cosmic, Power Nullifier, Precognition, Reality Warping, Regeneration, Shapeshifting, Size Changing, Super Speed, Super Strength, Symbiote Costume, Telekinesis, Telepathy, Teleportation, Time Manipulation, Vision - Thermal, Weather Control, Wishing',
-        105);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Venom (Raimi Trilogy)', 'Edward Brock, Jr.',
-        'https://www.superherodb.com/pictures2/portraits/10/050/15222.jpg',
-        'Accelerated Healing, Agility, Durability, Endurance, Enhanced Senses, Jump, Marksmanship, Reflexes, Shapeshifting, Stamina, Super Speed, Super Strength, Vision - Night, Wallcrawling, Web Creation',
-        7);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Ace', '',
-        'https://www.superherodb.com/pictures2/portraits/10/050/10945.jpg',
-        'Energy Manipulation, Magic, Probability Manipulation', 9);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Swamp Thing', 'Alec Holland',
-        'https://www.superherodb.com/pictures2/portraits/10/050/792.jpg',
-        'Camouflage, Duplication, Flight, Illusions, Immortality, Intelligence, Longevity, Natural Armor, Plant Control, Resurrection, Self-Sustenance, Size Changing, Stealth, Super Strength, The Green',
-        15);
-INSERT INTO villainEntity(id, name, otherName, picture, powers, level)
-VALUES (nextval('villainEntity_seq'), 'Juggernaut (Trion)', 'Cain Marko',
-        'https://www.superherodb.com/pictures2/portraits/10/050/13970.jpg',
-        'Accelerated Healing, Death Touch, Dimensional Travel, Durability, Endurance, Energy Absorption, Energy Beams, Energy Blasts, Energy Manipulation, Energy Resistance, Enhanced Memory, Enhanced Senses, Fire Control, Fire Resistance, Force Fields, Grim Reaping, Heat Generation, Heat Resistance, Immortality, Invulnerability, Longevity, Magic, Magic Resistance, Molecular Manipulation, Possession, Power Augmentation, Power Nullifier, Reality Warping, Resurrection, Self-Sustenance, Size Changing, Stamina, Super Speed, Super Strength, Teleportation, Toxin and Disease Resistance',
-        67);
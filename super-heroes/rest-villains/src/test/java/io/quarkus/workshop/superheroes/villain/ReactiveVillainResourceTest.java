@@ -0,0 +1,22 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import java.util.Map;
+
+/**
+ * Runs the tests of {@link VillainResourceTest} against the reactive execution model.
+ */
+@QuarkusTest
+@TestProfile(ReactiveVillainResourceTest.ReactiveProfile.class)
+public class ReactiveVillainResourceTest extends VillainResourceTest {
+
+  public static class ReactiveProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("villain.execution-model", "reactive");
+    }
+  }
+}
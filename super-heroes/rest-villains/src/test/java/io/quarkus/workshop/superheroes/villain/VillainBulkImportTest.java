@@ -0,0 +1,96 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.quarkus.workshop.superheroes.villain.services.VillainImportResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the bulk import of villains, on a dedicated profile so that the imported villains do not leak into the
+ * other tests.
+ */
+@QuarkusTest
+@TestProfile(VillainBulkImportTest.BulkImportProfile.class)
+public class VillainBulkImportTest {
+
+  private static final int NB_BULK_VILLAINS = 1_000;
+  private static final int DEFAULT_LEVEL = 42;
+
+  public static class BulkImportProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("level.multiplier", "0.5");
+    }
+  }
+
+  @Test
+  void shouldImportVillainsWithLevelMultiplier() {
+    VillainImportResult result = given()
+      .body(villains(NB_BULK_VILLAINS))
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/villains/bulk")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(VillainImportResult.class);
+    assertEquals(NB_BULK_VILLAINS, result.imported());
+    assertEquals(NB_BULK_VILLAINS, result.ids().size());
+
+    given()
+      .pathParam("id", result.ids().get(NB_BULK_VILLAINS - 1))
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("name", is("Bulk villain " + (NB_BULK_VILLAINS - 1)))
+      .body("level", is(DEFAULT_LEVEL / 2));
+  }
+
+  @Test
+  void shouldNotImportInvalidVillains() {
+    List<Villain> villains = villains(3);
+    villains.get(1).setName(null);
+
+    given()
+      .body(villains)
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .post("/api/villains/bulk")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  private static List<Villain> villains(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(i -> {
+        Villain villain = new Villain();
+        villain.setName("Bulk villain " + i);
+        villain.setOtherName("Imported villain " + i);
+        villain.setPicture("bulk_villain_" + i + ".png");
+        villain.setPowers("Batching, Flushing");
+        villain.setLevel(DEFAULT_LEVEL);
+        return villain;
+      })
+      .collect(Collectors.toList());
+  }
+}
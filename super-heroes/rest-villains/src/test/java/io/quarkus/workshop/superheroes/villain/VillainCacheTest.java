@@ -0,0 +1,129 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.restassured.common.mapper.TypeRef;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the second-level and query caches of villains with a read-heavy mix, counting the statements sent to the
+ * database through the Hibernate statistics. The number of requests can be changed with
+ * {@code -Dvillain.cache.test.requests}.
+ */
+@QuarkusTest
+@TestProfile(VillainCacheTest.CacheProfile.class)
+public class VillainCacheTest {
+
+  private static final int NB_REQUESTS = Integer.getInteger("villain.cache.test.requests", 2_000);
+  private static final int NB_POPULAR_VILLAINS = 50;
+  private static final int LIST_PERCENTAGE = 5;
+
+  @Inject
+  SessionFactory sessionFactory;
+
+  public static class CacheProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("quarkus.hibernate-orm.statistics", "true");
+    }
+  }
+
+  @Test
+  void shouldServeReadHeavyMixFromTheCaches() {
+    List<Long> ids = getVillains().stream().map(Villain::getId).toList();
+    Statistics statistics = sessionFactory.getStatistics();
+
+    // Cold pass: every villain and the list come from the database the first time they are read
+    sessionFactory.getCache().evictAll();
+    statistics.clear();
+    runReadHeavyMix(ids, new Random(42));
+    long coldStatements = statistics.getPrepareStatementCount();
+
+    // Warm pass: the same mix is served by the caches
+    statistics.clear();
+    runReadHeavyMix(ids, new Random(42));
+    long warmStatements = statistics.getPrepareStatementCount();
+
+    assertTrue(coldStatements < NB_REQUESTS, "Cold pass sent " + coldStatements + " statements");
+    assertEquals(0, warmStatements, "Warm pass sent " + warmStatements + " statements");
+    assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    assertTrue(statistics.getQueryCacheHitCount() > 0);
+  }
+
+  @Test
+  void shouldEvictUpdatedVillain() {
+    Villain villain = getVillains().get(0);
+    getVillain(villain.getId());
+
+    villain.setName(villain.getName() + " (cached)");
+    given()
+      .body(villain)
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .put("/api/villains")
+      .then()
+      .statusCode(OK.getStatusCode());
+
+    given()
+      .pathParam("id", villain.getId())
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("name", is(villain.getName()));
+    assertTrue(getVillains().stream().anyMatch(v -> v.getId().equals(villain.getId()) && v.getName().equals(villain.getName())));
+  }
+
+  /**
+   * Reads popular villains by id, with a skew towards the first ones, and lists all the villains from time to time.
+   */
+  private static void runReadHeavyMix(List<Long> ids, Random random) {
+    for (int i = 0; i < NB_REQUESTS; i++) {
+      if (random.nextInt(100) < LIST_PERCENTAGE) {
+        getVillains();
+      } else {
+        double skew = random.nextDouble();
+        getVillain(ids.get((int) (skew * skew * NB_POPULAR_VILLAINS)));
+      }
+    }
+  }
+
+  private static void getVillain(Long id) {
+    given()
+      .pathParam("id", id)
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode());
+  }
+
+  private static List<Villain> getVillains() {
+    return get("/api/villains").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(new TypeRef<List<Villain>>() {
+        // Kept empty on purpose
+      });
+  }
+}
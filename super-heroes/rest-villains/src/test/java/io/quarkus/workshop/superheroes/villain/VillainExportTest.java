@@ -0,0 +1,119 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import io.restassured.common.mapper.TypeRef;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.jboss.resteasy.reactive.RestMediaType.APPLICATION_NDJSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the streaming export of villains against a table larger than the fetch size.
+ * The number of villains added on top of villains.csv defaults to 100,000 and can be changed with
+ * {@code -Dvillain.export.test.rows}. The heap used by the export is measured by the ExportBenchmark of the
+ * benchmarks module, against a service with a bounded heap.
+ */
+@QuarkusTest
+@TestProfile(VillainExportTest.ExportProfile.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class VillainExportTest {
+
+  private static final int NB_IMPORTED_VILLAINS = 570;
+  private static final int NB_ADDED_VILLAINS = Integer.getInteger("villain.export.test.rows", 100_000);
+
+  @Inject
+  EntityManager entityManager;
+
+  @TestHTTPResource("/api/villains/export")
+  URI exportUri;
+
+  public static class ExportProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      // A dedicated profile restarts the application on a fresh database, so the added villains do not leak into
+      // the other tests.
+      return Map.of("villain.export.fetch-size", "1000");
+    }
+  }
+
+  @BeforeAll
+  void addVillains() {
+    QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(
+        "INSERT INTO villainEntity(id, name, otherName, picture, level) " +
+          "SELECT nextval('villainEntity_seq'), 'Exported villain ' || n, 'Villain number ' || n, " +
+          "'exported_villain_' || n || '.png', 1 + n % 100 " +
+          "FROM generate_series(1, :rows) n")
+      .setParameter("rows", NB_ADDED_VILLAINS)
+      .executeUpdate());
+  }
+
+  @Test
+  void shouldExportAllVillainsAsNdjson() throws IOException, InterruptedException {
+    long lines = 0;
+    String first = null;
+
+    // The JDK client hands the lines over as they arrive, whereas RestAssured would buffer the whole export.
+    HttpRequest request = HttpRequest.newBuilder(exportUri).header(ACCEPT, APPLICATION_NDJSON).GET().build();
+    HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+    assertEquals(OK.getStatusCode(), response.statusCode());
+    try (Stream<String> body = response.body()) {
+      Iterator<String> iterator = body.iterator();
+      while (iterator.hasNext()) {
+        String line = iterator.next();
+        if (!line.isBlank()) {
+          first = first == null ? line : first;
+          lines++;
+        }
+      }
+    }
+
+    assertEquals(NB_IMPORTED_VILLAINS + NB_ADDED_VILLAINS, lines);
+    assertNotNull(first);
+    assertTrue(first.contains("\"name\":\"Buuccolo\""), first);
+  }
+
+  @Test
+  void shouldExportAllVillainsAsJsonArray() {
+    List<Villain> villains = given()
+      .header(ACCEPT, APPLICATION_JSON)
+      .when()
+      .get("/api/villains/export")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .extract()
+      .body()
+      .as(new TypeRef<List<Villain>>() {
+        // Kept empty on purpose
+      });
+    assertEquals(NB_IMPORTED_VILLAINS + NB_ADDED_VILLAINS, villains.size());
+    assertEquals("Buuccolo", villains.get(0).getName());
+    // Unlike the list of all the villains, the export carries their powers
+    assertNotNull(villains.get(0).getPowers());
+  }
+}
@@ -16,15 +16,24 @@ import static io.restassured.RestAssured.get;
 import static io.restassured.RestAssured.given;
 import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static jakarta.ws.rs.core.Response.Status.NOT_MODIFIED;
 import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
 import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
@@ -85,6 +94,173 @@ public class VillainResourceTest {
     assertEquals(firstVillain.getName(), FIRST_VILLAIN_NAME);
   }
 
+  @Test
+  void shouldGetNotModifiedVillain() {
+    String etag = get("/api/villains/" + FIRST_VILLAIN_ID).then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, notNullValue())
+      .extract()
+      .header(ETAG);
+
+    given()
+      .pathParam("id", FIRST_VILLAIN_ID)
+      .header(IF_NONE_MATCH, etag)
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(NOT_MODIFIED.getStatusCode())
+      .header(ETAG, is(etag))
+      .body(is(""));
+
+    given()
+      .pathParam("id", FIRST_VILLAIN_ID)
+      .header(IF_NONE_MATCH, "\"unknown\"")
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode());
+  }
+
+  @Test
+  void shouldGetNotModifiedVillains() {
+    String etag = get("/api/villains").then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, notNullValue())
+      .extract()
+      .header(ETAG);
+
+    given()
+      .header(IF_NONE_MATCH, "W/" + etag)
+      .when()
+      .get("/api/villains")
+      .then()
+      .statusCode(NOT_MODIFIED.getStatusCode())
+      .header(ETAG, is(etag));
+  }
+
+  @Test
+  void shouldGetSelectedFieldsOfVillains() {
+    List<Villain> villains = given()
+      .queryParam("fields", "name,level")
+      .when()
+      .get("/api/villains")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .body("[0]", not(hasKey("picture")))
+      .extract()
+      .body()
+      .as(getVillainTypeRef());
+    assertEquals(FIRST_VILLAIN_ID, villains.get(0).getId());
+    assertEquals(FIRST_VILLAIN_NAME, villains.get(0).getName());
+    villains.forEach(villain -> {
+      assertNotNull(villain.getLevel());
+      assertNull(villain.getOtherName());
+      assertNull(villain.getPicture());
+      assertNull(villain.getPowers());
+    });
+
+    String etag = get("/api/villains").then()
+      .extract()
+      .header(ETAG);
+    given()
+      .queryParam("fields", "name,level")
+      .header(IF_NONE_MATCH, etag)
+      .when()
+      .get("/api/villains")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, not(is(etag)));
+  }
+
+  @Test
+  void shouldGetVillainsWithTheirPowers() {
+    List<Villain> villains = given()
+      .queryParam("fields", "name,powers")
+      .when()
+      .get("/api/villains")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .body("[0]", not(hasKey("level")))
+      .extract()
+      .body()
+      .as(getVillainTypeRef());
+    assertEquals(FIRST_VILLAIN_ID, villains.get(0).getId());
+    given()
+      .pathParam("id", FIRST_VILLAIN_ID)
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("powers", is(villains.get(0).getPowers()));
+    assertTrue(villains.stream().allMatch(villain -> villain.getName() != null && villain.getOtherName() == null));
+  }
+
+  @Test
+  void shouldNotGetUnknownFieldsOfVillains() {
+    given()
+      .queryParam("fields", "name,strength")
+      .when()
+      .get("/api/villains")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
+  @Test
+  void shouldSearchVillainsByPowers() {
+    List<Villain> villains = given()
+      .queryParam("power", "flight", "Super Strength")
+      .queryParam("minLevel", 10)
+      .queryParam("size", 20)
+      .when()
+      .get("/api/villains/search")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .extract()
+      .body()
+      .as(getVillainTypeRef());
+    assertEquals(20, villains.size());
+    assertEquals(FIRST_VILLAIN_ID, villains.get(0).getId());
+    villains.forEach(villain -> assertTrue(villain.getLevel() >= 10));
+    // The search returns the villains without their powers, which are read with the villain
+    given()
+      .pathParam("id", villains.get(0).getId())
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .body("powers", containsString("Flight"))
+      .body("powers", containsString("Super Strength"));
+
+    List<Villain> anyPower = given()
+      .queryParam("power", "Flight", "Super Strength")
+      .queryParam("match", "any")
+      .queryParam("after", FIRST_VILLAIN_ID)
+      .queryParam("size", 20)
+      .when()
+      .get("/api/villains/search")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .body()
+      .as(getVillainTypeRef());
+    assertEquals(20, anyPower.size());
+    assertTrue(anyPower.get(0).getId() > FIRST_VILLAIN_ID);
+  }
+
+  @Test
+  void shouldNotSearchPageOfInvalidSize() {
+    given()
+      .queryParam("power", "Flight")
+      .queryParam("size", 0)
+      .when()
+      .get("/api/villains/search")
+      .then()
+      .statusCode(BAD_REQUEST.getStatusCode());
+  }
+
   @Test
   void shouldGetRandomVillain() {
     Villain randomVillain = given()
@@ -101,6 +277,18 @@ public class VillainResourceTest {
     assertNotNull(randomVillain.getLevel());
   }
 
+  @Test
+  void shouldExposeVillainLatencyMetrics() {
+    get("/api/villains/random").then()
+      .statusCode(OK.getStatusCode());
+
+    get("/q/metrics").then()
+      .statusCode(OK.getStatusCode())
+      .body(matchesPattern("(?s).*villains_api_requests_seconds\\{.*operation=\"get-random-villain\".*quantile=\"0\\.99\".*"))
+      .body(containsString("villains_db_queries_seconds_bucket"))
+      .body(containsString("villains_random_index_lookups_total{result=\"hit\""));
+  }
+
   @Test
   void shouldNotAddInvalidItem() {
     Villain villain = new Villain();
@@ -134,6 +322,8 @@ public class VillainResourceTest {
         .body()
         .as(getVillainTypeRef());
     assertEquals(NB_VILLAINS, villains.size());
+    // The powers are only read with a single villain
+    villains.forEach(villain -> assertNull(villain.getPowers()));
   }
 
   @Test
@@ -197,6 +387,15 @@ public class VillainResourceTest {
     villain.setPowers(UPDATED_POWERS);
     villain.setLevel(UPDATED_LEVEL);
 
+    String villainETag = get("/api/villains/" + villainId).then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .header(ETAG);
+    String villainsETag = get("/api/villains").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .header(ETAG);
+
     given()
       .body(villain)
       .header(CONTENT_TYPE, JSON)
@@ -212,9 +411,23 @@ public class VillainResourceTest {
       .body("picture", Is.is(UPDATED_PICTURE))
       .body("powers", Is.is(UPDATED_POWERS));
 
-    List<Villain> villains = get("/api/villains")
+    // The update must have changed the ETags of the villain and of the collection
+    given()
+      .pathParam("id", villainId)
+      .header(IF_NONE_MATCH, villainETag)
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .header(ETAG, not(villainETag));
+
+    List<Villain> villains = given()
+      .header(IF_NONE_MATCH, villainsETag)
+      .when()
+      .get("/api/villains")
       .then()
       .statusCode(OK.getStatusCode())
+      .header(ETAG, not(villainsETag))
       .contentType(APPLICATION_JSON)
       .extract()
       .body()
@@ -0,0 +1,93 @@
+package io.quarkus.workshop.superheroes.villain;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.CREATED;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+
+/**
+ * Tests the virtual thread execution model. The endpoints are called over HTTP, so the requests are served on virtual
+ * threads, and a test fails if any of them pins its carrier thread while it runs. It is skipped before Java 21, run it
+ * with {@code ./mvnw verify -Dvirtual-threads}, which requires Java 21.
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadVillainTest.VirtualThreadProfile.class)
+@VirtualThreadUnit
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadVillainTest {
+
+  private static final String JSON = "application/json;charset=UTF-8";
+  private static final int DEFAULT_LEVEL = 42;
+  private static final int UPDATED_LEVEL = 43;
+
+  public static class VirtualThreadProfile implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("villain.execution-model", "virtual-threads");
+    }
+  }
+
+  @Test
+  @ShouldNotPin
+  void shouldServeRandomVillainWithoutPinning() {
+    given()
+      .when()
+      .get("/api/villains/random")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .body("name", notNullValue());
+  }
+
+  @Test
+  @ShouldNotPin
+  void shouldCreateAndUpdateVillainWithoutPinning() {
+    Villain villain = new Villain();
+    villain.setName("Virtual villain");
+    villain.setOtherName("Unpinned villain");
+    villain.setPicture("virtual_villain.png");
+    villain.setPowers("Yielding, Parking");
+    villain.setLevel(DEFAULT_LEVEL);
+
+    String location = given()
+      .body(villain)
+      .header(CONTENT_TYPE, JSON)
+      .header(ACCEPT, JSON)
+      .when()
+      .post("/api/villains")
+      .then()
+      .statusCode(CREATED.getStatusCode())
+      .extract()
+      .header("Location");
+    String[] segments = location.split("/");
+    villain.setId(Long.valueOf(segments[segments.length - 1]));
+
+    villain.setLevel(UPDATED_LEVEL);
+    given()
+      .body(villain)
+      .header(CONTENT_TYPE, JSON)
+      .header(ACCEPT, JSON)
+      .when()
+      .put("/api/villains")
+      .then()
+      .statusCode(OK.getStatusCode())
+      .contentType(APPLICATION_JSON)
+      .body("level", is(UPDATED_LEVEL));
+  }
+}
@@ -0,0 +1,57 @@
+package io.quarkus.workshop.superheroes.villain.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VillainIdIndexTest {
+
+  @Test
+  void shouldBeEmptyBeforePriming() {
+    VillainIdIndex index = new VillainIdIndex();
+    assertFalse(index.isPrimed());
+    assertTrue(index.randomId().isEmpty());
+  }
+
+  @Test
+  void shouldOnlyPickIndexedIds() {
+    VillainIdIndex index = new VillainIdIndex();
+    index.prime(List.of(50L, 100L, 150L));
+    index.add(200L);
+    index.remove(100L);
+
+    Set<Long> picked = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      picked.add(index.randomId().getAsLong());
+    }
+    assertEquals(Set.of(50L, 150L, 200L), picked);
+    assertEquals(3, index.size());
+  }
+
+  @Test
+  void shouldIgnoreDuplicatesAndUnknownIds() {
+    VillainIdIndex index = new VillainIdIndex();
+    index.prime(List.of(50L));
+    index.add(50L);
+    index.remove(42L);
+    assertEquals(1, index.size());
+
+    index.remove(50L);
+    assertTrue(index.randomId().isEmpty());
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    VillainIdIndex index = new VillainIdIndex();
+    index.prime(List.of());
+    LongStream.rangeClosed(1, 5_000).forEach(index::add);
+    assertEquals(5_000, index.size());
+  }
+}
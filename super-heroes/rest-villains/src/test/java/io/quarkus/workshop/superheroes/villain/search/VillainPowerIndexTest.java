@@ -0,0 +1,75 @@
+package io.quarkus.workshop.superheroes.villain.search;
+
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex.Entry;
+import io.quarkus.workshop.superheroes.villain.search.VillainPowerIndex.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VillainPowerIndexTest {
+
+  private static VillainPowerIndex primedIndex() {
+    VillainPowerIndex index = new VillainPowerIndex();
+    index.prime(List.of(
+      new Entry(50L, 22, "Flight, Super Strength, Teleportation"),
+      new Entry(100L, 13, "Telekinesis, Super Strength"),
+      new Entry(150L, 5, "flight , Stealth"),
+      new Entry(200L, 8, null)));
+    return index;
+  }
+
+  @Test
+  void shouldBeEmptyBeforePriming() {
+    VillainPowerIndex index = new VillainPowerIndex();
+    assertFalse(index.isPrimed());
+    assertTrue(index.search(List.of("Flight"), Match.ANY, null, null, 0L, 10).isEmpty());
+  }
+
+  @Test
+  void shouldMatchAllOrAnyPowersIgnoringCase() {
+    VillainPowerIndex index = primedIndex();
+    assertEquals(List.of(50L), index.search(List.of("FLIGHT", "super strength"), Match.ALL, null, null, 0L, 10));
+    assertEquals(List.of(50L, 100L, 150L), index.search(List.of("Flight", "Telekinesis"), Match.ANY, null, null, 0L, 10));
+    assertEquals(List.of(50L, 150L), index.search(List.of("Flight", "Unknown"), Match.ANY, null, null, 0L, 10));
+    assertTrue(index.search(List.of("Flight", "Unknown"), Match.ALL, null, null, 0L, 10).isEmpty());
+    assertEquals(List.of(50L, 100L, 150L, 200L), index.search(List.of(), Match.ALL, null, null, 0L, 10));
+    assertEquals(5, index.powerCount());
+  }
+
+  @Test
+  void shouldFilterByLevelAndPage() {
+    VillainPowerIndex index = primedIndex();
+    assertEquals(List.of(100L, 150L), index.search(List.of(), Match.ALL, 5, 20, 0L, 10));
+    assertEquals(List.of(50L), index.search(List.of("Super Strength"), Match.ALL, null, null, 0L, 1));
+    assertEquals(List.of(100L), index.search(List.of("Super Strength"), Match.ALL, null, null, 50L, 1));
+  }
+
+  @Test
+  void shouldFollowUpdatesAndRemovals() {
+    VillainPowerIndex index = primedIndex();
+    index.put(new Entry(100L, 13, "Flight"));
+    index.put(new Entry(250L, 3, "Stealth"));
+    index.remove(150L);
+    index.remove(300L);
+
+    assertEquals(List.of(50L, 100L), index.search(List.of("Flight"), Match.ALL, null, null, 0L, 10));
+    assertEquals(List.of(50L), index.search(List.of("Super Strength"), Match.ALL, null, null, 0L, 10));
+    assertEquals(List.of(250L), index.search(List.of("Stealth"), Match.ALL, null, null, 0L, 10));
+    assertTrue(index.search(List.of("Telekinesis"), Match.ALL, null, null, 0L, 10).isEmpty());
+  }
+
+  @Test
+  void shouldMatchVillainsLikeTheSearch() {
+    Entry villain = new Entry(50L, 22, "Flight, Super Strength");
+    assertTrue(VillainPowerIndex.matches(villain, List.of("FLIGHT", "super strength"), Match.ALL, 20, 30));
+    assertTrue(VillainPowerIndex.matches(villain, List.of("Flight", "Unknown"), Match.ANY, null, null));
+    assertFalse(VillainPowerIndex.matches(villain, List.of("Flight", "Unknown"), Match.ALL, null, null));
+    assertFalse(VillainPowerIndex.matches(villain, List.of("Flight"), Match.ALL, 23, null));
+    assertTrue(VillainPowerIndex.matches(new Entry(200L, 8, null), List.of(), Match.ALL, null, 10));
+    assertFalse(VillainPowerIndex.matches(new Entry(200L, 8, null), List.of("Flight"), Match.ANY, null, null));
+  }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.workshop.superheroes.villain.tracing;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Registers an in-memory span exporter during the tests, next to the OTLP one, so that tests can assert the spans of
+ * a request.
+ */
+@ApplicationScoped
+public class InMemorySpanExporterProducer {
+
+  @Produces
+  @Singleton
+  InMemorySpanExporter inMemorySpanExporter() {
+    return InMemorySpanExporter.create();
+  }
+}
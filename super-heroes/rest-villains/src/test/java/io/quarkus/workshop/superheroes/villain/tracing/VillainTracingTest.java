@@ -0,0 +1,96 @@
+package io.quarkus.workshop.superheroes.villain.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.workshop.superheroes.villain.api.model.Villain;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests the span structure of a request: the server span, then the service and mapping spans, with the JDBC statements
+ * as client spans, all in the trace propagated by the caller.
+ */
+@QuarkusTest
+public class VillainTracingTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+  private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+  private static final long TIMEOUT_MILLIS = 5_000;
+
+  @Inject
+  InMemorySpanExporter exporter;
+
+  @Inject
+  SessionFactory sessionFactory;
+
+  @BeforeEach
+  void resetExporter() {
+    exporter.reset();
+  }
+
+  @Test
+  void shouldTraceVillainFromServiceToDatabase() {
+    Long id = get("/api/villains/random").then()
+      .statusCode(OK.getStatusCode())
+      .extract()
+      .as(Villain.class)
+      .getId();
+    // The villain is read from the database rather than from the second-level cache
+    sessionFactory.getCache().evictAll();
+    exporter.reset();
+
+    given()
+      .header("traceparent", TRACEPARENT)
+      .pathParam("id", id)
+      .when()
+      .get("/api/villains/{id}")
+      .then()
+      .statusCode(OK.getStatusCode());
+
+    SpanData service = awaitSpan(span -> span.getName().equals("VillainService.findVillainById"));
+    SpanData mapping = awaitSpan(span -> span.getName().equals("VillainMapper.toVillainDTO"));
+    SpanData server = awaitSpan(span -> span.getKind() == SpanKind.SERVER && span.getName().contains("/api/villains"));
+
+    for (SpanData span : List.of(server, service, mapping)) {
+      assertEquals(TRACE_ID, span.getTraceId(), span.getName());
+    }
+    assertEquals(server.getSpanId(), service.getParentSpanId());
+    assertEquals(service.getSpanId(), mapping.getParentSpanId());
+    assertTrue(exporter.getFinishedSpanItems().stream()
+        .anyMatch(span -> span.getKind() == SpanKind.CLIENT && span.getParentSpanId().equals(service.getSpanId())),
+      "No database span under the service span");
+  }
+
+  // Spans are exported once they end, which may be after the response has been sent.
+  private SpanData awaitSpan(Predicate<SpanData> predicate) {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      Optional<SpanData> span = exporter.getFinishedSpanItems().stream().filter(predicate).findFirst();
+      if (span.isPresent()) {
+        return span.get();
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    return fail("Span not exported, got " + exporter.getFinishedSpanItems().stream().map(SpanData::getName).toList());
+  }
+}
@@ -2,40 +2,73 @@ package io.quarkus.workshop.superheroes.ui;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.Startup;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 
-import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static jakarta.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static jakarta.ws.rs.core.HttpHeaders.VARY;
 
 /**
  * JAX-RS API endpoints to serve configuration to a front-end.
+ * The configuration is fixed at startup, so the script is rendered and compressed once, and then served as is with
+ * an ETag, so that browsers revalidate it with a 304 response instead of downloading it again.
  */
 @Path("/")
+@Singleton
+@Startup
 public class EnvResource {
 
+    private static final String APPLICATION_JAVASCRIPT = "text/javascript";
+
     @ConfigProperty(name = "api.base.url", defaultValue = "http://localhost:8082")
     String url;
 
     @ConfigProperty(name = "calculate.api.base.url", defaultValue = "false")
     boolean calculateApiBaseUrl;
 
+    @ConfigProperty(name = "env.js.cache-control", defaultValue = "no-cache")
+    String cacheControl;
+
     @Inject
     ObjectMapper objectMapper;
 
-    @GET
-    @Produces(APPLICATION_JSON)
-    @Path("/env.js")
-    public String getConfig() throws JsonProcessingException {
+    private EnvScript script;
+
+    @PostConstruct
+    void render() throws JsonProcessingException {
         Config config = new Config(url,
             calculateApiBaseUrl);
         // We could just return the Config object, but that would be json, and we want a
         // javascript snippet we can include with <script src="..."/>
-        return "window.APP_CONFIG=" + objectMapper.writeValueAsString(config);
+        script = EnvScript.of("window.APP_CONFIG=" + objectMapper.writeValueAsString(config));
     }
 
-
+    @GET
+    @Produces(APPLICATION_JAVASCRIPT)
+    @Path("/env.js")
+    public Response getConfig(@HeaderParam(ACCEPT_ENCODING) String acceptEncoding,
+                              @HeaderParam(IF_NONE_MATCH) String ifNoneMatch) {
+        EnvScript.Variant variant = script.select(acceptEncoding);
+        Response.ResponseBuilder response = EnvScript.matches(ifNoneMatch, variant)
+            ? Response.notModified()
+            : Response.ok(variant.body(), APPLICATION_JAVASCRIPT).header(CONTENT_ENCODING, variant.encoding());
+        return response
+            .header(ETAG, variant.etag())
+            .header(CACHE_CONTROL, cacheControl)
+            .header(VARY, ACCEPT_ENCODING)
+            .build();
+    }
 }
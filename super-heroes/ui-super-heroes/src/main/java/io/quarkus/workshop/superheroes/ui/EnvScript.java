@@ -0,0 +1,109 @@
+package io.quarkus.workshop.superheroes.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@code env.js} script, rendered once with its compressed variants.
+ * Each variant has its own strong ETag, derived from the content of the script and the encoding, as required for
+ * strong validators of different representations.
+ */
+record EnvScript(Variant identity, Variant gzip, Variant deflate) {
+
+    record Variant(String encoding, byte[] body, String etag) {
+    }
+
+    static EnvScript of(String script) {
+        byte[] body = script.getBytes(StandardCharsets.UTF_8);
+        String hash = hash(body);
+        return new EnvScript(
+            new Variant(null, body, "\"" + hash + "\""),
+            new Variant("gzip", compress(body, GZIPOutputStream::new), "\"" + hash + "-gzip\""),
+            new Variant("deflate", compress(body, DeflaterOutputStream::new), "\"" + hash + "-deflate\""));
+    }
+
+    /**
+     * Picks the smallest variant accepted by the client, from the value of its {@code Accept-Encoding} header.
+     */
+    Variant select(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return identity;
+        }
+        boolean gzipAccepted = false;
+        boolean deflateAccepted = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (isRejected(parts)) {
+                continue;
+            }
+            String name = parts[0].trim();
+            gzipAccepted |= name.equalsIgnoreCase("gzip") || name.equals("*");
+            deflateAccepted |= name.equalsIgnoreCase("deflate");
+        }
+        if (gzipAccepted) {
+            return gzip;
+        }
+        return deflateAccepted ? deflate : identity;
+    }
+
+    /**
+     * @return true if the {@code If-None-Match} header matches the ETag of the variant. Weak comparison is used, as
+     * required for {@code If-None-Match}.
+     */
+    static boolean matches(String ifNoneMatch, Variant variant) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String etag : ifNoneMatch.split(",")) {
+            String candidate = etag.trim();
+            if (candidate.equals("*") || candidate.replaceFirst("^W/", "").equals(variant.etag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface Compressor {
+        OutputStream wrap(OutputStream output) throws IOException;
+    }
+
+    private static byte[] compress(byte[] body, Compressor compressor) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream output = compressor.wrap(compressed)) {
+            output.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
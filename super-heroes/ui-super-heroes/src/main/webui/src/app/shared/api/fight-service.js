@@ -5,9 +5,15 @@
 
 
 import axios from "axios"
+import {newTraceparent} from "./trace-context"
 
 const defaultHeaders = {'Content-Type': "application/json"}
 
+// The trace context is propagated to rest-fights, and from there to the heroes and villains services
+function tracedHeaders(headers = defaultHeaders) {
+  return {...headers, traceparent: newTraceparent()}
+}
+
 let basePath = window.APP_CONFIG?.API_BASE_URL
 const calculateApiBaseUrl = window.APP_CONFIG?.CALCULATE_API_BASE_URL
 
@@ -30,7 +36,7 @@ export async function getFights() {
 
   const response = await axios.get(`${basePath}/api/fights`,
     {
-      headers: defaultHeaders,
+      headers: tracedHeaders(),
     }
   )
 
@@ -51,7 +57,7 @@ export async function startFight(body) {
   const response = await axios.post(
     `${basePath}/api/fights`, body, {
       crossDomain: true,
-      defaultHeaders,
+      headers: tracedHeaders(),
     }
   )
   return response.data
@@ -67,7 +73,7 @@ export async function getRandomFighters() {
   try {
     const response = await axios.get(`${basePath}/api/fights/randomfighters`,
       {
-        headers: defaultHeaders,
+        headers: tracedHeaders(),
       }
     )
     return response.data
@@ -93,7 +99,7 @@ export async function narrateFight(body) {
     body,
     {
       responseType: 'text',
-      headers,
+      headers: tracedHeaders(headers),
     }
   )
 
@@ -72,6 +72,10 @@ const fightsList = {
   headers: {"content-length": "433", "content-type": "application/json;charset=UTF-8"}
 }
 
+const tracedRequest = expect.objectContaining({
+  headers: expect.objectContaining({traceparent: expect.stringMatching(/^00-[0-9a-f]{32}-[0-9a-f]{16}-01$/)})
+})
+
 const narrationData = "It was a dark and stormy night"
 const narrationResponse = {
   data: narrationData,
@@ -96,6 +100,11 @@ describe("the fight service", () => {
       expect(axios.get).toHaveBeenCalled()
     })
 
+    it("propagates the trace context", async () => {
+      await getRandomFighters({})
+      expect(axios.get).toHaveBeenLastCalledWith(expect.anything(), tracedRequest)
+    })
+
     it("returns fighters", async () => {
       const answer = await getRandomFighters({})
       expect(answer).toStrictEqual(fightersData)
@@ -132,6 +141,11 @@ describe("the fight service", () => {
       expect(axios.post).toHaveBeenLastCalledWith(expect.anything(), fightersData, expect.anything())
     })
 
+    it("propagates the trace context", async () => {
+      await startFight(fightersData)
+      expect(axios.post).toHaveBeenLastCalledWith(expect.anything(), fightersData, tracedRequest)
+    })
+
     it("returns the data", async () => {
       const answer = await startFight(fightersData)
       expect(answer).toStrictEqual(fightData)
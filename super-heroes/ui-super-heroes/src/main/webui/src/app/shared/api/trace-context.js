@@ -0,0 +1,24 @@
+/**
+ * W3C Trace Context propagation
+ * Every call to the fight API starts a new sampled trace, so that the spans of the back-end services can be found from
+ * the user action that triggered them.
+ */
+
+function randomHex(bytes) {
+  const values = new Uint8Array(bytes)
+  if (globalThis.crypto?.getRandomValues) {
+    globalThis.crypto.getRandomValues(values)
+  } else {
+    for (let i = 0; i < bytes; i++) {
+      values[i] = Math.floor(Math.random() * 256)
+    }
+  }
+  return Array.from(values, value => value.toString(16).padStart(2, '0')).join('')
+}
+
+/**
+ * Returns a new traceparent header value, with a random trace id and parent id
+ */
+export function newTraceparent() {
+  return `00-${randomHex(16)}-${randomHex(8)}-01`
+}
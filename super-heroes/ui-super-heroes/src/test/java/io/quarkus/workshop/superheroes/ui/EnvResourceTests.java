@@ -4,8 +4,18 @@ import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static jakarta.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static jakarta.ws.rs.core.HttpHeaders.CACHE_CONTROL;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static jakarta.ws.rs.core.HttpHeaders.ETAG;
+import static jakarta.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static jakarta.ws.rs.core.Response.Status.NOT_MODIFIED;
 import static jakarta.ws.rs.core.Response.Status.OK;
+import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
 /**
  * Tests the resource layer ({@link EnvResource}).
@@ -13,6 +23,9 @@ import static org.hamcrest.Matchers.is;
 @QuarkusTest
 public class EnvResourceTests {
 
+    private static final String SCRIPT = "window.APP_CONFIG={\"API_BASE_URL\":\"http://localhost:8082\"," +
+        "\"CALCULATE_API_BASE_URL\":false}";
+
     /**
      * Checks that the react app would be able to do
      * <script src="env.js"></script>
@@ -23,11 +36,65 @@ public class EnvResourceTests {
         get("/env.js")
             .then()
             .statusCode(OK.getStatusCode())
-            .body(
-                is("window.APP_CONFIG={\"API_BASE_URL\":\"http://localhost:8082\"," +
-                    "\"CALCULATE_API_BASE_URL\":false}"));
+            .body(is(SCRIPT));
         // This content is javascript, not json. Doing a simple equality check like this
         // is brittle, but we can update it to something more flexible if we start to see issues
     }
 
+    @Test
+    public void shouldServeCompressedScriptWhenAccepted() {
+        given()
+            .header(ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8")
+            .when()
+            .get("/env.js")
+            .then()
+            .statusCode(OK.getStatusCode())
+            .header(CONTENT_ENCODING, is("gzip"))
+            .header(CACHE_CONTROL, is("no-cache"))
+            .body(is(SCRIPT));
+    }
+
+    @Test
+    public void shouldServeUncompressedScriptWhenCompressionIsNotAccepted() {
+        given()
+            .header(ACCEPT_ENCODING, "identity")
+            .when()
+            .get("/env.js")
+            .then()
+            .statusCode(OK.getStatusCode())
+            .header(CONTENT_ENCODING, nullValue())
+            .body(is(SCRIPT));
+    }
+
+    @Test
+    public void shouldAnswerNotModifiedWhenTheScriptIsUnchanged() {
+        String etag = given()
+            .header(ACCEPT_ENCODING, "gzip")
+            .when()
+            .get("/env.js")
+            .then()
+            .statusCode(OK.getStatusCode())
+            .header(ETAG, not(emptyString()))
+            .extract()
+            .header(ETAG);
+
+        given()
+            .header(ACCEPT_ENCODING, "gzip")
+            .header(IF_NONE_MATCH, etag)
+            .when()
+            .get("/env.js")
+            .then()
+            .statusCode(NOT_MODIFIED.getStatusCode())
+            .header(ETAG, is(etag))
+            .body(is(emptyString()));
+
+        // Another representation of the script has another ETag
+        given()
+            .header(ACCEPT_ENCODING, "identity")
+            .header(IF_NONE_MATCH, etag)
+            .when()
+            .get("/env.js")
+            .then()
+            .statusCode(OK.getStatusCode());
+    }
 }